@@ -13,6 +13,7 @@ public class BatchScheduler {
 
 	private final WithdrawalBatchService withdrawalBatchService;
 	private final TransactionBatchService transactionBatchService;
+	private final LedgerSummaryBatchService ledgerSummaryBatchService;
 
 	/**
 	 * 휴면 탈퇴 데이터 정리 배치
@@ -52,4 +53,23 @@ public class BatchScheduler {
 
 		log.info("================================");
 	}
+
+	/**
+	 * 가계부 월별 합계 재집계 배치
+	 * 매일 새벽 4시에 실행
+	 * - 거래 내역 원본으로 월별 합계 테이블을 다시 집계하여 누적 오차 보정
+	 */
+	@Scheduled(cron = "0 0 4 * * *")
+	public void runLedgerSummaryRebuildBatch() {
+		log.info("===== 가계부 월별 합계 재집계 배치 스케줄러 시작 =====");
+
+		try {
+			ledgerSummaryBatchService.rebuildLedgerSummaries();
+			log.info("가계부 월별 합계 재집계 배치 스케줄러 완료");
+		} catch (Exception e) {
+			log.error("가계부 월별 합계 재집계 배치 실행 중 오류 발생", e);
+		}
+
+		log.info("=====================================================");
+	}
 }
@@ -0,0 +1,42 @@
+package com.dalcoomi.batch;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.dalcoomi.transaction.application.LedgerSummaryService;
+import com.dalcoomi.transaction.domain.Ledger;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerSummaryBatchService {
+
+	private final LedgerSummaryService ledgerSummaryService;
+
+	/**
+	 * 전체 테이블을 한 트랜잭션에서 지우고 다시 채우면 그동안 합계가 비어 보이고 증감 upsert 가 모두 막히므로
+	 * 가계부 단위로 나누어 각각 짧은 트랜잭션으로 재집계
+	 */
+	public void rebuildLedgerSummaries() {
+		log.info("가계부 월별 합계 재집계 배치 시작");
+
+		List<Ledger> ledgers = ledgerSummaryService.getRebuildTargets();
+		int failed = 0;
+
+		// 증분 갱신 경로를 거치지 않은 쓰기로 생긴 오차를 거래 내역 원본 기준으로 바로잡음
+		for (Ledger ledger : ledgers) {
+			try {
+				ledgerSummaryService.rebuild(ledger);
+			} catch (Exception e) {
+				failed++;
+				log.error("가계부 월별 합계 재집계 실패: ledger={}, error={}", ledger, e.getMessage(), e);
+			}
+		}
+
+		log.info("가계부 월별 합계 재집계 배치 완료: total={}, failed={}", ledgers.size(), failed);
+	}
+}
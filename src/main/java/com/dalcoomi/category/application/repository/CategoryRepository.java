@@ -2,6 +2,8 @@ package com.dalcoomi.category.application.repository;
 
 import java.util.List;
 
+import org.springframework.lang.Nullable;
+
 import com.dalcoomi.category.domain.Category;
 import com.dalcoomi.transaction.domain.TransactionType;
 
@@ -21,5 +23,8 @@ public interface CategoryRepository {
 
 	List<Category> findAdminCategories(TransactionType transactionType);
 
+	@Nullable
+	Category findAvailableCategory(Long memberId, @Nullable Long teamId, TransactionType transactionType, String name);
+
 	boolean existsByName(String name);
 }
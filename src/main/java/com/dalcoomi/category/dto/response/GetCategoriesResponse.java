@@ -4,6 +4,8 @@ import java.util.List;
 
 import com.dalcoomi.category.domain.OwnerType;
 import com.dalcoomi.category.dto.CategoryInfo;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import lombok.Builder;
 
@@ -24,6 +26,7 @@ public record GetCategoriesResponse(
 
 	@Builder
 	public record GetMyCategoryResponseItem(
+		@JsonSerialize(using = ToStringSerializer.class)
 		Long id,
 		String name,
 		String iconUrl,
@@ -8,12 +8,14 @@ import static com.dalcoomi.member.infrastructure.QMemberJpaEntity.memberJpaEntit
 
 import java.util.List;
 
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 
 import com.dalcoomi.category.application.repository.CategoryRepository;
 import com.dalcoomi.category.domain.Category;
 import com.dalcoomi.common.error.exception.NotFoundException;
 import com.dalcoomi.transaction.domain.TransactionType;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -54,7 +56,7 @@ public class CategoryRepositoryImpl implements CategoryRepository {
 		List<CategoryJpaEntity> categories = jpaQueryFactory
 			.select(categoryJpaEntity)
 			.from(categoryJpaEntity)
-			.join(categoryJpaEntity.creator, memberJpaEntity)
+			.join(categoryJpaEntity.creator, memberJpaEntity).fetchJoin()
 			.where(
 				categoryJpaEntity.transactionType.eq(transactionType),
 				categoryJpaEntity.ownerType.eq(ADMIN)
@@ -73,7 +75,7 @@ public class CategoryRepositoryImpl implements CategoryRepository {
 		List<CategoryJpaEntity> categories = jpaQueryFactory
 			.select(categoryJpaEntity)
 			.from(categoryJpaEntity)
-			.join(categoryJpaEntity.creator, memberJpaEntity)
+			.join(categoryJpaEntity.creator, memberJpaEntity).fetchJoin()
 			.where(
 				categoryJpaEntity.transactionType.eq(transactionType),
 				categoryJpaEntity.ownerType.eq(ADMIN)
@@ -92,6 +94,7 @@ public class CategoryRepositoryImpl implements CategoryRepository {
 		List<CategoryJpaEntity> categories = jpaQueryFactory
 			.select(categoryJpaEntity)
 			.from(categoryJpaEntity)
+			.leftJoin(categoryJpaEntity.creator, memberJpaEntity).fetchJoin()
 			.where(
 				categoryJpaEntity.transactionType.eq(transactionType),
 				categoryJpaEntity.ownerType.eq(ADMIN),
@@ -107,4 +110,32 @@ public class CategoryRepositoryImpl implements CategoryRepository {
 	public boolean existsByName(String name) {
 		return categoryJpaRepository.existsByName(name);
 	}
+
+	/**
+	 * 거래 내역에 지정할 수 있는 카테고리 중 이름이 일치하는 것을 조회
+	 * 관리자 카테고리와 이름이 겹치면 회원/그룹이 만든 카테고리를 우선
+	 */
+	@Nullable
+	@Override
+	public Category findAvailableCategory(Long memberId, @Nullable Long teamId, TransactionType transactionType,
+		String name) {
+		BooleanExpression ownerEq = teamId == null
+			? categoryJpaEntity.creator.id.eq(memberId)
+			: categoryJpaEntity.teamId.eq(teamId);
+
+		CategoryJpaEntity category = jpaQueryFactory
+			.selectFrom(categoryJpaEntity)
+			.join(categoryJpaEntity.creator, memberJpaEntity).fetchJoin()
+			.where(
+				categoryJpaEntity.transactionType.eq(transactionType),
+				categoryJpaEntity.name.eq(name),
+				categoryJpaEntity.ownerType.eq(ADMIN).or(categoryJpaEntity.ownerType.eq(MEMBER).and(ownerEq)),
+				categoryJpaEntity.deletedAt.isNull(),
+				memberJpaEntity.deletedAt.isNull()
+			)
+			.orderBy(categoryJpaEntity.ownerType.desc(), categoryJpaEntity.id.asc())
+			.fetchFirst();
+
+		return category != null ? category.toModel() : null;
+	}
 }
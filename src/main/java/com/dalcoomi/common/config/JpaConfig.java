@@ -1,5 +1,11 @@
 package com.dalcoomi.common.config;
 
+import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
+import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
+import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
@@ -13,6 +19,8 @@ import jakarta.persistence.PersistenceContext;
 @EnableJpaAuditing
 public class JpaConfig {
 
+	private static final int JDBC_BATCH_SIZE = 100;
+
 	@PersistenceContext
 	private EntityManager entityManager;
 
@@ -20,4 +28,18 @@ public class JpaConfig {
 	public JPAQueryFactory jpaQueryFactory() {
 		return new JPAQueryFactory(entityManager);
 	}
+
+	/**
+	 * TSID 로 키를 미리 할당하므로 INSERT/UPDATE 를 엔티티별로 정렬해 JDBC 배치로 묶음
+	 * 환경 설정 파일에 같은 키가 있으면 그 값을 우선
+	 */
+	@Bean
+	public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+		return properties -> {
+			properties.putIfAbsent(STATEMENT_BATCH_SIZE, JDBC_BATCH_SIZE);
+			properties.putIfAbsent(ORDER_INSERTS, true);
+			properties.putIfAbsent(ORDER_UPDATES, true);
+			properties.putIfAbsent(BATCH_VERSIONED_DATA, true);
+		};
+	}
 }
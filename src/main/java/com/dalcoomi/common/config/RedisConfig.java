@@ -1,14 +1,18 @@
 package com.dalcoomi.common.config;
 
 import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.CONSUMER_GROUP;
-import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.CONSUMER_NAME;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.CONSUMER_NAME_PREFIX;
 import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.STREAM_KEY;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.time.Duration;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.connection.stream.Consumer;
@@ -33,11 +37,30 @@ public class RedisConfig {
 	@Value("${spring.data.redis.port}")
 	private int redisPort;
 
+	@Value("${transaction.cache.redis.host:${spring.data.redis.host}}")
+	private String transactionCacheRedisHost;
+
+	@Value("${transaction.cache.redis.port:${spring.data.redis.port}}")
+	private int transactionCacheRedisPort;
+
+	@Value("${receipt.stream.batch.enabled:false}")
+	private boolean receiptBatchEnabled;
+
 	@Bean
+	@Primary
 	public RedisConnectionFactory redisConnectionFactory() {
 		return new LettuceConnectionFactory(redisHost, redisPort);
 	}
 
+	/**
+	 * 월별 거래 내역 캐시는 제거되어도 되는 데이터이므로 스트림, 토큰, 락이 있는 Redis 와 메모리 한도와 제거 정책을 나눔
+	 * 별도 주소를 설정하지 않은 로컬, 테스트 환경에서는 기본 Redis 를 함께 사용
+	 */
+	@Bean
+	public RedisConnectionFactory transactionCacheConnectionFactory() {
+		return new LettuceConnectionFactory(transactionCacheRedisHost, transactionCacheRedisPort);
+	}
+
 	@Bean
 	public RedisTemplate<String, String> redisTemplate() {
 		RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
@@ -49,6 +72,7 @@ public class RedisConfig {
 	}
 
 	@Bean
+	@Primary
 	public StringRedisTemplate stringRedisTemplate() {
 		StringRedisTemplate stringRedisTemplate = new StringRedisTemplate();
 		stringRedisTemplate.setConnectionFactory(redisConnectionFactory());
@@ -56,11 +80,38 @@ public class RedisConfig {
 		return stringRedisTemplate;
 	}
 
+	@Bean
+	public StringRedisTemplate transactionCacheRedisTemplate() {
+		StringRedisTemplate stringRedisTemplate = new StringRedisTemplate();
+		stringRedisTemplate.setConnectionFactory(transactionCacheConnectionFactory());
+
+		return stringRedisTemplate;
+	}
+
+	/**
+	 * 인스턴스마다 다른 이름으로 Consumer Group 에 참여해야 메시지가 인스턴스 사이에 나뉘어 전달됨
+	 * 재시작할 때마다 새 이름을 쓰고, 떠난 이름은 ReceiptStreamReclaimer 가 정리
+	 */
+	@Bean
+	public Consumer receiptStreamConsumerIdentity() {
+		String hostName;
+
+		try {
+			hostName = InetAddress.getLocalHost().getHostName();
+		} catch (UnknownHostException e) {
+			hostName = "unknown";
+		}
+
+		return Consumer.from(CONSUMER_GROUP, CONSUMER_NAME_PREFIX + hostName + "-" + UUID.randomUUID().toString()
+			.substring(0, 8));
+	}
+
 	@Bean
 	@SuppressWarnings("unchecked")
 	public StreamMessageListenerContainer<String, MapRecord<String, Object, Object>> streamMessageListenerContainer(
 		RedisConnectionFactory redisConnectionFactory,
-		StreamListener<String, MapRecord<String, Object, Object>> receiptStreamListener
+		StreamListener<String, MapRecord<String, Object, Object>> receiptStreamListener,
+		Consumer receiptStreamConsumerIdentity
 	) {
 		StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
 			StreamMessageListenerContainerOptions.builder().pollTimeout(Duration.ofSeconds(1)).build();
@@ -70,8 +121,11 @@ public class RedisConfig {
 				(StreamMessageListenerContainer<?, ?>)StreamMessageListenerContainer.create(redisConnectionFactory,
 					options);
 
-		container.receive(Consumer.from(CONSUMER_GROUP, CONSUMER_NAME),
-			StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()), receiptStreamListener);
+		// 배치 모드에서는 ReceiptStreamBatchConsumer 가 같은 Consumer 이름으로 직접 읽음
+		if (!receiptBatchEnabled) {
+			container.receive(receiptStreamConsumerIdentity,
+				StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()), receiptStreamListener);
+		}
 
 		container.start();
 
@@ -2,6 +2,7 @@ package com.dalcoomi.common.config;
 
 import java.time.Duration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
@@ -11,7 +12,9 @@ import org.springframework.web.reactive.function.client.WebClient;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class WebClientConfig {
@@ -21,10 +24,33 @@ public class WebClientConfig {
 	private static final int READ_TIMEOUT = 30; // 30초
 	private static final int WRITE_TIMEOUT = 30; // 30초
 
+	@Value("${ai.server.pool.max-connections:50}")
+	private int maxConnections;
+
+	@Value("${ai.server.pool.pending-acquire-max-count:500}")
+	private int pendingAcquireMaxCount;
+
+	@Value("${ai.server.pool.pending-acquire-timeout-ms:60000}")
+	private long pendingAcquireTimeoutMillis;
+
+	@Value("${ai.server.pool.max-idle-time-ms:30000}")
+	private long maxIdleTimeMillis;
+
 	@Bean
 	public WebClient webClient() {
-		// HTTP 클라이언트 설정 (타임아웃)
-		HttpClient httpClient = HttpClient.create()
+		// 커넥션 풀 설정 (기본 풀은 대기 요청 수 제한이 없어 AI 서버가 느려지면 요청이 무한히 쌓임)
+		ConnectionProvider connectionProvider = ConnectionProvider.builder("ai-server")
+			.maxConnections(maxConnections)
+			.pendingAcquireMaxCount(pendingAcquireMaxCount)
+			.pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+			.maxIdleTime(Duration.ofMillis(maxIdleTimeMillis))
+			.evictInBackground(Duration.ofMillis(maxIdleTimeMillis))
+			.build();
+
+		// HTTP 클라이언트 설정 (타임아웃, HTTP/2)
+		// AI 서버가 HTTP/2 를 지원하면 한 연결에서 여러 요청을 동시에 보내고, 지원하지 않으면 HTTP/1.1 로 통신
+		HttpClient httpClient = HttpClient.create(connectionProvider)
+			.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11)
 			.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, CONNECT_TIMEOUT)
 			.responseTimeout(Duration.ofSeconds(30))
 			.doOnConnected(conn -> conn
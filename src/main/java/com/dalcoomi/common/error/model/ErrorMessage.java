@@ -23,6 +23,7 @@ public enum ErrorMessage {
 
 	S3_UPLOAD_ERROR("S3로 이미지 업로드 중 오류가 발생했습니다."),
 	S3_DELETE_ERROR("S3 이미지 삭제 중 오류가 발생했습니다."),
+	S3_DOWNLOAD_ERROR("S3 파일 다운로드 중 오류가 발생했습니다."),
 
 	IMAGE_NOT_FOUND("이미지가 존재하지 않습니다."),
 	IMAGE_NOT_SUPPORT("지원하지 않는 이미지 형식입니다. jpg, jpeg, png, svg만 가능합니다."),
@@ -57,6 +58,7 @@ public enum ErrorMessage {
 	UNSUPPORTED_WITHDRAWAL_TYPE("지원하지 않는 탈퇴 타입입니다."),
 	UNSUPPORTED_TRANSACTION_TYPE("지원하지 않는 거래 타입입니다."),
 	UNSUPPORTED_OWNER_TYPE("지원하지 않는 집합 속성입니다."),
+	UNSUPPORTED_EXPORT_FORMAT("지원하지 않는 내보내기 형식입니다."),
 
 	CATEGORY_NOT_FOUND("카테고리가 존재하지 않습니다."),
 	CATEGORY_INVALID_TEAM_ID("유효하지 않는 그룹 id입니다."),
@@ -69,6 +71,16 @@ public enum ErrorMessage {
 	TRANSACTION_TEAM_INCONSISTENCY("해당 거래 내역의 그룹만 가능합니다."),
 	TRANSACTION_CREATOR_INCONSISTENCY("해당 거래 내역 작성자만 가능합니다."),
 	DOES_NOT_MATCH_CATEGORY_AND_TRANSACTION("카테고리와 거래 내역의 개수가 일치하지 않습니다."),
+	TRANSACTION_INVALID_CURSOR("유효하지 않는 커서입니다."),
+	TRANSACTION_INVALID_DATE_RANGE("조회 시작일은 종료일보다 늦을 수 없습니다."),
+	TRANSACTION_INVALID_PAGE_SIZE("페이지 크기는 1 이상 100 이하여야 합니다."),
+	TRANSACTION_INVALID_MONTH("조회 월은 1 이상 12 이하여야 합니다."),
+	TRANSACTION_INVALID_TREND_YEARS("조회 연도 수는 1 이상 10 이하여야 합니다."),
+	TRANSACTION_IMPORT_NOT_FOUND("존재하지 않는 가져오기 작업입니다."),
+	TRANSACTION_IMPORT_EMPTY_FILE("가져올 CSV 파일이 비어 있습니다."),
+	TRANSACTION_IMPORT_INVALID_HEADER("CSV 헤더에 거래일시, 구분, 금액, 카테고리 열이 필요합니다."),
+	TRANSACTION_IMPORT_CATEGORY_NOT_FOUND("카테고리를 찾을 수 없습니다."),
+	RECEIPT_DEAD_LETTER_NOT_FOUND("존재하지 않는 실패 영수증 작업입니다."),
 
 	TEAM_NOT_FOUND("존재하지 않는 그룹입니다."),
 	TEAM_INVALID_LEADER("그룹 리더만 가능합니다."),
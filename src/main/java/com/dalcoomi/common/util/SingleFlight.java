@@ -0,0 +1,56 @@
+package com.dalcoomi.common.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 호출을 하나로 합쳐 먼저 온 호출만 실행하고 나머지는 그 결과를 함께 받음
+ * 실행이 끝나면 키를 지우므로 결과를 보관하지 않고, 실행 중에 들어온 호출끼리만 공유
+ */
+public class SingleFlight<K, V> {
+
+	private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+	public V execute(K key, Supplier<V> supplier) {
+		CompletableFuture<V> call = new CompletableFuture<>();
+		CompletableFuture<V> running = inFlight.putIfAbsent(key, call);
+
+		if (running != null) {
+			return await(running);
+		}
+
+		try {
+			V result = supplier.get();
+
+			call.complete(result);
+
+			return result;
+		} catch (Throwable e) {
+			// 실패도 기다리던 호출에 그대로 전달하여 무한 대기하지 않도록 함
+			call.completeExceptionally(e);
+
+			throw e;
+		} finally {
+			inFlight.remove(key, call);
+		}
+	}
+
+	private V await(CompletableFuture<V> running) {
+		try {
+			return running.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+
+			throw e;
+		}
+	}
+}
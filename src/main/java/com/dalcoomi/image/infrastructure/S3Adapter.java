@@ -1,6 +1,7 @@
 package com.dalcoomi.image.infrastructure;
 
 import static com.dalcoomi.common.error.model.ErrorMessage.S3_DELETE_ERROR;
+import static com.dalcoomi.common.error.model.ErrorMessage.S3_DOWNLOAD_ERROR;
 import static com.dalcoomi.common.error.model.ErrorMessage.S3_UPLOAD_ERROR;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -13,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
@@ -47,6 +49,36 @@ public class S3Adapter {
 		}
 	}
 
+	/**
+	 * 이미지가 아닌 파일도 정해진 키 그대로 저장하며, 공개 URL 대신 키로만 다시 읽음
+	 */
+	public void putFile(String s3Key, byte[] fileData, String contentType) {
+		try {
+			PutObjectRequest request = PutObjectRequest.builder()
+				.bucket(bucketName)
+				.key(s3Key)
+				.contentType(contentType)
+				.build();
+
+			s3Client.putObject(request, RequestBody.fromBytes(fileData));
+		} catch (S3Exception e) {
+			throw new ImageException(S3_UPLOAD_ERROR, e);
+		}
+	}
+
+	public byte[] downloadFile(String s3Key) {
+		try {
+			GetObjectRequest request = GetObjectRequest.builder()
+				.bucket(bucketName)
+				.key(s3Key)
+				.build();
+
+			return s3Client.getObjectAsBytes(request).asByteArray();
+		} catch (S3Exception e) {
+			throw new ImageException(S3_DOWNLOAD_ERROR, e);
+		}
+	}
+
 	public void deleteFile(String s3Key) {
 		try {
 			DeleteObjectRequest request = DeleteObjectRequest.builder()
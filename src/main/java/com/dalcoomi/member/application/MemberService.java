@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Random;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.lang.Nullable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
@@ -28,6 +29,8 @@ import com.dalcoomi.member.domain.Member;
 import com.dalcoomi.member.domain.SocialConnection;
 import com.dalcoomi.member.domain.SocialType;
 import com.dalcoomi.member.domain.Withdrawal;
+import com.dalcoomi.member.domain.event.MemberProfileUpdatedEvent;
+import com.dalcoomi.member.domain.event.MemberWithdrawnEvent;
 import com.dalcoomi.member.domain.validator.NicknameValidator;
 import com.dalcoomi.member.dto.AvatarInfo;
 import com.dalcoomi.member.dto.MemberInfo;
@@ -38,7 +41,9 @@ import com.dalcoomi.team.application.repository.TeamMemberRepository;
 import com.dalcoomi.team.application.repository.TeamRepository;
 import com.dalcoomi.team.domain.Team;
 import com.dalcoomi.team.domain.TeamMember;
+import com.dalcoomi.transaction.application.LedgerSummaryService;
 import com.dalcoomi.transaction.application.repository.TransactionRepository;
+import com.dalcoomi.transaction.domain.Ledger;
 import com.dalcoomi.transaction.domain.Transaction;
 import com.dalcoomi.transaction.dto.TransactionSearchCriteria;
 
@@ -54,8 +59,10 @@ public class MemberService {
 	private final TeamRepository teamRepository;
 	private final TransactionRepository transactionRepository;
 	private final WithdrawalRepository withdrawalRepository;
+	private final LedgerSummaryService ledgerSummaryService;
 
 	private final NicknameValidator nicknameValidator;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	@Transactional
 	public Long signUp(SignUpInfo signUpInfo) {
@@ -203,6 +210,9 @@ public class MemberService {
 
 		memberRepository.save(member);
 
+		applicationEventPublisher.publishEvent(
+			new MemberProfileUpdatedEvent(this, member.getId(), member.getNickname(), newAvatarUrl));
+
 		return newAvatarUrl;
 	}
 
@@ -222,6 +232,9 @@ public class MemberService {
 
 		member = memberRepository.save(member);
 
+		applicationEventPublisher.publishEvent(
+			new MemberProfileUpdatedEvent(this, memberId, member.getNickname(), member.getProfileImageUrl()));
+
 		return MemberInfo.builder()
 			.name(member.getName())
 			.nickname(member.getNickname())
@@ -294,6 +307,8 @@ public class MemberService {
 		anonymizeTeamTransactions(teamTransactions);
 
 		// 탈퇴 방식에 따른 개인 데이터 처리
+		ledgerSummaryService.delete(Ledger.member(memberId));
+
 		if (withdrawalInfo.softDelete()) {
 			processSoftWithdrawal(member, personalTransactions, withdrawalInfo);
 		} else {
@@ -305,6 +320,8 @@ public class MemberService {
 
 		withdrawalRepository.save(withdrawal);
 
+		applicationEventPublisher.publishEvent(new MemberWithdrawnEvent(this, memberId));
+
 		return profileImageUrl;
 	}
 
@@ -365,11 +382,14 @@ public class MemberService {
 			if (teamMemberRepository.countByTeamId(teamId) == 0) {
 				teamRepository.deleteById(teamId);
 				transactionRepository.deleteByTeamId(teamId);
+				ledgerSummaryService.delete(Ledger.team(teamId));
 			}
 		}
 	}
 
 	private void anonymizeTeamTransactions(List<Transaction> teamTransactions) {
+		ledgerSummaryService.subtract(teamTransactions);
+
 		for (Transaction transaction : teamTransactions) {
 			transaction.anonymize();
 		}
@@ -1,5 +1,6 @@
 package com.dalcoomi.member.application.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import com.dalcoomi.member.domain.Member;
@@ -14,6 +15,11 @@ public interface MemberRepository {
 
 	Member findById(Long memberId);
 
+	/**
+	 * 탈퇴하지 않은 회원만 조회하며, 없는 ID 는 결과에서 빠짐
+	 */
+	List<Member> findAllById(Collection<Long> memberIds);
+
 	Member findByNickname(String nickname);
 
 	Member findByEmail(String email);
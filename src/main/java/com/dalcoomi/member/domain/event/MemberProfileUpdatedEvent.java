@@ -0,0 +1,20 @@
+package com.dalcoomi.member.domain.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import lombok.Getter;
+
+@Getter
+public class MemberProfileUpdatedEvent extends ApplicationEvent {
+
+	private final Long memberId;
+	private final String nickname;
+	private final String profileImageUrl;
+
+	public MemberProfileUpdatedEvent(Object source, Long memberId, String nickname, String profileImageUrl) {
+		super(source);
+		this.memberId = memberId;
+		this.nickname = nickname;
+		this.profileImageUrl = profileImageUrl;
+	}
+}
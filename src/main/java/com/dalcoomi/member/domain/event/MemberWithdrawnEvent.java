@@ -0,0 +1,16 @@
+package com.dalcoomi.member.domain.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import lombok.Getter;
+
+@Getter
+public class MemberWithdrawnEvent extends ApplicationEvent {
+
+	private final Long memberId;
+
+	public MemberWithdrawnEvent(Object source, Long memberId) {
+		super(source);
+		this.memberId = memberId;
+	}
+}
@@ -1,5 +1,7 @@
 package com.dalcoomi.member.infrastructure;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,6 +14,8 @@ public interface MemberJpaRepository extends JpaRepository<MemberJpaEntity, Long
 
 	Optional<MemberJpaEntity> findByIdAndDeletedAtIsNull(Long memberId);
 
+	List<MemberJpaEntity> findAllByIdInAndDeletedAtIsNull(Collection<Long> memberIds);
+
 	Optional<MemberJpaEntity> findByNicknameAndDeletedAtIsNull(String nextLeaderNickname);
 
 	Optional<MemberJpaEntity> findByEmailAndDeletedAtIsNull(String email);
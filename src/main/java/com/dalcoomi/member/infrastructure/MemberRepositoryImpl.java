@@ -2,6 +2,7 @@ package com.dalcoomi.member.infrastructure;
 
 import static com.dalcoomi.common.error.model.ErrorMessage.MEMBER_NOT_FOUND;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.stereotype.Repository;
@@ -41,6 +42,13 @@ public class MemberRepositoryImpl implements MemberRepository {
 			.orElseThrow(() -> new NotFoundException(MEMBER_NOT_FOUND)).toModel();
 	}
 
+	@Override
+	public List<Member> findAllById(Collection<Long> memberIds) {
+		return memberJpaRepository.findAllByIdInAndDeletedAtIsNull(memberIds).stream()
+			.map(MemberJpaEntity::toModel)
+			.toList();
+	}
+
 	@Override
 	public Member findByNickname(String nickname) {
 		return memberJpaRepository.findByNicknameAndDeletedAtIsNull(nickname)
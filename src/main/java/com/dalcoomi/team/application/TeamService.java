@@ -33,7 +33,9 @@ import com.dalcoomi.team.domain.TeamMember;
 import com.dalcoomi.team.dto.LeaveTeamInfo;
 import com.dalcoomi.team.dto.TeamInfo;
 import com.dalcoomi.team.dto.TeamsInfo;
+import com.dalcoomi.transaction.application.LedgerSummaryService;
 import com.dalcoomi.transaction.application.repository.TransactionRepository;
+import com.dalcoomi.transaction.domain.Ledger;
 
 import lombok.RequiredArgsConstructor;
 
@@ -45,6 +47,7 @@ public class TeamService {
 	private final MemberRepository memberRepository;
 	private final TeamMemberRepository teamMemberRepository;
 	private final TransactionRepository transactionRepository;
+	private final LedgerSummaryService ledgerSummaryService;
 
 	@Transactional
 	public String create(Long memberId, Team team) {
@@ -110,9 +113,8 @@ public class TeamService {
 		List<Team> teams = sortedTeamMembers.stream().map(TeamMember::getTeam).toList();
 		List<Integer> displayOrders = sortedTeamMembers.stream().map(TeamMember::getDisplayOrder).toList();
 		List<Long> teamIds = teams.stream().map(Team::getId).toList();
-		List<Integer> memberCounts = teams.stream()
-			.map(team -> teamMemberRepository.countByTeamIds(teamIds).get(team.getId()))
-			.toList();
+		Map<Long, Integer> memberCountsByTeamId = teamMemberRepository.countByTeamIds(teamIds);
+		List<Integer> memberCounts = teams.stream().map(team -> memberCountsByTeamId.get(team.getId())).toList();
 
 		return TeamsInfo.of(teams, memberCounts, displayOrders);
 	}
@@ -217,6 +219,7 @@ public class TeamService {
 
 		if (teamMemberRepository.countByTeamId(teamId) == 0) {
 			transactionRepository.deleteByTeamId(teamId);
+			ledgerSummaryService.delete(Ledger.team(teamId));
 			teamRepository.deleteById(teamId);
 		}
 	}
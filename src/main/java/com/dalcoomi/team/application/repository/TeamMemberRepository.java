@@ -1,7 +1,9 @@
 package com.dalcoomi.team.application.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.lang.Nullable;
 
@@ -17,6 +19,11 @@ public interface TeamMemberRepository {
 
 	List<TeamMember> find(@Nullable Long teamId, @Nullable Long memberId);
 
+	/**
+	 * 회원 ID 별로 참여 중인 그룹 ID 를 한 번에 조회
+	 */
+	Map<Long, Set<Long>> findTeamIdsByMemberIds(Collection<Long> memberIds);
+
 	int countByTeamId(Long teamId);
 
 	int countByMemberId(Long memberId);
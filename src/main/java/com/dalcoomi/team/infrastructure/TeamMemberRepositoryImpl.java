@@ -4,14 +4,20 @@ import static com.dalcoomi.common.jpa.DynamicQuery.generateEq;
 import static com.dalcoomi.member.infrastructure.QMemberJpaEntity.memberJpaEntity;
 import static com.dalcoomi.team.infrastructure.QTeamJpaEntity.teamJpaEntity;
 import static com.dalcoomi.team.infrastructure.QTeamMemberJpaEntity.teamMemberJpaEntity;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 
+import com.dalcoomi.member.infrastructure.QMemberJpaEntity;
 import com.dalcoomi.team.application.repository.TeamMemberRepository;
 import com.dalcoomi.team.domain.TeamMember;
 import com.dalcoomi.team.dto.QTeamMemberProjection_TeamMemberCountDto;
@@ -45,11 +51,17 @@ public class TeamMemberRepositoryImpl implements TeamMemberRepository {
 		return teamMemberJpaRepository.existsByTeamIdAndMemberId(teamId, memberId);
 	}
 
+	/**
+	 * 그룹장도 함께 가져와 그룹마다 그룹장을 따로 조회하지 않도록 함
+	 */
 	@Override
 	public List<TeamMember> find(@Nullable Long teamId, @Nullable Long memberId) {
+		QMemberJpaEntity leader = new QMemberJpaEntity("leader");
+
 		return jpaQueryFactory
 			.selectFrom(teamMemberJpaEntity)
 			.join(teamMemberJpaEntity.team, teamJpaEntity).fetchJoin()
+			.join(teamJpaEntity.leader, leader).fetchJoin()
 			.join(teamMemberJpaEntity.member, memberJpaEntity).fetchJoin()
 			.where(
 				generateEq(teamId, teamJpaEntity.id::eq),
@@ -62,6 +74,18 @@ public class TeamMemberRepositoryImpl implements TeamMemberRepository {
 			.toList();
 	}
 
+	@Override
+	public Map<Long, Set<Long>> findTeamIdsByMemberIds(Collection<Long> memberIds) {
+		return jpaQueryFactory
+			.select(teamMemberJpaEntity.member.id, teamMemberJpaEntity.team.id)
+			.from(teamMemberJpaEntity)
+			.where(teamMemberJpaEntity.member.id.in(memberIds))
+			.fetch()
+			.stream()
+			.collect(groupingBy(tuple -> tuple.get(teamMemberJpaEntity.member.id),
+				mapping(tuple -> tuple.get(teamMemberJpaEntity.team.id), toSet())));
+	}
+
 	@Override
 	public int countByTeamId(Long teamId) {
 		return teamMemberJpaRepository.countByTeamId(teamId);
@@ -0,0 +1,209 @@
+package com.dalcoomi.transaction.application;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dalcoomi.transaction.application.repository.TransactionViewRepository;
+import com.dalcoomi.transaction.domain.Ledger;
+import com.dalcoomi.transaction.domain.LedgerSnapshot;
+import com.dalcoomi.transaction.domain.Transaction;
+import com.dalcoomi.transaction.dto.LedgerSnapshotRow;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 자주 조회되는 가계부의 열 단위 스냅샷을 인스턴스 메모리에 LRU 로 보관
+ * 스냅샷마다 가계부 버전을 기록하고 조회 시 현재 버전과 비교하므로, 다른 인스턴스에서 쓴 내용도 다음 조회에서 다시 적재됨
+ * 이 인스턴스의 쓰기는 커밋 후 스냅샷에 증분 반영하여 다시 적재하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class LedgerSnapshotService {
+
+	private final TransactionViewRepository transactionViewRepository;
+	private final LedgerVersionService ledgerVersionService;
+	private final Map<Ledger, LedgerSnapshot> snapshots = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long totalBytes;
+
+	@Value("${transaction.snapshot.enabled:true}")
+	private boolean enabled;
+
+	@Value("${transaction.snapshot.max-bytes:33554432}")
+	private long maxBytes;
+
+	@Value("${transaction.snapshot.max-rows-per-ledger:50000}")
+	private int maxRowsPerLedger;
+
+	/**
+	 * 버전과 거래 내역을 같은 읽기 트랜잭션에서 읽어 서로 어긋나지 않도록 함
+	 * 행 수가 한도를 넘는 가계부는 null 을 반환하므로 호출자는 DB 집계를 사용
+	 */
+	@Nullable
+	@Transactional(readOnly = true)
+	public LedgerSnapshot get(Ledger ledger) {
+		if (!enabled) {
+			return null;
+		}
+
+		long version = ledgerVersionService.get(ledger);
+		LedgerSnapshot snapshot = find(ledger);
+
+		if (snapshot == null || snapshot.version() != version) {
+			snapshot = load(ledger, version);
+
+			store(ledger, snapshot);
+		}
+
+		return snapshot.isTooLarge() ? null : snapshot;
+	}
+
+	/**
+	 * 가계부 버전을 올린 쓰기 트랜잭션 안에서 호출
+	 * 커밋 후 스냅샷 버전이 이번 쓰기 직전 버전일 때만 증분 반영하고, 그 사이 다른 쓰기가 있었다면 스냅샷을 버림
+	 */
+	public void apply(Map<Ledger, List<Transaction>> transactionsByLedger, int sign) {
+		if (!enabled) {
+			return;
+		}
+
+		transactionsByLedger.forEach((ledger, transactions) -> {
+			if (!contains(ledger)) {
+				return;
+			}
+
+			long version = ledgerVersionService.get(ledger);
+			List<LedgerSnapshotRow> rows = transactions.stream().map(LedgerSnapshotRow::from).toList();
+
+			runAfterCommit(() -> update(ledger, version, rows, sign));
+		});
+	}
+
+	public synchronized void evict(Ledger ledger) {
+		remove(ledger);
+	}
+
+	/**
+	 * 익명화는 거래를 지우지 않고 작성자만 비우므로 차감 증분 반영으로 빠진 행을 되살릴 수 없음
+	 * 어느 그룹 가계부가 영향을 받는지 알 수 없으므로 커밋 후 이 인스턴스의 스냅샷을 모두 버림
+	 */
+	public void evictAllAfterCommit() {
+		if (!enabled) {
+			return;
+		}
+
+		runAfterCommit(this::clear);
+	}
+
+	private LedgerSnapshot load(Ledger ledger, long version) {
+		List<LedgerSnapshotRow> rows = transactionViewRepository.findSnapshotRows(ledger, maxRowsPerLedger + 1);
+
+		if (rows.size() > maxRowsPerLedger) {
+			return LedgerSnapshot.tooLarge(version);
+		}
+
+		return LedgerSnapshot.of(version, rows);
+	}
+
+	private synchronized boolean contains(Ledger ledger) {
+		return snapshots.containsKey(ledger);
+	}
+
+	@Nullable
+	private synchronized LedgerSnapshot find(Ledger ledger) {
+		return snapshots.get(ledger);
+	}
+
+	private synchronized void store(Ledger ledger, LedgerSnapshot snapshot) {
+		LedgerSnapshot current = snapshots.get(ledger);
+
+		// 늦게 끝난 적재가 더 새로운 스냅샷을 덮어쓰지 않도록 함
+		if (current != null && current.version() > snapshot.version()) {
+			return;
+		}
+
+		put(ledger, snapshot);
+	}
+
+	private synchronized void update(Ledger ledger, long version, List<LedgerSnapshotRow> rows, int sign) {
+		LedgerSnapshot snapshot = snapshots.get(ledger);
+
+		if (snapshot == null) {
+			return;
+		}
+
+		boolean applicable = !snapshot.isTooLarge() && snapshot.version() == version - 1
+			&& rows.stream().allMatch(row -> row.transactionId() != null);
+
+		if (!applicable) {
+			remove(ledger);
+
+			return;
+		}
+
+		LedgerSnapshot updated = snapshot.apply(version, rows, sign);
+
+		put(ledger, updated.size() > maxRowsPerLedger ? LedgerSnapshot.tooLarge(version) : updated);
+	}
+
+	private void put(Ledger ledger, LedgerSnapshot snapshot) {
+		LedgerSnapshot stored = snapshot.estimatedBytes() > maxBytes
+			? LedgerSnapshot.tooLarge(snapshot.version())
+			: snapshot;
+
+		remove(ledger);
+		snapshots.put(ledger, stored);
+		totalBytes += stored.estimatedBytes();
+
+		Iterator<Map.Entry<Ledger, LedgerSnapshot>> eldest = snapshots.entrySet().iterator();
+
+		// 메모리 한도를 넘으면 가장 오래 조회되지 않은 가계부부터 제거
+		while (totalBytes > maxBytes && eldest.hasNext()) {
+			Map.Entry<Ledger, LedgerSnapshot> entry = eldest.next();
+
+			if (entry.getKey().equals(ledger)) {
+				continue;
+			}
+
+			totalBytes -= entry.getValue().estimatedBytes();
+			eldest.remove();
+		}
+	}
+
+	private synchronized void clear() {
+		snapshots.clear();
+		totalBytes = 0;
+	}
+
+	private void remove(Ledger ledger) {
+		LedgerSnapshot removed = snapshots.remove(ledger);
+
+		if (removed != null) {
+			totalBytes -= removed.estimatedBytes();
+		}
+	}
+
+	private void runAfterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
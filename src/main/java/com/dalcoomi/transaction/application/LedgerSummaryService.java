@@ -0,0 +1,138 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.transaction.domain.TransactionType.EXPENSE;
+import static com.dalcoomi.transaction.domain.TransactionType.INCOME;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toCollection;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dalcoomi.transaction.application.repository.LedgerSummaryRepository;
+import com.dalcoomi.transaction.domain.Ledger;
+import com.dalcoomi.transaction.domain.LedgerSummary;
+import com.dalcoomi.transaction.domain.Transaction;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 거래 내역 쓰기와 같은 트랜잭션 안에서 가계부 월별 합계를 증감시키는 서비스
+ * 모든 거래 내역 쓰기가 이 서비스를 거치므로 가계부 버전, 월별 거래 내역 캐시와 가계부 스냅샷도 여기서 함께 갱신
+ */
+@Service
+@RequiredArgsConstructor
+public class LedgerSummaryService {
+
+	private final LedgerSummaryRepository ledgerSummaryRepository;
+	private final LedgerVersionService ledgerVersionService;
+	private final TransactionMonthCache transactionMonthCache;
+	private final LedgerSnapshotService ledgerSnapshotService;
+
+	@Transactional
+	public void add(Transaction transaction) {
+		apply(List.of(transaction), 1);
+	}
+
+	@Transactional
+	public void add(List<Transaction> transactions) {
+		apply(transactions, 1);
+	}
+
+	@Transactional
+	public void subtract(Transaction transaction) {
+		apply(List.of(transaction), -1);
+	}
+
+	@Transactional
+	public void subtract(List<Transaction> transactions) {
+		apply(transactions, -1);
+	}
+
+	/**
+	 * 가계부 버전 행은 지우지 않고 올려서 버전이 0 으로 돌아가 이전 캐시와 스냅샷의 (가계부, 버전) 이 다시 쓰이지 않도록 함
+	 */
+	@Transactional
+	public void delete(Ledger ledger) {
+		ledgerSummaryRepository.deleteByLedger(ledger);
+		ledgerVersionService.increase(List.of(ledger));
+		transactionMonthCache.evictAll(List.of(ledger));
+		ledgerSnapshotService.evict(ledger);
+	}
+
+	@Nullable
+	@Transactional(readOnly = true)
+	public LedgerSummary get(Ledger ledger, Integer year, Integer month) {
+		return ledgerSummaryRepository.findByLedgerAndMonth(ledger, year, month);
+	}
+
+	@Transactional(readOnly = true)
+	public List<LedgerSummary> getByYears(Ledger ledger, Integer startYear, Integer endYear) {
+		return ledgerSummaryRepository.findByLedgerAndYears(ledger, startYear, endYear);
+	}
+
+	@Transactional(readOnly = true)
+	public List<Ledger> getRebuildTargets() {
+		return ledgerSummaryRepository.findRebuildTargets();
+	}
+
+	/**
+	 * 가계부마다 별도 트랜잭션으로 재집계하여 잠금과 빈 합계가 보이는 구간을 한 가계부로 한정
+	 * 바로잡은 합계가 클라이언트에 보이도록 가계부 버전을 올리고 캐시와 스냅샷도 비움
+	 */
+	@Transactional
+	public void rebuild(Ledger ledger) {
+		ledgerSummaryRepository.rebuild(ledger);
+		ledgerVersionService.increase(List.of(ledger));
+		transactionMonthCache.evictAll(List.of(ledger));
+		ledgerSnapshotService.evict(ledger);
+	}
+
+	private void apply(List<Transaction> transactions, int sign) {
+		Map<SummaryKey, long[]> deltas = new LinkedHashMap<>();
+		Map<Ledger, List<Transaction>> transactionsByLedger = new LinkedHashMap<>();
+
+		for (Transaction transaction : transactions) {
+			Ledger ledger = Ledger.from(transaction);
+
+			if (ledger == null || transaction.getDeletedAt() != null) {
+				continue;
+			}
+
+			SummaryKey key = new SummaryKey(ledger, transaction.getTransactionDate().getYear(),
+				transaction.getTransactionDate().getMonthValue());
+			long[] delta = deltas.computeIfAbsent(key, k -> new long[2]);
+
+			transactionsByLedger.computeIfAbsent(ledger, k -> new ArrayList<>()).add(transaction);
+
+			if (transaction.getTransactionType() == INCOME) {
+				delta[0] += sign * transaction.getAmount();
+			} else if (transaction.getTransactionType() == EXPENSE) {
+				delta[1] += sign * transaction.getAmount();
+			}
+		}
+
+		deltas.forEach((key, delta) ->
+			ledgerSummaryRepository.increase(key.ledger(), key.year(), key.month(), delta[0], delta[1]));
+
+		Map<Ledger, Set<YearMonth>> changedMonths = deltas.keySet().stream()
+			.collect(groupingBy(SummaryKey::ledger, LinkedHashMap::new,
+				mapping(key -> YearMonth.of(key.year(), key.month()), toCollection(LinkedHashSet::new))));
+
+		ledgerVersionService.increase(changedMonths.keySet());
+		transactionMonthCache.evict(changedMonths);
+		ledgerSnapshotService.apply(transactionsByLedger, sign);
+	}
+
+	private record SummaryKey(Ledger ledger, int year, int month) {
+	}
+}
@@ -0,0 +1,33 @@
+package com.dalcoomi.transaction.application;
+
+import java.util.Collection;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dalcoomi.transaction.application.repository.LedgerVersionRepository;
+import com.dalcoomi.transaction.domain.Ledger;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가계부 내용이 바뀔 때마다 증가하는 버전을 관리하는 서비스
+ * 쓰기와 같은 트랜잭션에서 증가시키므로 버전과 거래 내역이 항상 함께 커밋됨
+ * 가계부가 삭제되어도 버전은 줄어들지 않으므로 (가계부, 버전) 으로 캐시 항목과 스냅샷을 구분할 수 있음
+ */
+@Service
+@RequiredArgsConstructor
+public class LedgerVersionService {
+
+	private final LedgerVersionRepository ledgerVersionRepository;
+
+	@Transactional
+	public void increase(Collection<Ledger> ledgers) {
+		ledgers.forEach(ledgerVersionRepository::increase);
+	}
+
+	@Transactional(readOnly = true)
+	public long get(Ledger ledger) {
+		return ledgerVersionRepository.findVersion(ledger);
+	}
+}
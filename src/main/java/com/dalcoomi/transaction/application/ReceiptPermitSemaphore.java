@@ -0,0 +1,142 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.PERMITS_HELD_METRIC;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.PERMITS_KEY;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.dalcoomi.transaction.dto.ReceiptPermit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 인스턴스가 함께 쓰는 영수증 처리 슬롯 (Redis 분산 세마포어)
+ * 정렬 집합에 taskId 를 멤버로, 임대 만료 시각을 점수로 기록하여 동시에 AI 서버에 맡길 수 있는 영수증 수를 제한
+ * 콜백이 오지 않아도 임대가 만료되면 슬롯이 회수되고, 점유 중인 슬롯은 ZRANGE receipt:permits 0 -1 WITHSCORES 로 확인 가능
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReceiptPermitSemaphore {
+
+	private static final long MIN_BACKOFF_MILLIS = 100;
+	private static final long MAX_BACKOFF_MILLIS = 1000;
+
+	/**
+	 * 만료된 임대를 정리한 뒤 같은 작업이 이미 점유 중이거나 빈 슬롯이 있으면 임대를 기록
+	 * 인스턴스 간 시계 차이가 없도록 Redis 서버 시각을 기준으로 만료를 판단
+	 */
+	private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+		local time = redis.call('TIME')
+		local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+		redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now)
+		if redis.call('ZSCORE', KEYS[1], ARGV[1]) or redis.call('ZCARD', KEYS[1]) < tonumber(ARGV[2]) then
+			redis.call('ZADD', KEYS[1], now + tonumber(ARGV[3]), ARGV[1])
+			redis.call('PEXPIRE', KEYS[1], ARGV[3])
+			return 1
+		end
+		return 0
+		""", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * AI 서버가 동시에 처리할 수 있는 영수증 수에 맞춰 설정
+	 */
+	@Value("${receipt.semaphore.permits:4}")
+	private int permits;
+
+	/**
+	 * AI 서버 요청 제한 시간(90초)보다 길게 잡아 처리 중인 작업의 슬롯이 먼저 회수되지 않도록 함
+	 */
+	@Value("${receipt.semaphore.lease-seconds:120}")
+	private long leaseSeconds;
+
+	@Value("${receipt.semaphore.acquire-timeout-ms:30000}")
+	private long acquireTimeoutMillis;
+
+	@PostConstruct
+	public void registerMetrics() {
+		meterRegistry.gauge(PERMITS_HELD_METRIC, this, semaphore -> semaphore.heldPermits().size());
+	}
+
+	/**
+	 * 슬롯이 빌 때까지 점점 간격을 늘려가며 다시 시도하고, 제한 시간 안에 얻지 못하면 false
+	 */
+	public boolean acquire(String taskId) {
+		long deadline = System.currentTimeMillis() + acquireTimeoutMillis;
+		long backoffMillis = MIN_BACKOFF_MILLIS;
+
+		while (!tryAcquire(taskId)) {
+			long remainingMillis = deadline - System.currentTimeMillis();
+
+			if (remainingMillis <= 0) {
+				log.warn("영수증 처리 슬롯 획득 시간 초과: taskId={}, permits={}, held={}", taskId, permits,
+					heldPermits());
+
+				return false;
+			}
+
+			try {
+				Thread.sleep(Math.min(backoffMillis, remainingMillis));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+
+				return false;
+			}
+
+			backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+		}
+
+		return true;
+	}
+
+	public boolean tryAcquire(String taskId) {
+		Long acquired = stringRedisTemplate.execute(ACQUIRE_SCRIPT, List.of(PERMITS_KEY), taskId,
+			String.valueOf(permits), String.valueOf(leaseSeconds * 1000));
+
+		return Long.valueOf(1L).equals(acquired);
+	}
+
+	public void release(String taskId) {
+		Long removed = stringRedisTemplate.opsForZSet().remove(PERMITS_KEY, taskId);
+
+		if (removed == null || removed == 0) {
+			log.debug("이미 반납되었거나 만료된 영수증 처리 슬롯: taskId={}", taskId);
+		}
+	}
+
+	/**
+	 * 만료되지 않은 임대만 만료 시각 순으로 반환
+	 */
+	public List<ReceiptPermit> heldPermits() {
+		Set<TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+			.rangeByScoreWithScores(PERMITS_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+
+		if (tuples == null) {
+			return List.of();
+		}
+
+		return tuples.stream()
+			.filter(tuple -> tuple.getValue() != null && tuple.getScore() != null)
+			.map(tuple -> new ReceiptPermit(tuple.getValue(), LocalDateTime.ofInstant(
+				Instant.ofEpochMilli(Objects.requireNonNull(tuple.getScore()).longValue()), ZoneId.systemDefault())))
+			.toList();
+	}
+}
@@ -0,0 +1,284 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.common.error.model.ErrorMessage.RECEIPT_DEAD_LETTER_NOT_FOUND;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.DEAD_LETTER_KEY;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_ATTEMPT;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_CATEGORY_NAMES;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_ERROR;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_FAILED_AT;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_FILE_KEY;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_TASK_ID;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.RETRY_KEY;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.STREAM_KEY;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.dalcoomi.common.error.exception.NotFoundException;
+import com.dalcoomi.image.infrastructure.S3Adapter;
+import com.dalcoomi.transaction.dto.ReceiptDeadLetterInfo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 처리에 실패한 영수증 작업을 지수 백오프로 다시 발행하고, 최대 시도 횟수를 넘기면 dead-letter 스트림으로 옮김
+ * S3 의 영수증 파일은 재시도와 수동 재처리를 위해 남겨두므로 사용자가 영수증을 다시 올리지 않아도 됨
+ * dead-letter 작업은 보관 기간이 지나거나 관리자가 폐기하면 영수증 파일과 함께 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReceiptRetryService {
+
+	private static final int MAX_DEAD_LETTERS_PER_PAGE = 100;
+	private static final int DEAD_LETTER_PURGE_BATCH_SIZE = 100;
+
+	/**
+	 * 재시도 시각이 지난 작업을 정렬 집합에서 꺼내 스트림에 다시 발행
+	 * 꺼내기와 발행을 한 번에 실행하므로 여러 인스턴스가 동시에 실행해도 작업이 중복되거나 사라지지 않음
+	 */
+	private static final RedisScript<Long> PROMOTE_SCRIPT = new DefaultRedisScript<>("""
+		local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+		for _, member in ipairs(due) do
+			redis.call('ZREM', KEYS[1], member)
+			local fields = {}
+			for field, value in pairs(cjson.decode(member)) do
+				table.insert(fields, field)
+				table.insert(fields, tostring(value))
+			end
+			redis.call('XADD', KEYS[2], '*', unpack(fields))
+		end
+		return #due
+		""", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ObjectMapper objectMapper;
+	private final S3Adapter s3Adapter;
+
+	@Value("${receipt.retry.max-attempts:4}")
+	private int maxAttempts;
+
+	@Value("${receipt.retry.base-delay-ms:5000}")
+	private long baseDelayMillis;
+
+	@Value("${receipt.retry.max-delay-ms:300000}")
+	private long maxDelayMillis;
+
+	@Value("${receipt.retry.promote-batch-size:50}")
+	private int promoteBatchSize;
+
+	@Value("${receipt.dead-letter.retention-days:14}")
+	private long deadLetterRetentionDays;
+
+	/**
+	 * 보관 기간 정리가 따라가지 못할 만큼 실패가 몰려도 Redis 메모리를 다 쓰지 않도록 하는 상한
+	 * 이 상한으로 잘려 나간 작업의 영수증 파일은 남으므로 평소에는 닿지 않을 만큼 크게 잡음
+	 */
+	@Value("${receipt.dead-letter.max-length:10000}")
+	private long deadLetterMaxLength;
+
+	/**
+	 * 첫 시도 이후 base, base * 2, base * 4 ... 만큼 기다렸다가 다시 발행
+	 */
+	public void retryOrDeadLetter(Map<Object, Object> fields, Throwable cause) {
+		String taskId = (String)fields.get(FIELD_TASK_ID);
+		int attempt = getAttempt(fields);
+		Map<String, String> task = toTask(fields);
+
+		if (attempt >= maxAttempts) {
+			deadLetter(task, attempt, cause);
+
+			return;
+		}
+
+		long delayMillis = Math.min(baseDelayMillis << (attempt - 1), maxDelayMillis);
+
+		task.put(FIELD_ATTEMPT, String.valueOf(attempt + 1));
+
+		try {
+			stringRedisTemplate.opsForZSet().add(RETRY_KEY, objectMapper.writeValueAsString(task),
+				System.currentTimeMillis() + delayMillis);
+
+			log.warn("영수증 처리 재시도 예약: taskId={}, attempt={}, delayMs={}", taskId, attempt + 1, delayMillis);
+		} catch (JsonProcessingException e) {
+			deadLetter(task, attempt, e);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${receipt.retry.promote-interval-ms:1000}")
+	public void promoteDueRetries() {
+		try {
+			Long promoted = stringRedisTemplate.execute(PROMOTE_SCRIPT, List.of(RETRY_KEY, STREAM_KEY),
+				String.valueOf(System.currentTimeMillis()), String.valueOf(promoteBatchSize));
+
+			if (promoted != null && promoted > 0) {
+				log.info("재시도할 영수증 작업 발행: count={}", promoted);
+			}
+		} catch (Exception e) {
+			log.error("영수증 재시도 작업 발행 실패", e);
+		}
+	}
+
+	/**
+	 * 최근에 실패한 작업부터 최대 100건까지 반환
+	 */
+	public List<ReceiptDeadLetterInfo> getDeadLetters(int count) {
+		Limit limit = Limit.limit().count(Math.clamp(count, 1, MAX_DEAD_LETTERS_PER_PAGE));
+		List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+			.reverseRange(DEAD_LETTER_KEY, Range.unbounded(), limit);
+
+		if (records == null) {
+			return List.of();
+		}
+
+		return records.stream()
+			.map(record -> ReceiptDeadLetterInfo.builder()
+				.messageId(record.getId().getValue())
+				.taskId((String)record.getValue().get(FIELD_TASK_ID))
+				.attempts(getAttempt(record.getValue()))
+				.error((String)record.getValue().get(FIELD_ERROR))
+				.failedAt((String)record.getValue().get(FIELD_FAILED_AT))
+				.build())
+			.toList();
+	}
+
+	/**
+	 * 시도 횟수를 초기화하여 처리 스트림에 다시 발행하고 dead-letter 스트림에서 제거
+	 */
+	public void replay(String messageId) {
+		List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+			.range(DEAD_LETTER_KEY, Range.closed(messageId, messageId));
+
+		if (records == null || records.isEmpty()) {
+			throw new NotFoundException(RECEIPT_DEAD_LETTER_NOT_FOUND);
+		}
+
+		Map<String, String> task = toTask(records.getFirst().getValue());
+
+		stringRedisTemplate.opsForStream().add(StreamRecords.newRecord().in(STREAM_KEY).ofMap(task));
+		stringRedisTemplate.opsForStream().delete(DEAD_LETTER_KEY, messageId);
+
+		log.info("실패한 영수증 작업 재처리 요청: taskId={}, messageId={}", task.get(FIELD_TASK_ID), messageId);
+	}
+
+	/**
+	 * 다시 처리하지 않을 작업을 영수증 파일과 함께 삭제
+	 */
+	public void discard(String messageId) {
+		List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+			.range(DEAD_LETTER_KEY, Range.closed(messageId, messageId));
+
+		if (records == null || records.isEmpty()) {
+			throw new NotFoundException(RECEIPT_DEAD_LETTER_NOT_FOUND);
+		}
+
+		deleteDeadLetters(records);
+
+		log.info("실패한 영수증 작업 폐기: taskId={}, messageId={}", records.getFirst().getValue().get(FIELD_TASK_ID),
+			messageId);
+	}
+
+	/**
+	 * 메시지 ID 앞부분이 추가된 시각(ms)이므로, 보관 기간보다 먼저 들어온 작업을 오래된 것부터 정리
+	 */
+	@Scheduled(fixedDelayString = "${receipt.dead-letter.purge-interval-ms:3600000}")
+	public void purgeExpiredDeadLetters() {
+		try {
+			long cutoffMillis = System.currentTimeMillis() - Duration.ofDays(deadLetterRetentionDays).toMillis();
+			Range<String> expired = Range.closed("0-0", cutoffMillis + "-0");
+			Limit limit = Limit.limit().count(DEAD_LETTER_PURGE_BATCH_SIZE);
+			int purged = 0;
+
+			while (true) {
+				List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+					.range(DEAD_LETTER_KEY, expired, limit);
+
+				if (records == null || records.isEmpty()) {
+					break;
+				}
+
+				deleteDeadLetters(records);
+				purged += records.size();
+
+				if (records.size() < DEAD_LETTER_PURGE_BATCH_SIZE) {
+					break;
+				}
+			}
+
+			if (purged > 0) {
+				log.info("보관 기간이 지난 영수증 dead-letter 작업 정리: count={}", purged);
+			}
+		} catch (Exception e) {
+			log.error("영수증 dead-letter 작업 정리 실패", e);
+		}
+	}
+
+	private void deadLetter(Map<String, String> task, int attempt, Throwable cause) {
+		task.put(FIELD_ATTEMPT, String.valueOf(attempt));
+		task.put(FIELD_ERROR, String.valueOf(cause.getMessage()));
+		task.put(FIELD_FAILED_AT, LocalDateTime.now().toString());
+
+		stringRedisTemplate.opsForStream().add(StreamRecords.newRecord().in(DEAD_LETTER_KEY).ofMap(task));
+		stringRedisTemplate.opsForStream().trim(DEAD_LETTER_KEY, deadLetterMaxLength, true);
+
+		log.error("영수증 처리 최종 실패, dead-letter 스트림으로 이동: taskId={}, attempt={}", task.get(FIELD_TASK_ID),
+			attempt);
+	}
+
+	/**
+	 * 파일 삭제에 실패해도 작업은 지워 같은 작업을 계속 다시 정리하지 않도록 함
+	 */
+	private void deleteDeadLetters(List<MapRecord<String, Object, Object>> records) {
+		for (MapRecord<String, Object, Object> record : records) {
+			String fileKey = (String)record.getValue().get(FIELD_FILE_KEY);
+
+			try {
+				if (fileKey != null) {
+					s3Adapter.deleteFile(fileKey);
+				}
+			} catch (Exception e) {
+				log.warn("영수증 파일 삭제 실패: fileKey={}", fileKey, e);
+			}
+		}
+
+		stringRedisTemplate.opsForStream().delete(DEAD_LETTER_KEY,
+			records.stream().map(MapRecord::getId).toArray(RecordId[]::new));
+	}
+
+	/**
+	 * 처음 발행된 메시지에는 시도 횟수가 없으므로 첫 시도로 간주
+	 */
+	private int getAttempt(Map<Object, Object> fields) {
+		Object attempt = fields.get(FIELD_ATTEMPT);
+
+		return attempt == null ? 1 : Integer.parseInt(attempt.toString());
+	}
+
+	private Map<String, String> toTask(Map<Object, Object> fields) {
+		Map<String, String> task = new HashMap<>();
+
+		task.put(FIELD_TASK_ID, (String)fields.get(FIELD_TASK_ID));
+		task.put(FIELD_FILE_KEY, (String)fields.get(FIELD_FILE_KEY));
+		task.put(FIELD_CATEGORY_NAMES, (String)fields.get(FIELD_CATEGORY_NAMES));
+
+		return task;
+	}
+}
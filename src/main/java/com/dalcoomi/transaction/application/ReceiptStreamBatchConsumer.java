@@ -0,0 +1,120 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.STREAM_KEY;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.dalcoomi.transaction.dto.ReceiptTaskResult;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+/**
+ * 한 번의 XREADGROUP 으로 최대 batch-size 개의 메시지를 읽어 최대 concurrency 개씩 동시에 AI 서버로 보내고,
+ * 묶음의 ACK 와 실패 후처리는 파이프라인 한 번으로 전송
+ * 켜져 있으면 메시지 리스너 컨테이너 대신 이 인스턴스의 Consumer 이름으로 스트림을 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReceiptStreamBatchConsumer {
+
+	private static final long ERROR_BACKOFF_MILLIS = 1000;
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ReceiptStreamConsumer receiptStreamConsumer;
+	private final Consumer receiptStreamConsumerIdentity;
+
+	private Thread poller;
+	private volatile boolean running;
+
+	@Value("${receipt.stream.batch.enabled:false}")
+	private boolean enabled;
+
+	@Value("${receipt.stream.batch.size:4}")
+	private int batchSize;
+
+	@Value("${receipt.stream.batch.concurrency:4}")
+	private int concurrency;
+
+	@Value("${receipt.stream.batch.poll-timeout-ms:1000}")
+	private long pollTimeoutMillis;
+
+	@PostConstruct
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+
+		running = true;
+		poller = Thread.ofPlatform().name("receipt-stream-poller").daemon().start(this::run);
+	}
+
+	/**
+	 * 읽어 둔 묶음은 끝까지 처리하고 ACK 한 뒤 종료
+	 */
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		if (!running) {
+			return;
+		}
+
+		running = false;
+		poller.join();
+	}
+
+	/**
+	 * 응답 처리는 콜백에서 실행되어 요청을 보내는 동안 스레드를 점유하지 않고, 묶음 전체의 결과를 모을 때만 이 스레드가 기다림
+	 * 묶음 안의 메시지가 모두 끝날 때까지 기다린 뒤 다음 묶음을 읽으므로 동시에 처리하는 메시지는 batch-size 를 넘지 않음
+	 */
+	int consumeBatch() {
+		List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().read(
+			receiptStreamConsumerIdentity,
+			StreamReadOptions.empty().count(batchSize).block(Duration.ofMillis(pollTimeoutMillis)),
+			StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+
+		if (records == null || records.isEmpty()) {
+			return 0;
+		}
+
+		List<ReceiptTaskResult> results = Flux.fromIterable(records)
+			.flatMapSequential(receiptStreamConsumer::handle, concurrency)
+			.collectList()
+			.block();
+
+		receiptStreamConsumer.complete(results);
+
+		return records.size();
+	}
+
+	private void run() {
+		while (running) {
+			try {
+				consumeBatch();
+			} catch (Exception e) {
+				receiptStreamConsumer.handleStreamError(e);
+
+				try {
+					Thread.sleep(ERROR_BACKOFF_MILLIS);
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+
+					break;
+				}
+			}
+		}
+	}
+}
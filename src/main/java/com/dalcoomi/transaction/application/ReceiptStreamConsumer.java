@@ -2,20 +2,22 @@ package com.dalcoomi.transaction.application;
 
 import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.CONSUMER_GROUP;
 import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_CATEGORY_NAMES;
-import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_FILE_PATH;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_FILE_KEY;
 import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_TASK_ID;
-import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.PROCESSING_KEY;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.PERMITS_KEY;
 import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.STREAM_KEY;
-import static java.util.Objects.requireNonNull;
 import static org.springframework.http.MediaType.MULTIPART_FORM_DATA;
 
 import java.time.Duration;
+import java.util.List;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.DependsOn;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.stream.StreamListener;
 import org.springframework.http.HttpStatusCode;
@@ -24,11 +26,13 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
 
-import com.dalcoomi.common.util.TempFileUtil;
+import com.dalcoomi.image.infrastructure.S3Adapter;
+import com.dalcoomi.transaction.dto.ReceiptTaskResult;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Component
@@ -37,8 +41,10 @@ import reactor.core.publisher.Mono;
 public class ReceiptStreamConsumer implements StreamListener<String, MapRecord<String, Object, Object>> {
 
 	private final StringRedisTemplate stringRedisTemplate;
-	private final TempFileUtil tempFileUtil;
+	private final S3Adapter s3Adapter;
 	private final WebClient webClient;
+	private final ReceiptPermitSemaphore receiptPermitSemaphore;
+	private final ReceiptRetryService receiptRetryService;
 
 	@Value("${ai.server.url}")
 	private String aiServerUrl;
@@ -49,98 +55,203 @@ public class ReceiptStreamConsumer implements StreamListener<String, MapRecord<S
 	@Override
 	public void onMessage(MapRecord<String, Object, Object> message) {
 		try {
-			// 현재 처리 중인 영수증이 있는지 체크
-			boolean isProcessing = requireNonNull(stringRedisTemplate.hasKey(PROCESSING_KEY));
+			String taskId = (String)message.getValue().get(FIELD_TASK_ID);
 
-			if (isProcessing) {
-				log.debug("이미 처리 중인 영수증이 있어 대기: messageId={}", message.getId().getValue());
+			// 처리 슬롯이 빌 때까지 이 리스너 스레드가 기다리므로 다음 메시지도 읽지 않음
+			if (!receiptPermitSemaphore.acquire(taskId)) {
+				log.warn("영수증 처리 슬롯을 얻지 못해 대기열에 남김: taskId={}, messageId={}", taskId,
+					message.getId().getValue());
 				return;
 			}
 
 			processMessage(message);
 		} catch (Exception e) {
-			// Consumer Group이 없는 경우 재생성 시도
-			if (e.getMessage().contains("NOGROUP")) {
-				log.warn("Consumer Group이 존재하지 않아 재생성 시도");
+			handleStreamError(e);
+		}
+	}
+
+	/**
+	 * 배치 모드에서 호출하며, ACK 와 실패 후처리는 complete 에서 묶음 단위로 실행
+	 * 처리 슬롯을 기다리는 동안 이벤트 루프를 막지 않도록 슬롯 획득은 별도 스레드에서 실행
+	 */
+	public Mono<ReceiptTaskResult> handle(MapRecord<String, Object, Object> message) {
+		String messageId = message.getId().getValue();
+		String taskId = (String)message.getValue().get(FIELD_TASK_ID);
+
+		return Mono.fromCallable(() -> receiptPermitSemaphore.acquire(taskId))
+			.subscribeOn(Schedulers.boundedElastic())
+			.onErrorResume(e -> {
+				log.error("영수증 처리 슬롯 획득 중 오류 발생, 대기열에 남김: taskId={}, messageId={}", taskId, messageId, e);
+
+				return Mono.just(false);
+			})
+			.flatMap(acquired -> {
+				if (!acquired) {
+					log.warn("영수증 처리 슬롯을 얻지 못해 대기열에 남김: taskId={}, messageId={}", taskId, messageId);
+
+					return Mono.just(ReceiptTaskResult.skipped(message));
+				}
+
+				return send(message)
+					.thenReturn(ReceiptTaskResult.completed(message))
+					.onErrorResume(e -> {
+						log.error("영수증 처리 실패: taskId={}, messageId={}", taskId, messageId, e);
+
+						return Mono.just(ReceiptTaskResult.failed(message, e));
+					});
+			});
+	}
+
+	/**
+	 * 묶음의 ACK, 재시도 예약, 처리 슬롯 반납을 파이프라인으로 한 번에 전송
+	 * 세션 동안 연결이 현재 스레드에 묶여 있으므로 재시도 서비스가 보내는 명령도 같은 파이프라인에 포함됨
+	 */
+	public void complete(List<ReceiptTaskResult> results) {
+		String[] messageIds = results.stream()
+			.filter(ReceiptTaskResult::acquired)
+			.map(ReceiptTaskResult::messageId)
+			.toArray(String[]::new);
 
-				try {
-					stringRedisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), CONSUMER_GROUP);
+		if (messageIds.length == 0) {
+			return;
+		}
+
+		List<ReceiptTaskResult> failures = results.stream().filter(ReceiptTaskResult::isFailed).toList();
+		Object[] failedTaskIds = failures.stream().map(result -> result.fields().get(FIELD_TASK_ID)).toArray();
+
+		stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				failures.forEach(result -> receiptRetryService.retryOrDeadLetter(result.fields(), result.failure()));
+
+				stringRedisTemplate.opsForStream().acknowledge(STREAM_KEY, CONSUMER_GROUP, messageIds);
 
-					log.info("Consumer Group 재생성 완료: stream={}, group={}", STREAM_KEY, CONSUMER_GROUP);
-				} catch (Exception ex) {
-					log.error("Consumer Group 재생성 실패", ex);
+				// 실패 시 콜백이 오지 않으므로 바로 슬롯 반납
+				if (failedTaskIds.length > 0) {
+					stringRedisTemplate.opsForZSet().remove(PERMITS_KEY, failedTaskIds);
 				}
-			} else {
-				log.error("Redis Stream 메시지 소비 중 오류 발생", e);
+
+				return null;
 			}
+		});
+
+		log.info("메시지 ACK 완료: count={}, failed={}", messageIds.length, failures.size());
+	}
+
+	void handleStreamError(Exception e) {
+		// Consumer Group이 없는 경우 재생성 시도
+		if (e.getMessage() != null && e.getMessage().contains("NOGROUP")) {
+			log.warn("Consumer Group이 존재하지 않아 재생성 시도");
+
+			try {
+				stringRedisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), CONSUMER_GROUP);
+
+				log.info("Consumer Group 재생성 완료: stream={}, group={}", STREAM_KEY, CONSUMER_GROUP);
+			} catch (Exception ex) {
+				log.error("Consumer Group 재생성 실패", ex);
+			}
+		} else {
+			log.error("Redis Stream 메시지 소비 중 오류 발생", e);
 		}
 	}
 
-	private void processMessage(MapRecord<String, Object, Object> message) {
+	/**
+	 * AI 서버 응답을 기다리지 않고 반환하며, ACK 와 실패 후처리는 응답이 오면 콜백에서 실행
+	 * 동시에 처리하는 작업 수는 처리 슬롯 수로 제한되며, 호출 전에 슬롯을 얻어 두어야 함
+	 */
+	void processMessage(MapRecord<String, Object, Object> message) {
 		String messageId = message.getId().getValue();
 		String taskId = (String)message.getValue().get(FIELD_TASK_ID);
-		String filePath = (String)message.getValue().get(FIELD_FILE_PATH);
-		String categoryNamesJson = (String)message.getValue().get(FIELD_CATEGORY_NAMES);
 
-		try {
-			// 처리 시작 플래그 설정 (taskId 저장, 1분 TTL)
-			stringRedisTemplate.opsForValue().set(PROCESSING_KEY, taskId, Duration.ofMinutes(1));
-			log.info("영수증 처리 시작: taskId={}, messageId={}", taskId, messageId);
-
-			int lastSeparator = Math.max(filePath.lastIndexOf('/'), filePath.lastIndexOf('\\'));
-			String originalFilename = lastSeparator >= 0 ? filePath.substring(lastSeparator + 1) : filePath;
-
-			byte[] receiptBytes = tempFileUtil.readTempFile(filePath);
-			ByteArrayResource receiptResource = new ByteArrayResource(receiptBytes) {
-				@Override
-				public String getFilename() {
-					return originalFilename;
-				}
-			};
-
-			MultiValueMap<String, Object> parts = new LinkedMultiValueMap<>();
-			parts.add("taskId", taskId);
-			parts.add("receipt", receiptResource);
-			parts.add("categories", categoryNamesJson);
-
-			String response = webClient.post()
-				.uri(aiServerUrl + "/receipt")
-				.header("X-API-Key", aiServerApiKey)
-				.contentType(MULTIPART_FORM_DATA)
-				.bodyValue(parts)
-				.retrieve()
-				.onStatus(HttpStatusCode::isError, clientResponse ->
-					clientResponse.bodyToMono(String.class)
-						.defaultIfEmpty("응답 본문 없음")
-						.flatMap(errorBody -> {
-							log.error("AI 서버 요청 실패: status={}, body={}", clientResponse.statusCode(), errorBody);
-
-							return Mono.error(new RuntimeException(
-								"AI 서버 처리 중 오류가 발생했습니다. 상태코드: " + clientResponse.statusCode()));
-						})
-				)
-				.bodyToMono(String.class)
-				.timeout(Duration.ofSeconds(90))
-				.block();
-
-			log.info("AI 서버 전송 완료: taskId={}, response={}", taskId, response);
-
-			tempFileUtil.deleteTempFile(filePath);
+		send(message).subscribe(null, e -> {
+			log.error("영수증 처리 실패: taskId={}, messageId={}", taskId, messageId, e);
+
+			// 영수증 파일은 남겨두고 재시도를 예약한 뒤 ACK 하므로, 그 사이에 종료되어도 작업이 사라지지 않음
+			receiptRetryService.retryOrDeadLetter(message.getValue(), e);
 
 			stringRedisTemplate.opsForStream().acknowledge(STREAM_KEY, CONSUMER_GROUP, messageId);
 
+			// 실패 시 콜백이 오지 않으므로 바로 슬롯 반납
+			receiptPermitSemaphore.release(taskId);
+		}, () -> {
+			stringRedisTemplate.opsForStream().acknowledge(STREAM_KEY, CONSUMER_GROUP, messageId);
+
 			log.info("메시지 ACK 완료: taskId={}, messageId={}", taskId, messageId);
-		} catch (Exception e) {
-			log.error("영수증 처리 실패: taskId={}, messageId={}", taskId, messageId, e);
+		});
+	}
+
+	/**
+	 * S3 에서 영수증을 읽어 AI 서버에 전송하고, 성공하면 영수증 파일을 삭제
+	 * 다운로드와 응답 이후의 파일 삭제, Redis 명령이 호출 스레드나 Netty 이벤트 루프를 막지 않도록 별도 스레드에서 처리
+	 */
+	private Mono<Void> send(MapRecord<String, Object, Object> message) {
+		String taskId = (String)message.getValue().get(FIELD_TASK_ID);
+		String fileKey = (String)message.getValue().get(FIELD_FILE_KEY);
+
+		return Mono.fromCallable(() -> s3Adapter.downloadFile(fileKey))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMap(receiptBytes -> request(message, receiptBytes))
+			.publishOn(Schedulers.boundedElastic())
+			.doOnSuccess(response -> {
+				log.info("AI 서버 전송 완료: taskId={}, response={}", taskId, response);
+
+				deleteReceipt(fileKey);
+			})
+			.then();
+	}
 
-			if (filePath != null) {
-				tempFileUtil.deleteTempFile(filePath);
+	private Mono<String> request(MapRecord<String, Object, Object> message, byte[] receiptBytes) {
+		String messageId = message.getId().getValue();
+		String taskId = (String)message.getValue().get(FIELD_TASK_ID);
+		String fileKey = (String)message.getValue().get(FIELD_FILE_KEY);
+		String categoryNamesJson = (String)message.getValue().get(FIELD_CATEGORY_NAMES);
+
+		log.info("영수증 처리 시작: taskId={}, messageId={}", taskId, messageId);
+
+		String originalFilename = fileKey.substring(fileKey.lastIndexOf('/') + 1);
+
+		ByteArrayResource receiptResource = new ByteArrayResource(receiptBytes) {
+			@Override
+			public String getFilename() {
+				return originalFilename;
 			}
+		};
 
-			stringRedisTemplate.opsForStream().acknowledge(STREAM_KEY, CONSUMER_GROUP, messageId);
+		MultiValueMap<String, Object> parts = new LinkedMultiValueMap<>();
+		parts.add("taskId", taskId);
+		parts.add("receipt", receiptResource);
+		parts.add("categories", categoryNamesJson);
 
-			// 실패 시 플래그 제거 (다음 메시지 처리 가능하도록)
-			stringRedisTemplate.delete(PROCESSING_KEY);
+		return webClient.post()
+			.uri(aiServerUrl + "/receipt")
+			.header("X-API-Key", aiServerApiKey)
+			.contentType(MULTIPART_FORM_DATA)
+			.bodyValue(parts)
+			.retrieve()
+			.onStatus(HttpStatusCode::isError, clientResponse ->
+				clientResponse.bodyToMono(String.class)
+					.defaultIfEmpty("응답 본문 없음")
+					.flatMap(errorBody -> {
+						log.error("AI 서버 요청 실패: status={}, body={}", clientResponse.statusCode(), errorBody);
+
+						return Mono.error(new RuntimeException(
+							"AI 서버 처리 중 오류가 발생했습니다. 상태코드: " + clientResponse.statusCode()));
+					})
+			)
+			.bodyToMono(String.class)
+			.timeout(Duration.ofSeconds(90));
+	}
+
+	/**
+	 * 이미 AI 서버가 처리한 작업이므로 파일 삭제에 실패해도 재시도하지 않고 로그만 남김
+	 */
+	private void deleteReceipt(String fileKey) {
+		try {
+			s3Adapter.deleteFile(fileKey);
+
+			log.info("영수증 파일 삭제 완료: fileKey={}", fileKey);
+		} catch (Exception e) {
+			log.warn("영수증 파일 삭제 실패: fileKey={}", fileKey, e);
 		}
 	}
 }
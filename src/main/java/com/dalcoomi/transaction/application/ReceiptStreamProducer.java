@@ -2,11 +2,13 @@ package com.dalcoomi.transaction.application;
 
 import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.CONSUMER_GROUP;
 import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_CATEGORY_NAMES;
-import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_FILE_PATH;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_FILE_KEY;
 import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_TASK_ID;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FILE_KEY_PREFIX;
 import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.STREAM_KEY;
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
@@ -23,7 +25,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.dalcoomi.category.application.CategoryService;
 import com.dalcoomi.common.error.exception.DalcoomiException;
-import com.dalcoomi.common.util.TempFileUtil;
+import com.dalcoomi.image.infrastructure.S3Adapter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.annotation.Nullable;
@@ -38,7 +40,7 @@ public class ReceiptStreamProducer {
 
 	private final StringRedisTemplate stringRedisTemplate;
 	private final ObjectMapper objectMapper;
-	private final TempFileUtil tempFileUtil;
+	private final S3Adapter s3Adapter;
 	private final CategoryService categoryService;
 
 	@PostConstruct
@@ -56,13 +58,13 @@ public class ReceiptStreamProducer {
 	public String publishReceiptTask(Long memberId, @Nullable Long teamId, MultipartFile receipt) {
 		String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS"));
 		String taskId = "receipt-" + timestamp + "-" + UUID.randomUUID().toString().substring(0, 8);
-		String filePath = tempFileUtil.saveTempFile(taskId, receipt);
 		List<String> categoryNames = categoryService.fetchCategoryNames(memberId, teamId);
+		String fileKey = uploadReceipt(taskId, receipt);
 
 		try {
 			Map<String, String> messageData = new HashMap<>();
 			messageData.put(FIELD_TASK_ID, taskId);
-			messageData.put(FIELD_FILE_PATH, filePath);
+			messageData.put(FIELD_FILE_KEY, fileKey);
 			messageData.put(FIELD_CATEGORY_NAMES, objectMapper.writeValueAsString(categoryNames));
 
 			ObjectRecord<String, Map<String, String>> streamRecord = StreamRecords.newRecord()
@@ -77,7 +79,43 @@ public class ReceiptStreamProducer {
 		} catch (Exception e) {
 			log.error("Redis Stream 발행 실패: taskId={}", taskId, e);
 
+			deleteReceipt(fileKey);
+
 			throw new DalcoomiException("영수증 작업 발행에 실패했습니다.", e);
 		}
 	}
+
+	/**
+	 * 어느 인스턴스가 작업을 가져가도 읽을 수 있도록 영수증을 로컬 디스크가 아닌 S3 에 저장
+	 */
+	private String uploadReceipt(String taskId, MultipartFile receipt) {
+		String originalFilename = receipt.getOriginalFilename();
+		String extension = "";
+
+		if (originalFilename != null && originalFilename.contains(".")) {
+			extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+		}
+
+		String fileKey = FILE_KEY_PREFIX + taskId + extension;
+
+		try {
+			s3Adapter.putFile(fileKey, receipt.getBytes(), receipt.getContentType());
+
+			log.info("영수증 파일 저장 완료: taskId={}, fileKey={}", taskId, fileKey);
+
+			return fileKey;
+		} catch (IOException e) {
+			log.error("영수증 파일 저장 실패: taskId={}", taskId, e);
+
+			throw new DalcoomiException("영수증 파일 저장에 실패했습니다.", e);
+		}
+	}
+
+	private void deleteReceipt(String fileKey) {
+		try {
+			s3Adapter.deleteFile(fileKey);
+		} catch (Exception e) {
+			log.warn("영수증 파일 삭제 실패: fileKey={}", fileKey, e);
+		}
+	}
 }
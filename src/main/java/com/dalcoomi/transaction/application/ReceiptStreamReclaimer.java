@@ -0,0 +1,165 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.CONSUMER_GROUP;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_TASK_ID;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.STREAM_KEY;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumer;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumers;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 받기만 하고 ACK 하지 못한 채 오래 방치된 영수증 메시지를 이 인스턴스로 가져와 다시 처리하고,
+ * 재시작 등으로 떠난 Consumer 를 Consumer Group 에서 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReceiptStreamReclaimer {
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ReceiptStreamConsumer receiptStreamConsumer;
+	private final ReceiptPermitSemaphore receiptPermitSemaphore;
+	private final Consumer receiptStreamConsumerIdentity;
+
+	/**
+	 * 처리 슬롯 대기(30초)와 AI 서버 요청(90초)을 합친 시간보다 길게 잡아, 아직 처리 중인 메시지는 가져오지 않도록 함
+	 */
+	@Value("${receipt.stream.reclaim-min-idle-ms:180000}")
+	private long reclaimMinIdleMillis;
+
+	@Value("${receipt.stream.reclaim-batch-size:10}")
+	private int reclaimBatchSize;
+
+	@Value("${receipt.stream.consumer-max-idle-ms:1800000}")
+	private long consumerMaxIdleMillis;
+
+	/**
+	 * XCLAIM 은 최소 유휴 시간을 다시 확인한 뒤 소유자를 바꾸므로, 여러 인스턴스가 동시에 실행해도 한 곳만 가져감
+	 * 스케줄러 스레드를 막지 않도록 처리 슬롯은 기다리지 않고 바로 얻을 수 있을 때만 가져오며,
+	 * 슬롯을 얻지 못한 메시지는 유휴 시간을 그대로 둔 채 미처리 목록에 남겨 다음 회수 때 다시 시도
+	 */
+	@Scheduled(fixedDelayString = "${receipt.stream.reclaim-interval-ms:60000}")
+	public void reclaim() {
+		try {
+			Duration minIdleTime = Duration.ofMillis(reclaimMinIdleMillis);
+			PendingMessages pendingMessages = stringRedisTemplate.opsForStream()
+				.pending(STREAM_KEY, CONSUMER_GROUP, Range.unbounded(), reclaimBatchSize);
+
+			List<RecordId> idleRecordIds = pendingMessages.stream()
+				.filter(pendingMessage -> pendingMessage.getElapsedTimeSinceLastDelivery().compareTo(minIdleTime) >= 0)
+				.map(PendingMessage::getId)
+				.toList();
+
+			for (RecordId recordId : idleRecordIds) {
+				if (!reclaim(recordId, minIdleTime)) {
+					break;
+				}
+			}
+		} catch (Exception e) {
+			log.error("방치된 영수증 메시지 회수 실패", e);
+		}
+	}
+
+	/**
+	 * DELCONSUMER 는 그 Consumer 의 미처리 메시지도 함께 지우므로, 미처리 메시지가 없는 Consumer 만 제거
+	 * 미처리 메시지가 남아 있으면 reclaim 으로 옮겨진 뒤 다음 정리 때 제거됨
+	 */
+	@Scheduled(fixedDelayString = "${receipt.stream.consumer-cleanup-interval-ms:600000}")
+	public void removeIdleConsumers() {
+		try {
+			XInfoConsumers consumers = stringRedisTemplate.opsForStream().consumers(STREAM_KEY, CONSUMER_GROUP);
+
+			for (XInfoConsumer consumer : consumers.stream().toList()) {
+				boolean isSelf = consumer.consumerName().equals(receiptStreamConsumerIdentity.getName());
+
+				if (isSelf || consumer.pendingCount() > 0 || consumer.idleTimeMs() < consumerMaxIdleMillis) {
+					continue;
+				}
+
+				stringRedisTemplate.opsForStream().deleteConsumer(STREAM_KEY,
+					Consumer.from(CONSUMER_GROUP, consumer.consumerName()));
+
+				log.info("떠난 영수증 Consumer 제거: consumer={}, idleMs={}", consumer.consumerName(),
+					consumer.idleTimeMs());
+			}
+		} catch (Exception e) {
+			log.error("영수증 Consumer 정리 실패", e);
+		}
+	}
+
+	/**
+	 * 종료 시 처리 중인 메시지가 없으면 바로 Consumer Group 에서 빠지고, 남아 있으면 다른 인스턴스가 회수하도록 둠
+	 */
+	@PreDestroy
+	public void leave() {
+		try {
+			PendingMessages ownPendingMessages = stringRedisTemplate.opsForStream()
+				.pending(STREAM_KEY, receiptStreamConsumerIdentity, Range.unbounded(), 1);
+
+			if (ownPendingMessages.isEmpty()) {
+				stringRedisTemplate.opsForStream().deleteConsumer(STREAM_KEY, receiptStreamConsumerIdentity);
+			}
+		} catch (Exception e) {
+			log.warn("종료 중 영수증 Consumer 제거 실패: consumer={}", receiptStreamConsumerIdentity.getName(), e);
+		}
+	}
+
+	/**
+	 * 메시지를 가져오기 전에 슬롯부터 얻고, 다른 인스턴스가 먼저 가져갔으면 슬롯을 바로 반납
+	 * 슬롯이 모두 차 있으면 false 를 반환하여 이번 회수를 멈춤
+	 */
+	private boolean reclaim(RecordId recordId, Duration minIdleTime) {
+		List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+			.range(STREAM_KEY, Range.closed(recordId.getValue(), recordId.getValue()));
+
+		// 스트림에서 이미 지워진 메시지는 다시 처리할 수 없으므로 미처리 목록에서만 정리
+		if (records == null || records.isEmpty()) {
+			stringRedisTemplate.opsForStream().acknowledge(STREAM_KEY, CONSUMER_GROUP, recordId);
+
+			log.warn("스트림에서 사라진 영수증 메시지 정리: messageId={}", recordId.getValue());
+
+			return true;
+		}
+
+		String taskId = (String)records.getFirst().getValue().get(FIELD_TASK_ID);
+
+		if (!receiptPermitSemaphore.tryAcquire(taskId)) {
+			log.info("영수증 처리 슬롯이 없어 회수를 미룸: taskId={}, messageId={}", taskId, recordId.getValue());
+
+			return false;
+		}
+
+		List<MapRecord<String, Object, Object>> claimedRecords = stringRedisTemplate.opsForStream()
+			.claim(STREAM_KEY, CONSUMER_GROUP, receiptStreamConsumerIdentity.getName(), minIdleTime, recordId);
+
+		if (claimedRecords.isEmpty()) {
+			receiptPermitSemaphore.release(taskId);
+
+			return true;
+		}
+
+		log.info("방치된 영수증 메시지 회수: consumer={}, taskId={}, messageId={}",
+			receiptStreamConsumerIdentity.getName(), taskId, recordId.getValue());
+
+		receiptStreamConsumer.processMessage(claimedRecords.getFirst());
+
+		return true;
+	}
+}
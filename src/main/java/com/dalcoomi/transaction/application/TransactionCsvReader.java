@@ -0,0 +1,130 @@
+package com.dalcoomi.transaction.application;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * CSV 를 한 레코드씩 읽는 순방향 리더
+ * 따옴표로 감싼 값 안의 구분자/개행/이중 따옴표와 내보내기 시 추가한 수식 방지 문자를 복원
+ */
+public class TransactionCsvReader {
+
+	private static final char UTF8_BOM = '\uFEFF';
+	private static final String CSV_FORMULA_PREFIXES = "=+-@";
+
+	private final Reader reader;
+	private long lineNumber = 1;
+	private long recordLineNumber;
+	private int next = -2;
+
+	public TransactionCsvReader(Reader reader) {
+		this.reader = reader;
+	}
+
+	/**
+	 * 다음 레코드를 읽고, 더 이상 없으면 null 반환
+	 */
+	@Nullable
+	public List<String> readRecord() throws IOException {
+		int current = read();
+
+		if (recordLineNumber == 0 && current == UTF8_BOM) {
+			current = read();
+		}
+
+		if (current == -1) {
+			return null;
+		}
+
+		recordLineNumber = lineNumber;
+
+		List<String> values = new ArrayList<>();
+		StringBuilder value = new StringBuilder();
+		boolean quoted = false;
+		boolean wasQuoted = false;
+
+		while (current != -1) {
+			if (quoted) {
+				if (current == '"' && peek() == '"') {
+					value.append('"');
+					read();
+				} else if (current == '"') {
+					quoted = false;
+				} else {
+					countLine(current);
+					value.append((char)current);
+				}
+			} else if (current == '"') {
+				quoted = true;
+				wasQuoted = true;
+			} else if (current == ',') {
+				values.add(unescape(value.toString(), wasQuoted));
+				value.setLength(0);
+				wasQuoted = false;
+			} else if (current == '\r' || current == '\n') {
+				if (current == '\r' && peek() == '\n') {
+					read();
+				}
+
+				lineNumber++;
+
+				break;
+			} else {
+				value.append((char)current);
+			}
+
+			current = read();
+		}
+
+		values.add(unescape(value.toString(), wasQuoted));
+
+		return values;
+	}
+
+	/**
+	 * 마지막으로 읽은 레코드가 시작된 파일상의 줄 번호
+	 */
+	public long getRecordLineNumber() {
+		return recordLineNumber;
+	}
+
+	private String unescape(String value, boolean wasQuoted) {
+		String trimmed = wasQuoted ? value : value.trim();
+
+		if (trimmed.length() > 1 && trimmed.charAt(0) == '\''
+			&& CSV_FORMULA_PREFIXES.indexOf(trimmed.charAt(1)) >= 0) {
+			return trimmed.substring(1);
+		}
+
+		return trimmed;
+	}
+
+	private void countLine(int character) {
+		if (character == '\n') {
+			lineNumber++;
+		}
+	}
+
+	private int read() throws IOException {
+		if (next != -2) {
+			int buffered = next;
+			next = -2;
+
+			return buffered;
+		}
+
+		return reader.read();
+	}
+
+	private int peek() throws IOException {
+		if (next == -2) {
+			next = reader.read();
+		}
+
+		return next;
+	}
+}
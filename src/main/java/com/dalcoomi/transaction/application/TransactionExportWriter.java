@@ -0,0 +1,89 @@
+package com.dalcoomi.transaction.application;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.dalcoomi.transaction.domain.TransactionExportFormat;
+import com.dalcoomi.transaction.dto.TransactionExportItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 거래 내역을 한 행씩 응답 스트림에 기록
+ * 버퍼가 찰 때마다 클라이언트로 내려가므로 전체 결과를 메모리에 모으지 않음
+ */
+public class TransactionExportWriter {
+
+	private static final String LINE_SEPARATOR = "\n";
+	private static final char UTF8_BOM = '\uFEFF';
+	private static final List<String> CSV_HEADER = List.of("거래ID", "거래일시", "구분", "금액", "카테고리", "내용", "작성자");
+	private static final String CSV_FORMULA_PREFIXES = "=+-@";
+
+	private final TransactionExportFormat format;
+	private final Writer writer;
+	private final ObjectMapper objectMapper;
+
+	public TransactionExportWriter(TransactionExportFormat format, OutputStream outputStream,
+		ObjectMapper objectMapper) {
+		this.format = format;
+		this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8));
+		this.objectMapper = objectMapper;
+	}
+
+	public void writeHeader() throws IOException {
+		if (format != TransactionExportFormat.CSV) {
+			return;
+		}
+
+		// 엑셀에서 한글이 깨지지 않도록 BOM 추가
+		writer.write(UTF8_BOM);
+		writeCsvLine(CSV_HEADER.stream());
+	}
+
+	public void write(TransactionExportItem item) throws IOException {
+		if (format == TransactionExportFormat.NDJSON) {
+			writer.write(objectMapper.writeValueAsString(item));
+			writer.write(LINE_SEPARATOR);
+
+			return;
+		}
+
+		writeCsvLine(Stream.of(String.valueOf(item.transactionId()), String.valueOf(item.transactionDate()),
+			item.transactionType().name(), String.valueOf(item.amount()), item.categoryName(), item.content(),
+			item.creatorNickname()));
+	}
+
+	public void flush() throws IOException {
+		writer.flush();
+	}
+
+	private void writeCsvLine(Stream<String> values) throws IOException {
+		writer.write(values.map(this::escapeCsv).collect(Collectors.joining(",")));
+		writer.write(LINE_SEPARATOR);
+	}
+
+	/**
+	 * 구분자/따옴표/개행이 포함된 값은 따옴표로 감싸고,
+	 * 스프레드시트에서 수식으로 실행되지 않도록 수식 시작 문자 앞에 작은따옴표 추가
+	 */
+	private String escapeCsv(String value) {
+		if (value == null || value.isEmpty()) {
+			return "";
+		}
+
+		String escaped = CSV_FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+
+		if (escaped.contains(",") || escaped.contains("\"") || escaped.contains("\n") || escaped.contains("\r")) {
+			return "\"" + escaped.replace("\"", "\"\"") + "\"";
+		}
+
+		return escaped;
+	}
+}
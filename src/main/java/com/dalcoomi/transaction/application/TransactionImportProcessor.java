@@ -0,0 +1,247 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_IMPORT_CATEGORY_NOT_FOUND;
+import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_IMPORT_INVALID_HEADER;
+import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_INVALID_AMOUNT;
+import static com.dalcoomi.transaction.constant.TransactionImportConstants.HEADER_AMOUNT;
+import static com.dalcoomi.transaction.constant.TransactionImportConstants.HEADER_CATEGORY;
+import static com.dalcoomi.transaction.constant.TransactionImportConstants.HEADER_CONTENT;
+import static com.dalcoomi.transaction.constant.TransactionImportConstants.HEADER_TRANSACTION_DATE;
+import static com.dalcoomi.transaction.constant.TransactionImportConstants.HEADER_TRANSACTION_TYPE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dalcoomi.category.application.repository.CategoryRepository;
+import com.dalcoomi.category.domain.Category;
+import com.dalcoomi.common.error.exception.BadRequestException;
+import com.dalcoomi.common.util.TempFileUtil;
+import com.dalcoomi.member.application.repository.MemberRepository;
+import com.dalcoomi.member.domain.Member;
+import com.dalcoomi.transaction.application.repository.TransactionRepository;
+import com.dalcoomi.transaction.domain.Transaction;
+import com.dalcoomi.transaction.domain.TransactionType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드된 CSV 를 한 행씩 읽어 batchSize 단위로 JDBC 배치 저장
+ * 청크마다 별도 트랜잭션으로 커밋하므로 중간에 실패해도 이미 커밋된 청크는 유지되고 진행률로 확인 가능
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionImportProcessor {
+
+	private static final List<DateTimeFormatter> DATE_TIME_FORMATTERS = List.of(
+		DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+		DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm[:ss]"),
+		DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm[:ss]"),
+		DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm[:ss]")
+	);
+	private static final List<DateTimeFormatter> DATE_FORMATTERS = List.of(
+		DateTimeFormatter.ISO_LOCAL_DATE,
+		DateTimeFormatter.ofPattern("yyyy.MM.dd"),
+		DateTimeFormatter.ofPattern("yyyy/MM/dd")
+	);
+
+	private final TransactionRepository transactionRepository;
+	private final MemberRepository memberRepository;
+	private final CategoryRepository categoryRepository;
+	private final LedgerSummaryService ledgerSummaryService;
+	private final TransactionImportTracker transactionImportTracker;
+	private final TransactionTemplate transactionTemplate;
+	private final TempFileUtil tempFileUtil;
+
+	@Value("${transaction.import.batch-size:500}")
+	private int batchSize;
+
+	@Async("taskExecutor")
+	public void process(String importId, Long memberId, @Nullable Long teamId, String filePath) {
+		transactionImportTracker.markProcessing(importId);
+
+		try (BufferedReader bufferedReader = Files.newBufferedReader(Paths.get(filePath), UTF_8)) {
+			TransactionCsvReader csvReader = new TransactionCsvReader(bufferedReader);
+			ImportProgress progress = importRecords(importId, memberId, teamId, csvReader);
+
+			transactionImportTracker.complete(importId);
+
+			log.info("거래 내역 가져오기 완료: importId={}, imported={}, failed={}", importId, progress.importedRows,
+				progress.failedRows);
+		} catch (Exception e) {
+			log.error("거래 내역 가져오기 실패: importId={}", importId, e);
+
+			transactionImportTracker.fail(importId, e.getMessage());
+		} finally {
+			tempFileUtil.deleteTempFile(filePath);
+		}
+	}
+
+	private ImportProgress importRecords(String importId, Long memberId, @Nullable Long teamId,
+		TransactionCsvReader csvReader) throws IOException {
+		Map<String, Integer> columns = readHeader(csvReader.readRecord());
+		Member member = memberRepository.findById(memberId);
+		Map<String, Category> categoryCache = new HashMap<>();
+		List<Transaction> chunk = new ArrayList<>(batchSize);
+		ImportProgress progress = new ImportProgress();
+		List<String> values;
+
+		while ((values = csvReader.readRecord()) != null) {
+			if (values.stream().allMatch(String::isBlank)) {
+				continue;
+			}
+
+			progress.processedRows++;
+
+			try {
+				chunk.add(toTransaction(values, columns, member, teamId, categoryCache));
+			} catch (RuntimeException e) {
+				progress.failedRows++;
+				transactionImportTracker.addError(importId, csvReader.getRecordLineNumber(), e.getMessage());
+			}
+
+			if (chunk.size() >= batchSize) {
+				flush(importId, chunk, progress);
+			}
+		}
+
+		flush(importId, chunk, progress);
+
+		return progress;
+	}
+
+	private void flush(String importId, List<Transaction> chunk, ImportProgress progress) {
+		if (!chunk.isEmpty()) {
+			transactionTemplate.execute(status -> {
+				List<Transaction> savedTransactions = transactionRepository.saveAllInBatch(chunk);
+
+				ledgerSummaryService.add(savedTransactions);
+
+				return savedTransactions;
+			});
+
+			progress.importedRows += chunk.size();
+			chunk.clear();
+		}
+
+		transactionImportTracker.updateProgress(importId, progress.processedRows, progress.importedRows,
+			progress.failedRows);
+	}
+
+	private Map<String, Integer> readHeader(@Nullable List<String> header) {
+		if (header == null) {
+			throw new BadRequestException(TRANSACTION_IMPORT_INVALID_HEADER);
+		}
+
+		Map<String, Integer> columns = new HashMap<>();
+
+		for (int i = 0; i < header.size(); i++) {
+			columns.put(header.get(i), i);
+		}
+
+		if (!columns.keySet().containsAll(
+			List.of(HEADER_TRANSACTION_DATE, HEADER_TRANSACTION_TYPE, HEADER_AMOUNT, HEADER_CATEGORY))) {
+			throw new BadRequestException(TRANSACTION_IMPORT_INVALID_HEADER);
+		}
+
+		return columns;
+	}
+
+	private Transaction toTransaction(List<String> values, Map<String, Integer> columns, Member member,
+		@Nullable Long teamId, Map<String, Category> categoryCache) {
+		TransactionType transactionType = parseTransactionType(value(values, columns, HEADER_TRANSACTION_TYPE));
+		String categoryName = value(values, columns, HEADER_CATEGORY);
+		String cacheKey = transactionType.name() + ":" + categoryName;
+
+		// 같은 이름의 카테고리는 한 번만 조회
+		if (!categoryCache.containsKey(cacheKey)) {
+			categoryCache.put(cacheKey,
+				categoryRepository.findAvailableCategory(member.getId(), teamId, transactionType, categoryName));
+		}
+
+		Category category = categoryCache.get(cacheKey);
+
+		if (category == null) {
+			throw new IllegalArgumentException(TRANSACTION_IMPORT_CATEGORY_NOT_FOUND.getMessage() + " " + categoryName);
+		}
+
+		String content = value(values, columns, HEADER_CONTENT);
+
+		return Transaction.builder()
+			.creator(member)
+			.category(category)
+			.teamId(teamId)
+			.transactionDate(parseTransactionDate(value(values, columns, HEADER_TRANSACTION_DATE)))
+			.content(content.isEmpty() ? null : content)
+			.amount(parseAmount(value(values, columns, HEADER_AMOUNT)))
+			.transactionType(transactionType)
+			.build();
+	}
+
+	private String value(List<String> values, Map<String, Integer> columns, String header) {
+		Integer index = columns.get(header);
+
+		return index != null && index < values.size() ? values.get(index) : "";
+	}
+
+	private TransactionType parseTransactionType(String value) {
+		return switch (value) {
+			case "수입" -> TransactionType.INCOME;
+			case "지출" -> TransactionType.EXPENSE;
+			default -> TransactionType.of(value);
+		};
+	}
+
+	private Long parseAmount(String value) {
+		try {
+			return Long.parseLong(value.replace(",", "").replace("원", ""));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException(TRANSACTION_INVALID_AMOUNT.getMessage(), e);
+		}
+	}
+
+	private LocalDateTime parseTransactionDate(String value) {
+		for (DateTimeFormatter formatter : DATE_TIME_FORMATTERS) {
+			try {
+				return LocalDateTime.parse(value, formatter);
+			} catch (DateTimeParseException e) {
+				// 다음 형식으로 시도
+			}
+		}
+
+		for (DateTimeFormatter formatter : DATE_FORMATTERS) {
+			try {
+				return LocalDate.parse(value, formatter).atStartOfDay();
+			} catch (DateTimeParseException e) {
+				// 다음 형식으로 시도
+			}
+		}
+
+		throw new IllegalArgumentException("지원하지 않는 거래일시 형식입니다: " + value);
+	}
+
+	private static class ImportProgress {
+
+		private long processedRows;
+		private long importedRows;
+		private long failedRows;
+	}
+}
@@ -0,0 +1,61 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.common.error.model.ErrorMessage.TEAM_MEMBER_NOT_FOUND;
+import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_IMPORT_EMPTY_FILE;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.dalcoomi.common.error.exception.BadRequestException;
+import com.dalcoomi.common.error.exception.NotFoundException;
+import com.dalcoomi.common.util.TempFileUtil;
+import com.dalcoomi.team.application.repository.TeamMemberRepository;
+import com.dalcoomi.transaction.dto.TransactionImportInfo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionImportService {
+
+	private final TeamMemberRepository teamMemberRepository;
+	private final TransactionImportTracker transactionImportTracker;
+	private final TransactionImportProcessor transactionImportProcessor;
+	private final TempFileUtil tempFileUtil;
+
+	/**
+	 * 업로드 파일을 임시 파일로 옮긴 뒤 백그라운드 처리를 시작하고 즉시 작업 ID 반환
+	 */
+	public TransactionImportInfo start(Long memberId, @Nullable Long teamId, MultipartFile file) {
+		if (file.isEmpty()) {
+			throw new BadRequestException(TRANSACTION_IMPORT_EMPTY_FILE);
+		}
+
+		if (teamId != null && !teamMemberRepository.existsByTeamIdAndMemberId(teamId, memberId)) {
+			throw new NotFoundException(TEAM_MEMBER_NOT_FOUND);
+		}
+
+		String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS"));
+		String importId = "import-" + timestamp + "-" + UUID.randomUUID().toString().substring(0, 8);
+		String filePath = tempFileUtil.saveTempFile(importId, file);
+
+		TransactionImportInfo importInfo = transactionImportTracker.start(importId, memberId);
+
+		transactionImportProcessor.process(importId, memberId, teamId, filePath);
+
+		log.info("거래 내역 가져오기 시작: importId={}, memberId={}, teamId={}", importId, memberId, teamId);
+
+		return importInfo;
+	}
+
+	public TransactionImportInfo get(Long memberId, String importId) {
+		return transactionImportTracker.get(importId, memberId);
+	}
+}
@@ -0,0 +1,117 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_IMPORT_NOT_FOUND;
+import static com.dalcoomi.transaction.constant.TransactionImportConstants.FIELD_FAILED_ROWS;
+import static com.dalcoomi.transaction.constant.TransactionImportConstants.FIELD_IMPORTED_ROWS;
+import static com.dalcoomi.transaction.constant.TransactionImportConstants.FIELD_MESSAGE;
+import static com.dalcoomi.transaction.constant.TransactionImportConstants.FIELD_PROCESSED_ROWS;
+import static com.dalcoomi.transaction.constant.TransactionImportConstants.FIELD_REQUESTER_ID;
+import static com.dalcoomi.transaction.constant.TransactionImportConstants.FIELD_STATUS;
+import static com.dalcoomi.transaction.constant.TransactionImportConstants.IMPORT_ERRORS_KEY_SUFFIX;
+import static com.dalcoomi.transaction.constant.TransactionImportConstants.IMPORT_KEY_PREFIX;
+import static com.dalcoomi.transaction.constant.TransactionImportConstants.IMPORT_STATUS_TTL;
+import static com.dalcoomi.transaction.constant.TransactionImportConstants.MAX_IMPORT_ERRORS;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.dalcoomi.common.error.exception.NotFoundException;
+import com.dalcoomi.transaction.domain.TransactionImportStatus;
+import com.dalcoomi.transaction.dto.TransactionImportInfo;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * CSV 가져오기 작업의 진행 상황을 Redis 해시에 기록
+ * 여러 인스턴스 중 어디서 처리되더라도 같은 상태를 조회할 수 있고, 하루 뒤 자동 만료
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionImportTracker {
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	public TransactionImportInfo start(String importId, Long requesterId) {
+		String key = statusKey(importId);
+
+		stringRedisTemplate.opsForHash().putAll(key, Map.of(
+			FIELD_REQUESTER_ID, String.valueOf(requesterId),
+			FIELD_STATUS, TransactionImportStatus.PENDING.name(),
+			FIELD_PROCESSED_ROWS, "0",
+			FIELD_IMPORTED_ROWS, "0",
+			FIELD_FAILED_ROWS, "0"
+		));
+		stringRedisTemplate.expire(key, IMPORT_STATUS_TTL);
+
+		return get(importId, requesterId);
+	}
+
+	public void markProcessing(String importId) {
+		stringRedisTemplate.opsForHash().put(statusKey(importId), FIELD_STATUS,
+			TransactionImportStatus.PROCESSING.name());
+	}
+
+	public void updateProgress(String importId, long processedRows, long importedRows, long failedRows) {
+		stringRedisTemplate.opsForHash().putAll(statusKey(importId), Map.of(
+			FIELD_PROCESSED_ROWS, String.valueOf(processedRows),
+			FIELD_IMPORTED_ROWS, String.valueOf(importedRows),
+			FIELD_FAILED_ROWS, String.valueOf(failedRows)
+		));
+	}
+
+	public void addError(String importId, long lineNumber, String reason) {
+		String key = errorsKey(importId);
+		Long size = stringRedisTemplate.opsForList().size(key);
+
+		// 실패 사유는 앞에서부터 일정 개수만 보관
+		if (size != null && size >= MAX_IMPORT_ERRORS) {
+			return;
+		}
+
+		stringRedisTemplate.opsForList().rightPush(key, lineNumber + "행: " + reason);
+		stringRedisTemplate.expire(key, IMPORT_STATUS_TTL);
+	}
+
+	public void complete(String importId) {
+		stringRedisTemplate.opsForHash().put(statusKey(importId), FIELD_STATUS,
+			TransactionImportStatus.COMPLETED.name());
+	}
+
+	public void fail(String importId, String message) {
+		stringRedisTemplate.opsForHash().putAll(statusKey(importId), Map.of(
+			FIELD_STATUS, TransactionImportStatus.FAILED.name(),
+			FIELD_MESSAGE, message
+		));
+	}
+
+	public TransactionImportInfo get(String importId, Long requesterId) {
+		Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(statusKey(importId));
+
+		if (fields.isEmpty() || !String.valueOf(requesterId).equals(fields.get(FIELD_REQUESTER_ID))) {
+			throw new NotFoundException(TRANSACTION_IMPORT_NOT_FOUND);
+		}
+
+		List<String> errors = stringRedisTemplate.opsForList().range(errorsKey(importId), 0, -1);
+
+		return TransactionImportInfo.builder()
+			.importId(importId)
+			.status(TransactionImportStatus.valueOf((String)fields.get(FIELD_STATUS)))
+			.processedRows(Long.parseLong((String)fields.get(FIELD_PROCESSED_ROWS)))
+			.importedRows(Long.parseLong((String)fields.get(FIELD_IMPORTED_ROWS)))
+			.failedRows(Long.parseLong((String)fields.get(FIELD_FAILED_ROWS)))
+			.message((String)fields.get(FIELD_MESSAGE))
+			.errors(errors != null ? errors : List.of())
+			.build();
+	}
+
+	private String statusKey(String importId) {
+		return IMPORT_KEY_PREFIX + importId;
+	}
+
+	private String errorsKey(String importId) {
+		return IMPORT_KEY_PREFIX + importId + IMPORT_ERRORS_KEY_SUFFIX;
+	}
+}
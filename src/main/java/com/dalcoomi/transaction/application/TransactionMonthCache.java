@@ -0,0 +1,242 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.transaction.constant.TransactionCacheConstants.CACHE_EVICTIONS_METRIC;
+import static com.dalcoomi.transaction.constant.TransactionCacheConstants.CACHE_FIELD_SEPARATOR;
+import static com.dalcoomi.transaction.constant.TransactionCacheConstants.CACHE_GETS_METRIC;
+import static com.dalcoomi.transaction.constant.TransactionCacheConstants.CACHE_KEY_PREFIX;
+import static com.dalcoomi.transaction.constant.TransactionCacheConstants.CACHE_MONTHS_KEY_SUFFIX;
+import static com.dalcoomi.transaction.constant.TransactionCacheConstants.CACHE_NAME;
+import static com.dalcoomi.transaction.constant.TransactionCacheConstants.RESULT_HIT;
+import static com.dalcoomi.transaction.constant.TransactionCacheConstants.RESULT_MISS;
+import static com.dalcoomi.transaction.constant.TransactionCacheConstants.TAG_CACHE;
+import static com.dalcoomi.transaction.constant.TransactionCacheConstants.TAG_RESULT;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.net.URLEncoder;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.dalcoomi.transaction.domain.Ledger;
+import com.dalcoomi.transaction.dto.CachedTransactions;
+import com.dalcoomi.transaction.dto.TransactionSearchCriteria;
+import com.dalcoomi.transaction.dto.response.GetTransactionsResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 월별 거래 내역 응답을 가계부와 월 단위 Redis 해시에 조회 조건별로 저장하는 read-through 캐시
+ * 항목마다 저장 당시의 가계부 버전을 함께 두어 현재 버전과 다르면 무시하므로, 쓰기와 경합한 조회가 옛 응답을 넣어도 다시 읽히지 않음
+ * 쓰기 시에는 바뀐 가계부와 월의 해시만 지워 메모리를 바로 회수
+ * 메모리가 차면 LRU 로 제거되는 캐시 전용 Redis 를 사용하여 영수증 스트림 등 제거되면 안 되는 데이터와 메모리를 나눠 쓰지 않음
+ * Redis 장애는 캐시 미스로 취급하여 조회와 쓰기가 실패하지 않도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionMonthCache {
+
+	private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+
+	@Qualifier("transactionCacheRedisTemplate")
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${transaction.cache.enabled:true}")
+	private boolean enabled;
+
+	@Value("${transaction.cache.ttl-minutes:30}")
+	private long ttlMinutes;
+
+	/**
+	 * 캐시 전용 Redis maxmemory(48MB) 를 몇몇 큰 가계부가 차지하지 않도록 항목 크기를 제한
+	 * 한 달 거래 200건 정도의 응답이 약 50KB 이므로, 이를 넘는 큰 가계부는 캐시하지 않고 매번 DB 에서 조회
+	 */
+	@Value("${transaction.cache.max-entry-bytes:65536}")
+	private int maxEntryBytes;
+
+	/**
+	 * 호출 전에 요청자가 가계부를 조회할 수 있는지 검증되어 있어야 함
+	 */
+	public GetTransactionsResponse getOrLoad(TransactionSearchCriteria criteria, long version,
+		Supplier<GetTransactionsResponse> loader) {
+		if (!enabled) {
+			return loader.get();
+		}
+
+		Ledger ledger = Ledger.of(criteria.requesterId(), criteria.teamId());
+		YearMonth yearMonth = YearMonth.of(criteria.year(), criteria.month());
+		String key = monthKey(ledger, yearMonth);
+		String field = filterField(criteria);
+
+		GetTransactionsResponse cached = read(key, field, version);
+
+		if (cached != null) {
+			countGet(RESULT_HIT);
+
+			return cached;
+		}
+
+		countGet(RESULT_MISS);
+
+		GetTransactionsResponse response = loader.get();
+
+		write(ledger, yearMonth, field, CachedTransactions.of(version, response));
+
+		return response;
+	}
+
+	public void evict(Map<Ledger, Set<YearMonth>> changedMonths) {
+		if (!enabled || changedMonths.isEmpty()) {
+			return;
+		}
+
+		try {
+			stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				StringRedisConnection stringConnection = (StringRedisConnection)connection;
+
+				changedMonths.forEach((ledger, yearMonths) -> yearMonths.forEach(yearMonth -> {
+					stringConnection.del(monthKey(ledger, yearMonth));
+					stringConnection.sRem(monthsKey(ledger), yearMonth.format(MONTH_FORMATTER));
+				}));
+
+				return null;
+			});
+
+			countEvictions(changedMonths.values().stream().mapToInt(Set::size).sum());
+		} catch (DataAccessException e) {
+			log.warn("월별 거래 내역 캐시 삭제 실패: ledgers={}", changedMonths.keySet(), e);
+		}
+	}
+
+	/**
+	 * 작성자 정보 변경이나 가계부 삭제처럼 모든 달의 응답이 바뀌는 경우 가계부의 캐시를 모두 지움
+	 */
+	public void evictAll(Collection<Ledger> ledgers) {
+		if (!enabled || ledgers.isEmpty()) {
+			return;
+		}
+
+		try {
+			List<String> keys = new ArrayList<>();
+
+			for (Ledger ledger : ledgers) {
+				String monthsKey = monthsKey(ledger);
+				Set<String> months = stringRedisTemplate.opsForSet().members(monthsKey);
+
+				if (months != null) {
+					months.forEach(month -> keys.add(monthKey(ledger, month)));
+				}
+
+				keys.add(monthsKey);
+			}
+
+			Long deleted = stringRedisTemplate.delete(keys);
+
+			countEvictions(deleted == null ? 0 : deleted);
+		} catch (DataAccessException e) {
+			log.warn("가계부 거래 내역 캐시 전체 삭제 실패: ledgers={}", ledgers, e);
+		}
+	}
+
+	@Nullable
+	private GetTransactionsResponse read(String key, String field, long version) {
+		try {
+			Object value = stringRedisTemplate.opsForHash().get(key, field);
+
+			if (value == null) {
+				return null;
+			}
+
+			CachedTransactions cached = objectMapper.readValue(value.toString(), CachedTransactions.class);
+
+			return cached.version() == version ? cached.response() : null;
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("월별 거래 내역 캐시 조회 실패: key={}", key, e);
+
+			return null;
+		}
+	}
+
+	private void write(Ledger ledger, YearMonth yearMonth, String field, CachedTransactions cached) {
+		try {
+			String value = objectMapper.writeValueAsString(cached);
+
+			if (value.getBytes(UTF_8).length > maxEntryBytes) {
+				log.debug("캐시 크기 제한 초과로 저장 생략: ledger={}, month={}", ledger, yearMonth);
+
+				return;
+			}
+
+			String key = monthKey(ledger, yearMonth);
+			String monthsKey = monthsKey(ledger);
+			Duration ttl = Duration.ofMinutes(ttlMinutes);
+
+			stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				StringRedisConnection stringConnection = (StringRedisConnection)connection;
+
+				stringConnection.hSet(key, field, value);
+				stringConnection.expire(key, ttl.toSeconds());
+				stringConnection.sAdd(monthsKey, yearMonth.format(MONTH_FORMATTER));
+				stringConnection.expire(monthsKey, ttl.toSeconds());
+
+				return null;
+			});
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("월별 거래 내역 캐시 저장 실패: ledger={}, month={}", ledger, yearMonth, e);
+		}
+	}
+
+	private void countGet(String result) {
+		meterRegistry.counter(CACHE_GETS_METRIC, TAG_CACHE, CACHE_NAME, TAG_RESULT, result).increment();
+	}
+
+	private void countEvictions(long count) {
+		meterRegistry.counter(CACHE_EVICTIONS_METRIC, TAG_CACHE, CACHE_NAME).increment(count);
+	}
+
+	private String monthKey(Ledger ledger, YearMonth yearMonth) {
+		return monthKey(ledger, yearMonth.format(MONTH_FORMATTER));
+	}
+
+	private String monthKey(Ledger ledger, String month) {
+		return ledgerKey(ledger) + ":" + month;
+	}
+
+	private String monthsKey(Ledger ledger) {
+		return ledgerKey(ledger) + CACHE_MONTHS_KEY_SUFFIX;
+	}
+
+	private String ledgerKey(Ledger ledger) {
+		return CACHE_KEY_PREFIX + ledger.ownerType().name().toLowerCase() + ":" + ledger.ownerId();
+	}
+
+	private String filterField(TransactionSearchCriteria criteria) {
+		return encode(criteria.categoryName()) + CACHE_FIELD_SEPARATOR + encode(criteria.creatorNickname());
+	}
+
+	private String encode(@Nullable String value) {
+		return URLEncoder.encode(Objects.toString(value, ""), UTF_8);
+	}
+}
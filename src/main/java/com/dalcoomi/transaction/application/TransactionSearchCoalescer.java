@@ -0,0 +1,46 @@
+package com.dalcoomi.transaction.application;
+
+import org.springframework.stereotype.Component;
+
+import com.dalcoomi.common.util.SingleFlight;
+import com.dalcoomi.transaction.domain.Ledger;
+import com.dalcoomi.transaction.dto.TransactionSearchCriteria;
+import com.dalcoomi.transaction.dto.TransactionsInfo;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 직후처럼 그룹원들이 같은 달 거래 내역을 동시에 조회하면 한 번만 DB 를 조회하고 결과를 나눠 받음
+ * 개인 가계부는 요청자별 키라 다른 회원과 공유되지 않음
+ * 가계부 버전도 키에 넣어, 쓰기 이후 버전을 읽은 요청이 쓰기 전에 시작된 조회 결과를 받지 않도록 함
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionSearchCoalescer {
+
+	private final TransactionService transactionService;
+	private final SingleFlight<SearchKey, TransactionsInfo> inFlightSearches = new SingleFlight<>();
+
+	/**
+	 * 그룹원 검증은 호출자가 합치기 전에 요청마다 한 번 수행해야 하며, 여기서는 검증 없이 조회만 합침
+	 * version 은 조회 직전에 읽은 가계부 버전으로, 같은 버전을 읽은 요청끼리만 결과를 나눠 받음
+	 */
+	public TransactionsInfo get(TransactionSearchCriteria criteria, Long version) {
+		return inFlightSearches.execute(SearchKey.from(criteria, version), () -> transactionService.search(criteria));
+	}
+
+	private record SearchKey(
+		Ledger ledger,
+		Integer year,
+		Integer month,
+		String categoryName,
+		String creatorNickname,
+		Long version
+	) {
+
+		private static SearchKey from(TransactionSearchCriteria criteria, Long version) {
+			return new SearchKey(Ledger.of(criteria.requesterId(), criteria.teamId()), criteria.year(),
+				criteria.month(), criteria.categoryName(), criteria.creatorNickname(), version);
+		}
+	}
+}
@@ -2,14 +2,25 @@ package com.dalcoomi.transaction.application;
 
 import static com.dalcoomi.common.error.model.ErrorMessage.CATEGORY_NOT_FOUND;
 import static com.dalcoomi.common.error.model.ErrorMessage.DOES_NOT_MATCH_CATEGORY_AND_TRANSACTION;
+import static com.dalcoomi.common.error.model.ErrorMessage.MEMBER_NOT_FOUND;
 import static com.dalcoomi.common.error.model.ErrorMessage.TEAM_MEMBER_NOT_FOUND;
 import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_CREATOR_INCONSISTENCY;
 import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_TEAM_INCONSISTENCY;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
@@ -27,10 +38,22 @@ import com.dalcoomi.member.application.repository.MemberRepository;
 import com.dalcoomi.member.domain.Member;
 import com.dalcoomi.team.application.repository.TeamMemberRepository;
 import com.dalcoomi.transaction.application.repository.TransactionRepository;
+import com.dalcoomi.transaction.application.repository.TransactionViewRepository;
+import com.dalcoomi.transaction.domain.Ledger;
+import com.dalcoomi.transaction.domain.LedgerSummary;
 import com.dalcoomi.transaction.domain.Transaction;
+import com.dalcoomi.transaction.domain.TransactionExportFormat;
 import com.dalcoomi.transaction.dto.ReceiptInfo;
+import com.dalcoomi.transaction.dto.TransactionBulkOutcome;
+import com.dalcoomi.transaction.dto.TransactionCreateCommand;
+import com.dalcoomi.transaction.dto.TransactionCursorCriteria;
+import com.dalcoomi.transaction.dto.TransactionExportCriteria;
+import com.dalcoomi.transaction.dto.TransactionExportItem;
 import com.dalcoomi.transaction.dto.TransactionSearchCriteria;
+import com.dalcoomi.transaction.dto.TransactionSliceInfo;
+import com.dalcoomi.transaction.dto.TransactionView;
 import com.dalcoomi.transaction.dto.TransactionsInfo;
+import com.dalcoomi.transaction.dto.TransactionsVersion;
 import com.dalcoomi.transaction.dto.request.SendReceiptTransactions;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -44,15 +67,24 @@ import reactor.core.publisher.Mono;
 public class TransactionService {
 
 	private final TransactionRepository transactionRepository;
+	private final TransactionViewRepository transactionViewRepository;
 	private final MemberRepository memberRepository;
 	private final CategoryRepository categoryRepository;
 	private final TeamMemberRepository teamMemberRepository;
+	private final LedgerSummaryService ledgerSummaryService;
+	private final LedgerVersionService ledgerVersionService;
 	private final WebClient webClient;
 	private final ObjectMapper objectMapper;
 
 	@Value("${ai.server.url}")
 	private String aiServerUrl;
 
+	@Value("${transaction.cache.closed-month-horizon-months:3}")
+	private int closedMonthHorizonMonths;
+
+	@Value("${transaction.cache.closed-month-max-age-days:7}")
+	private long closedMonthMaxAgeDays;
+
 	@Transactional
 	public void create(Long memberId, Long categoryId, Transaction transaction, Boolean synchronizeTransaction) {
 		validateTeamMember(transaction.getTeamId(), memberId);
@@ -63,13 +95,65 @@ public class TransactionService {
 		transaction.updateCreator(member);
 		transaction.updateCategory(category);
 
-		transactionRepository.save(transaction);
+		List<Transaction> savedTransactions = transactionRepository.saveToLedgers(transaction,
+			ledgersOf(memberId, transaction, synchronizeTransaction));
+
+		ledgerSummaryService.add(savedTransactions);
+	}
+
+	/**
+	 * 여러 요청의 단건 생성을 한 트랜잭션, 한 번의 배치 INSERT 로 저장
+	 * 그룹원, 회원, 카테고리 검증은 요청마다 단건 생성과 같은 순서로 하되 조회는 한 번씩만 수행하고,
+	 * 검증에 실패한 요청은 저장하지 않고 요청별 예외로 돌려주어 나머지 요청은 그대로 저장됨
+	 */
+	@Transactional
+	public Map<TransactionCreateCommand, DalcoomiException> create(List<TransactionCreateCommand> commands) {
+		Set<Long> memberIds = commands.stream().map(TransactionCreateCommand::memberId).collect(Collectors.toSet());
+		List<Long> categoryIds = commands.stream().map(TransactionCreateCommand::categoryId).distinct().toList();
+
+		Map<Long, Set<Long>> teamIdsByMemberId = teamMemberRepository.findTeamIdsByMemberIds(memberIds);
+		Map<Long, Member> members = memberRepository.findAllById(memberIds).stream()
+			.collect(Collectors.toMap(Member::getId, member -> member));
+		Map<Long, Category> categories = categoryRepository.findAllById(categoryIds).stream()
+			.collect(Collectors.toMap(Category::getId, category -> category));
+
+		Map<TransactionCreateCommand, DalcoomiException> rejected = new HashMap<>();
+		Map<Transaction, List<Ledger>> ledgersByTransaction = new LinkedHashMap<>();
+
+		for (TransactionCreateCommand command : commands) {
+			Transaction transaction = command.transaction();
+			Long teamId = transaction.getTeamId();
+
+			if (teamId != null && !teamIdsByMemberId.getOrDefault(command.memberId(), Set.of()).contains(teamId)) {
+				rejected.put(command, new NotFoundException(TEAM_MEMBER_NOT_FOUND));
+
+				continue;
+			}
+
+			if (!members.containsKey(command.memberId())) {
+				rejected.put(command, new NotFoundException(MEMBER_NOT_FOUND));
 
-		if (transaction.getTeamId() != null && synchronizeTransaction) {
-			transaction.updateTeamId(null);
+				continue;
+			}
 
-			transactionRepository.save(transaction);
+			if (!categories.containsKey(command.categoryId())) {
+				rejected.put(command, new NotFoundException(CATEGORY_NOT_FOUND));
+
+				continue;
+			}
+
+			transaction.updateCreator(members.get(command.memberId()));
+			transaction.updateCategory(categories.get(command.categoryId()));
+
+			ledgersByTransaction.put(transaction,
+				ledgersOf(command.memberId(), transaction, command.synchronizeTransaction()));
 		}
+
+		if (!ledgersByTransaction.isEmpty()) {
+			ledgerSummaryService.add(transactionRepository.saveToLedgers(ledgersByTransaction));
+		}
+
+		return rejected;
 	}
 
 	@Transactional
@@ -99,24 +183,102 @@ public class TransactionService {
 			throw new IllegalArgumentException(DOES_NOT_MATCH_CATEGORY_AND_TRANSACTION.getMessage());
 		}
 
+		Map<Transaction, List<Ledger>> ledgersByTransaction = new LinkedHashMap<>();
+
 		for (int i = 0; i < transactions.size(); i++) {
 			Transaction transaction = transactions.get(i);
 			Category category = orderedCategories.get(i);
 
 			transaction.updateCreator(member);
 			transaction.updateCategory(category);
+
+			ledgersByTransaction.put(transaction, ledgersOf(memberId, transaction, null));
 		}
 
-		return transactionRepository.saveAll(transactions);
+		// 영수증 건수와 관계없이 거래와 읽기 모델을 각각 한 번의 배치 INSERT 로 저장
+		List<Transaction> savedTransactions = transactionRepository.saveToLedgers(ledgersByTransaction);
+
+		ledgerSummaryService.add(savedTransactions);
+
+		return savedTransactions;
 	}
 
 	@Transactional(readOnly = true)
 	public TransactionsInfo get(TransactionSearchCriteria criteria) {
 		validateTeamMember(criteria.teamId(), criteria.requesterId());
 
-		List<Transaction> transactions = transactionRepository.findTransactions(criteria);
+		return search(criteria);
+	}
+
+	/**
+	 * 그룹원 검증 없이 거래 내역을 조회하므로 getVersion 등으로 요청자를 이미 검증한 경로에서만 호출
+	 */
+	@Transactional(readOnly = true)
+	public TransactionsInfo search(TransactionSearchCriteria criteria) {
+		List<TransactionView> transactions = transactionViewRepository.findTransactions(criteria);
+		LedgerSummary summary = findLedgerSummary(criteria);
+
+		if (summary == null) {
+			return TransactionsInfo.from(transactions);
+		}
+
+		return TransactionsInfo.of(summary, transactions);
+	}
+
+	/**
+	 * 거래 내역을 읽지 않고 가계부 버전만으로 조회 응답의 ETag 를 만듦
+	 * 기준 기간보다 오래된 달은 더 이상 바뀌지 않는다고 보고 긴 캐시 기간을 함께 반환
+	 */
+	@Transactional(readOnly = true)
+	public TransactionsVersion getVersion(TransactionSearchCriteria criteria) {
+		validateTeamMember(criteria.teamId(), criteria.requesterId());
+
+		Ledger ledger = Ledger.of(criteria.requesterId(), criteria.teamId());
+		long version = ledgerVersionService.get(ledger);
+
+		if (criteria.year() == null || criteria.month() == null) {
+			return TransactionsVersion.of(ledger, version, null);
+		}
+
+		YearMonth closedBefore = YearMonth.now().minusMonths(closedMonthHorizonMonths);
+		boolean closed = YearMonth.of(criteria.year(), criteria.month()).isBefore(closedBefore);
+
+		return TransactionsVersion.of(ledger, version, closed ? Duration.ofDays(closedMonthMaxAgeDays) : null);
+	}
+
+	@Transactional(readOnly = true)
+	public TransactionSliceInfo get(TransactionCursorCriteria criteria) {
+		validateTeamMember(criteria.teamId(), criteria.requesterId());
+
+		List<TransactionView> transactions = transactionViewRepository.findTransactionsByCursor(criteria);
 
-		return TransactionsInfo.from(transactions);
+		return TransactionSliceInfo.of(transactions, criteria.size());
+	}
+
+	public void validateExport(TransactionExportCriteria criteria) {
+		validateTeamMember(criteria.teamId(), criteria.requesterId());
+	}
+
+	/**
+	 * 응답 스트림으로 가계부 전체를 내보내는 동안 Hikari 커넥션 하나와 읽기 전용 트랜잭션을 다운로드가 끝날 때까지 점유
+	 * 느린 클라이언트의 동시 내보내기가 많으면 다른 요청이 커넥션을 기다리게 되므로 풀 크기와 함께 고려해야 함
+	 */
+	@Transactional(readOnly = true)
+	public void export(TransactionExportCriteria criteria, TransactionExportFormat format, OutputStream outputStream)
+		throws IOException {
+		TransactionExportWriter writer = new TransactionExportWriter(format, outputStream, objectMapper);
+
+		writer.writeHeader();
+
+		try (Stream<TransactionView> transactions = transactionViewRepository.streamTransactions(criteria)) {
+			Iterator<TransactionView> iterator = transactions.iterator();
+
+			while (iterator.hasNext()) {
+				writer.write(TransactionExportItem.from(iterator.next()));
+			}
+		}
+
+		writer.flush();
 	}
 
 	@Transactional(readOnly = true)
@@ -147,14 +309,21 @@ public class TransactionService {
 		validateTransactionCreator(currentTransaction, memberId);
 
 		Category category = categoryRepository.findById(categoryId);
+		List<Transaction> transactions = withMirrors(List.of(currentTransaction));
+
+		ledgerSummaryService.subtract(transactions);
 
 		currentTransaction.updateCategory(category);
 		currentTransaction.updateAmount(transaction.getAmount());
 		currentTransaction.updateContent(transaction.getContent());
 		currentTransaction.updateTransactionDate(transaction.getTransactionDate());
 		currentTransaction.updateTransactionType(transaction.getTransactionType());
+		currentTransaction.detachMirror();
 
-		transactionRepository.save(currentTransaction);
+		transactions.stream().skip(1).forEach(mirror -> mirror.syncWith(currentTransaction));
+
+		transactionRepository.saveAll(transactions);
+		ledgerSummaryService.add(transactions);
 	}
 
 	@Transactional
@@ -167,12 +336,77 @@ public class TransactionService {
 
 		validateTransactionCreator(transaction, memberId);
 
-		transaction.softDelete();
+		List<Transaction> transactions = withMirrors(List.of(transaction));
+
+		ledgerSummaryService.subtract(transactions);
+
+		transactions.forEach(Transaction::softDelete);
+
+		transactionRepository.saveAll(transactions);
+	}
+
+	/**
+	 * 소유권은 조회 한 번으로 검증하고, 통과한 거래와 그 사본의 카테고리를 한 번의 UPDATE 로 변경
+	 */
+	@Transactional
+	public List<TransactionBulkOutcome> updateCategory(Long memberId, @Nullable Long teamId, List<Long> transactionIds,
+		Long categoryId) {
+		validateTeamMember(teamId, memberId);
+
+		Category category = categoryRepository.findById(categoryId);
+		List<Transaction> targets = transactionRepository.findOwned(transactionIds, memberId, teamId);
+		List<Long> targetIds = targets.stream().map(Transaction::getId).toList();
+
+		if (!targets.isEmpty()) {
+			List<Transaction> transactions = withMirrors(targets);
+
+			ledgerSummaryService.subtract(transactions);
 
-		transactionRepository.save(transaction);
+			transactions.forEach(transaction -> transaction.updateCategory(category));
+			targets.forEach(Transaction::detachMirror);
+
+			transactionRepository.updateCategory(transactions.stream().map(Transaction::getId).toList(), targetIds,
+				category);
+			ledgerSummaryService.add(transactions);
+		}
+
+		return TransactionBulkOutcome.of(transactionIds, targetIds);
 	}
 
-	public void sendToAiServer(String taskId, List<Transaction> transactions) {
+	/**
+	 * 소유권은 조회 한 번으로 검증하고, 통과한 거래와 그 사본을 한 번의 UPDATE 로 소프트 삭제
+	 */
+	@Transactional
+	public List<TransactionBulkOutcome> delete(Long memberId, @Nullable Long teamId, List<Long> transactionIds) {
+		validateTeamMember(teamId, memberId);
+
+		List<Transaction> targets = transactionRepository.findOwned(transactionIds, memberId, teamId);
+		List<Long> targetIds = targets.stream().map(Transaction::getId).toList();
+
+		if (!targets.isEmpty()) {
+			List<Transaction> transactions = withMirrors(targets);
+
+			ledgerSummaryService.subtract(transactions);
+			transactionRepository.softDeleteAll(transactions.stream().map(Transaction::getId).toList());
+		}
+
+		return TransactionBulkOutcome.of(transactionIds, targetIds);
+	}
+
+	/**
+	 * 구독 전까지는 요청을 보내지 않으며, 응답을 기다리는 동안 스레드를 점유하지 않음
+	 */
+	public Mono<String> sendToAiServer(String taskId, List<Transaction> transactions) {
+		return Mono.defer(() -> requestVerification(taskId, transactions))
+			.doOnSuccess(response -> log.info("AI 서버 전송 성공: taskId={}, response={}", taskId, response))
+			.onErrorMap(e -> {
+				log.error("AI 서버 전송 중 오류 발생: taskId={}", taskId, e);
+
+				return new DalcoomiException("AI 서버 전송 중 오류가 발생했습니다.", e);
+			});
+	}
+
+	private Mono<String> requestVerification(String taskId, List<Transaction> transactions) {
 		List<ReceiptInfo> transactionData = transactions.stream()
 			.map(transaction -> ReceiptInfo.builder()
 				.date(transaction.getTransactionDate().toLocalDate())
@@ -187,26 +421,65 @@ public class TransactionService {
 			.transactions(transactionData)
 			.build();
 
-		try {
-			String response = webClient.post()
-				.uri(aiServerUrl + "/verification")
-				.contentType(APPLICATION_JSON)
-				.bodyValue(request)
-				.retrieve()
-				.onStatus(HttpStatusCode::isError, clientResponse -> {
-					log.error("AI 서버 전송 실패: status={}", clientResponse.statusCode());
+		return webClient.post()
+			.uri(aiServerUrl + "/verification")
+			.contentType(APPLICATION_JSON)
+			.bodyValue(request)
+			.retrieve()
+			.onStatus(HttpStatusCode::isError, clientResponse -> {
+				log.error("AI 서버 전송 실패: status={}", clientResponse.statusCode());
+
+				return Mono.error(new RuntimeException("AI 서버 전송 중 오류가 발생했습니다."));
+			})
+			.bodyToMono(String.class);
+	}
 
-					return Mono.error(new RuntimeException("AI 서버 전송 중 오류가 발생했습니다."));
-				})
-				.bodyToMono(String.class)
-				.block();
+	/**
+	 * 카테고리나 작성자 필터가 없는 월 단위 조회만 월별 합계 테이블과 범위가 일치하므로 그 경우에만 사용
+	 */
+	@Nullable
+	private LedgerSummary findLedgerSummary(TransactionSearchCriteria criteria) {
+		if (criteria.year() == null || criteria.month() == null || criteria.categoryName() != null
+			|| criteria.creatorNickname() != null) {
+			return null;
+		}
 
-			log.info("AI 서버 전송 성공: taskId={}, response={}", taskId, response);
-		} catch (Exception e) {
-			log.error("AI 서버 전송 중 오류 발생: taskId={}", taskId, e);
+		Ledger ledger = Ledger.of(criteria.memberId(), criteria.teamId());
 
-			throw new DalcoomiException("AI 서버 전송 중 오류가 발생했습니다.", e);
+		return ledgerSummaryService.get(ledger, criteria.year(), criteria.month());
+	}
+
+	/**
+	 * 원본 뒤에 개인 가계부 사본을 이어 붙여 반환하여 수정, 삭제를 한 번의 배치로 반영
+	 * 사본은 그룹 거래를 개인 가계부에 게시할 때만 생기므로 그룹 거래가 있을 때만 조회
+	 */
+	private List<Transaction> withMirrors(List<Transaction> sources) {
+		List<Transaction> transactions = new ArrayList<>(sources);
+		List<Long> teamTransactionIds = sources.stream()
+			.filter(transaction -> transaction.getTeamId() != null)
+			.map(Transaction::getId)
+			.toList();
+
+		if (!teamTransactionIds.isEmpty()) {
+			transactions.addAll(transactionRepository.findMirrors(teamTransactionIds));
 		}
+
+		return transactions;
+	}
+
+	/**
+	 * 요청한 가계부에 게시하고, 동기화를 켠 그룹 거래는 작성자 개인 가계부에도 사본을 게시
+	 */
+	private List<Ledger> ledgersOf(Long memberId, Transaction transaction, @Nullable Boolean synchronizeTransaction) {
+		List<Ledger> ledgers = new ArrayList<>();
+
+		ledgers.add(Ledger.of(memberId, transaction.getTeamId()));
+
+		if (transaction.getTeamId() != null && Boolean.TRUE.equals(synchronizeTransaction)) {
+			ledgers.add(Ledger.member(memberId));
+		}
+
+		return ledgers;
 	}
 
 	private void validateTeamMember(@Nullable Long teamId, Long memberId) {
@@ -0,0 +1,217 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.common.error.model.ErrorMessage.TEAM_MEMBER_NOT_FOUND;
+import static com.dalcoomi.transaction.constant.TransactionConstants.TREND_MOVING_AVERAGE_MONTHS;
+import static com.dalcoomi.transaction.domain.TransactionType.EXPENSE;
+import static com.dalcoomi.transaction.domain.TransactionType.INCOME;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dalcoomi.common.error.exception.NotFoundException;
+import com.dalcoomi.team.application.repository.TeamMemberRepository;
+import com.dalcoomi.transaction.application.repository.TransactionViewRepository;
+import com.dalcoomi.transaction.domain.Ledger;
+import com.dalcoomi.transaction.domain.LedgerSnapshot;
+import com.dalcoomi.transaction.domain.LedgerSummary;
+import com.dalcoomi.transaction.dto.CategoryBreakdown;
+import com.dalcoomi.transaction.dto.CreatorAmount;
+import com.dalcoomi.transaction.dto.DailyAmount;
+import com.dalcoomi.transaction.dto.DailySummary;
+import com.dalcoomi.transaction.dto.MemberContribution;
+import com.dalcoomi.transaction.dto.MonthlyTrend;
+import com.dalcoomi.transaction.dto.TransactionStatisticsCriteria;
+import com.dalcoomi.transaction.dto.TransactionTrendCriteria;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가계부 통계 화면용 집계 조회 서비스
+ * 거래 내역 행을 내려보내지 않고 DB 에서 집계한 결과만 반환
+ * 메모리 스냅샷이 있는 가계부의 카테고리, 일별, 작성자별 집계는 DB 조회 없이 스냅샷에서 계산
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionStatisticsService {
+
+	private final TransactionViewRepository transactionViewRepository;
+	private final TeamMemberRepository teamMemberRepository;
+	private final LedgerSummaryService ledgerSummaryService;
+	private final LedgerSnapshotService ledgerSnapshotService;
+
+	@Transactional(readOnly = true)
+	public List<CategoryBreakdown> getCategoryBreakdowns(TransactionStatisticsCriteria criteria) {
+		validateTeamMember(criteria.teamId(), criteria.requesterId());
+
+		LedgerSnapshot snapshot = ledgerSnapshotService.get(Ledger.of(criteria.requesterId(), criteria.teamId()));
+
+		if (snapshot != null) {
+			return snapshot.categoryBreakdowns(criteria.startDateTime().toLocalDate(),
+				criteria.endDateTime().toLocalDate());
+		}
+
+		return transactionViewRepository.findCategoryBreakdowns(criteria);
+	}
+
+	/**
+	 * 거래가 없는 날도 0 으로 채워 그 달의 일수만큼 반환
+	 */
+	@Transactional(readOnly = true)
+	public List<DailySummary> getDailySummaries(TransactionStatisticsCriteria criteria) {
+		validateTeamMember(criteria.teamId(), criteria.requesterId());
+
+		YearMonth yearMonth = YearMonth.from(criteria.startDateTime());
+		long[] incomes = new long[yearMonth.lengthOfMonth()];
+		long[] expenses = new long[yearMonth.lengthOfMonth()];
+		LedgerSnapshot snapshot = ledgerSnapshotService.get(Ledger.of(criteria.requesterId(), criteria.teamId()));
+
+		if (snapshot != null) {
+			snapshot.sumDaily(yearMonth.atDay(1), incomes, expenses);
+
+			return toDailySummaries(yearMonth, incomes, expenses);
+		}
+
+		for (DailyAmount dailyAmount : transactionViewRepository.findDailyAmounts(criteria)) {
+			int index = dailyAmount.day() - 1;
+
+			if (dailyAmount.transactionType() == INCOME) {
+				incomes[index] += dailyAmount.amount();
+			} else if (dailyAmount.transactionType() == EXPENSE) {
+				expenses[index] += dailyAmount.amount();
+			}
+		}
+
+		return toDailySummaries(yearMonth, incomes, expenses);
+	}
+
+	/**
+	 * 거래 내역을 읽지 않고 월별 합계 테이블만으로 계산
+	 * 첫 해의 전년 동월 대비 증감과 이동 평균을 위해 시작 연도 직전 1년도 함께 조회
+	 */
+	@Transactional(readOnly = true)
+	public List<MonthlyTrend> getMonthlyTrends(TransactionTrendCriteria criteria) {
+		validateTeamMember(criteria.teamId(), criteria.requesterId());
+
+		Ledger ledger = Ledger.of(criteria.memberId(), criteria.teamId());
+		Map<YearMonth, LedgerSummary> summaries = ledgerSummaryService
+			.getByYears(ledger, criteria.startYear() - 1, criteria.endYear())
+			.stream()
+			.collect(Collectors.toMap(summary -> YearMonth.of(summary.getYear(), summary.getMonth()),
+				Function.identity()));
+
+		YearMonth firstMonth = YearMonth.of(criteria.startYear() - 1, 1);
+		int monthCount = (criteria.endYear() - criteria.startYear() + 2) * 12;
+		long[] incomes = new long[monthCount];
+		long[] expenses = new long[monthCount];
+
+		for (int index = 0; index < monthCount; index++) {
+			LedgerSummary summary = summaries.get(firstMonth.plusMonths(index));
+
+			incomes[index] = summary != null ? summary.getIncome() : 0L;
+			expenses[index] = summary != null ? summary.getExpense() : 0L;
+		}
+
+		List<MonthlyTrend> monthlyTrends = new ArrayList<>(monthCount - 12);
+
+		for (int index = 12; index < monthCount; index++) {
+			YearMonth yearMonth = firstMonth.plusMonths(index);
+
+			monthlyTrends.add(MonthlyTrend.builder()
+				.year(yearMonth.getYear())
+				.month(yearMonth.getMonthValue())
+				.income(incomes[index])
+				.expense(expenses[index])
+				.incomeChange(incomes[index] - incomes[index - 12])
+				.expenseChange(expenses[index] - expenses[index - 12])
+				.incomeMovingAverage(movingAverage(incomes, index))
+				.expenseMovingAverage(movingAverage(expenses, index))
+				.build());
+		}
+
+		return monthlyTrends;
+	}
+
+	/**
+	 * 작성자별 수입, 지출을 한 행으로 합쳐 지출 내림차순으로 반환하고 익명화된 거래 합계는 마지막에 둠
+	 */
+	@Transactional(readOnly = true)
+	public List<MemberContribution> getMemberContributions(TransactionStatisticsCriteria criteria) {
+		validateTeamMember(criteria.teamId(), criteria.requesterId());
+
+		LedgerSnapshot snapshot = ledgerSnapshotService.get(Ledger.of(criteria.requesterId(), criteria.teamId()));
+		List<MemberContribution> contributions = snapshot != null
+			? snapshot.memberContributions(criteria.startDateTime().toLocalDate(), criteria.endDateTime().toLocalDate())
+			: sumCreatorAmounts(criteria);
+
+		return contributions.stream()
+			.sorted(Comparator.comparing(MemberContribution::isAnonymized)
+				.thenComparing(MemberContribution::expense, Comparator.reverseOrder())
+				.thenComparing(MemberContribution::creatorId, Comparator.nullsLast(Comparator.naturalOrder())))
+			.toList();
+	}
+
+	private List<MemberContribution> sumCreatorAmounts(TransactionStatisticsCriteria criteria) {
+		Map<Long, MemberContribution> contributions = new LinkedHashMap<>();
+
+		for (CreatorAmount creatorAmount : transactionViewRepository.findCreatorAmounts(criteria)) {
+			MemberContribution current = contributions.get(creatorAmount.creatorId());
+			long income = current != null ? current.income() : 0L;
+			long expense = current != null ? current.expense() : 0L;
+			long count = current != null ? current.count() : 0L;
+
+			if (creatorAmount.transactionType() == INCOME) {
+				income += creatorAmount.amount();
+			} else if (creatorAmount.transactionType() == EXPENSE) {
+				expense += creatorAmount.amount();
+			}
+
+			contributions.put(creatorAmount.creatorId(), MemberContribution.builder()
+				.creatorId(creatorAmount.creatorId())
+				.creatorNickname(creatorAmount.creatorNickname())
+				.creatorProfileImageUrl(creatorAmount.creatorProfileImageUrl())
+				.income(income)
+				.expense(expense)
+				.count(count + creatorAmount.count())
+				.build());
+		}
+
+		return List.copyOf(contributions.values());
+	}
+
+	private long movingAverage(long[] amounts, int index) {
+		long sum = 0L;
+
+		for (int i = index - TREND_MOVING_AVERAGE_MONTHS + 1; i <= index; i++) {
+			sum += amounts[i];
+		}
+
+		return Math.round((double)sum / TREND_MOVING_AVERAGE_MONTHS);
+	}
+
+	private List<DailySummary> toDailySummaries(YearMonth yearMonth, long[] incomes, long[] expenses) {
+		return IntStream.range(0, yearMonth.lengthOfMonth())
+			.mapToObj(index -> DailySummary.of(yearMonth.atDay(index + 1), incomes[index], expenses[index]))
+			.toList();
+	}
+
+	private void validateTeamMember(@Nullable Long teamId, Long memberId) {
+		if (teamId == null) {
+			return;
+		}
+
+		if (!teamMemberRepository.existsByTeamIdAndMemberId(teamId, memberId)) {
+			throw new NotFoundException(TEAM_MEMBER_NOT_FOUND);
+		}
+	}
+}
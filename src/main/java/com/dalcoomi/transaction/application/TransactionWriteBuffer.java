@@ -0,0 +1,286 @@
+package com.dalcoomi.transaction.application;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dalcoomi.common.error.exception.DalcoomiException;
+import com.dalcoomi.transaction.domain.Transaction;
+import com.dalcoomi.transaction.dto.TransactionCreateCommand;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 월말 정산처럼 단건 생성이 몰릴 때 동시에 들어온 요청을 잠깐 모아 한 트랜잭션, 한 번의 배치 INSERT 로 저장 (group commit)
+ * 호출자는 자기 요청이 포함된 묶음이 커밋될 때까지 기다리므로 응답 시점에는 단건 생성과 같이 저장이 끝나 있음
+ * 꺼져 있거나, 대기열이 가득 찼거나, 묶음 저장 스레드가 멈췄으면 기존처럼 요청마다 바로 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionWriteBuffer {
+
+	private static final long IDLE_POLL_MILLIS = 100;
+
+	private final TransactionService transactionService;
+
+	private BlockingQueue<PendingCreate> queue;
+	private Thread flusher;
+	private volatile boolean running;
+
+	@Value("${transaction.write-buffer.enabled:false}")
+	private boolean enabled;
+
+	@Value("${transaction.write-buffer.max-delay-ms:5}")
+	private long maxDelayMillis;
+
+	@Value("${transaction.write-buffer.max-batch-size:100}")
+	private int maxBatchSize;
+
+	@Value("${transaction.write-buffer.queue-capacity:1000}")
+	private int queueCapacity;
+
+	@Value("${transaction.write-buffer.result-timeout-ms:10000}")
+	private long resultTimeoutMillis;
+
+	@PostConstruct
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+
+		queue = new ArrayBlockingQueue<>(queueCapacity);
+		running = true;
+		flusher = Thread.ofPlatform().name("transaction-write-buffer").daemon().start(this::run);
+	}
+
+	/**
+	 * 종료 시 새 요청은 바로 저장하고, 이미 대기열에 들어온 요청은 모두 저장한 뒤 반환
+	 */
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		if (!running) {
+			return;
+		}
+
+		running = false;
+		flusher.join();
+	}
+
+	public void create(Long memberId, Long categoryId, Transaction transaction, Boolean synchronizeTransaction) {
+		if (!running || !flusher.isAlive()) {
+			transactionService.create(memberId, categoryId, transaction, synchronizeTransaction);
+
+			return;
+		}
+
+		PendingCreate pending = new PendingCreate(
+			new TransactionCreateCommand(memberId, categoryId, transaction, synchronizeTransaction),
+			new CompletableFuture<>());
+
+		// 종료 중 마지막 비우기 이후에 들어간 요청은 아무도 꺼내지 않으므로 직접 저장
+		if (!queue.offer(pending) || (!running && queue.remove(pending))) {
+			transactionService.create(memberId, categoryId, transaction, synchronizeTransaction);
+
+			return;
+		}
+
+		try {
+			// 원래 결과가 시간 초과로 끝나지 않도록 복사본에 제한 시간을 걺
+			await(pending.result().copy().orTimeout(resultTimeoutMillis, MILLISECONDS));
+		} catch (TimeoutException e) {
+			// 대기열에서 꺼내지기 전에 시간이 지났으면 저장되지 않은 요청이므로 직접 저장
+			if (queue.remove(pending)) {
+				transactionService.create(memberId, categoryId, transaction, synchronizeTransaction);
+
+				return;
+			}
+
+			// 이미 묶음 저장에 들어간 요청은 커밋될 수 있어 실패로 돌려주면 재시도 시 중복 생성되므로 결과가 나올 때까지 기다림
+			log.warn("거래 내역 묶음 저장이 늦어져 결과를 계속 기다림: timeoutMs={}", resultTimeoutMillis);
+
+			awaitInFlight(pending.result());
+		}
+	}
+
+	/**
+	 * Error 를 포함한 모든 예외를 묶음의 요청들에 돌려주어 이 스레드가 멈추거나 호출자가 끝없이 기다리지 않도록 함
+	 */
+	private void run() {
+		try {
+			while (running || !queue.isEmpty()) {
+				List<PendingCreate> batch = List.of();
+
+				try {
+					batch = collect();
+
+					if (!batch.isEmpty()) {
+						flush(batch);
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+
+					break;
+				} catch (Throwable e) {
+					log.error("거래 내역 묶음 저장 중 오류: size={}", batch.size(), e);
+
+					fail(batch, e);
+				}
+			}
+		} finally {
+			running = false;
+
+			List<PendingCreate> remaining = new ArrayList<>();
+
+			queue.drainTo(remaining);
+
+			try {
+				if (!remaining.isEmpty()) {
+					flush(remaining);
+				}
+			} catch (Throwable e) {
+				log.error("종료 전 남은 거래 내역 저장 중 오류: size={}", remaining.size(), e);
+
+				fail(remaining, e);
+			}
+		}
+	}
+
+	/**
+	 * 첫 요청이 들어온 시점부터 최대 지연 시간 동안, 또는 묶음 크기에 닿을 때까지 요청을 모음
+	 */
+	private List<PendingCreate> collect() throws InterruptedException {
+		PendingCreate first = queue.poll(IDLE_POLL_MILLIS, MILLISECONDS);
+
+		if (first == null) {
+			return List.of();
+		}
+
+		List<PendingCreate> batch = new ArrayList<>();
+		long deadline = System.nanoTime() + MILLISECONDS.toNanos(maxDelayMillis);
+
+		batch.add(first);
+
+		while (batch.size() < maxBatchSize) {
+			long remainingNanos = deadline - System.nanoTime();
+
+			if (remainingNanos <= 0) {
+				break;
+			}
+
+			PendingCreate next;
+
+			try {
+				next = queue.poll(remainingNanos, NANOSECONDS);
+			} catch (InterruptedException e) {
+				// 이미 꺼낸 요청은 결과를 정해야 하므로 모은 만큼 저장하고, 중단은 다음 대기에서 처리
+				Thread.currentThread().interrupt();
+
+				break;
+			}
+
+			if (next == null) {
+				break;
+			}
+
+			batch.add(next);
+		}
+
+		return batch;
+	}
+
+	/**
+	 * 묶음 트랜잭션이 롤백되면 어느 요청 때문인지 알 수 없으므로 요청마다 따로 저장하여 각자의 결과를 돌려줌
+	 */
+	private void flush(List<PendingCreate> batch) {
+		try {
+			Map<TransactionCreateCommand, DalcoomiException> rejected = transactionService.create(
+				batch.stream().map(PendingCreate::command).toList());
+
+			for (PendingCreate pending : batch) {
+				DalcoomiException exception = rejected.get(pending.command());
+
+				if (exception == null) {
+					pending.result().complete(null);
+				} else {
+					pending.result().completeExceptionally(exception);
+				}
+			}
+		} catch (RuntimeException e) {
+			log.warn("거래 내역 묶음 저장 실패, 요청별로 다시 저장: size={}", batch.size(), e);
+
+			batch.forEach(this::createEach);
+		}
+	}
+
+	/**
+	 * 이미 결과가 정해진 요청은 그대로 두고 나머지만 실패 처리
+	 */
+	private void fail(List<PendingCreate> batch, Throwable cause) {
+		batch.forEach(pending -> pending.result().completeExceptionally(cause));
+	}
+
+	/**
+	 * 묶음 저장이 돌려준 예외 중 RuntimeException 은 단건 생성과 같은 예외로 그대로 던지고, 나머지는 감싸서 던짐
+	 */
+	private void await(CompletableFuture<Void> result) throws TimeoutException {
+		try {
+			result.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof TimeoutException timeout) {
+				throw timeout;
+			}
+
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+
+			throw new DalcoomiException("거래 내역 저장 중 오류가 발생했습니다.", e.getCause());
+		}
+	}
+
+	/**
+	 * 묶음 저장 스레드는 꺼낸 요청의 결과를 항상 정하므로 제한 시간 없이 기다려도 끝남
+	 */
+	private void awaitInFlight(CompletableFuture<Void> result) {
+		try {
+			await(result);
+		} catch (TimeoutException e) {
+			throw new DalcoomiException("거래 내역 저장 중 오류가 발생했습니다.", e);
+		}
+	}
+
+	private void createEach(PendingCreate pending) {
+		TransactionCreateCommand command = pending.command();
+
+		try {
+			transactionService.create(command.memberId(), command.categoryId(), command.transaction(),
+				command.synchronizeTransaction());
+
+			pending.result().complete(null);
+		} catch (RuntimeException e) {
+			pending.result().completeExceptionally(e);
+		}
+	}
+
+	private record PendingCreate(
+		TransactionCreateCommand command,
+		CompletableFuture<Void> result
+	) {
+
+	}
+}
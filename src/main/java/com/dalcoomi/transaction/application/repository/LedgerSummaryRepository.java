@@ -0,0 +1,33 @@
+package com.dalcoomi.transaction.application.repository;
+
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+import com.dalcoomi.transaction.domain.Ledger;
+import com.dalcoomi.transaction.domain.LedgerSummary;
+
+public interface LedgerSummaryRepository {
+
+	void increase(Ledger ledger, Integer year, Integer month, Long income, Long expense);
+
+	@Nullable
+	LedgerSummary findByLedgerAndMonth(Ledger ledger, Integer year, Integer month);
+
+	/**
+	 * [startYear, endYear] 연도의 월별 합계를 연, 월 오름차순으로 조회 (합계가 없는 달은 포함되지 않음)
+	 */
+	List<LedgerSummary> findByLedgerAndYears(Ledger ledger, Integer startYear, Integer endYear);
+
+	void deleteByLedger(Ledger ledger);
+
+	/**
+	 * 거래 내역이 있거나 월별 합계가 남아 있는 가계부 목록
+	 */
+	List<Ledger> findRebuildTargets();
+
+	/**
+	 * 한 가계부의 월별 합계를 거래 내역 원본 기준으로 다시 집계
+	 */
+	void rebuild(Ledger ledger);
+}
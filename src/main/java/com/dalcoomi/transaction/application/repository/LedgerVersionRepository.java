@@ -0,0 +1,13 @@
+package com.dalcoomi.transaction.application.repository;
+
+import com.dalcoomi.transaction.domain.Ledger;
+
+public interface LedgerVersionRepository {
+
+	void increase(Ledger ledger);
+
+	/**
+	 * 한 번도 변경되지 않은 가계부는 0 반환
+	 */
+	long findVersion(Ledger ledger);
+}
@@ -1,11 +1,16 @@
 package com.dalcoomi.transaction.application.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.lang.Nullable;
 
+import com.dalcoomi.category.domain.Category;
+import com.dalcoomi.transaction.domain.Ledger;
 import com.dalcoomi.transaction.domain.Transaction;
 import com.dalcoomi.transaction.dto.TransactionSearchCriteria;
 
@@ -15,8 +20,45 @@ public interface TransactionRepository {
 
 	List<Transaction> saveAll(List<Transaction> transaction);
 
+	/**
+	 * 신규 거래 내역을 JDBC 배치 INSERT 로 저장 (대량 가져오기 전용)
+	 */
+	List<Transaction> saveAllInBatch(List<Transaction> transactions);
+
+	/**
+	 * 한 거래를 여러 가계부에 한 번의 JDBC 배치로 게시
+	 * 첫 번째 가계부의 행이 원본이 되고, 나머지 가계부의 사본은 원본 ID 를 기록
+	 */
+	List<Transaction> saveToLedgers(Transaction transaction, List<Ledger> ledgers);
+
+	/**
+	 * 여러 요청의 거래를 각자의 가계부에 게시하되 전체를 한 번의 JDBC 배치로 기록
+	 */
+	List<Transaction> saveToLedgers(Map<Transaction, List<Ledger>> ledgersByTransaction);
+
 	Transaction findById(Long transactionId);
 
+	/**
+	 * 삭제되지 않은 사본만 조회
+	 */
+	List<Transaction> findMirrors(Collection<Long> sourceIds);
+
+	/**
+	 * 요청자가 작성한 해당 가계부의 삭제되지 않은 거래만 한 번에 조회하여 소유권 검증을 대신함
+	 */
+	List<Transaction> findOwned(Collection<Long> transactionIds, Long creatorId, @Nullable Long teamId);
+
+	/**
+	 * 거래와 읽기 모델의 카테고리를 각각 한 번의 UPDATE 로 변경
+	 * targetIds 는 직접 선택한 거래로, 사본이면 원본과의 연결을 끊음
+	 */
+	void updateCategory(Collection<Long> transactionIds, Collection<Long> targetIds, Category category);
+
+	/**
+	 * 한 번의 UPDATE 로 소프트 삭제하고 읽기 모델에서 제거
+	 */
+	void softDeleteAll(Collection<Long> transactionIds);
+
 	Page<Transaction> findAll(Pageable pageable);
 
 	List<Transaction> findTransactions(TransactionSearchCriteria criteria);
@@ -0,0 +1,52 @@
+package com.dalcoomi.transaction.application.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.dalcoomi.transaction.domain.Ledger;
+import com.dalcoomi.transaction.dto.CategoryBreakdown;
+import com.dalcoomi.transaction.dto.CreatorAmount;
+import com.dalcoomi.transaction.dto.DailyAmount;
+import com.dalcoomi.transaction.dto.LedgerSnapshotRow;
+import com.dalcoomi.transaction.dto.TransactionCursorCriteria;
+import com.dalcoomi.transaction.dto.TransactionExportCriteria;
+import com.dalcoomi.transaction.dto.TransactionSearchCriteria;
+import com.dalcoomi.transaction.dto.TransactionStatisticsCriteria;
+import com.dalcoomi.transaction.dto.TransactionView;
+
+public interface TransactionViewRepository {
+
+	List<TransactionView> findTransactions(TransactionSearchCriteria criteria);
+
+	List<TransactionView> findTransactionsByCursor(TransactionCursorCriteria criteria);
+
+	/**
+	 * 가계부 전체 거래 내역을 순방향 커서로 읽는 스트림
+	 * 호출자가 트랜잭션 안에서 소비하고 반드시 닫아야 함
+	 */
+	Stream<TransactionView> streamTransactions(TransactionExportCriteria criteria);
+
+	/**
+	 * 기간 내 거래 내역을 카테고리, 거래 타입별로 DB 에서 집계 (금액 내림차순)
+	 */
+	List<CategoryBreakdown> findCategoryBreakdowns(TransactionStatisticsCriteria criteria);
+
+	/**
+	 * 한 달 안의 거래 내역을 일자, 거래 타입별로 DB 에서 집계 (거래가 없는 날은 포함되지 않음)
+	 */
+	List<DailyAmount> findDailyAmounts(TransactionStatisticsCriteria criteria);
+
+	/**
+	 * 그룹 가계부의 기간 내 거래 내역을 작성자, 거래 타입별로 DB 에서 집계 (익명화된 거래 포함)
+	 */
+	List<CreatorAmount> findCreatorAmounts(TransactionStatisticsCriteria criteria);
+
+	/**
+	 * 가계부 스냅샷 적재용으로 익명화된 거래를 제외한 전체 거래 내역의 집계 열만 최대 limit 건 조회
+	 */
+	List<LedgerSnapshotRow> findSnapshotRows(Ledger ledger, int limit);
+
+	void updateCreatorProfile(Long creatorId, String nickname, String profileImageUrl);
+
+	void anonymizeCreator(Long creatorId);
+}
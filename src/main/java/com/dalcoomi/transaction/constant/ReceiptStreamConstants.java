@@ -7,11 +7,18 @@ import lombok.NoArgsConstructor;
 public final class ReceiptStreamConstants {
 
 	public static final String STREAM_KEY = "receipt:tasks";
+	public static final String RETRY_KEY = "receipt:tasks:retry";
+	public static final String DEAD_LETTER_KEY = "receipt:tasks:dlq";
 	public static final String CONSUMER_GROUP = "receipt-processors";
-	public static final String CONSUMER_NAME = "processor-1";
-	public static final String PROCESSING_KEY = "receipt:processing";
+	public static final String CONSUMER_NAME_PREFIX = "processor-";
+	public static final String PERMITS_KEY = "receipt:permits";
+	public static final String PERMITS_HELD_METRIC = "receipt.permits.held";
+	public static final String FILE_KEY_PREFIX = "receipt/pending/";
 
 	public static final String FIELD_TASK_ID = "taskId";
-	public static final String FIELD_FILE_PATH = "filePath";
+	public static final String FIELD_FILE_KEY = "fileKey";
 	public static final String FIELD_CATEGORY_NAMES = "categoryNames";
+	public static final String FIELD_ATTEMPT = "attempt";
+	public static final String FIELD_ERROR = "error";
+	public static final String FIELD_FAILED_AT = "failedAt";
 }
@@ -0,0 +1,20 @@
+package com.dalcoomi.transaction.constant;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TransactionCacheConstants {
+
+	public static final String CACHE_NAME = "transactions";
+	public static final String CACHE_KEY_PREFIX = "transaction:cache:";
+	public static final String CACHE_MONTHS_KEY_SUFFIX = ":months";
+	public static final String CACHE_FIELD_SEPARATOR = "|";
+
+	public static final String CACHE_GETS_METRIC = "cache.gets";
+	public static final String CACHE_EVICTIONS_METRIC = "cache.evictions";
+	public static final String TAG_CACHE = "cache";
+	public static final String TAG_RESULT = "result";
+	public static final String RESULT_HIT = "hit";
+	public static final String RESULT_MISS = "miss";
+}
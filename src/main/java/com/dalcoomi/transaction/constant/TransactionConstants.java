@@ -7,4 +7,9 @@ import lombok.NoArgsConstructor;
 public class TransactionConstants {
 
 	public static final int CONTENT_LENGTH = 50;
+	public static final int DEFAULT_PAGE_SIZE = 20;
+	public static final int MAX_PAGE_SIZE = 100;
+	public static final int DEFAULT_TREND_YEARS = 3;
+	public static final int MAX_TREND_YEARS = 10;
+	public static final int TREND_MOVING_AVERAGE_MONTHS = 3;
 }
@@ -0,0 +1,28 @@
+package com.dalcoomi.transaction.constant;
+
+import java.time.Duration;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TransactionImportConstants {
+
+	public static final String IMPORT_KEY_PREFIX = "transaction:import:";
+	public static final String IMPORT_ERRORS_KEY_SUFFIX = ":errors";
+	public static final Duration IMPORT_STATUS_TTL = Duration.ofDays(1);
+	public static final int MAX_IMPORT_ERRORS = 20;
+
+	public static final String FIELD_REQUESTER_ID = "requesterId";
+	public static final String FIELD_STATUS = "status";
+	public static final String FIELD_PROCESSED_ROWS = "processedRows";
+	public static final String FIELD_IMPORTED_ROWS = "importedRows";
+	public static final String FIELD_FAILED_ROWS = "failedRows";
+	public static final String FIELD_MESSAGE = "message";
+
+	public static final String HEADER_TRANSACTION_DATE = "거래일시";
+	public static final String HEADER_TRANSACTION_TYPE = "구분";
+	public static final String HEADER_AMOUNT = "금액";
+	public static final String HEADER_CATEGORY = "카테고리";
+	public static final String HEADER_CONTENT = "내용";
+}
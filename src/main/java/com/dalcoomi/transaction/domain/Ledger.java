@@ -0,0 +1,49 @@
+package com.dalcoomi.transaction.domain;
+
+import static com.dalcoomi.transaction.domain.LedgerOwnerType.MEMBER;
+import static com.dalcoomi.transaction.domain.LedgerOwnerType.TEAM;
+import static java.util.Objects.requireNonNull;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 거래 내역이 속한 가계부 (개인 가계부는 작성자, 그룹 가계부는 그룹 기준)
+ */
+public record Ledger(
+	LedgerOwnerType ownerType,
+	Long ownerId
+) {
+
+	public Ledger {
+		requireNonNull(ownerType);
+		requireNonNull(ownerId);
+	}
+
+	public static Ledger of(Long memberId, @Nullable Long teamId) {
+		return teamId != null ? team(teamId) : member(memberId);
+	}
+
+	public static Ledger member(Long memberId) {
+		return new Ledger(MEMBER, memberId);
+	}
+
+	public static Ledger team(Long teamId) {
+		return new Ledger(TEAM, teamId);
+	}
+
+	/**
+	 * 익명화되어 작성자가 없는 개인 거래 내역은 어느 가계부에도 속하지 않으므로 null 반환
+	 */
+	@Nullable
+	public static Ledger from(Transaction transaction) {
+		if (transaction.getTeamId() != null) {
+			return team(transaction.getTeamId());
+		}
+
+		if (transaction.getCreator() == null) {
+			return null;
+		}
+
+		return member(transaction.getCreator().getId());
+	}
+}
@@ -0,0 +1,353 @@
+package com.dalcoomi.transaction.domain;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.dalcoomi.transaction.dto.CategoryBreakdown;
+import com.dalcoomi.transaction.dto.LedgerSnapshotRow;
+import com.dalcoomi.transaction.dto.MemberContribution;
+
+/**
+ * 가계부 한 개의 거래 내역을 열 단위 원시 배열로 보관하는 메모리 스냅샷
+ * 합계는 박싱 없이 배열을 한 번 훑어 계산하고, 카테고리와 작성자는 사전 인덱스로 바꿔 두어 집계도 배열 위에서 처리
+ * 익명화된 거래는 작성자별 집계에만 포함하고 카테고리, 일별 집계에서는 DB 집계와 같이 제외
+ * 변경 시 배열을 복사한 새 스냅샷을 만들므로 읽는 쪽은 잠금 없이 사용 가능
+ */
+public final class LedgerSnapshot {
+
+	// 거래 ID, 금액, 카테고리 인덱스, 작성자 인덱스, 날짜, 타입 열의 행당 크기
+	private static final long BYTES_PER_ROW = Long.BYTES * 2 + Integer.BYTES * 3 + Byte.BYTES;
+	private static final long BYTES_PER_CATEGORY = 128;
+	private static final long BYTES_PER_CREATOR = 128;
+	private static final long BASE_BYTES = 256;
+	private static final TransactionType[] TYPES = TransactionType.values();
+
+	private final long version;
+	private final boolean tooLarge;
+	private final int size;
+	private final long[] transactionIds;
+	private final long[] amounts;
+	private final int[] categoryIndexes;
+	private final int[] creatorIndexes;
+	private final int[] epochDays;
+	private final byte[] types;
+	private final List<CategoryLabel> categories;
+	private final List<CreatorLabel> creators;
+	private final int anonymizedIndex;
+
+	private LedgerSnapshot(long version, boolean tooLarge, int size, long[] transactionIds, long[] amounts,
+		int[] categoryIndexes, int[] creatorIndexes, int[] epochDays, byte[] types, List<CategoryLabel> categories,
+		List<CreatorLabel> creators) {
+		this.version = version;
+		this.tooLarge = tooLarge;
+		this.size = size;
+		this.transactionIds = transactionIds;
+		this.amounts = amounts;
+		this.categoryIndexes = categoryIndexes;
+		this.creatorIndexes = creatorIndexes;
+		this.epochDays = epochDays;
+		this.types = types;
+		this.categories = categories;
+		this.creators = creators;
+		this.anonymizedIndex = creators.indexOf(CreatorLabel.ANONYMIZED);
+	}
+
+	public static LedgerSnapshot of(long version, List<LedgerSnapshotRow> rows) {
+		return new Builder(rows.size(), List.of(), List.of()).addAll(rows).build(version);
+	}
+
+	/**
+	 * 행 수가 한도를 넘는 가계부는 배열 없이 버전만 기억하여 같은 버전에서 다시 적재하지 않도록 함
+	 */
+	public static LedgerSnapshot tooLarge(long version) {
+		return new LedgerSnapshot(version, true, 0, new long[0], new long[0], new int[0], new int[0], new int[0],
+			new byte[0], List.of(), List.of());
+	}
+
+	/**
+	 * 추가(sign 양수)는 행을 뒤에 붙이고, 차감(sign 음수)은 같은 거래 ID 의 행을 제거한 새 스냅샷을 반환
+	 */
+	public LedgerSnapshot apply(long newVersion, Collection<LedgerSnapshotRow> rows, int sign) {
+		if (sign < 0) {
+			Set<Long> removedIds = new HashSet<>();
+
+			rows.forEach(row -> removedIds.add(row.transactionId()));
+
+			Builder builder = new Builder(size, categories, creators);
+
+			for (int i = 0; i < size; i++) {
+				if (!removedIds.contains(transactionIds[i])) {
+					builder.add(transactionIds[i], amounts[i], categoryIndexes[i], creatorIndexes[i], epochDays[i],
+						types[i]);
+				}
+			}
+
+			return builder.build(newVersion);
+		}
+
+		Builder builder = new Builder(size + rows.size(), categories, creators);
+
+		for (int i = 0; i < size; i++) {
+			builder.add(transactionIds[i], amounts[i], categoryIndexes[i], creatorIndexes[i], epochDays[i], types[i]);
+		}
+
+		return builder.addAll(rows).build(newVersion);
+	}
+
+	/**
+	 * [from, to) 기간의 카테고리, 거래 타입별 합계를 금액 내림차순, 카테고리 ID 오름차순으로 반환
+	 */
+	public List<CategoryBreakdown> categoryBreakdowns(LocalDate from, LocalDate to) {
+		int start = (int)from.toEpochDay();
+		int end = (int)to.toEpochDay();
+		long[] sums = new long[categories.size() * TYPES.length];
+		long[] counts = new long[categories.size() * TYPES.length];
+
+		for (int i = 0; i < size; i++) {
+			if (epochDays[i] >= start && epochDays[i] < end && creatorIndexes[i] != anonymizedIndex) {
+				int slot = categoryIndexes[i] * TYPES.length + types[i];
+
+				sums[slot] += amounts[i];
+				counts[slot]++;
+			}
+		}
+
+		List<CategoryBreakdown> breakdowns = new ArrayList<>();
+
+		for (int slot = 0; slot < counts.length; slot++) {
+			if (counts[slot] == 0) {
+				continue;
+			}
+
+			CategoryLabel category = categories.get(slot / TYPES.length);
+
+			breakdowns.add(CategoryBreakdown.builder()
+				.categoryId(category.id())
+				.categoryName(category.name())
+				.categoryIconUrl(category.iconUrl())
+				.transactionType(TYPES[slot % TYPES.length])
+				.amount(sums[slot])
+				.count(counts[slot])
+				.build());
+		}
+
+		breakdowns.sort(Comparator.comparing(CategoryBreakdown::amount).reversed()
+			.thenComparing(CategoryBreakdown::categoryId));
+
+		return breakdowns;
+	}
+
+	/**
+	 * from 부터 배열 길이만큼의 날짜별 수입, 지출 합계를 주어진 배열에 더함
+	 */
+	public void sumDaily(LocalDate from, long[] incomes, long[] expenses) {
+		int start = (int)from.toEpochDay();
+
+		for (int i = 0; i < size; i++) {
+			int index = epochDays[i] - start;
+
+			if (index < 0 || index >= incomes.length || creatorIndexes[i] == anonymizedIndex) {
+				continue;
+			}
+
+			if (TYPES[types[i]] == TransactionType.INCOME) {
+				incomes[index] += amounts[i];
+			} else if (TYPES[types[i]] == TransactionType.EXPENSE) {
+				expenses[index] += amounts[i];
+			}
+		}
+	}
+
+	/**
+	 * [from, to) 기간의 작성자별 수입, 지출 합계와 건수를 반환하며 익명화된 거래는 작성자가 null 인 한 행으로 묶음
+	 * 정렬은 DB 집계 결과와 같은 기준을 쓰도록 호출자에게 맡김
+	 */
+	public List<MemberContribution> memberContributions(LocalDate from, LocalDate to) {
+		int start = (int)from.toEpochDay();
+		int end = (int)to.toEpochDay();
+		long[] incomes = new long[creators.size()];
+		long[] expenses = new long[creators.size()];
+		long[] counts = new long[creators.size()];
+
+		for (int i = 0; i < size; i++) {
+			if (epochDays[i] < start || epochDays[i] >= end) {
+				continue;
+			}
+
+			int creatorIndex = creatorIndexes[i];
+
+			if (TYPES[types[i]] == TransactionType.INCOME) {
+				incomes[creatorIndex] += amounts[i];
+			} else if (TYPES[types[i]] == TransactionType.EXPENSE) {
+				expenses[creatorIndex] += amounts[i];
+			}
+
+			counts[creatorIndex]++;
+		}
+
+		List<MemberContribution> contributions = new ArrayList<>();
+
+		for (int creatorIndex = 0; creatorIndex < counts.length; creatorIndex++) {
+			if (counts[creatorIndex] == 0) {
+				continue;
+			}
+
+			CreatorLabel creator = creators.get(creatorIndex);
+
+			contributions.add(MemberContribution.builder()
+				.creatorId(creator.id())
+				.creatorNickname(creator.nickname())
+				.creatorProfileImageUrl(creator.profileImageUrl())
+				.income(incomes[creatorIndex])
+				.expense(expenses[creatorIndex])
+				.count(counts[creatorIndex])
+				.build());
+		}
+
+		return contributions;
+	}
+
+	public long version() {
+		return version;
+	}
+
+	public boolean isTooLarge() {
+		return tooLarge;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public long estimatedBytes() {
+		return BASE_BYTES + BYTES_PER_ROW * transactionIds.length + BYTES_PER_CATEGORY * categories.size()
+			+ BYTES_PER_CREATOR * creators.size();
+	}
+
+	private record CategoryLabel(
+		Long id,
+		String name,
+		String iconUrl
+	) {
+
+		private static CategoryLabel from(LedgerSnapshotRow row) {
+			return new CategoryLabel(row.categoryId(), row.categoryName(), row.categoryIconUrl());
+		}
+	}
+
+	/**
+	 * 작성자 ID 가 null 이면 익명화된 거래
+	 */
+	private record CreatorLabel(
+		Long id,
+		String nickname,
+		String profileImageUrl
+	) {
+
+		private static final CreatorLabel ANONYMIZED = new CreatorLabel(null, null, null);
+
+		private static CreatorLabel from(LedgerSnapshotRow row) {
+			if (row.creatorId() == null) {
+				return ANONYMIZED;
+			}
+
+			return new CreatorLabel(row.creatorId(), row.creatorNickname(), row.creatorProfileImageUrl());
+		}
+	}
+
+	/**
+	 * 카테고리는 (ID, 이름, 아이콘) 단위로 사전에 등록하여 DB 집계의 GROUP BY 와 같은 기준으로 묶음
+	 * 작성자는 ID 단위로 등록하여 작성자별 집계를 한 행으로 합치는 기준과 맞춤
+	 */
+	private static final class Builder {
+
+		private final List<CategoryLabel> categories;
+		private final Map<CategoryLabel, Integer> categoryIndexByLabel = new HashMap<>();
+		private final List<CreatorLabel> creators;
+		private final Map<Long, Integer> creatorIndexById = new HashMap<>();
+		private long[] transactionIds;
+		private long[] amounts;
+		private int[] categoryIndexes;
+		private int[] creatorIndexes;
+		private int[] epochDays;
+		private byte[] types;
+		private int size;
+
+		private Builder(int capacity, List<CategoryLabel> categories, List<CreatorLabel> creators) {
+			this.categories = new ArrayList<>(categories);
+			this.creators = new ArrayList<>(creators);
+			this.transactionIds = new long[capacity];
+			this.amounts = new long[capacity];
+			this.categoryIndexes = new int[capacity];
+			this.creatorIndexes = new int[capacity];
+			this.epochDays = new int[capacity];
+			this.types = new byte[capacity];
+
+			for (int i = 0; i < categories.size(); i++) {
+				categoryIndexByLabel.put(categories.get(i), i);
+			}
+
+			for (int i = 0; i < creators.size(); i++) {
+				creatorIndexById.put(creators.get(i).id(), i);
+			}
+		}
+
+		private Builder addAll(Collection<LedgerSnapshotRow> rows) {
+			for (LedgerSnapshotRow row : rows) {
+				int categoryIndex = categoryIndexByLabel.computeIfAbsent(CategoryLabel.from(row), label -> {
+					categories.add(label);
+
+					return categories.size() - 1;
+				});
+
+				int creatorIndex = creatorIndexById.computeIfAbsent(row.creatorId(), id -> {
+					creators.add(CreatorLabel.from(row));
+
+					return creators.size() - 1;
+				});
+
+				int epochDay = (int)row.transactionDate().toLocalDate().toEpochDay();
+
+				add(row.transactionId(), row.amount(), categoryIndex, creatorIndex, epochDay,
+					(byte)row.transactionType().ordinal());
+			}
+
+			return this;
+		}
+
+		private void add(long transactionId, long amount, int categoryIndex, int creatorIndex, int epochDay,
+			byte type) {
+			if (size == transactionIds.length) {
+				int capacity = Math.max(size * 2, 16);
+
+				transactionIds = Arrays.copyOf(transactionIds, capacity);
+				amounts = Arrays.copyOf(amounts, capacity);
+				categoryIndexes = Arrays.copyOf(categoryIndexes, capacity);
+				creatorIndexes = Arrays.copyOf(creatorIndexes, capacity);
+				epochDays = Arrays.copyOf(epochDays, capacity);
+				types = Arrays.copyOf(types, capacity);
+			}
+
+			transactionIds[size] = transactionId;
+			amounts[size] = amount;
+			categoryIndexes[size] = categoryIndex;
+			creatorIndexes[size] = creatorIndex;
+			epochDays[size] = epochDay;
+			types[size] = type;
+			size++;
+		}
+
+		private LedgerSnapshot build(long version) {
+			return new LedgerSnapshot(version, false, size, transactionIds, amounts, categoryIndexes, creatorIndexes,
+				epochDays, types, List.copyOf(categories), List.copyOf(creators));
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package com.dalcoomi.transaction.domain;
+
+import static java.util.Objects.requireNonNull;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class LedgerSummary {
+
+	private final Long id;
+	private final Ledger ledger;
+	private final Integer year;
+	private final Integer month;
+	private final Long income;
+	private final Long expense;
+
+	@Builder
+	public LedgerSummary(Long id, Ledger ledger, Integer year, Integer month, Long income, Long expense) {
+		this.id = id;
+		this.ledger = requireNonNull(ledger);
+		this.year = requireNonNull(year);
+		this.month = requireNonNull(month);
+		this.income = requireNonNull(income);
+		this.expense = requireNonNull(expense);
+	}
+
+	public Long getTotal() {
+		return income - expense;
+	}
+}
@@ -30,11 +30,12 @@ public class Transaction {
 	private TransactionType transactionType;
 	private LocalDateTime deletedAt;
 	private Boolean dataRetentionConsent;
+	private Long mirrorSourceId;
 
 	@Builder
 	public Transaction(Long id, Member creator, Category category, Long teamId, LocalDateTime transactionDate,
 		String content, Long amount, TransactionType transactionType, LocalDateTime deletedAt,
-		Boolean dataRetentionConsent) {
+		Boolean dataRetentionConsent, Long mirrorSourceId) {
 		this.id = id;
 		this.creator = creator;
 		this.category = category;
@@ -45,6 +46,7 @@ public class Transaction {
 		this.transactionType = requireNonNull(transactionType);
 		this.deletedAt = deletedAt;
 		this.dataRetentionConsent = dataRetentionConsent;
+		this.mirrorSourceId = mirrorSourceId;
 	}
 
 	public static Transaction from(TransactionRequest request) {
@@ -97,6 +99,24 @@ public class Transaction {
 		this.creator = null;
 	}
 
+	/**
+	 * 사본을 직접 수정하면 원본과 내용이 달라지므로 이후 원본 수정이 덮어쓰지 않도록 연결을 끊음
+	 */
+	public void detachMirror() {
+		this.mirrorSourceId = null;
+	}
+
+	/**
+	 * 원본 수정 내용을 사본에 그대로 반영
+	 */
+	public void syncWith(Transaction source) {
+		this.category = source.getCategory();
+		this.amount = source.getAmount();
+		this.content = source.getContent();
+		this.transactionDate = source.getTransactionDate();
+		this.transactionType = source.getTransactionType();
+	}
+
 
 	private String validateContent(String content) {
 		if (!isBlank(content) && content.length() > CONTENT_LENGTH) {
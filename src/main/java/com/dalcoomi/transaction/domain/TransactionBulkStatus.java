@@ -0,0 +1,7 @@
+package com.dalcoomi.transaction.domain;
+
+public enum TransactionBulkStatus {
+
+	SUCCESS,
+	NOT_FOUND
+}
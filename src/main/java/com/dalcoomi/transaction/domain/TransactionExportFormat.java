@@ -0,0 +1,29 @@
+package com.dalcoomi.transaction.domain;
+
+import static com.dalcoomi.common.error.model.ErrorMessage.UNSUPPORTED_EXPORT_FORMAT;
+
+import com.dalcoomi.common.error.exception.BadRequestException;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TransactionExportFormat {
+
+	NDJSON("application/x-ndjson", "ndjson"),
+	CSV("text/csv", "csv");
+
+	private final String contentType;
+	private final String extension;
+
+	public static TransactionExportFormat of(String value) {
+		for (TransactionExportFormat format : TransactionExportFormat.values()) {
+			if (format.name().equalsIgnoreCase(value)) { // 대소문자 구분 없이 처리
+				return format;
+			}
+		}
+
+		throw new BadRequestException(UNSUPPORTED_EXPORT_FORMAT);
+	}
+}
@@ -0,0 +1,9 @@
+package com.dalcoomi.transaction.domain;
+
+public enum TransactionImportStatus {
+
+	PENDING,
+	PROCESSING,
+	COMPLETED,
+	FAILED
+}
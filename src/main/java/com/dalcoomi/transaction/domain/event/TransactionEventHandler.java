@@ -1,32 +1,75 @@
 package com.dalcoomi.transaction.domain.event;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import com.dalcoomi.transaction.application.TransactionService;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
+/**
+ * 거래 생성 이벤트를 하나의 스트림으로 모아 최대 concurrency 개씩 동시에 AI 서버로 전송
+ * 응답은 콜백에서 처리하므로 요청 스레드나 작업 스레드가 응답을 기다리며 점유되지 않음
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class TransactionEventHandler {
 
+	private static final Duration EMIT_RETRY_DURATION = Duration.ofSeconds(1);
+
 	private final TransactionService transactionService;
 
+	private final Sinks.Many<TransactionCreatedEvent> events = Sinks.many().unicast().onBackpressureBuffer();
+
+	@Value("${ai.server.verification.concurrency:16}")
+	private int concurrency;
+
+	@PostConstruct
+	public void start() {
+		events.asFlux()
+			.flatMap(this::send, concurrency)
+			.subscribe();
+	}
+
+	/**
+	 * 이미 보낸 요청은 끝까지 처리하고, 새 이벤트는 더 받지 않음
+	 */
+	@PreDestroy
+	public void stop() {
+		events.tryEmitComplete();
+	}
+
 	@EventListener
-	@Async("taskExecutor")
 	public void handleTransactionCreated(TransactionCreatedEvent event) {
 		log.info("거래 생성 이벤트 처리 시작: taskId={}", event.getTaskId());
 
 		try {
-			transactionService.sendToAiServer(event.getTaskId(), event.getTransactions());
-			log.info("AI 서버 전송 성공: taskId={}", event.getTaskId());
-
+			// 여러 요청 스레드가 동시에 발행하면 순서대로 넣을 때까지 잠시 재시도
+			events.emitNext(event, Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY_DURATION));
 		} catch (Exception e) {
-			log.error("AI 서버 전송 실패: taskId={}, error={}", event.getTaskId(), e.getMessage(), e);
+			log.error("AI 서버 전송 대기열 추가 실패: taskId={}, error={}", event.getTaskId(), e.getMessage(), e);
 		}
 	}
+
+	/**
+	 * 한 건이 실패해도 스트림이 끝나지 않도록 오류는 로그만 남기고 넘어감
+	 */
+	private Mono<String> send(TransactionCreatedEvent event) {
+		return Mono.defer(() -> transactionService.sendToAiServer(event.getTaskId(), event.getTransactions()))
+			.doOnSuccess(response -> log.info("AI 서버 전송 성공: taskId={}", event.getTaskId()))
+			.onErrorResume(e -> {
+				log.error("AI 서버 전송 실패: taskId={}, error={}", event.getTaskId(), e.getMessage(), e);
+
+				return Mono.empty();
+			});
+	}
 }
@@ -0,0 +1,66 @@
+package com.dalcoomi.transaction.domain.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.dalcoomi.member.domain.event.MemberProfileUpdatedEvent;
+import com.dalcoomi.member.domain.event.MemberWithdrawnEvent;
+import com.dalcoomi.team.application.repository.TeamMemberRepository;
+import com.dalcoomi.transaction.application.LedgerSnapshotService;
+import com.dalcoomi.transaction.application.LedgerVersionService;
+import com.dalcoomi.transaction.application.TransactionMonthCache;
+import com.dalcoomi.transaction.application.repository.TransactionViewRepository;
+import com.dalcoomi.transaction.domain.Ledger;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원 정보 변경을 transaction_view 에 반영
+ * 발행한 트랜잭션 안에서 동기로 처리하여 원본과 읽기 모델이 함께 커밋되도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionViewEventHandler {
+
+	private final TransactionViewRepository transactionViewRepository;
+	private final TeamMemberRepository teamMemberRepository;
+	private final LedgerVersionService ledgerVersionService;
+	private final TransactionMonthCache transactionMonthCache;
+	private final LedgerSnapshotService ledgerSnapshotService;
+
+	/**
+	 * 작성자 닉네임과 프로필은 목록 응답에 포함되므로 회원이 속한 모든 가계부의 버전을 올리고 캐시를 지움
+	 */
+	@EventListener
+	public void handleMemberProfileUpdated(MemberProfileUpdatedEvent event) {
+		transactionViewRepository.updateCreatorProfile(event.getMemberId(), event.getNickname(),
+			event.getProfileImageUrl());
+
+		List<Ledger> ledgers = new ArrayList<>();
+
+		ledgers.add(Ledger.member(event.getMemberId()));
+		teamMemberRepository.find(null, event.getMemberId())
+			.forEach(teamMember -> ledgers.add(Ledger.team(teamMember.getTeam().getId())));
+
+		ledgerVersionService.increase(ledgers);
+		transactionMonthCache.evictAll(ledgers);
+
+		log.info("거래 내역 읽기 모델 작성자 정보 갱신: memberId={}", event.getMemberId());
+	}
+
+	/**
+	 * 가계부 스냅샷은 익명화된 그룹 거래를 작성자별 집계에 포함하므로 커밋 후 다시 적재하도록 비움
+	 */
+	@EventListener
+	public void handleMemberWithdrawn(MemberWithdrawnEvent event) {
+		transactionViewRepository.anonymizeCreator(event.getMemberId());
+		ledgerSnapshotService.evictAllAfterCommit();
+
+		log.info("거래 내역 읽기 모델 작성자 익명화: memberId={}", event.getMemberId());
+	}
+}
@@ -0,0 +1,17 @@
+package com.dalcoomi.transaction.dto;
+
+import com.dalcoomi.transaction.dto.response.GetTransactionsResponse;
+
+/**
+ * Redis 에 저장하는 월별 거래 내역 응답
+ * 저장 당시의 가계부 버전을 함께 보관하여 현재 버전과 다르면 사용하지 않음
+ */
+public record CachedTransactions(
+	Long version,
+	GetTransactionsResponse response
+) {
+
+	public static CachedTransactions of(long version, GetTransactionsResponse response) {
+		return new CachedTransactions(version, response);
+	}
+}
@@ -0,0 +1,22 @@
+package com.dalcoomi.transaction.dto;
+
+import com.dalcoomi.transaction.domain.TransactionType;
+import com.querydsl.core.annotations.QueryProjection;
+
+import lombok.Builder;
+
+/**
+ * 카테고리, 거래 타입별 합계와 건수 (DB 에서 GROUP BY 로 집계)
+ */
+@Builder
+@QueryProjection
+public record CategoryBreakdown(
+	Long categoryId,
+	String categoryName,
+	String categoryIconUrl,
+	TransactionType transactionType,
+	Long amount,
+	Long count
+) {
+
+}
@@ -0,0 +1,23 @@
+package com.dalcoomi.transaction.dto;
+
+import com.dalcoomi.transaction.domain.TransactionType;
+import com.querydsl.core.annotations.QueryProjection;
+
+import lombok.Builder;
+
+/**
+ * 작성자, 거래 타입별 합계와 건수 (DB 에서 GROUP BY 로 집계)
+ * 탈퇴로 익명화된 거래는 작성자 정보가 모두 null 인 한 그룹으로 묶임
+ */
+@Builder
+@QueryProjection
+public record CreatorAmount(
+	Long creatorId,
+	String creatorNickname,
+	String creatorProfileImageUrl,
+	TransactionType transactionType,
+	Long amount,
+	Long count
+) {
+
+}
@@ -0,0 +1,19 @@
+package com.dalcoomi.transaction.dto;
+
+import com.dalcoomi.transaction.domain.TransactionType;
+import com.querydsl.core.annotations.QueryProjection;
+
+import lombok.Builder;
+
+/**
+ * 일자, 거래 타입별 합계 (DB 에서 GROUP BY 로 집계)
+ */
+@Builder
+@QueryProjection
+public record DailyAmount(
+	Integer day,
+	TransactionType transactionType,
+	Long amount
+) {
+
+}
@@ -0,0 +1,21 @@
+package com.dalcoomi.transaction.dto;
+
+import java.time.LocalDate;
+
+import lombok.Builder;
+
+@Builder
+public record DailySummary(
+	LocalDate date,
+	Long income,
+	Long expense
+) {
+
+	public static DailySummary of(LocalDate date, Long income, Long expense) {
+		return DailySummary.builder()
+			.date(date)
+			.income(income)
+			.expense(expense)
+			.build();
+	}
+}
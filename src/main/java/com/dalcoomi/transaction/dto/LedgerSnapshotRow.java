@@ -0,0 +1,47 @@
+package com.dalcoomi.transaction.dto;
+
+import java.time.LocalDateTime;
+
+import com.dalcoomi.member.domain.Member;
+import com.dalcoomi.transaction.domain.Transaction;
+import com.dalcoomi.transaction.domain.TransactionType;
+import com.querydsl.core.annotations.QueryProjection;
+
+import lombok.Builder;
+
+/**
+ * 가계부 스냅샷을 만들 때 필요한 거래 내역의 최소 열
+ * 익명화된 거래는 작성자 정보가 모두 null
+ */
+@Builder
+@QueryProjection
+public record LedgerSnapshotRow(
+	Long transactionId,
+	Long amount,
+	LocalDateTime transactionDate,
+	Long categoryId,
+	String categoryName,
+	String categoryIconUrl,
+	TransactionType transactionType,
+	Long creatorId,
+	String creatorNickname,
+	String creatorProfileImageUrl
+) {
+
+	public static LedgerSnapshotRow from(Transaction transaction) {
+		Member creator = transaction.getCreator();
+
+		return LedgerSnapshotRow.builder()
+			.transactionId(transaction.getId())
+			.amount(transaction.getAmount())
+			.transactionDate(transaction.getTransactionDate())
+			.categoryId(transaction.getCategory().getId())
+			.categoryName(transaction.getCategory().getName())
+			.categoryIconUrl(transaction.getCategory().getIconUrl())
+			.transactionType(transaction.getTransactionType())
+			.creatorId(creator != null ? creator.getId() : null)
+			.creatorNickname(creator != null ? creator.getNickname() : null)
+			.creatorProfileImageUrl(creator != null ? creator.getProfileImageUrl() : null)
+			.build();
+	}
+}
@@ -0,0 +1,22 @@
+package com.dalcoomi.transaction.dto;
+
+import lombok.Builder;
+
+/**
+ * 그룹 가계부에서 회원 한 명이 기록한 수입, 지출 합계
+ * creatorId 가 null 이면 탈퇴한 회원들의 익명화된 거래 합계
+ */
+@Builder
+public record MemberContribution(
+	Long creatorId,
+	String creatorNickname,
+	String creatorProfileImageUrl,
+	Long income,
+	Long expense,
+	Long count
+) {
+
+	public boolean isAnonymized() {
+		return creatorId == null;
+	}
+}
@@ -0,0 +1,20 @@
+package com.dalcoomi.transaction.dto;
+
+import lombok.Builder;
+
+/**
+ * 월별 합계와 전년 동월 대비 증감, 최근 N개월 이동 평균
+ */
+@Builder
+public record MonthlyTrend(
+	Integer year,
+	Integer month,
+	Long income,
+	Long expense,
+	Long incomeChange,
+	Long expenseChange,
+	Long incomeMovingAverage,
+	Long expenseMovingAverage
+) {
+
+}
@@ -0,0 +1,17 @@
+package com.dalcoomi.transaction.dto;
+
+import lombok.Builder;
+
+/**
+ * 재시도를 모두 실패하여 dead-letter 스트림으로 옮겨진 영수증 작업
+ */
+@Builder
+public record ReceiptDeadLetterInfo(
+	String messageId,
+	String taskId,
+	int attempts,
+	String error,
+	String failedAt
+) {
+
+}
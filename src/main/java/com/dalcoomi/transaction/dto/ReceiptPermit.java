@@ -0,0 +1,13 @@
+package com.dalcoomi.transaction.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 서버에서 처리 중인 영수증 작업이 점유한 처리 슬롯
+ */
+public record ReceiptPermit(
+	String taskId,
+	LocalDateTime expiresAt
+) {
+
+}
@@ -0,0 +1,33 @@
+package com.dalcoomi.transaction.dto;
+
+import java.util.Map;
+
+import org.springframework.data.redis.connection.stream.MapRecord;
+
+/**
+ * 배치 모드에서 처리한 영수증 메시지의 결과
+ * 처리 슬롯을 얻지 못한 메시지는 ACK 하지 않고 대기열에 남김
+ */
+public record ReceiptTaskResult(
+	String messageId,
+	Map<Object, Object> fields,
+	boolean acquired,
+	Throwable failure
+) {
+
+	public static ReceiptTaskResult skipped(MapRecord<String, Object, Object> message) {
+		return new ReceiptTaskResult(message.getId().getValue(), message.getValue(), false, null);
+	}
+
+	public static ReceiptTaskResult completed(MapRecord<String, Object, Object> message) {
+		return new ReceiptTaskResult(message.getId().getValue(), message.getValue(), true, null);
+	}
+
+	public static ReceiptTaskResult failed(MapRecord<String, Object, Object> message, Throwable failure) {
+		return new ReceiptTaskResult(message.getId().getValue(), message.getValue(), true, failure);
+	}
+
+	public boolean isFailed() {
+		return failure != null;
+	}
+}
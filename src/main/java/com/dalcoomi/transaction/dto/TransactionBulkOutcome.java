@@ -0,0 +1,29 @@
+package com.dalcoomi.transaction.dto;
+
+import static com.dalcoomi.transaction.domain.TransactionBulkStatus.NOT_FOUND;
+import static com.dalcoomi.transaction.domain.TransactionBulkStatus.SUCCESS;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.dalcoomi.transaction.domain.TransactionBulkStatus;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+/**
+ * 일괄 처리 요청의 거래 ID 별 결과
+ * 없는 거래, 이미 삭제된 거래, 요청자가 작성하지 않았거나 다른 가계부의 거래는 구분하지 않고 NOT_FOUND 로 응답
+ */
+public record TransactionBulkOutcome(
+	@JsonSerialize(using = ToStringSerializer.class)
+	Long transactionId,
+	TransactionBulkStatus status
+) {
+
+	public static List<TransactionBulkOutcome> of(List<Long> requestedIds, Collection<Long> processedIds) {
+		return requestedIds.stream()
+			.distinct()
+			.map(id -> new TransactionBulkOutcome(id, processedIds.contains(id) ? SUCCESS : NOT_FOUND))
+			.toList();
+	}
+}
@@ -0,0 +1,15 @@
+package com.dalcoomi.transaction.dto;
+
+import com.dalcoomi.transaction.domain.Transaction;
+
+/**
+ * 묶어서 저장할 단건 거래 생성 요청 하나
+ */
+public record TransactionCreateCommand(
+	Long memberId,
+	Long categoryId,
+	Transaction transaction,
+	Boolean synchronizeTransaction
+) {
+
+}
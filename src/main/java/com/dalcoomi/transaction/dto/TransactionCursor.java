@@ -0,0 +1,50 @@
+package com.dalcoomi.transaction.dto;
+
+import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_INVALID_CURSOR;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.springframework.lang.Nullable;
+
+import com.dalcoomi.common.error.exception.BadRequestException;
+
+/**
+ * 거래 내역 목록 커서 (마지막으로 조회한 거래의 거래일시와 ID)
+ * 클라이언트에는 내부 구조를 드러내지 않도록 Base64 문자열로 전달
+ */
+public record TransactionCursor(
+	LocalDateTime transactionDate,
+	Long transactionId
+) {
+
+	private static final String DELIMITER = "|";
+
+	public static TransactionCursor from(TransactionView transaction) {
+		return new TransactionCursor(transaction.transactionDate(), transaction.transactionId());
+	}
+
+	@Nullable
+	public static TransactionCursor decode(@Nullable String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+			int delimiterIndex = decoded.indexOf(DELIMITER);
+
+			return new TransactionCursor(LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+				Long.parseLong(decoded.substring(delimiterIndex + 1)));
+		} catch (RuntimeException e) {
+			throw new BadRequestException(TRANSACTION_INVALID_CURSOR, e);
+		}
+	}
+
+	public String encode() {
+		String raw = transactionDate + DELIMITER + transactionId;
+
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(UTF_8));
+	}
+}
@@ -0,0 +1,54 @@
+package com.dalcoomi.transaction.dto;
+
+import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_INVALID_DATE_RANGE;
+import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_INVALID_PAGE_SIZE;
+import static com.dalcoomi.transaction.constant.TransactionConstants.DEFAULT_PAGE_SIZE;
+import static com.dalcoomi.transaction.constant.TransactionConstants.MAX_PAGE_SIZE;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.lang.Nullable;
+
+import com.dalcoomi.common.error.exception.BadRequestException;
+
+import lombok.Builder;
+
+/**
+ * 기간 기반 커서 조회 조건
+ * 기간은 [startDateTime, endDateTime) 반열린 구간으로 보관하여 인덱스 범위 스캔이 가능하도록 함
+ */
+@Builder
+public record TransactionCursorCriteria(
+	Long requesterId,
+	Long memberId,
+	Long teamId,
+	LocalDateTime startDateTime,
+	LocalDateTime endDateTime,
+	TransactionCursor cursor,
+	int size
+) {
+
+	public static TransactionCursorCriteria of(Long memberId, @Nullable Long teamId, LocalDate from, LocalDate to,
+		@Nullable String cursor, @Nullable Integer size) {
+		if (from.isAfter(to)) {
+			throw new BadRequestException(TRANSACTION_INVALID_DATE_RANGE);
+		}
+
+		int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+
+		if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+			throw new BadRequestException(TRANSACTION_INVALID_PAGE_SIZE);
+		}
+
+		return TransactionCursorCriteria.builder()
+			.requesterId(memberId)
+			.memberId(teamId == null ? memberId : null)
+			.teamId(teamId)
+			.startDateTime(from.atStartOfDay())
+			.endDateTime(to.plusDays(1).atStartOfDay())
+			.cursor(TransactionCursor.decode(cursor))
+			.size(pageSize)
+			.build();
+	}
+}
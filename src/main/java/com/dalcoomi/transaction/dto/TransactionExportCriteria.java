@@ -0,0 +1,21 @@
+package com.dalcoomi.transaction.dto;
+
+import org.springframework.lang.Nullable;
+
+import lombok.Builder;
+
+@Builder
+public record TransactionExportCriteria(
+	Long requesterId,
+	Long memberId,
+	Long teamId
+) {
+
+	public static TransactionExportCriteria of(Long memberId, @Nullable Long teamId) {
+		return TransactionExportCriteria.builder()
+			.requesterId(memberId)
+			.memberId(teamId == null ? memberId : null)
+			.teamId(teamId)
+			.build();
+	}
+}
@@ -0,0 +1,31 @@
+package com.dalcoomi.transaction.dto;
+
+import java.time.LocalDateTime;
+
+import com.dalcoomi.transaction.domain.TransactionType;
+
+import lombok.Builder;
+
+@Builder
+public record TransactionExportItem(
+	Long transactionId,
+	LocalDateTime transactionDate,
+	TransactionType transactionType,
+	Long amount,
+	String categoryName,
+	String content,
+	String creatorNickname
+) {
+
+	public static TransactionExportItem from(TransactionView transaction) {
+		return TransactionExportItem.builder()
+			.transactionId(transaction.transactionId())
+			.transactionDate(transaction.transactionDate())
+			.transactionType(transaction.transactionType())
+			.amount(transaction.amount())
+			.categoryName(transaction.categoryName())
+			.content(transaction.content())
+			.creatorNickname(transaction.creatorNickname())
+			.build();
+	}
+}
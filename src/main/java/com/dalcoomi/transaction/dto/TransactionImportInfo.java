@@ -0,0 +1,20 @@
+package com.dalcoomi.transaction.dto;
+
+import java.util.List;
+
+import com.dalcoomi.transaction.domain.TransactionImportStatus;
+
+import lombok.Builder;
+
+@Builder
+public record TransactionImportInfo(
+	String importId,
+	TransactionImportStatus status,
+	long processedRows,
+	long importedRows,
+	long failedRows,
+	String message,
+	List<String> errors
+) {
+
+}
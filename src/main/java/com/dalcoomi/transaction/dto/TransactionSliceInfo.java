@@ -0,0 +1,27 @@
+package com.dalcoomi.transaction.dto;
+
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+import lombok.Builder;
+
+@Builder
+public record TransactionSliceInfo(
+	List<TransactionView> transactions,
+	@Nullable TransactionCursor nextCursor
+) {
+
+	/**
+	 * 다음 페이지 존재 여부 확인을 위해 size + 1건을 조회한 결과를 받아 잘라냄
+	 */
+	public static TransactionSliceInfo of(List<TransactionView> fetched, int size) {
+		if (fetched.size() <= size) {
+			return new TransactionSliceInfo(fetched, null);
+		}
+
+		List<TransactionView> transactions = fetched.subList(0, size);
+
+		return new TransactionSliceInfo(transactions, TransactionCursor.from(transactions.getLast()));
+	}
+}
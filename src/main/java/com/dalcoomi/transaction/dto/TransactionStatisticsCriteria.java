@@ -0,0 +1,57 @@
+package com.dalcoomi.transaction.dto;
+
+import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_INVALID_DATE_RANGE;
+import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_INVALID_MONTH;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import org.springframework.lang.Nullable;
+
+import com.dalcoomi.common.error.exception.BadRequestException;
+
+import lombok.Builder;
+
+/**
+ * 기간 단위 통계 조회 조건
+ * 기간은 [startDateTime, endDateTime) 반열린 구간으로 보관하여 인덱스 범위 스캔이 가능하도록 함
+ */
+@Builder
+public record TransactionStatisticsCriteria(
+	Long requesterId,
+	Long memberId,
+	Long teamId,
+	LocalDateTime startDateTime,
+	LocalDateTime endDateTime
+) {
+
+	public static TransactionStatisticsCriteria of(Long memberId, @Nullable Long teamId, LocalDate from,
+		LocalDate to) {
+		if (from.isAfter(to)) {
+			throw new BadRequestException(TRANSACTION_INVALID_DATE_RANGE);
+		}
+
+		return TransactionStatisticsCriteria.builder()
+			.requesterId(memberId)
+			.memberId(teamId == null ? memberId : null)
+			.teamId(teamId)
+			.startDateTime(from.atStartOfDay())
+			.endDateTime(to.plusDays(1).atStartOfDay())
+			.build();
+	}
+
+	/**
+	 * 한 달 전체를 조회하는 조건 (달력 화면)
+	 */
+	public static TransactionStatisticsCriteria of(Long memberId, @Nullable Long teamId, Integer year,
+		Integer month) {
+		if (month < 1 || month > 12) {
+			throw new BadRequestException(TRANSACTION_INVALID_MONTH);
+		}
+
+		YearMonth yearMonth = YearMonth.of(year, month);
+
+		return of(memberId, teamId, yearMonth.atDay(1), yearMonth.atEndOfMonth());
+	}
+}
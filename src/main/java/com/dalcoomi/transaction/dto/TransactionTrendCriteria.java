@@ -0,0 +1,45 @@
+package com.dalcoomi.transaction.dto;
+
+import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_INVALID_TREND_YEARS;
+import static com.dalcoomi.transaction.constant.TransactionConstants.DEFAULT_TREND_YEARS;
+import static com.dalcoomi.transaction.constant.TransactionConstants.MAX_TREND_YEARS;
+
+import java.time.Year;
+
+import org.springframework.lang.Nullable;
+
+import com.dalcoomi.common.error.exception.BadRequestException;
+
+import lombok.Builder;
+
+/**
+ * 여러 해에 걸친 월별 추이 조회 조건 (endYear 를 포함하여 years 개 연도)
+ */
+@Builder
+public record TransactionTrendCriteria(
+	Long requesterId,
+	Long memberId,
+	Long teamId,
+	Integer startYear,
+	Integer endYear
+) {
+
+	public static TransactionTrendCriteria of(Long memberId, @Nullable Long teamId, @Nullable Integer endYear,
+		@Nullable Integer years) {
+		int yearCount = years != null ? years : DEFAULT_TREND_YEARS;
+
+		if (yearCount < 1 || yearCount > MAX_TREND_YEARS) {
+			throw new BadRequestException(TRANSACTION_INVALID_TREND_YEARS);
+		}
+
+		int lastYear = endYear != null ? endYear : Year.now().getValue();
+
+		return TransactionTrendCriteria.builder()
+			.requesterId(memberId)
+			.memberId(teamId == null ? memberId : null)
+			.teamId(teamId)
+			.startYear(lastYear - yearCount + 1)
+			.endYear(lastYear)
+			.build();
+	}
+}
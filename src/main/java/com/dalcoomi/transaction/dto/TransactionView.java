@@ -0,0 +1,31 @@
+package com.dalcoomi.transaction.dto;
+
+import java.time.LocalDateTime;
+
+import com.dalcoomi.transaction.domain.TransactionType;
+import com.querydsl.core.annotations.QueryProjection;
+
+import lombok.Builder;
+
+/**
+ * 거래 내역 목록 조회용 읽기 모델 (transaction_view 한 행)
+ * 작성자와 카테고리 정보를 비정규화하여 조인 없이 목록을 구성
+ */
+@Builder
+@QueryProjection
+public record TransactionView(
+	Long transactionId,
+	Long creatorId,
+	String creatorNickname,
+	String creatorProfileImageUrl,
+	Long teamId,
+	Long categoryId,
+	String categoryName,
+	String categoryIconUrl,
+	LocalDateTime transactionDate,
+	String content,
+	Long amount,
+	TransactionType transactionType
+) {
+
+}
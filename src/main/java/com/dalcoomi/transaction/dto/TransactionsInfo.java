@@ -5,7 +5,7 @@ import static com.dalcoomi.transaction.domain.TransactionType.INCOME;
 
 import java.util.List;
 
-import com.dalcoomi.transaction.domain.Transaction;
+import com.dalcoomi.transaction.domain.LedgerSummary;
 
 import lombok.Builder;
 
@@ -14,26 +14,37 @@ public record TransactionsInfo(
 	Long income,
 	Long expense,
 	Long total,
-	List<Transaction> transactions
+	List<TransactionView> transactions
 ) {
 
-	public static TransactionsInfo from(List<Transaction> transactions) {
-		Long income = transactions.stream()
-			.filter(transaction -> transaction.getTransactionType() == INCOME)
-			.map(Transaction::getAmount)
-			.reduce(0L, Long::sum);
-
-		Long expense = transactions.stream()
-			.filter(transaction -> transaction.getTransactionType() == EXPENSE)
-			.map(Transaction::getAmount)
-			.reduce(0L, Long::sum);
-
-		Long total = income - expense;
+	/**
+	 * 월별 합계가 없을 때만 사용하며, 목록을 한 번 훑으며 원시 타입으로 합산
+	 */
+	public static TransactionsInfo from(List<TransactionView> transactions) {
+		long income = 0L;
+		long expense = 0L;
+
+		for (TransactionView transaction : transactions) {
+			if (transaction.transactionType() == INCOME) {
+				income += transaction.amount();
+			} else if (transaction.transactionType() == EXPENSE) {
+				expense += transaction.amount();
+			}
+		}
 
 		return TransactionsInfo.builder()
 			.income(income)
 			.expense(expense)
-			.total(total)
+			.total(income - expense)
+			.transactions(transactions)
+			.build();
+	}
+
+	public static TransactionsInfo of(LedgerSummary summary, List<TransactionView> transactions) {
+		return TransactionsInfo.builder()
+			.income(summary.getIncome())
+			.expense(summary.getExpense())
+			.total(summary.getTotal())
 			.transactions(transactions)
 			.build();
 	}
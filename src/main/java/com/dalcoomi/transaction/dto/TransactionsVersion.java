@@ -0,0 +1,31 @@
+package com.dalcoomi.transaction.dto;
+
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
+
+import com.dalcoomi.transaction.domain.Ledger;
+
+import lombok.Builder;
+
+/**
+ * 거래 내역 조회 응답의 캐시 검증 정보
+ * maxAge 가 있으면 마감된 달이므로 클라이언트가 그 기간 동안 재검증 없이 재사용 가능
+ */
+@Builder
+public record TransactionsVersion(
+	Long version,
+	String eTag,
+	@Nullable Duration maxAge
+) {
+
+	public static TransactionsVersion of(Ledger ledger, long version, @Nullable Duration maxAge) {
+		String eTag = "\"" + ledger.ownerType().name().toLowerCase() + "-" + ledger.ownerId() + "-" + version + "\"";
+
+		return TransactionsVersion.builder()
+			.version(version)
+			.eTag(eTag)
+			.maxAge(maxAge)
+			.build();
+	}
+}
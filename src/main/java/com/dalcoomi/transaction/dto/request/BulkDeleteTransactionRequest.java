@@ -0,0 +1,17 @@
+package com.dalcoomi.transaction.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record BulkDeleteTransactionRequest(
+	Long teamId,
+
+	@NotEmpty(message = "최소 하나의 거래 내역 ID가 필요합니다.")
+	@Size(max = 100, message = "한 번에 최대 100건까지 처리할 수 있습니다.")
+	List<@NotNull Long> transactionIds
+) {
+
+}
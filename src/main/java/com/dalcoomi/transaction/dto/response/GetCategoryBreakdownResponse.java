@@ -0,0 +1,49 @@
+package com.dalcoomi.transaction.dto.response;
+
+import java.util.List;
+
+import com.dalcoomi.transaction.domain.TransactionType;
+import com.dalcoomi.transaction.dto.CategoryBreakdown;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import lombok.Builder;
+
+@Builder
+public record GetCategoryBreakdownResponse(
+	List<GetCategoryBreakdownResponseItem> categories
+) {
+
+	public static GetCategoryBreakdownResponse from(List<CategoryBreakdown> breakdowns) {
+		List<GetCategoryBreakdownResponseItem> categories = breakdowns.stream()
+			.map(GetCategoryBreakdownResponseItem::from)
+			.toList();
+
+		return GetCategoryBreakdownResponse.builder()
+			.categories(categories)
+			.build();
+	}
+
+	@Builder
+	public record GetCategoryBreakdownResponseItem(
+		@JsonSerialize(using = ToStringSerializer.class)
+		Long categoryId,
+		String categoryName,
+		String categoryIconUrl,
+		TransactionType transactionType,
+		Long amount,
+		Long count
+	) {
+
+		public static GetCategoryBreakdownResponseItem from(CategoryBreakdown breakdown) {
+			return GetCategoryBreakdownResponseItem.builder()
+				.categoryId(breakdown.categoryId())
+				.categoryName(breakdown.categoryName())
+				.categoryIconUrl(breakdown.categoryIconUrl())
+				.transactionType(breakdown.transactionType())
+				.amount(breakdown.amount())
+				.count(breakdown.count())
+				.build();
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package com.dalcoomi.transaction.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.dalcoomi.transaction.dto.DailySummary;
+
+import lombok.Builder;
+
+@Builder
+public record GetDailySummaryResponse(
+	List<GetDailySummaryResponseItem> days
+) {
+
+	public static GetDailySummaryResponse from(List<DailySummary> dailySummaries) {
+		List<GetDailySummaryResponseItem> days = dailySummaries.stream()
+			.map(GetDailySummaryResponseItem::from)
+			.toList();
+
+		return GetDailySummaryResponse.builder()
+			.days(days)
+			.build();
+	}
+
+	@Builder
+	public record GetDailySummaryResponseItem(
+		LocalDate date,
+		Long income,
+		Long expense
+	) {
+
+		public static GetDailySummaryResponseItem from(DailySummary dailySummary) {
+			return GetDailySummaryResponseItem.builder()
+				.date(dailySummary.date())
+				.income(dailySummary.income())
+				.expense(dailySummary.expense())
+				.build();
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package com.dalcoomi.transaction.dto.response;
+
+import java.util.List;
+
+import com.dalcoomi.transaction.dto.MemberContribution;
+
+import lombok.Builder;
+
+@Builder
+public record GetMemberContributionResponse(
+	List<GetMemberContributionResponseItem> members
+) {
+
+	public static GetMemberContributionResponse from(List<MemberContribution> contributions) {
+		List<GetMemberContributionResponseItem> members = contributions.stream()
+			.map(GetMemberContributionResponseItem::from)
+			.toList();
+
+		return GetMemberContributionResponse.builder()
+			.members(members)
+			.build();
+	}
+
+	@Builder
+	public record GetMemberContributionResponseItem(
+		Long memberId,
+		String nickname,
+		String profileImageUrl,
+		boolean anonymized,
+		Long income,
+		Long expense,
+		Long count
+	) {
+
+		public static GetMemberContributionResponseItem from(MemberContribution contribution) {
+			return GetMemberContributionResponseItem.builder()
+				.memberId(contribution.creatorId())
+				.nickname(contribution.creatorNickname())
+				.profileImageUrl(contribution.creatorProfileImageUrl())
+				.anonymized(contribution.isAnonymized())
+				.income(contribution.income())
+				.expense(contribution.expense())
+				.count(contribution.count())
+				.build();
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.dalcoomi.transaction.dto.response;
+
+import java.util.List;
+
+import com.dalcoomi.transaction.dto.MonthlyTrend;
+
+import lombok.Builder;
+
+@Builder
+public record GetMonthlyTrendResponse(
+	List<GetMonthlyTrendResponseItem> months
+) {
+
+	public static GetMonthlyTrendResponse from(List<MonthlyTrend> monthlyTrends) {
+		List<GetMonthlyTrendResponseItem> months = monthlyTrends.stream()
+			.map(GetMonthlyTrendResponseItem::from)
+			.toList();
+
+		return GetMonthlyTrendResponse.builder()
+			.months(months)
+			.build();
+	}
+
+	@Builder
+	public record GetMonthlyTrendResponseItem(
+		Integer year,
+		Integer month,
+		Long income,
+		Long expense,
+		Long total,
+		Long incomeChange,
+		Long expenseChange,
+		Long incomeMovingAverage,
+		Long expenseMovingAverage
+	) {
+
+		public static GetMonthlyTrendResponseItem from(MonthlyTrend monthlyTrend) {
+			return GetMonthlyTrendResponseItem.builder()
+				.year(monthlyTrend.year())
+				.month(monthlyTrend.month())
+				.income(monthlyTrend.income())
+				.expense(monthlyTrend.expense())
+				.total(monthlyTrend.income() - monthlyTrend.expense())
+				.incomeChange(monthlyTrend.incomeChange())
+				.expenseChange(monthlyTrend.expenseChange())
+				.incomeMovingAverage(monthlyTrend.incomeMovingAverage())
+				.expenseMovingAverage(monthlyTrend.expenseMovingAverage())
+				.build();
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package com.dalcoomi.transaction.dto.response;
+
+import java.util.List;
+
+import com.dalcoomi.transaction.dto.ReceiptDeadLetterInfo;
+
+import lombok.Builder;
+
+@Builder
+public record GetReceiptDeadLettersResponse(
+	List<GetReceiptDeadLetterResponseItem> deadLetters
+) {
+
+	public static GetReceiptDeadLettersResponse from(List<ReceiptDeadLetterInfo> deadLetterInfos) {
+		List<GetReceiptDeadLetterResponseItem> deadLetters = deadLetterInfos.stream()
+			.map(GetReceiptDeadLetterResponseItem::from)
+			.toList();
+
+		return GetReceiptDeadLettersResponse.builder()
+			.deadLetters(deadLetters)
+			.build();
+	}
+
+	@Builder
+	public record GetReceiptDeadLetterResponseItem(
+		String messageId,
+		String taskId,
+		int attempts,
+		String error,
+		String failedAt
+	) {
+
+		public static GetReceiptDeadLetterResponseItem from(ReceiptDeadLetterInfo deadLetterInfo) {
+			return GetReceiptDeadLetterResponseItem.builder()
+				.messageId(deadLetterInfo.messageId())
+				.taskId(deadLetterInfo.taskId())
+				.attempts(deadLetterInfo.attempts())
+				.error(deadLetterInfo.error())
+				.failedAt(deadLetterInfo.failedAt())
+				.build();
+		}
+	}
+}
@@ -4,17 +4,21 @@ import java.time.LocalDateTime;
 
 import com.dalcoomi.transaction.domain.Transaction;
 import com.dalcoomi.transaction.domain.TransactionType;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import lombok.Builder;
 
 @Builder
 public record GetTransactionResponse(
+	@JsonSerialize(using = ToStringSerializer.class)
 	Long transactionId,
 	String creatorNickname,
 	Long amount,
 	String content,
 	LocalDateTime transactionDate,
 	TransactionType transactionType,
+	@JsonSerialize(using = ToStringSerializer.class)
 	Long categoryId,
 	String categoryName,
 	String iconUrl
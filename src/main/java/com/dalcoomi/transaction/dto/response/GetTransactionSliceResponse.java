@@ -0,0 +1,28 @@
+package com.dalcoomi.transaction.dto.response;
+
+import java.util.List;
+
+import com.dalcoomi.transaction.dto.TransactionSliceInfo;
+import com.dalcoomi.transaction.dto.response.GetTransactionsResponse.GetMyTransactionResponseItem;
+
+import lombok.Builder;
+
+@Builder
+public record GetTransactionSliceResponse(
+	List<GetMyTransactionResponseItem> transactions,
+	String nextCursor,
+	boolean hasNext
+) {
+
+	public static GetTransactionSliceResponse from(TransactionSliceInfo sliceInfo) {
+		List<GetMyTransactionResponseItem> transactions = sliceInfo.transactions().stream()
+			.map(GetMyTransactionResponseItem::from)
+			.toList();
+
+		return GetTransactionSliceResponse.builder()
+			.transactions(transactions)
+			.nextCursor(sliceInfo.nextCursor() != null ? sliceInfo.nextCursor().encode() : null)
+			.hasNext(sliceInfo.nextCursor() != null)
+			.build();
+	}
+}
@@ -3,9 +3,11 @@ package com.dalcoomi.transaction.dto.response;
 import java.time.LocalDateTime;
 import java.util.List;
 
-import com.dalcoomi.transaction.domain.Transaction;
 import com.dalcoomi.transaction.domain.TransactionType;
+import com.dalcoomi.transaction.dto.TransactionView;
 import com.dalcoomi.transaction.dto.TransactionsInfo;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import lombok.Builder;
 
@@ -32,6 +34,7 @@ public record GetTransactionsResponse(
 
 	@Builder
 	public record GetMyTransactionResponseItem(
+		@JsonSerialize(using = ToStringSerializer.class)
 		Long transactionId,
 		String creatorNickname,
 		String creatorProfileImageUrl,
@@ -42,16 +45,16 @@ public record GetTransactionsResponse(
 		TransactionType transactionType
 	) {
 
-		public static GetMyTransactionResponseItem from(Transaction transaction) {
+		public static GetMyTransactionResponseItem from(TransactionView transaction) {
 			return GetMyTransactionResponseItem.builder()
-				.transactionId(transaction.getId())
-				.creatorNickname(transaction.getCreator().getNickname())
-				.creatorProfileImageUrl(transaction.getCreator().getProfileImageUrl())
-				.categoryName(transaction.getCategory().getName())
-				.transactionDate(transaction.getTransactionDate())
-				.content(transaction.getContent())
-				.amount(transaction.getAmount())
-				.transactionType(transaction.getTransactionType())
+				.transactionId(transaction.transactionId())
+				.creatorNickname(transaction.creatorNickname())
+				.creatorProfileImageUrl(transaction.creatorProfileImageUrl())
+				.categoryName(transaction.categoryName())
+				.transactionDate(transaction.transactionDate())
+				.content(transaction.content())
+				.amount(transaction.amount())
+				.transactionType(transaction.transactionType())
 				.build();
 		}
 	}
@@ -0,0 +1,27 @@
+package com.dalcoomi.transaction.dto.response;
+
+import static com.dalcoomi.transaction.domain.TransactionBulkStatus.SUCCESS;
+
+import java.util.List;
+
+import com.dalcoomi.transaction.dto.TransactionBulkOutcome;
+
+import lombok.Builder;
+
+@Builder
+public record TransactionBulkResponse(
+	long successCount,
+	long failureCount,
+	List<TransactionBulkOutcome> results
+) {
+
+	public static TransactionBulkResponse from(List<TransactionBulkOutcome> outcomes) {
+		long successCount = outcomes.stream().filter(outcome -> outcome.status() == SUCCESS).count();
+
+		return TransactionBulkResponse.builder()
+			.successCount(successCount)
+			.failureCount(outcomes.size() - successCount)
+			.results(outcomes)
+			.build();
+	}
+}
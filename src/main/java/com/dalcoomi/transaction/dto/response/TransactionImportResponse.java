@@ -0,0 +1,32 @@
+package com.dalcoomi.transaction.dto.response;
+
+import java.util.List;
+
+import com.dalcoomi.transaction.domain.TransactionImportStatus;
+import com.dalcoomi.transaction.dto.TransactionImportInfo;
+
+import lombok.Builder;
+
+@Builder
+public record TransactionImportResponse(
+	String importId,
+	TransactionImportStatus status,
+	long processedRows,
+	long importedRows,
+	long failedRows,
+	String message,
+	List<String> errors
+) {
+
+	public static TransactionImportResponse from(TransactionImportInfo importInfo) {
+		return TransactionImportResponse.builder()
+			.importId(importInfo.importId())
+			.status(importInfo.status())
+			.processedRows(importInfo.processedRows())
+			.importedRows(importInfo.importedRows())
+			.failedRows(importInfo.failedRows())
+			.message(importInfo.message())
+			.errors(importInfo.errors())
+			.build();
+	}
+}
@@ -0,0 +1,76 @@
+package com.dalcoomi.transaction.infrastructure;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+import com.dalcoomi.common.jpa.BaseTimeEntity;
+import com.dalcoomi.transaction.domain.Ledger;
+import com.dalcoomi.transaction.domain.LedgerOwnerType;
+import com.dalcoomi.transaction.domain.LedgerSummary;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@Table(name = "ledger_monthly_summary", uniqueConstraints = @UniqueConstraint(name = "uk_ledger_monthly_summary",
+	columnNames = {"owner_type", "owner_id", "summary_year", "summary_month"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LedgerSummaryJpaEntity extends BaseTimeEntity {
+
+	@Id
+	@GeneratedValue(strategy = IDENTITY)
+	@Column(name = "id", nullable = false, unique = true)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "owner_type", nullable = false, length = 10)
+	private LedgerOwnerType ownerType;
+
+	@Column(name = "owner_id", nullable = false)
+	private Long ownerId;
+
+	@Column(name = "summary_year", nullable = false)
+	private Integer year;
+
+	@Column(name = "summary_month", nullable = false)
+	private Integer month;
+
+	@Column(name = "income", nullable = false)
+	private Long income;
+
+	@Column(name = "expense", nullable = false)
+	private Long expense;
+
+	@Builder
+	public LedgerSummaryJpaEntity(Long id, LedgerOwnerType ownerType, Long ownerId, Integer year, Integer month,
+		Long income, Long expense) {
+		this.id = id;
+		this.ownerType = ownerType;
+		this.ownerId = ownerId;
+		this.year = year;
+		this.month = month;
+		this.income = income;
+		this.expense = expense;
+	}
+
+	public LedgerSummary toModel() {
+		return LedgerSummary.builder()
+			.id(this.id)
+			.ledger(new Ledger(this.ownerType, this.ownerId))
+			.year(this.year)
+			.month(this.month)
+			.income(this.income)
+			.expense(this.expense)
+			.build();
+	}
+}
@@ -0,0 +1,95 @@
+package com.dalcoomi.transaction.infrastructure;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface LedgerSummaryJpaRepository extends JpaRepository<LedgerSummaryJpaEntity, Long> {
+
+	/**
+	 * 조회 후 갱신 대신 단일 upsert 문으로 증감시켜 동시 쓰기에서도 합계가 유실되지 않도록 함
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO ledger_monthly_summary
+			(owner_type, owner_id, summary_year, summary_month, income, expense, created_at, updated_at)
+		VALUES (:ownerType, :ownerId, :year, :month, :income, :expense, NOW(), NOW())
+		ON DUPLICATE KEY UPDATE
+			income = income + :income,
+			expense = expense + :expense,
+			updated_at = NOW()
+		""", nativeQuery = true)
+	void increase(@Param("ownerType") String ownerType, @Param("ownerId") Long ownerId, @Param("year") Integer year,
+		@Param("month") Integer month, @Param("income") Long income, @Param("expense") Long expense);
+
+	/**
+	 * 거래 내역이 있거나 월별 합계가 남아 있는 가계부 목록 (모든 거래 내역이 삭제된 가계부의 합계도 정리하기 위함)
+	 */
+	@Query(value = """
+		SELECT CASE WHEN t.team_id IS NULL THEN 'MEMBER' ELSE 'TEAM' END, COALESCE(t.team_id, t.creator_id)
+		FROM transaction t
+		WHERE t.team_id IS NOT NULL OR t.creator_id IS NOT NULL
+		UNION
+		SELECT s.owner_type, s.owner_id
+		FROM ledger_monthly_summary s
+		""", nativeQuery = true)
+	List<Object[]> findRebuildTargets();
+
+	/**
+	 * 거래 내역 목록 조회와 동일한 조건(삭제되지 않은 거래, 회원, 카테고리)으로 개인 가계부의 월별 합계를 다시 집계
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO ledger_monthly_summary
+			(owner_type, owner_id, summary_year, summary_month, income, expense, created_at, updated_at)
+		SELECT
+			'MEMBER',
+			:memberId,
+			YEAR(t.transaction_date),
+			MONTH(t.transaction_date),
+			SUM(CASE WHEN t.transaction_type = 'INCOME' THEN t.amount ELSE 0 END),
+			SUM(CASE WHEN t.transaction_type = 'EXPENSE' THEN t.amount ELSE 0 END),
+			NOW(),
+			NOW()
+		FROM transaction t
+		INNER JOIN member m ON m.id = t.creator_id
+		INNER JOIN category c ON c.id = t.category_id
+		WHERE t.creator_id = :memberId
+			AND t.team_id IS NULL
+			AND t.deleted_at IS NULL
+			AND m.deleted_at IS NULL
+			AND c.deleted_at IS NULL
+		GROUP BY YEAR(t.transaction_date), MONTH(t.transaction_date)
+		""", nativeQuery = true)
+	int rebuildMember(@Param("memberId") Long memberId);
+
+	/**
+	 * 거래 내역 목록 조회와 동일한 조건(삭제되지 않은 거래, 회원, 카테고리)으로 그룹 가계부의 월별 합계를 다시 집계
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO ledger_monthly_summary
+			(owner_type, owner_id, summary_year, summary_month, income, expense, created_at, updated_at)
+		SELECT
+			'TEAM',
+			:teamId,
+			YEAR(t.transaction_date),
+			MONTH(t.transaction_date),
+			SUM(CASE WHEN t.transaction_type = 'INCOME' THEN t.amount ELSE 0 END),
+			SUM(CASE WHEN t.transaction_type = 'EXPENSE' THEN t.amount ELSE 0 END),
+			NOW(),
+			NOW()
+		FROM transaction t
+		INNER JOIN member m ON m.id = t.creator_id
+		INNER JOIN category c ON c.id = t.category_id
+		WHERE t.team_id = :teamId
+			AND t.deleted_at IS NULL
+			AND m.deleted_at IS NULL
+			AND c.deleted_at IS NULL
+		GROUP BY YEAR(t.transaction_date), MONTH(t.transaction_date)
+		""", nativeQuery = true)
+	int rebuildTeam(@Param("teamId") Long teamId);
+}
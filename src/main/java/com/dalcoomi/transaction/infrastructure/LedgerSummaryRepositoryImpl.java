@@ -0,0 +1,97 @@
+package com.dalcoomi.transaction.infrastructure;
+
+import static com.dalcoomi.transaction.infrastructure.QLedgerSummaryJpaEntity.ledgerSummaryJpaEntity;
+
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+import com.dalcoomi.transaction.application.repository.LedgerSummaryRepository;
+import com.dalcoomi.transaction.domain.Ledger;
+import com.dalcoomi.transaction.domain.LedgerOwnerType;
+import com.dalcoomi.transaction.domain.LedgerSummary;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class LedgerSummaryRepositoryImpl implements LedgerSummaryRepository {
+
+	private final LedgerSummaryJpaRepository ledgerSummaryJpaRepository;
+	private final JPAQueryFactory jpaQueryFactory;
+
+	@Override
+	public void increase(Ledger ledger, Integer year, Integer month, Long income, Long expense) {
+		ledgerSummaryJpaRepository.increase(ledger.ownerType().name(), ledger.ownerId(), year, month, income,
+			expense);
+	}
+
+	@Nullable
+	@Override
+	public LedgerSummary findByLedgerAndMonth(Ledger ledger, Integer year, Integer month) {
+		LedgerSummaryJpaEntity summary = jpaQueryFactory
+			.selectFrom(ledgerSummaryJpaEntity)
+			.where(
+				ledgerSummaryJpaEntity.ownerType.eq(ledger.ownerType()),
+				ledgerSummaryJpaEntity.ownerId.eq(ledger.ownerId()),
+				ledgerSummaryJpaEntity.year.eq(year),
+				ledgerSummaryJpaEntity.month.eq(month)
+			)
+			.fetchOne();
+
+		return summary != null ? summary.toModel() : null;
+	}
+
+	/**
+	 * (owner_type, owner_id, summary_year, summary_month) 유니크 인덱스 범위 스캔이므로 정렬 비용 없음
+	 */
+	@Override
+	public List<LedgerSummary> findByLedgerAndYears(Ledger ledger, Integer startYear, Integer endYear) {
+		return jpaQueryFactory
+			.selectFrom(ledgerSummaryJpaEntity)
+			.where(
+				ledgerSummaryJpaEntity.ownerType.eq(ledger.ownerType()),
+				ledgerSummaryJpaEntity.ownerId.eq(ledger.ownerId()),
+				ledgerSummaryJpaEntity.year.between(startYear, endYear)
+			)
+			.orderBy(ledgerSummaryJpaEntity.year.asc(), ledgerSummaryJpaEntity.month.asc())
+			.fetch()
+			.stream()
+			.map(LedgerSummaryJpaEntity::toModel)
+			.toList();
+	}
+
+	@Override
+	public void deleteByLedger(Ledger ledger) {
+		jpaQueryFactory
+			.delete(ledgerSummaryJpaEntity)
+			.where(
+				ledgerSummaryJpaEntity.ownerType.eq(ledger.ownerType()),
+				ledgerSummaryJpaEntity.ownerId.eq(ledger.ownerId())
+			)
+			.execute();
+	}
+
+	@Override
+	public List<Ledger> findRebuildTargets() {
+		return ledgerSummaryJpaRepository.findRebuildTargets().stream()
+			.map(row -> new Ledger(LedgerOwnerType.valueOf((String)row[0]), ((Number)row[1]).longValue()))
+			.toList();
+	}
+
+	/**
+	 * 한 가계부의 행만 지우고 다시 채우므로 다른 가계부의 합계 조회나 증감은 막지 않음
+	 */
+	@Override
+	public void rebuild(Ledger ledger) {
+		deleteByLedger(ledger);
+
+		if (ledger.ownerType() == LedgerOwnerType.TEAM) {
+			ledgerSummaryJpaRepository.rebuildTeam(ledger.ownerId());
+		} else {
+			ledgerSummaryJpaRepository.rebuildMember(ledger.ownerId());
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.dalcoomi.transaction.infrastructure;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+import com.dalcoomi.common.jpa.BaseTimeEntity;
+import com.dalcoomi.transaction.domain.LedgerOwnerType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@Table(name = "ledger_version", uniqueConstraints = @UniqueConstraint(name = "uk_ledger_version",
+	columnNames = {"owner_type", "owner_id"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LedgerVersionJpaEntity extends BaseTimeEntity {
+
+	@Id
+	@GeneratedValue(strategy = IDENTITY)
+	@Column(name = "id", nullable = false, unique = true)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "owner_type", nullable = false, length = 10)
+	private LedgerOwnerType ownerType;
+
+	@Column(name = "owner_id", nullable = false)
+	private Long ownerId;
+
+	@Column(name = "version", nullable = false)
+	private Long version;
+
+	@Builder
+	public LedgerVersionJpaEntity(Long id, LedgerOwnerType ownerType, Long ownerId, Long version) {
+		this.id = id;
+		this.ownerType = ownerType;
+		this.ownerId = ownerId;
+		this.version = version;
+	}
+}
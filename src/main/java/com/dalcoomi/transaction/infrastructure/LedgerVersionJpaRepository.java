@@ -0,0 +1,22 @@
+package com.dalcoomi.transaction.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface LedgerVersionJpaRepository extends JpaRepository<LedgerVersionJpaEntity, Long> {
+
+	/**
+	 * 조회 후 갱신 대신 단일 upsert 문으로 증가시켜 동시 쓰기에서도 버전이 유실되지 않도록 함
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO ledger_version (owner_type, owner_id, version, created_at, updated_at)
+		VALUES (:ownerType, :ownerId, 1, NOW(), NOW())
+		ON DUPLICATE KEY UPDATE
+			version = version + 1,
+			updated_at = NOW()
+		""", nativeQuery = true)
+	void increase(@Param("ownerType") String ownerType, @Param("ownerId") Long ownerId);
+}
@@ -0,0 +1,38 @@
+package com.dalcoomi.transaction.infrastructure;
+
+import static com.dalcoomi.transaction.infrastructure.QLedgerVersionJpaEntity.ledgerVersionJpaEntity;
+
+import org.springframework.stereotype.Repository;
+
+import com.dalcoomi.transaction.application.repository.LedgerVersionRepository;
+import com.dalcoomi.transaction.domain.Ledger;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class LedgerVersionRepositoryImpl implements LedgerVersionRepository {
+
+	private final LedgerVersionJpaRepository ledgerVersionJpaRepository;
+	private final JPAQueryFactory jpaQueryFactory;
+
+	@Override
+	public void increase(Ledger ledger) {
+		ledgerVersionJpaRepository.increase(ledger.ownerType().name(), ledger.ownerId());
+	}
+
+	@Override
+	public long findVersion(Ledger ledger) {
+		Long version = jpaQueryFactory
+			.select(ledgerVersionJpaEntity.version)
+			.from(ledgerVersionJpaEntity)
+			.where(
+				ledgerVersionJpaEntity.ownerType.eq(ledger.ownerType()),
+				ledgerVersionJpaEntity.ownerId.eq(ledger.ownerId())
+			)
+			.fetchOne();
+
+		return version != null ? version : 0L;
+	}
+}
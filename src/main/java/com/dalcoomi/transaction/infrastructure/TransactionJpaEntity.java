@@ -1,7 +1,6 @@
 package com.dalcoomi.transaction.infrastructure;
 
 import static jakarta.persistence.ConstraintMode.NO_CONSTRAINT;
-import static jakarta.persistence.GenerationType.IDENTITY;
 
 import java.time.LocalDateTime;
 
@@ -11,14 +10,15 @@ import com.dalcoomi.member.infrastructure.MemberJpaEntity;
 import com.dalcoomi.transaction.domain.Transaction;
 import com.dalcoomi.transaction.domain.TransactionType;
 
+import io.hypersistence.utils.hibernate.id.Tsid;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -29,12 +29,16 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "transaction")
+@Table(name = "transaction", indexes = {
+	@Index(name = "idx_transaction_creator_date", columnList = "creator_id, transaction_date DESC"),
+	@Index(name = "idx_transaction_team_date", columnList = "team_id, transaction_date DESC"),
+	@Index(name = "idx_transaction_mirror_source", columnList = "mirror_source_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TransactionJpaEntity extends BaseTimeEntity {
 
 	@Id
-	@GeneratedValue(strategy = IDENTITY)
+	@Tsid
 	@Column(name = "id", nullable = false, unique = true)
 	private Long id;
 
@@ -68,10 +72,13 @@ public class TransactionJpaEntity extends BaseTimeEntity {
 	@Column(name = "data_retention_consent", nullable = true)
 	private Boolean dataRetentionConsent;
 
+	@Column(name = "mirror_source_id", nullable = true)
+	private Long mirrorSourceId;
+
 	@Builder
 	public TransactionJpaEntity(Long id, MemberJpaEntity creator, CategoryJpaEntity category, Long teamId,
 		LocalDateTime transactionDate, String content, Long amount, TransactionType transactionType,
-		LocalDateTime deletedAt, Boolean dataRetentionConsent) {
+		LocalDateTime deletedAt, Boolean dataRetentionConsent, Long mirrorSourceId) {
 		this.id = id;
 		this.creator = creator;
 		this.category = category;
@@ -82,13 +89,18 @@ public class TransactionJpaEntity extends BaseTimeEntity {
 		this.transactionType = transactionType;
 		this.deletedAt = deletedAt;
 		this.dataRetentionConsent = dataRetentionConsent;
+		this.mirrorSourceId = mirrorSourceId;
 	}
 
-	public static TransactionJpaEntity from(Transaction transaction) {
+	/**
+	 * 작성자와 카테고리는 호출자가 넘긴 참조(프록시)를 그대로 연결하여 연관 엔티티를 조회하거나 병합하지 않음
+	 */
+	public static TransactionJpaEntity from(Transaction transaction, MemberJpaEntity creator,
+		CategoryJpaEntity category) {
 		return TransactionJpaEntity.builder()
 			.id(transaction.getId())
-			.creator(transaction.getCreator() != null ? MemberJpaEntity.from(transaction.getCreator()) : null)
-			.category(CategoryJpaEntity.from(transaction.getCategory()))
+			.creator(creator)
+			.category(category)
 			.teamId(transaction.getTeamId())
 			.transactionDate(transaction.getTransactionDate())
 			.content(transaction.getContent())
@@ -96,9 +108,23 @@ public class TransactionJpaEntity extends BaseTimeEntity {
 			.transactionType(transaction.getTransactionType())
 			.deletedAt(transaction.getDeletedAt())
 			.dataRetentionConsent(transaction.getDataRetentionConsent())
+			.mirrorSourceId(transaction.getMirrorSourceId())
 			.build();
 	}
 
+	public void update(Transaction transaction, MemberJpaEntity creator, CategoryJpaEntity category) {
+		this.creator = creator;
+		this.category = category;
+		this.teamId = transaction.getTeamId();
+		this.transactionDate = transaction.getTransactionDate();
+		this.content = transaction.getContent();
+		this.amount = transaction.getAmount();
+		this.transactionType = transaction.getTransactionType();
+		this.deletedAt = transaction.getDeletedAt();
+		this.dataRetentionConsent = transaction.getDataRetentionConsent();
+		this.mirrorSourceId = transaction.getMirrorSourceId();
+	}
+
 	public Transaction toModel() {
 		return Transaction.builder()
 			.id(this.id)
@@ -111,6 +137,7 @@ public class TransactionJpaEntity extends BaseTimeEntity {
 			.transactionType(this.transactionType)
 			.deletedAt(this.deletedAt)
 			.dataRetentionConsent(this.dataRetentionConsent)
+			.mirrorSourceId(this.mirrorSourceId)
 			.build();
 	}
 }
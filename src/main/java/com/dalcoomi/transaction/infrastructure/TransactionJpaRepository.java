@@ -1,8 +1,37 @@
 package com.dalcoomi.transaction.infrastructure;
 
+import java.util.Collection;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TransactionJpaRepository extends JpaRepository<TransactionJpaEntity, Long> {
 
 	void deleteAllByTeamId(Long groupId);
+
+	/**
+	 * 직접 선택한 거래는 사본이어도 원본과의 연결을 끊고, 함께 바뀌는 사본은 연결을 유지
+	 * 벌크 UPDATE 는 영속성 컨텍스트를 거치지 않으므로 실행 전 flush, 실행 후 clear 하여 이후 조회가 옛 값을 보지 않도록 함
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = """
+		UPDATE transaction
+		SET category_id = :categoryId,
+			mirror_source_id = CASE WHEN id IN (:targetIds) THEN NULL ELSE mirror_source_id END,
+			updated_at = NOW()
+		WHERE id IN (:transactionIds)
+		""", nativeQuery = true)
+	int updateCategory(@Param("transactionIds") Collection<Long> transactionIds,
+		@Param("targetIds") Collection<Long> targetIds, @Param("categoryId") Long categoryId);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = """
+		UPDATE transaction
+		SET deleted_at = NOW(),
+			updated_at = NOW()
+		WHERE id IN (:transactionIds)
+		""", nativeQuery = true)
+	int softDelete(@Param("transactionIds") Collection<Long> transactionIds);
 }
@@ -5,43 +5,162 @@ import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_NOT_FOUND
 import static com.dalcoomi.common.jpa.DynamicQuery.generateEq;
 import static com.dalcoomi.common.jpa.DynamicQuery.generateEqOrIsNull;
 import static com.dalcoomi.member.infrastructure.QMemberJpaEntity.memberJpaEntity;
+import static com.dalcoomi.transaction.domain.LedgerOwnerType.TEAM;
 import static com.dalcoomi.transaction.infrastructure.QTransactionJpaEntity.transactionJpaEntity;
+import static com.dalcoomi.transaction.infrastructure.QTransactionViewJpaEntity.transactionViewJpaEntity;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 
+import com.dalcoomi.category.domain.Category;
+import com.dalcoomi.category.infrastructure.CategoryJpaEntity;
 import com.dalcoomi.common.error.exception.NotFoundException;
+import com.dalcoomi.member.infrastructure.MemberJpaEntity;
 import com.dalcoomi.transaction.application.repository.TransactionRepository;
+import com.dalcoomi.transaction.domain.Ledger;
 import com.dalcoomi.transaction.domain.Transaction;
 import com.dalcoomi.transaction.dto.TransactionSearchCriteria;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+import io.hypersistence.tsid.TSID;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 
 @Repository
 @RequiredArgsConstructor
 public class TransactionRepositoryImpl implements TransactionRepository {
 
+	private static final String INSERT_TRANSACTION_SQL = "INSERT INTO transaction "
+		+ "(id, creator_id, category_id, team_id, transaction_date, content, amount, transaction_type, "
+		+ "deleted_at, data_retention_consent, mirror_source_id, created_at, updated_at) "
+		+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+	private static final String INSERT_TRANSACTION_VIEW_SQL = "INSERT INTO transaction_view "
+		+ "(transaction_id, creator_id, creator_nickname, creator_profile_image_url, team_id, category_id, "
+		+ "category_name, category_icon_url, transaction_date, content, amount, transaction_type) "
+		+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+	private static final String UPDATE_TRANSACTION_VIEW_SQL = "UPDATE transaction_view SET creator_id = ?, "
+		+ "creator_nickname = ?, creator_profile_image_url = ?, team_id = ?, category_id = ?, category_name = ?, "
+		+ "category_icon_url = ?, transaction_date = ?, content = ?, amount = ?, transaction_type = ? "
+		+ "WHERE transaction_id = ?";
+
 	private final TransactionJpaRepository transactionJpaRepository;
+	private final TransactionViewJpaRepository transactionViewJpaRepository;
 	private final JPAQueryFactory jpaQueryFactory;
+	private final JdbcTemplate jdbcTemplate;
+
+	@PersistenceContext
+	private EntityManager entityManager;
 
 	@Override
 	public Transaction save(Transaction transaction) {
-		return transactionJpaRepository.save(TransactionJpaEntity.from(transaction)).toModel();
+		return saveAll(List.of(transaction)).getFirst();
 	}
 
+	/**
+	 * 작성자와 카테고리는 ID 참조로만 연결하고 기존 거래는 영속 엔티티에 값을 옮겨 변경 감지로 갱신
+	 * 분리된 연관 그래프를 merge 하지 않으므로 회원, 카테고리 선조회 없이 거래마다 INSERT 또는 UPDATE 하나만 실행됨
+	 */
 	@Override
 	public List<Transaction> saveAll(List<Transaction> transactions) {
-		List<TransactionJpaEntity> transactionJpaEntities = transactionJpaRepository.saveAll(
-			transactions.stream().map(TransactionJpaEntity::from).toList());
+		List<Transaction> createdTransactions = new ArrayList<>();
+		List<Transaction> updatedTransactions = new ArrayList<>();
+		List<Transaction> savedTransactions = new ArrayList<>(transactions.size());
+
+		for (Transaction transaction : transactions) {
+			if (transaction.getId() == null) {
+				TransactionJpaEntity entity = TransactionJpaEntity.from(transaction, creatorReference(transaction),
+					categoryReference(transaction));
+
+				entityManager.persist(entity);
+
+				Transaction createdTransaction = copyOf(transaction, entity.getId(), transaction.getTeamId(),
+					transaction.getMirrorSourceId());
+
+				createdTransactions.add(createdTransaction);
+				savedTransactions.add(createdTransaction);
+
+				continue;
+			}
+
+			findManagedEntity(transaction.getId())
+				.update(transaction, creatorReference(transaction), categoryReference(transaction));
+
+			updatedTransactions.add(transaction);
+			savedTransactions.add(transaction);
+		}
+
+		syncTransactionViews(createdTransactions, true);
+		syncTransactionViews(updatedTransactions, false);
+
+		return savedTransactions;
+	}
+
+	/**
+	 * 키를 TSID 로 미리 할당해 거래와 읽기 모델 행을 각각 한 번의 JDBC 배치로 기록
+	 * 영속성 컨텍스트를 거치지 않으므로 대량 가져오기처럼 저장 후 다시 조회하지 않는 경로에서만 사용
+	 */
+	@Override
+	public List<Transaction> saveAllInBatch(List<Transaction> transactions) {
+		if (transactions.isEmpty()) {
+			return List.of();
+		}
+
+		List<Transaction> savedTransactions = new ArrayList<>(transactions.size());
+
+		for (Transaction transaction : transactions) {
+			savedTransactions.add(copyOf(transaction, TSID.Factory.getTsid().toLong(), transaction.getTeamId(),
+				transaction.getMirrorSourceId()));
+		}
+
+		insertInBatch(savedTransactions);
+
+		return savedTransactions;
+	}
+
+	/**
+	 * 가계부 수만큼의 행을 같은 배치 INSERT 로 기록하여 가계부마다 저장을 반복하지 않음
+	 */
+	@Override
+	public List<Transaction> saveToLedgers(Transaction transaction, List<Ledger> ledgers) {
+		return saveToLedgers(Map.of(transaction, ledgers));
+	}
 
-		return transactionJpaEntities.stream().map(TransactionJpaEntity::toModel).toList();
+	@Override
+	public List<Transaction> saveToLedgers(Map<Transaction, List<Ledger>> ledgersByTransaction) {
+		List<Transaction> savedTransactions = new ArrayList<>();
+
+		ledgersByTransaction.forEach((transaction, ledgers) -> {
+			Long sourceId = TSID.Factory.getTsid().toLong();
+
+			for (int i = 0; i < ledgers.size(); i++) {
+				Ledger ledger = ledgers.get(i);
+				Long teamId = ledger.ownerType() == TEAM ? ledger.ownerId() : null;
+
+				savedTransactions.add(i == 0
+					? copyOf(transaction, sourceId, teamId, null)
+					: copyOf(transaction, TSID.Factory.getTsid().toLong(), teamId, sourceId));
+			}
+		});
+
+		if (!savedTransactions.isEmpty()) {
+			insertInBatch(savedTransactions);
+		}
+
+		return savedTransactions;
 	}
 
 	@Override
@@ -51,6 +170,62 @@ public class TransactionRepositoryImpl implements TransactionRepository {
 			.toModel();
 	}
 
+	@Override
+	public List<Transaction> findMirrors(Collection<Long> sourceIds) {
+		return jpaQueryFactory
+			.selectFrom(transactionJpaEntity)
+			.leftJoin(transactionJpaEntity.creator, memberJpaEntity).fetchJoin()
+			.join(transactionJpaEntity.category, categoryJpaEntity).fetchJoin()
+			.where(
+				transactionJpaEntity.mirrorSourceId.in(sourceIds),
+				transactionJpaEntity.deletedAt.isNull()
+			)
+			.fetch()
+			.stream()
+			.map(TransactionJpaEntity::toModel)
+			.toList();
+	}
+
+	/**
+	 * team_id 는 NULL 끼리도 같게 비교하여 개인 가계부와 그룹 가계부 요청을 같은 쿼리로 처리
+	 */
+	@Override
+	public List<Transaction> findOwned(Collection<Long> transactionIds, Long creatorId, @Nullable Long teamId) {
+		return jpaQueryFactory
+			.selectFrom(transactionJpaEntity)
+			.join(transactionJpaEntity.creator, memberJpaEntity).fetchJoin()
+			.join(transactionJpaEntity.category, categoryJpaEntity).fetchJoin()
+			.where(
+				transactionJpaEntity.id.in(transactionIds),
+				transactionJpaEntity.creator.id.eq(creatorId),
+				generateEqOrIsNull(teamId, transactionJpaEntity.teamId::eq, transactionJpaEntity.teamId.isNull()),
+				transactionJpaEntity.deletedAt.isNull()
+			)
+			.fetch()
+			.stream()
+			.map(TransactionJpaEntity::toModel)
+			.toList();
+	}
+
+	@Override
+	public void updateCategory(Collection<Long> transactionIds, Collection<Long> targetIds, Category category) {
+		transactionJpaRepository.updateCategory(transactionIds, targetIds, category.getId());
+
+		jpaQueryFactory
+			.update(transactionViewJpaEntity)
+			.set(transactionViewJpaEntity.categoryId, category.getId())
+			.set(transactionViewJpaEntity.categoryName, category.getName())
+			.set(transactionViewJpaEntity.categoryIconUrl, category.getIconUrl())
+			.where(transactionViewJpaEntity.transactionId.in(transactionIds))
+			.execute();
+	}
+
+	@Override
+	public void softDeleteAll(Collection<Long> transactionIds) {
+		transactionJpaRepository.softDelete(transactionIds);
+		transactionViewJpaRepository.deleteAllByIdInBatch(transactionIds);
+	}
+
 	@Override
 	public Page<Transaction> findAll(Pageable pageable) {
 		List<TransactionJpaEntity> content = jpaQueryFactory
@@ -81,8 +256,7 @@ public class TransactionRepositoryImpl implements TransactionRepository {
 				generateEqOrIsNull(criteria.teamId(), transactionJpaEntity.teamId::eq,
 					transactionJpaEntity.teamId.isNull()),
 				generateEq(criteria.memberId(), transactionJpaEntity.creator.id::eq),
-				generateEq(criteria.year(), transactionJpaEntity.transactionDate.year()::eq),
-				generateEq(criteria.month(), transactionJpaEntity.transactionDate.month()::eq),
+				transactionDateBetween(criteria.year(), criteria.month()),
 				generateEq(criteria.categoryName(), transactionJpaEntity.category.name::eq),
 				generateEq(criteria.creatorNickname(), transactionJpaEntity.creator.nickname::eq),
 				transactionJpaEntity.deletedAt.isNull(),
@@ -129,12 +303,131 @@ public class TransactionRepositoryImpl implements TransactionRepository {
 	@Override
 	public void deleteByTeamId(Long groupId) {
 		transactionJpaRepository.deleteAllByTeamId(groupId);
+		transactionViewJpaRepository.deleteAllByTeamId(groupId);
 	}
 
 	@Override
 	public void deleteAll(List<Transaction> transactions) {
-		List<TransactionJpaEntity> entities = transactions.stream().map(TransactionJpaEntity::from).toList();
+		List<Long> transactionIds = transactions.stream().map(Transaction::getId).toList();
+
+		transactionJpaRepository.deleteAllByIdInBatch(transactionIds);
+		transactionViewJpaRepository.deleteAllByIdInBatch(transactionIds);
+	}
+
+	/**
+	 * ID 가 할당된 거래 행과 읽기 모델 행을 테이블별로 한 번씩 배치 INSERT
+	 */
+	private void insertInBatch(List<Transaction> transactions) {
+		LocalDateTime now = LocalDateTime.now();
+
+		jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, transactions.stream()
+			.map(transaction -> new Object[] {transaction.getId(), transaction.getCreator().getId(),
+				transaction.getCategory().getId(), transaction.getTeamId(), transaction.getTransactionDate(),
+				transaction.getContent(), transaction.getAmount(), transaction.getTransactionType().name(),
+				transaction.getDeletedAt(), transaction.getDataRetentionConsent(), transaction.getMirrorSourceId(),
+				now, now})
+			.toList());
+		jdbcTemplate.batchUpdate(INSERT_TRANSACTION_VIEW_SQL, transactions.stream()
+			.map(TransactionViewJpaEntity::from)
+			.map(view -> new Object[] {view.getTransactionId(), view.getCreatorId(), view.getCreatorNickname(),
+				view.getCreatorProfileImageUrl(), view.getTeamId(), view.getCategoryId(), view.getCategoryName(),
+				view.getCategoryIconUrl(), view.getTransactionDate(), view.getContent(), view.getAmount(),
+				view.getTransactionType().name()})
+			.toList());
+	}
+
+	private Transaction copyOf(Transaction transaction, Long id, Long teamId, Long mirrorSourceId) {
+		return Transaction.builder()
+			.id(id)
+			.creator(transaction.getCreator())
+			.category(transaction.getCategory())
+			.teamId(teamId)
+			.transactionDate(transaction.getTransactionDate())
+			.content(transaction.getContent())
+			.amount(transaction.getAmount())
+			.transactionType(transaction.getTransactionType())
+			.deletedAt(transaction.getDeletedAt())
+			.dataRetentionConsent(transaction.getDataRetentionConsent())
+			.mirrorSourceId(mirrorSourceId)
+			.build();
+	}
+
+	/**
+	 * 같은 트랜잭션에서 이미 조회한 거래는 영속성 컨텍스트에서 바로 찾으므로 추가 SELECT 가 없음
+	 */
+	private TransactionJpaEntity findManagedEntity(Long transactionId) {
+		TransactionJpaEntity entity = entityManager.find(TransactionJpaEntity.class, transactionId);
+
+		if (entity == null) {
+			throw new NotFoundException(TRANSACTION_NOT_FOUND);
+		}
+
+		return entity;
+	}
+
+	@Nullable
+	private MemberJpaEntity creatorReference(Transaction transaction) {
+		if (transaction.getCreator() == null) {
+			return null;
+		}
+
+		return entityManager.getReference(MemberJpaEntity.class, transaction.getCreator().getId());
+	}
+
+	private CategoryJpaEntity categoryReference(Transaction transaction) {
+		return entityManager.getReference(CategoryJpaEntity.class, transaction.getCategory().getId());
+	}
+
+	/**
+	 * 거래 내역 쓰기와 같은 트랜잭션에서 목록 조회용 transaction_view 를 갱신
+	 * 삭제된 거래는 목록에 노출되지 않으므로 읽기 모델에서 제거
+	 * 기존 뷰 행은 merge 의 선조회 대신 JDBC 배치 UPDATE 로 덮어쓰며, 아직 flush 되지 않은 뷰 INSERT 가 있을 수 있어 먼저 flush
+	 */
+	private void syncTransactionViews(List<Transaction> transactions, boolean isNew) {
+		List<Long> deletedIds = transactions.stream()
+			.filter(transaction -> transaction.getDeletedAt() != null)
+			.map(Transaction::getId)
+			.toList();
+		List<TransactionViewJpaEntity> views = transactions.stream()
+			.filter(transaction -> transaction.getDeletedAt() == null)
+			.map(transaction -> TransactionViewJpaEntity.from(transaction, isNew))
+			.toList();
+
+		if (!deletedIds.isEmpty()) {
+			transactionViewJpaRepository.deleteAllByIdInBatch(deletedIds);
+		}
+
+		if (views.isEmpty()) {
+			return;
+		}
+
+		if (isNew) {
+			transactionViewJpaRepository.saveAll(views);
+
+			return;
+		}
+
+		entityManager.flush();
+		jdbcTemplate.batchUpdate(UPDATE_TRANSACTION_VIEW_SQL, views.stream()
+			.map(view -> new Object[] {view.getCreatorId(), view.getCreatorNickname(),
+				view.getCreatorProfileImageUrl(), view.getTeamId(), view.getCategoryId(), view.getCategoryName(),
+				view.getCategoryIconUrl(), view.getTransactionDate(), view.getContent(), view.getAmount(),
+				view.getTransactionType().name(), view.getTransactionId()})
+			.toList());
+	}
+
+	/**
+	 * 컬럼을 함수로 감싸지 않고 [월초, 다음 달 월초) 반열린 구간으로 비교하여 거래일시 인덱스를 사용하도록 함
+	 */
+	private BooleanExpression transactionDateBetween(Integer year, Integer month) {
+		if (year == null) {
+			return generateEq(month, transactionJpaEntity.transactionDate.month()::eq);
+		}
+
+		YearMonth start = month != null ? YearMonth.of(year, month) : YearMonth.of(year, 1);
+		YearMonth end = month != null ? start.plusMonths(1) : start.plusYears(1);
 
-		transactionJpaRepository.deleteAll(entities);
+		return transactionJpaEntity.transactionDate.goe(start.atDay(1).atStartOfDay())
+			.and(transactionJpaEntity.transactionDate.lt(end.atDay(1).atStartOfDay()));
 	}
 }
@@ -0,0 +1,139 @@
+package com.dalcoomi.transaction.infrastructure;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import com.dalcoomi.transaction.domain.Transaction;
+import com.dalcoomi.transaction.domain.TransactionType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@Table(name = "transaction_view", indexes = {
+	@Index(name = "idx_transaction_view_creator_team_date", columnList = "creator_id, team_id, transaction_date DESC"),
+	@Index(name = "idx_transaction_view_team_date", columnList = "team_id, transaction_date DESC")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TransactionViewJpaEntity implements Persistable<Long> {
+
+	@Id
+	@Column(name = "transaction_id", nullable = false, unique = true)
+	private Long transactionId;
+
+	@Column(name = "creator_id", nullable = true)
+	private Long creatorId;
+
+	@Column(name = "creator_nickname", nullable = true)
+	private String creatorNickname;
+
+	@Column(name = "creator_profile_image_url", nullable = true)
+	private String creatorProfileImageUrl;
+
+	@Column(name = "team_id", nullable = true)
+	private Long teamId;
+
+	@Column(name = "category_id", nullable = false)
+	private Long categoryId;
+
+	@Column(name = "category_name", nullable = false)
+	private String categoryName;
+
+	@Column(name = "category_icon_url", nullable = true)
+	private String categoryIconUrl;
+
+	@Column(name = "transaction_date", nullable = false)
+	private LocalDateTime transactionDate;
+
+	@Column(name = "content", nullable = true)
+	private String content;
+
+	@Column(name = "amount", nullable = false)
+	private Long amount;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "transaction_type", nullable = false)
+	private TransactionType transactionType;
+
+	@Transient
+	@Getter(AccessLevel.NONE)
+	private boolean newView;
+
+	@Builder
+	public TransactionViewJpaEntity(Long transactionId, Long creatorId, String creatorNickname,
+		String creatorProfileImageUrl, Long teamId, Long categoryId, String categoryName, String categoryIconUrl,
+		LocalDateTime transactionDate, String content, Long amount, TransactionType transactionType) {
+		this.transactionId = transactionId;
+		this.creatorId = creatorId;
+		this.creatorNickname = creatorNickname;
+		this.creatorProfileImageUrl = creatorProfileImageUrl;
+		this.teamId = teamId;
+		this.categoryId = categoryId;
+		this.categoryName = categoryName;
+		this.categoryIconUrl = categoryIconUrl;
+		this.transactionDate = transactionDate;
+		this.content = content;
+		this.amount = amount;
+		this.transactionType = transactionType;
+	}
+
+	public static TransactionViewJpaEntity from(Transaction transaction) {
+		return from(transaction, false);
+	}
+
+	/**
+	 * 새 거래의 뷰 행은 isNew 로 표시해 merge 의 선조회 없이 persist 되도록 하여 INSERT 배치에 포함시킴
+	 */
+	public static TransactionViewJpaEntity from(Transaction transaction, boolean newView) {
+		boolean hasCreator = transaction.getCreator() != null;
+
+		TransactionViewJpaEntity view = TransactionViewJpaEntity.builder()
+			.transactionId(transaction.getId())
+			.creatorId(hasCreator ? transaction.getCreator().getId() : null)
+			.creatorNickname(hasCreator ? transaction.getCreator().getNickname() : null)
+			.creatorProfileImageUrl(hasCreator ? transaction.getCreator().getProfileImageUrl() : null)
+			.teamId(transaction.getTeamId())
+			.categoryId(transaction.getCategory().getId())
+			.categoryName(transaction.getCategory().getName())
+			.categoryIconUrl(transaction.getCategory().getIconUrl())
+			.transactionDate(transaction.getTransactionDate())
+			.content(transaction.getContent())
+			.amount(transaction.getAmount())
+			.transactionType(transaction.getTransactionType())
+			.build();
+
+		view.newView = newView;
+
+		return view;
+	}
+
+	@Override
+	public Long getId() {
+		return transactionId;
+	}
+
+	@Override
+	public boolean isNew() {
+		return newView;
+	}
+
+	@PostLoad
+	@PostPersist
+	void markNotNew() {
+		this.newView = false;
+	}
+}
@@ -0,0 +1,8 @@
+package com.dalcoomi.transaction.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TransactionViewJpaRepository extends JpaRepository<TransactionViewJpaEntity, Long> {
+
+	void deleteAllByTeamId(Long teamId);
+}
@@ -0,0 +1,295 @@
+package com.dalcoomi.transaction.infrastructure;
+
+import static com.dalcoomi.common.jpa.DynamicQuery.generateEq;
+import static com.dalcoomi.common.jpa.DynamicQuery.generateEqOrIsNull;
+import static com.dalcoomi.transaction.domain.LedgerOwnerType.MEMBER;
+import static com.dalcoomi.transaction.infrastructure.QTransactionViewJpaEntity.transactionViewJpaEntity;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import com.dalcoomi.transaction.application.repository.TransactionViewRepository;
+import com.dalcoomi.transaction.domain.Ledger;
+import com.dalcoomi.transaction.dto.CategoryBreakdown;
+import com.dalcoomi.transaction.dto.CreatorAmount;
+import com.dalcoomi.transaction.dto.DailyAmount;
+import com.dalcoomi.transaction.dto.LedgerSnapshotRow;
+import com.dalcoomi.transaction.dto.QCategoryBreakdown;
+import com.dalcoomi.transaction.dto.QCreatorAmount;
+import com.dalcoomi.transaction.dto.QDailyAmount;
+import com.dalcoomi.transaction.dto.QLedgerSnapshotRow;
+import com.dalcoomi.transaction.dto.QTransactionView;
+import com.dalcoomi.transaction.dto.TransactionCursor;
+import com.dalcoomi.transaction.dto.TransactionCursorCriteria;
+import com.dalcoomi.transaction.dto.TransactionExportCriteria;
+import com.dalcoomi.transaction.dto.TransactionSearchCriteria;
+import com.dalcoomi.transaction.dto.TransactionStatisticsCriteria;
+import com.dalcoomi.transaction.dto.TransactionView;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class TransactionViewRepositoryImpl implements TransactionViewRepository {
+
+	private static final QTransactionView TRANSACTION_VIEW_PROJECTION = new QTransactionView(
+		transactionViewJpaEntity.transactionId,
+		transactionViewJpaEntity.creatorId,
+		transactionViewJpaEntity.creatorNickname,
+		transactionViewJpaEntity.creatorProfileImageUrl,
+		transactionViewJpaEntity.teamId,
+		transactionViewJpaEntity.categoryId,
+		transactionViewJpaEntity.categoryName,
+		transactionViewJpaEntity.categoryIconUrl,
+		transactionViewJpaEntity.transactionDate,
+		transactionViewJpaEntity.content,
+		transactionViewJpaEntity.amount,
+		transactionViewJpaEntity.transactionType
+	);
+
+	private final JPAQueryFactory jpaQueryFactory;
+
+	/**
+	 * MySQL Connector/J 는 useCursorFetch 없이 양수 fetch size 를 무시하고 결과 전체를 힙에 올리므로
+	 * 기본값 Integer.MIN_VALUE 로 한 행씩 받아오는 스트리밍 모드를 사용 (음수를 허용하지 않는 H2 테스트에서만 양수로 지정)
+	 */
+	@Value("${transaction.export.fetch-size:" + Integer.MIN_VALUE + "}")
+	private int exportFetchSize;
+
+	@Override
+	public List<TransactionView> findTransactions(TransactionSearchCriteria criteria) {
+		return jpaQueryFactory
+			.select(TRANSACTION_VIEW_PROJECTION)
+			.from(transactionViewJpaEntity)
+			.where(
+				ledgerEq(criteria.memberId(), criteria.teamId()),
+				transactionDateBetween(criteria.year(), criteria.month()),
+				generateEq(criteria.categoryName(), transactionViewJpaEntity.categoryName::eq),
+				generateEq(criteria.creatorNickname(), transactionViewJpaEntity.creatorNickname::eq)
+			)
+			.orderBy(transactionViewJpaEntity.transactionDate.desc())
+			.fetch();
+	}
+
+	/**
+	 * (거래일시 내림차순, ID 오름차순) 정렬이 인덱스 뒤에 붙는 PK 순서와 일치하므로
+	 * 페이지마다 인덱스 범위 스캔 후 size + 1건에서 멈춤
+	 */
+	@Override
+	public List<TransactionView> findTransactionsByCursor(TransactionCursorCriteria criteria) {
+		return jpaQueryFactory
+			.select(TRANSACTION_VIEW_PROJECTION)
+			.from(transactionViewJpaEntity)
+			.where(
+				ledgerEq(criteria.memberId(), criteria.teamId()),
+				transactionViewJpaEntity.transactionDate.goe(criteria.startDateTime()),
+				transactionViewJpaEntity.transactionDate.lt(criteria.endDateTime()),
+				afterCursor(criteria.cursor())
+			)
+			.orderBy(transactionViewJpaEntity.transactionDate.desc(), transactionViewJpaEntity.transactionId.asc())
+			.limit(criteria.size() + 1L)
+			.fetch();
+	}
+
+	/**
+	 * 행 단위로 결과를 끌어오는 순방향 스트림이므로 가계부 크기와 무관하게 메모리 사용량이 일정
+	 * 프로젝션 결과는 영속성 컨텍스트에 쌓이지 않음
+	 * 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 보낼 수 없으므로 스트림을 닫기 전에 다른 조회를 섞지 않아야 함
+	 */
+	@Override
+	public Stream<TransactionView> streamTransactions(TransactionExportCriteria criteria) {
+		return jpaQueryFactory
+			.select(TRANSACTION_VIEW_PROJECTION)
+			.from(transactionViewJpaEntity)
+			.where(ledgerEq(criteria.memberId(), criteria.teamId()))
+			.orderBy(transactionViewJpaEntity.transactionDate.desc(), transactionViewJpaEntity.transactionId.asc())
+			.setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+			.setHint(HibernateHints.HINT_READ_ONLY, true)
+			.stream();
+	}
+
+	/**
+	 * 가계부-거래일시 인덱스로 기간을 범위 스캔한 뒤 카테고리별로 묶으므로 행 수와 무관하게 카테고리 수만큼만 반환
+	 */
+	@Override
+	public List<CategoryBreakdown> findCategoryBreakdowns(TransactionStatisticsCriteria criteria) {
+		NumberExpression<Long> amountSum = transactionViewJpaEntity.amount.sum();
+
+		return jpaQueryFactory
+			.select(new QCategoryBreakdown(
+				transactionViewJpaEntity.categoryId,
+				transactionViewJpaEntity.categoryName,
+				transactionViewJpaEntity.categoryIconUrl,
+				transactionViewJpaEntity.transactionType,
+				amountSum,
+				transactionViewJpaEntity.count()
+			))
+			.from(transactionViewJpaEntity)
+			.where(
+				ledgerEq(criteria.memberId(), criteria.teamId()),
+				transactionViewJpaEntity.transactionDate.goe(criteria.startDateTime()),
+				transactionViewJpaEntity.transactionDate.lt(criteria.endDateTime())
+			)
+			.groupBy(
+				transactionViewJpaEntity.categoryId,
+				transactionViewJpaEntity.categoryName,
+				transactionViewJpaEntity.categoryIconUrl,
+				transactionViewJpaEntity.transactionType
+			)
+			.orderBy(amountSum.desc(), transactionViewJpaEntity.categoryId.asc())
+			.fetch();
+	}
+
+	/**
+	 * 조회 범위가 한 달이므로 일(day) 값만으로 날짜를 구분할 수 있음
+	 */
+	@Override
+	public List<DailyAmount> findDailyAmounts(TransactionStatisticsCriteria criteria) {
+		NumberExpression<Integer> day = transactionViewJpaEntity.transactionDate.dayOfMonth();
+
+		return jpaQueryFactory
+			.select(new QDailyAmount(day, transactionViewJpaEntity.transactionType,
+				transactionViewJpaEntity.amount.sum()))
+			.from(transactionViewJpaEntity)
+			.where(
+				ledgerEq(criteria.memberId(), criteria.teamId()),
+				transactionViewJpaEntity.transactionDate.goe(criteria.startDateTime()),
+				transactionViewJpaEntity.transactionDate.lt(criteria.endDateTime())
+			)
+			.groupBy(day, transactionViewJpaEntity.transactionType)
+			.fetch();
+	}
+
+	/**
+	 * 작성자 닉네임과 프로필이 조회 테이블에 비정규화되어 있으므로 member 조인 없이 한 번에 집계
+	 * creator_id 가 null 인 익명화된 거래는 하나의 그룹으로 묶임
+	 */
+	@Override
+	public List<CreatorAmount> findCreatorAmounts(TransactionStatisticsCriteria criteria) {
+		return jpaQueryFactory
+			.select(new QCreatorAmount(
+				transactionViewJpaEntity.creatorId,
+				transactionViewJpaEntity.creatorNickname,
+				transactionViewJpaEntity.creatorProfileImageUrl,
+				transactionViewJpaEntity.transactionType,
+				transactionViewJpaEntity.amount.sum(),
+				transactionViewJpaEntity.count()
+			))
+			.from(transactionViewJpaEntity)
+			.where(
+				transactionViewJpaEntity.teamId.eq(criteria.teamId()),
+				transactionViewJpaEntity.transactionDate.goe(criteria.startDateTime()),
+				transactionViewJpaEntity.transactionDate.lt(criteria.endDateTime())
+			)
+			.groupBy(
+				transactionViewJpaEntity.creatorId,
+				transactionViewJpaEntity.creatorNickname,
+				transactionViewJpaEntity.creatorProfileImageUrl,
+				transactionViewJpaEntity.transactionType
+			)
+			.fetch();
+	}
+
+	/**
+	 * 스냅샷 집계는 행 순서와 무관하므로 정렬 없이 가계부 인덱스 순서대로 읽음
+	 * 작성자별 집계에 익명화된 거래 합계도 포함되므로 그룹 가계부는 익명화된 거래까지 읽고, 다른 집계에서는 스냅샷이 제외함
+	 */
+	@Override
+	public List<LedgerSnapshotRow> findSnapshotRows(Ledger ledger, int limit) {
+		BooleanExpression ledgerCondition = ledger.ownerType() == MEMBER
+			? ledgerEq(ledger.ownerId(), null)
+			: transactionViewJpaEntity.teamId.eq(ledger.ownerId());
+
+		return jpaQueryFactory
+			.select(new QLedgerSnapshotRow(
+				transactionViewJpaEntity.transactionId,
+				transactionViewJpaEntity.amount,
+				transactionViewJpaEntity.transactionDate,
+				transactionViewJpaEntity.categoryId,
+				transactionViewJpaEntity.categoryName,
+				transactionViewJpaEntity.categoryIconUrl,
+				transactionViewJpaEntity.transactionType,
+				transactionViewJpaEntity.creatorId,
+				transactionViewJpaEntity.creatorNickname,
+				transactionViewJpaEntity.creatorProfileImageUrl
+			))
+			.from(transactionViewJpaEntity)
+			.where(ledgerCondition)
+			.limit(limit)
+			.fetch();
+	}
+
+	@Override
+	public void updateCreatorProfile(Long creatorId, String nickname, String profileImageUrl) {
+		jpaQueryFactory
+			.update(transactionViewJpaEntity)
+			.set(transactionViewJpaEntity.creatorNickname, nickname)
+			.set(transactionViewJpaEntity.creatorProfileImageUrl, profileImageUrl)
+			.where(transactionViewJpaEntity.creatorId.eq(creatorId))
+			.execute();
+	}
+
+	@Override
+	public void anonymizeCreator(Long creatorId) {
+		jpaQueryFactory
+			.delete(transactionViewJpaEntity)
+			.where(
+				transactionViewJpaEntity.creatorId.eq(creatorId),
+				transactionViewJpaEntity.teamId.isNull()
+			)
+			.execute();
+
+		jpaQueryFactory
+			.update(transactionViewJpaEntity)
+			.setNull(transactionViewJpaEntity.creatorId)
+			.setNull(transactionViewJpaEntity.creatorNickname)
+			.setNull(transactionViewJpaEntity.creatorProfileImageUrl)
+			.where(transactionViewJpaEntity.creatorId.eq(creatorId))
+			.execute();
+	}
+
+	/**
+	 * 개인 가계부는 (creator_id, team_id IS NULL), 그룹 가계부는 team_id 로 조회하며
+	 * 익명화되어 작성자가 없는 그룹 거래는 목록에서 제외
+	 */
+	private BooleanExpression ledgerEq(Long memberId, Long teamId) {
+		BooleanExpression teamEq = generateEqOrIsNull(teamId, transactionViewJpaEntity.teamId::eq,
+			transactionViewJpaEntity.teamId.isNull());
+
+		if (memberId != null) {
+			return transactionViewJpaEntity.creatorId.eq(memberId).and(teamEq);
+		}
+
+		return teamEq.and(transactionViewJpaEntity.creatorId.isNotNull());
+	}
+
+	private BooleanExpression transactionDateBetween(Integer year, Integer month) {
+		if (year == null) {
+			return generateEq(month, transactionViewJpaEntity.transactionDate.month()::eq);
+		}
+
+		YearMonth start = month != null ? YearMonth.of(year, month) : YearMonth.of(year, 1);
+		YearMonth end = month != null ? start.plusMonths(1) : start.plusYears(1);
+
+		return transactionViewJpaEntity.transactionDate.goe(start.atDay(1).atStartOfDay())
+			.and(transactionViewJpaEntity.transactionDate.lt(end.atDay(1).atStartOfDay()));
+	}
+
+	private BooleanExpression afterCursor(TransactionCursor cursor) {
+		if (cursor == null) {
+			return null;
+		}
+
+		return transactionViewJpaEntity.transactionDate.lt(cursor.transactionDate())
+			.or(transactionViewJpaEntity.transactionDate.eq(cursor.transactionDate())
+				.and(transactionViewJpaEntity.transactionId.gt(cursor.transactionId())));
+	}
+}
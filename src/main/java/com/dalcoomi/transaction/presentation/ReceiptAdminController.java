@@ -0,0 +1,50 @@
+package com.dalcoomi.transaction.presentation;
+
+import static org.springframework.http.HttpStatus.OK;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.dalcoomi.auth.annotation.AdminAuthorization;
+import com.dalcoomi.transaction.application.ReceiptRetryService;
+import com.dalcoomi.transaction.dto.ReceiptDeadLetterInfo;
+import com.dalcoomi.transaction.dto.response.GetReceiptDeadLettersResponse;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@AdminAuthorization
+@RequestMapping("/api/admin/receipts")
+@RequiredArgsConstructor
+public class ReceiptAdminController {
+
+	private final ReceiptRetryService receiptRetryService;
+
+	@GetMapping("/dead-letters")
+	@ResponseStatus(OK)
+	public GetReceiptDeadLettersResponse getDeadLetters(@RequestParam(value = "count", defaultValue = "20") int count) {
+		List<ReceiptDeadLetterInfo> deadLetterInfos = receiptRetryService.getDeadLetters(count);
+
+		return GetReceiptDeadLettersResponse.from(deadLetterInfos);
+	}
+
+	@PostMapping("/dead-letters/{messageId}/replay")
+	@ResponseStatus(OK)
+	public void replay(@PathVariable("messageId") String messageId) {
+		receiptRetryService.replay(messageId);
+	}
+
+	@DeleteMapping("/dead-letters/{messageId}")
+	@ResponseStatus(OK)
+	public void discard(@PathVariable("messageId") String messageId) {
+		receiptRetryService.discard(messageId);
+	}
+}
@@ -1,16 +1,24 @@
 package com.dalcoomi.transaction.presentation;
 
-import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.PROCESSING_KEY;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpStatus.ACCEPTED;
 import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
 import static org.springframework.http.HttpStatus.OK;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -20,24 +28,42 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.dalcoomi.auth.annotation.AuthMember;
 import com.dalcoomi.common.util.lock.ReceiptLockKeyGenerator;
 import com.dalcoomi.common.util.lock.RedisLockUtil;
 import com.dalcoomi.common.validator.ValidReceiptImage;
+import com.dalcoomi.transaction.application.ReceiptPermitSemaphore;
 import com.dalcoomi.transaction.application.ReceiptStreamProducer;
+import com.dalcoomi.transaction.application.TransactionImportService;
+import com.dalcoomi.transaction.application.TransactionMonthCache;
+import com.dalcoomi.transaction.application.TransactionSearchCoalescer;
 import com.dalcoomi.transaction.application.TransactionService;
+import com.dalcoomi.transaction.application.TransactionWriteBuffer;
 import com.dalcoomi.transaction.domain.Transaction;
+import com.dalcoomi.transaction.domain.TransactionExportFormat;
 import com.dalcoomi.transaction.domain.event.TransactionCreatedEvent;
+import com.dalcoomi.transaction.dto.TransactionBulkOutcome;
+import com.dalcoomi.transaction.dto.TransactionCursorCriteria;
+import com.dalcoomi.transaction.dto.TransactionExportCriteria;
+import com.dalcoomi.transaction.dto.TransactionImportInfo;
 import com.dalcoomi.transaction.dto.TransactionSearchCriteria;
-import com.dalcoomi.transaction.dto.TransactionsInfo;
+import com.dalcoomi.transaction.dto.TransactionSliceInfo;
+import com.dalcoomi.transaction.dto.TransactionsVersion;
+import com.dalcoomi.transaction.dto.request.BulkDeleteTransactionRequest;
+import com.dalcoomi.transaction.dto.request.BulkUpdateCategoryRequest;
 import com.dalcoomi.transaction.dto.request.ReceiptCallbackRequest;
 import com.dalcoomi.transaction.dto.request.SaveReceiptRequest;
 import com.dalcoomi.transaction.dto.request.TransactionRequest;
 import com.dalcoomi.transaction.dto.response.AsyncReceiptResponse;
 import com.dalcoomi.transaction.dto.response.GetTransactionResponse;
+import com.dalcoomi.transaction.dto.response.GetTransactionSliceResponse;
 import com.dalcoomi.transaction.dto.response.GetTransactionsResponse;
+import com.dalcoomi.transaction.dto.response.TransactionBulkResponse;
+import com.dalcoomi.transaction.dto.response.TransactionImportResponse;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -51,18 +77,22 @@ import lombok.extern.slf4j.Slf4j;
 public class TransactionController {
 
 	private final TransactionService transactionService;
+	private final TransactionImportService transactionImportService;
+	private final TransactionMonthCache transactionMonthCache;
+	private final TransactionSearchCoalescer transactionSearchCoalescer;
+	private final TransactionWriteBuffer transactionWriteBuffer;
 	private final ApplicationEventPublisher applicationEventPublisher;
 	private final RedisLockUtil redisLockUtil;
 	private final ReceiptLockKeyGenerator receiptLockKeyGenerator;
 	private final ReceiptStreamProducer receiptStreamProducer;
-	private final StringRedisTemplate stringRedisTemplate;
+	private final ReceiptPermitSemaphore receiptPermitSemaphore;
 
 	@PostMapping
 	@ResponseStatus(CREATED)
 	public void create(@AuthMember Long memberId, @RequestBody @Valid TransactionRequest request) {
 		Transaction transaction = Transaction.from(request);
 
-		transactionService.create(memberId, request.categoryId(), transaction, request.synchronizeTransaction());
+		transactionWriteBuffer.create(memberId, request.categoryId(), transaction, request.synchronizeTransaction());
 	}
 
 	@PostMapping("/receipts/upload")
@@ -84,8 +114,8 @@ public class TransactionController {
 		log.info("AI 서버로부터 영수증 처리 성공 콜백 받음: taskId={}, transactionCount={}", request.taskId(),
 			request.transactions() != null ? request.transactions().size() : 0);
 
-		// 처리 완료 플래그 제거 (다음 영수증 처리 가능)
-		stringRedisTemplate.delete(PROCESSING_KEY);
+		// 처리 슬롯 반납 (다음 영수증 처리 가능)
+		receiptPermitSemaphore.release(request.taskId());
 		log.info("영수증 처리 완료, 다음 영수증 처리 가능: taskId={}", request.taskId());
 	}
 
@@ -107,18 +137,83 @@ public class TransactionController {
 		});
 	}
 
-	@GetMapping
+	@PostMapping("/imports")
+	@ResponseStatus(ACCEPTED)
+	public TransactionImportResponse importTransactions(@AuthMember Long memberId,
+		@RequestParam("teamId") @Nullable Long teamId,
+		@RequestPart("file") @NotNull(message = "CSV 파일이 필요합니다.") MultipartFile file) {
+		TransactionImportInfo importInfo = transactionImportService.start(memberId, teamId, file);
+
+		return TransactionImportResponse.from(importInfo);
+	}
+
+	@GetMapping("/imports/{importId}")
 	@ResponseStatus(OK)
-	public GetTransactionsResponse get(@AuthMember Long memberId, @RequestParam("teamId") @Nullable Long teamId,
-		@RequestParam("year") Integer year, @RequestParam("month") Integer month,
-		@RequestParam("categoryName") @Nullable String categoryName,
-		@RequestParam("creatorNickname") @Nullable String creatorNickname) {
+	public TransactionImportResponse getImport(@AuthMember Long memberId, @PathVariable("importId") String importId) {
+		TransactionImportInfo importInfo = transactionImportService.get(memberId, importId);
+
+		return TransactionImportResponse.from(importInfo);
+	}
+
+	@GetMapping
+	public ResponseEntity<GetTransactionsResponse> get(@AuthMember Long memberId,
+		@RequestParam("teamId") @Nullable Long teamId, @RequestParam("year") Integer year,
+		@RequestParam("month") Integer month, @RequestParam("categoryName") @Nullable String categoryName,
+		@RequestParam("creatorNickname") @Nullable String creatorNickname, WebRequest webRequest) {
 		TransactionSearchCriteria criteria = TransactionSearchCriteria.of(memberId, teamId, year, month, categoryName,
 			creatorNickname);
 
-		TransactionsInfo transactionsInfo = transactionService.get(criteria);
+		// 그룹원 검증은 버전 조회에서 한 번만 수행하고, 이후 캐시와 조회 합치기는 검증 없이 진행
+		TransactionsVersion version = transactionService.getVersion(criteria);
+		CacheControl cacheControl = version.maxAge() != null
+			? CacheControl.maxAge(version.maxAge()).cachePrivate()
+			: CacheControl.noCache().cachePrivate();
+
+		// 가계부가 바뀌지 않았으면 거래 내역을 조회하지 않고 304 응답
+		if (webRequest.checkNotModified(version.eTag())) {
+			return ResponseEntity.status(NOT_MODIFIED).eTag(version.eTag()).cacheControl(cacheControl).build();
+		}
+
+		GetTransactionsResponse response = transactionMonthCache.getOrLoad(criteria, version.version(),
+			() -> GetTransactionsResponse.from(transactionSearchCoalescer.get(criteria, version.version())));
+
+		return ResponseEntity.ok()
+			.eTag(version.eTag())
+			.cacheControl(cacheControl)
+			.body(response);
+	}
+
+	@GetMapping("/cursor")
+	@ResponseStatus(OK)
+	public GetTransactionSliceResponse get(@AuthMember Long memberId, @RequestParam("teamId") @Nullable Long teamId,
+		@RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+		@RequestParam("cursor") @Nullable String cursor, @RequestParam("size") @Nullable Integer size) {
+		TransactionCursorCriteria criteria = TransactionCursorCriteria.of(memberId, teamId, from, to, cursor, size);
+
+		TransactionSliceInfo sliceInfo = transactionService.get(criteria);
 
-		return GetTransactionsResponse.from(transactionsInfo);
+		return GetTransactionSliceResponse.from(sliceInfo);
+	}
+
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> export(@AuthMember Long memberId,
+		@RequestParam("teamId") @Nullable Long teamId, @RequestParam("format") String format) {
+		TransactionExportFormat exportFormat = TransactionExportFormat.of(format);
+		TransactionExportCriteria criteria = TransactionExportCriteria.of(memberId, teamId);
+
+		// 스트리밍이 시작되면 상태 코드를 바꿀 수 없으므로 권한 검증은 응답 전에 수행
+		transactionService.validateExport(criteria);
+
+		StreamingResponseBody body = outputStream -> transactionService.export(criteria, exportFormat, outputStream);
+		ContentDisposition contentDisposition = ContentDisposition.attachment()
+			.filename("transactions." + exportFormat.getExtension())
+			.build();
+
+		return ResponseEntity.ok()
+			.header(CONTENT_DISPOSITION, contentDisposition.toString())
+			.contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+			.body(body);
 	}
 
 	@GetMapping("/{transactionId}")
@@ -146,4 +241,24 @@ public class TransactionController {
 
 		transactionService.delete(memberId, transactionId, teamId);
 	}
+
+	@PatchMapping("/bulk/category")
+	@ResponseStatus(OK)
+	public TransactionBulkResponse updateCategory(@AuthMember Long memberId,
+		@RequestBody @Valid BulkUpdateCategoryRequest request) {
+		List<TransactionBulkOutcome> outcomes = transactionService.updateCategory(memberId, request.teamId(),
+			request.transactionIds(), request.categoryId());
+
+		return TransactionBulkResponse.from(outcomes);
+	}
+
+	@PostMapping("/bulk/delete")
+	@ResponseStatus(OK)
+	public TransactionBulkResponse delete(@AuthMember Long memberId,
+		@RequestBody @Valid BulkDeleteTransactionRequest request) {
+		List<TransactionBulkOutcome> outcomes = transactionService.delete(memberId, request.teamId(),
+			request.transactionIds());
+
+		return TransactionBulkResponse.from(outcomes);
+	}
 }
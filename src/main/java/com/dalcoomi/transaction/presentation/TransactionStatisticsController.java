@@ -0,0 +1,87 @@
+package com.dalcoomi.transaction.presentation;
+
+import static org.springframework.http.HttpStatus.OK;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.lang.Nullable;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.dalcoomi.auth.annotation.AuthMember;
+import com.dalcoomi.transaction.application.TransactionStatisticsService;
+import com.dalcoomi.transaction.dto.CategoryBreakdown;
+import com.dalcoomi.transaction.dto.DailySummary;
+import com.dalcoomi.transaction.dto.MemberContribution;
+import com.dalcoomi.transaction.dto.MonthlyTrend;
+import com.dalcoomi.transaction.dto.TransactionStatisticsCriteria;
+import com.dalcoomi.transaction.dto.TransactionTrendCriteria;
+import com.dalcoomi.transaction.dto.response.GetCategoryBreakdownResponse;
+import com.dalcoomi.transaction.dto.response.GetDailySummaryResponse;
+import com.dalcoomi.transaction.dto.response.GetMemberContributionResponse;
+import com.dalcoomi.transaction.dto.response.GetMonthlyTrendResponse;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/transactions/statistics")
+@RequiredArgsConstructor
+public class TransactionStatisticsController {
+
+	private final TransactionStatisticsService transactionStatisticsService;
+
+	@GetMapping("/categories")
+	@ResponseStatus(OK)
+	public GetCategoryBreakdownResponse getCategoryBreakdowns(@AuthMember Long memberId,
+		@RequestParam("teamId") @Nullable Long teamId,
+		@RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+		TransactionStatisticsCriteria criteria = TransactionStatisticsCriteria.of(memberId, teamId, from, to);
+
+		List<CategoryBreakdown> breakdowns = transactionStatisticsService.getCategoryBreakdowns(criteria);
+
+		return GetCategoryBreakdownResponse.from(breakdowns);
+	}
+
+	@GetMapping("/daily")
+	@ResponseStatus(OK)
+	public GetDailySummaryResponse getDailySummaries(@AuthMember Long memberId,
+		@RequestParam("teamId") @Nullable Long teamId, @RequestParam("year") Integer year,
+		@RequestParam("month") Integer month) {
+		TransactionStatisticsCriteria criteria = TransactionStatisticsCriteria.of(memberId, teamId, year, month);
+
+		List<DailySummary> dailySummaries = transactionStatisticsService.getDailySummaries(criteria);
+
+		return GetDailySummaryResponse.from(dailySummaries);
+	}
+
+	@GetMapping("/trend")
+	@ResponseStatus(OK)
+	public GetMonthlyTrendResponse getMonthlyTrends(@AuthMember Long memberId,
+		@RequestParam("teamId") @Nullable Long teamId, @RequestParam("endYear") @Nullable Integer endYear,
+		@RequestParam("years") @Nullable Integer years) {
+		TransactionTrendCriteria criteria = TransactionTrendCriteria.of(memberId, teamId, endYear, years);
+
+		List<MonthlyTrend> monthlyTrends = transactionStatisticsService.getMonthlyTrends(criteria);
+
+		return GetMonthlyTrendResponse.from(monthlyTrends);
+	}
+
+	@GetMapping("/members")
+	@ResponseStatus(OK)
+	public GetMemberContributionResponse getMemberContributions(@AuthMember Long memberId,
+		@RequestParam("teamId") Long teamId,
+		@RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+		TransactionStatisticsCriteria criteria = TransactionStatisticsCriteria.of(memberId, teamId, from, to);
+
+		List<MemberContribution> contributions = transactionStatisticsService.getMemberContributions(criteria);
+
+		return GetMemberContributionResponse.from(contributions);
+	}
+}
@@ -0,0 +1,15 @@
+-- V10: 가계부 버전 테이블 추가
+-- 작성일: 2026-10-18
+-- 목적: 가계부(개인/그룹)별로 거래 내역이 바뀔 때마다 증가하는 버전을 두어 거래 내역 조회 응답의 ETag 로 사용
+-- 거래 내역 쓰기와 같은 트랜잭션에서 증가하며, 행이 없으면 버전 0 으로 간주하므로 초기 적재는 하지 않음
+
+CREATE TABLE ledger_version (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    owner_type VARCHAR(10) NOT NULL COMMENT '가계부 구분 (MEMBER: 개인, TEAM: 그룹)',
+    owner_id BIGINT NOT NULL COMMENT '개인 가계부는 회원 ID, 그룹 가계부는 그룹 ID',
+    version BIGINT NOT NULL DEFAULT 0 COMMENT '거래 내역 변경 시마다 1씩 증가',
+    created_at DATETIME,
+    updated_at DATETIME,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_ledger_version UNIQUE (owner_type, owner_id)
+);
@@ -0,0 +1,8 @@
+-- V11: 거래 내역 사본의 원본 ID 컬럼 추가
+-- 작성일: 2026-10-18
+-- 목적: 그룹 거래를 개인 가계부에도 게시할 때 사본이 원본 거래 ID 를 기록하여, 원본 수정과 삭제를 사본에 한 번에 반영
+-- 그룹 삭제로 원본이 지워지면 사본만 남으므로 외래 키는 두지 않음
+
+ALTER TABLE transaction ADD COLUMN mirror_source_id BIGINT NULL COMMENT '사본이면 원본 거래 ID, 원본이나 일반 거래는 NULL';
+
+CREATE INDEX idx_transaction_mirror_source ON transaction (mirror_source_id);
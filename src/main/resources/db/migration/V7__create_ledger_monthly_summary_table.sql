@@ -0,0 +1,42 @@
+-- V7: 가계부 월별 합계 테이블 추가
+-- 작성일: 2026-10-18
+-- 목적: 거래 내역 목록 조회 시 월별 수입/지출 합계를 매번 계산하지 않고 단일 행 조회로 제공
+-- 거래 내역 생성/수정/삭제 시 같은 트랜잭션에서 증감하며, 매일 새벽 재집계 배치로 오차를 보정
+
+CREATE TABLE ledger_monthly_summary (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    owner_type VARCHAR(10) NOT NULL COMMENT '가계부 구분 (MEMBER: 개인, TEAM: 그룹)',
+    owner_id BIGINT NOT NULL COMMENT '개인 가계부는 회원 ID, 그룹 가계부는 그룹 ID',
+    summary_year INT NOT NULL COMMENT '집계 연도',
+    summary_month INT NOT NULL COMMENT '집계 월',
+    income BIGINT NOT NULL DEFAULT 0 COMMENT '월 수입 합계',
+    expense BIGINT NOT NULL DEFAULT 0 COMMENT '월 지출 합계',
+    created_at DATETIME,
+    updated_at DATETIME,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_ledger_monthly_summary UNIQUE (owner_type, owner_id, summary_year, summary_month)
+);
+
+-- 기존 거래 내역으로 월별 합계 초기 적재 (목록 조회와 동일하게 삭제된 거래/회원/카테고리 제외)
+INSERT INTO ledger_monthly_summary
+    (owner_type, owner_id, summary_year, summary_month, income, expense, created_at, updated_at)
+SELECT
+    CASE WHEN t.team_id IS NULL THEN 'MEMBER' ELSE 'TEAM' END,
+    COALESCE(t.team_id, t.creator_id),
+    YEAR(t.transaction_date),
+    MONTH(t.transaction_date),
+    SUM(CASE WHEN t.transaction_type = 'INCOME' THEN CAST(t.amount AS SIGNED) ELSE 0 END),
+    SUM(CASE WHEN t.transaction_type = 'EXPENSE' THEN CAST(t.amount AS SIGNED) ELSE 0 END),
+    NOW(),
+    NOW()
+FROM transaction t
+INNER JOIN member m ON m.id = t.creator_id
+INNER JOIN category c ON c.id = t.category_id
+WHERE t.deleted_at IS NULL
+    AND m.deleted_at IS NULL
+    AND c.deleted_at IS NULL
+GROUP BY
+    CASE WHEN t.team_id IS NULL THEN 'MEMBER' ELSE 'TEAM' END,
+    COALESCE(t.team_id, t.creator_id),
+    YEAR(t.transaction_date),
+    MONTH(t.transaction_date);
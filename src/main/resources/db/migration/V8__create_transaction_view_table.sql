@@ -0,0 +1,45 @@
+-- V8: 거래 내역 조회 전용 테이블 추가
+-- 작성일: 2026-10-18
+-- 목적: 거래 내역 목록/커서 조회 시 member, category 조인 없이 단일 테이블에서 응답에 필요한 값을 읽도록 비정규화
+-- 거래 내역 저장/삭제 시 같은 트랜잭션에서 갱신하며, 회원 프로필 변경/탈퇴는 이벤트로 반영
+
+CREATE TABLE transaction_view (
+    transaction_id BIGINT NOT NULL COMMENT '원본 거래 내역 ID',
+    creator_id BIGINT NULL COMMENT '작성자 ID (익명화된 그룹 거래는 NULL)',
+    creator_nickname VARCHAR(255) NULL COMMENT '작성자 닉네임',
+    creator_profile_image_url VARCHAR(255) NULL COMMENT '작성자 프로필 이미지',
+    team_id BIGINT NULL COMMENT '그룹 ID (개인 거래는 NULL)',
+    category_id BIGINT NOT NULL,
+    category_name VARCHAR(255) NOT NULL,
+    category_icon_url VARCHAR(255) NULL,
+    transaction_date DATETIME(6) NOT NULL,
+    content VARCHAR(255) NULL,
+    amount BIGINT NOT NULL,
+    transaction_type VARCHAR(255) NOT NULL,
+    PRIMARY KEY (transaction_id)
+);
+
+CREATE INDEX idx_transaction_view_creator_team_date ON transaction_view (creator_id, team_id, transaction_date DESC);
+CREATE INDEX idx_transaction_view_team_date ON transaction_view (team_id, transaction_date DESC);
+
+-- 삭제되지 않은 기존 거래 내역 초기 적재 (탈퇴 회원의 그룹 거래는 작성자 정보 없이 적재)
+INSERT INTO transaction_view
+    (transaction_id, creator_id, creator_nickname, creator_profile_image_url, team_id, category_id, category_name,
+     category_icon_url, transaction_date, content, amount, transaction_type)
+SELECT
+    t.id,
+    m.id,
+    m.nickname,
+    m.profile_image_url,
+    t.team_id,
+    c.id,
+    c.name,
+    c.icon_url,
+    t.transaction_date,
+    t.content,
+    t.amount,
+    t.transaction_type
+FROM transaction t
+LEFT JOIN member m ON m.id = t.creator_id AND m.deleted_at IS NULL
+INNER JOIN category c ON c.id = t.category_id
+WHERE t.deleted_at IS NULL;
@@ -0,0 +1,15 @@
+-- V9: 거래 내역, 카테고리, 그룹 회원 PK 를 애플리케이션 할당 TSID 로 전환
+-- 작성일: 2026-10-18
+-- 목적: IDENTITY 는 INSERT 마다 키를 받아와야 해서 Hibernate 가 JDBC 배치를 사용할 수 없으므로 AUTO_INCREMENT 제거
+-- 기존 행의 ID 는 그대로 유지하며, TSID 는 기존 값보다 훨씬 크고 시간순으로 증가하므로 충돌 없이 인덱스 끝에 추가됨
+
+-- PK 를 참조하는 외래 키가 있어 컬럼 정의 변경 동안만 검사 해제
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE transaction MODIFY id BIGINT NOT NULL;
+
+ALTER TABLE category MODIFY id BIGINT NOT NULL;
+
+ALTER TABLE team_member MODIFY id BIGINT NOT NULL;
+
+SET FOREIGN_KEY_CHECKS = 1;
@@ -1,5 +1,13 @@
 package com.dalcoomi;
 
+import static com.dalcoomi.transaction.constant.TransactionCacheConstants.CACHE_KEY_PREFIX;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.GenericContainer;
@@ -16,9 +24,26 @@ public abstract class AbstractContainerBaseTest {
 		REDIS_CONTAINER.start();
 	}
 
+	@Autowired
+	@Qualifier("transactionCacheRedisTemplate")
+	private StringRedisTemplate stringRedisTemplate;
+
 	@DynamicPropertySource
 	public static void overrideProps(DynamicPropertyRegistry registry) {
 		registry.add("spring.data.redis.host", REDIS_CONTAINER::getHost);
 		registry.add("spring.data.redis.port", () -> "" + REDIS_CONTAINER.getMappedPort(6379));
 	}
+
+	/**
+	 * 테스트 컨텍스트마다 H2 스키마를 다시 만들어 ID 와 가계부 버전이 처음부터 시작하므로
+	 * Redis 컨테이너에 남은 이전 컨텍스트의 월별 거래 내역 캐시가 같은 (가계부, 버전) 으로 읽히지 않도록 지움
+	 */
+	@BeforeEach
+	void clearTransactionCache() {
+		Set<String> keys = stringRedisTemplate.keys(CACHE_KEY_PREFIX + "*");
+
+		if (keys != null && !keys.isEmpty()) {
+			stringRedisTemplate.delete(keys);
+		}
+	}
 }
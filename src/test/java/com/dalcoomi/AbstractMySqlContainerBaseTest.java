@@ -0,0 +1,29 @@
+package com.dalcoomi;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.mysql.MySQLContainer;
+
+/**
+ * 실행 계획처럼 H2로 검증할 수 없는 MySQL 고유 동작을 확인하는 테스트용
+ */
+public abstract class AbstractMySqlContainerBaseTest extends AbstractContainerBaseTest {
+
+	private static final String MYSQL_IMAGE = "mysql:8.0";
+	private static final MySQLContainer MYSQL_CONTAINER;
+
+	static {
+		MYSQL_CONTAINER = new MySQLContainer(MYSQL_IMAGE)
+			.withDatabaseName("dalcoomi")
+			.withReuse(false);
+		MYSQL_CONTAINER.start();
+	}
+
+	@DynamicPropertySource
+	public static void overrideDataSourceProps(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", MYSQL_CONTAINER::getJdbcUrl);
+		registry.add("spring.datasource.username", MYSQL_CONTAINER::getUsername);
+		registry.add("spring.datasource.password", MYSQL_CONTAINER::getPassword);
+		registry.add("spring.datasource.driver-class-name", MYSQL_CONTAINER::getDriverClassName);
+	}
+}
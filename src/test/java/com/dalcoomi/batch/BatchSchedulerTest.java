@@ -20,6 +20,9 @@ class BatchSchedulerTest {
 	@Mock
 	private TransactionBatchService transactionBatchService;
 
+	@Mock
+	private LedgerSummaryBatchService ledgerSummaryBatchService;
+
 	@InjectMocks
 	private BatchScheduler batchScheduler;
 
@@ -76,4 +79,31 @@ class BatchSchedulerTest {
 		// then
 		then(transactionBatchService).should().deleteExpiredAnonymizedData();
 	}
+
+	@Test
+	@DisplayName("가계부 월별 합계 재집계 배치 스케줄러 실행 성공")
+	void run_ledger_summary_rebuild_batch_calls_ledger_summary_batch_service_success() {
+		// given
+		willDoNothing().given(ledgerSummaryBatchService).rebuildLedgerSummaries();
+
+		// when
+		batchScheduler.runLedgerSummaryRebuildBatch();
+
+		// then
+		then(ledgerSummaryBatchService).should().rebuildLedgerSummaries();
+	}
+
+	@Test
+	@DisplayName("가계부 월별 합계 재집계 배치에서 예외 발생 시 로그만 출력하고 계속 진행 성공")
+	void run_ledger_summary_rebuild_batch_exception_handling_success() {
+		// given
+		RuntimeException exception = new RuntimeException("배치 실행 실패");
+		willThrow(exception).given(ledgerSummaryBatchService).rebuildLedgerSummaries();
+
+		// when
+		batchScheduler.runLedgerSummaryRebuildBatch();
+
+		// then
+		then(ledgerSummaryBatchService).should().rebuildLedgerSummaries();
+	}
 }
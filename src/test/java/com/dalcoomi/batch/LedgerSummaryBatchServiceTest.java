@@ -0,0 +1,164 @@
+package com.dalcoomi.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dalcoomi.AbstractContainerBaseTest;
+import com.dalcoomi.category.application.repository.CategoryRepository;
+import com.dalcoomi.category.domain.Category;
+import com.dalcoomi.fixture.CategoryFixture;
+import com.dalcoomi.fixture.MemberFixture;
+import com.dalcoomi.fixture.TransactionFixture;
+import com.dalcoomi.member.application.repository.MemberRepository;
+import com.dalcoomi.member.domain.Member;
+import com.dalcoomi.transaction.application.LedgerVersionService;
+import com.dalcoomi.transaction.application.repository.LedgerSummaryRepository;
+import com.dalcoomi.transaction.application.repository.TransactionRepository;
+import com.dalcoomi.transaction.domain.Ledger;
+import com.dalcoomi.transaction.domain.LedgerSummary;
+import com.dalcoomi.transaction.domain.Transaction;
+
+@Transactional
+@SpringBootTest
+@TestPropertySource("classpath:application-test.properties")
+@AutoConfigureMockMvc(addFilters = false)
+class LedgerSummaryBatchServiceTest extends AbstractContainerBaseTest {
+
+	@Autowired
+	private LedgerSummaryBatchService ledgerSummaryBatchService;
+
+	@Autowired
+	private LedgerSummaryRepository ledgerSummaryRepository;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private LedgerVersionService ledgerVersionService;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Test
+	@DisplayName("거래 내역 원본 기준으로 월별 합계 재집계 성공")
+	void rebuild_ledger_summaries_success() {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+		Category category = CategoryFixture.getCategory1(member);
+		category = categoryRepository.save(category);
+
+		Transaction transaction1 = TransactionFixture.getTransactionWithExpense1(member, category);
+		Transaction transaction2 = TransactionFixture.getTransactionWithExpense2(member, category);
+		Transaction transaction3 = TransactionFixture.getTransactionWithExpense3(member, category);
+		Transaction transaction4 = TransactionFixture.getTransactionWithExpense4(member, category);
+		List<Transaction> transactions = Arrays.asList(transaction1, transaction2, transaction3, transaction4);
+		transactionRepository.saveAll(transactions);
+
+		// 증분 갱신 누락으로 어긋난 합계 상황 재현
+		Ledger ledger = Ledger.member(member.getId());
+		ledgerSummaryRepository.increase(ledger, 2025, 3, 999L, 1L);
+
+		// when
+		ledgerSummaryBatchService.rebuildLedgerSummaries();
+
+		// then
+		LedgerSummary march = ledgerSummaryRepository.findByLedgerAndMonth(ledger, 2025, 3);
+		LedgerSummary may = ledgerSummaryRepository.findByLedgerAndMonth(ledger, 2025, 5);
+
+		assertThat(march).isNotNull();
+		assertThat(march.getIncome()).isZero();
+		assertThat(march.getExpense()).isEqualTo(
+			transaction1.getAmount() + transaction2.getAmount() + transaction3.getAmount());
+		assertThat(may).isNotNull();
+		assertThat(may.getExpense()).isEqualTo(transaction4.getAmount());
+	}
+
+	@Test
+	@DisplayName("삭제된 거래 내역과 익명화된 개인 거래 내역은 재집계에서 제외 성공")
+	void rebuild_ledger_summaries_excludes_deleted_and_anonymized_success() {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+		Category category = CategoryFixture.getCategory1(member);
+		category = categoryRepository.save(category);
+
+		Transaction transaction = TransactionFixture.getTransactionWithExpense1(member, category);
+		transaction.softDelete();
+		transactionRepository.save(transaction);
+		transactionRepository.save(TransactionFixture.getAnonymizedPersonalTransaction1(category, 10));
+
+		// when
+		ledgerSummaryBatchService.rebuildLedgerSummaries();
+
+		// then
+		LedgerSummary summary = ledgerSummaryRepository.findByLedgerAndMonth(Ledger.member(member.getId()), 2025, 3);
+
+		assertThat(summary).isNull();
+	}
+
+	@Test
+	@DisplayName("그룹 가계부는 그룹 기준으로 재집계하고, 거래 내역이 없는 가계부의 남은 합계는 삭제 성공")
+	void rebuild_ledger_summaries_team_and_stale_ledger_success() {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+		Category category = CategoryFixture.getCategory1(member);
+		category = categoryRepository.save(category);
+
+		Long teamId = 100L;
+		Transaction transaction = TransactionFixture.getTeamTransactionWithExpense1(member, teamId, category);
+		transactionRepository.save(transaction);
+
+		Ledger staleLedger = Ledger.team(200L);
+		ledgerSummaryRepository.increase(staleLedger, 2025, 3, 0L, 5000L);
+
+		// when
+		ledgerSummaryBatchService.rebuildLedgerSummaries();
+
+		// then
+		LedgerSummary teamSummary = ledgerSummaryRepository.findByLedgerAndMonth(Ledger.team(teamId), 2025, 3);
+		LedgerSummary memberSummary = ledgerSummaryRepository.findByLedgerAndMonth(Ledger.member(member.getId()),
+			2025, 3);
+		LedgerSummary staleSummary = ledgerSummaryRepository.findByLedgerAndMonth(staleLedger, 2025, 3);
+
+		assertThat(teamSummary).isNotNull();
+		assertThat(teamSummary.getExpense()).isEqualTo(transaction.getAmount());
+		assertThat(memberSummary).isNull();
+		assertThat(staleSummary).isNull();
+	}
+
+	@Test
+	@DisplayName("재집계한 가계부는 버전을 올려 바로잡은 합계가 클라이언트에 보이도록 함 성공")
+	void rebuild_ledger_summaries_increase_version_success() {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+		Category category = CategoryFixture.getCategory1(member);
+		category = categoryRepository.save(category);
+
+		transactionRepository.save(TransactionFixture.getTransactionWithExpense1(member, category));
+
+		Ledger ledger = Ledger.member(member.getId());
+		long before = ledgerVersionService.get(ledger);
+
+		// when
+		ledgerSummaryBatchService.rebuildLedgerSummaries();
+
+		// then
+		assertThat(ledgerVersionService.get(ledger)).isGreaterThan(before);
+	}
+}
@@ -0,0 +1,535 @@
+package com.dalcoomi.common.query;
+
+import static com.dalcoomi.category.domain.OwnerType.ADMIN;
+import static com.dalcoomi.category.domain.OwnerType.MEMBER;
+import static com.dalcoomi.transaction.domain.TransactionType.EXPENSE;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
+import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dalcoomi.AbstractContainerBaseTest;
+import com.dalcoomi.auth.filter.CustomUserDetails;
+import com.dalcoomi.category.application.repository.CategoryRepository;
+import com.dalcoomi.category.domain.Category;
+import com.dalcoomi.category.domain.OwnerType;
+import com.dalcoomi.common.query.QueryCaptor.CapturedQuery;
+import com.dalcoomi.fixture.MemberFixture;
+import com.dalcoomi.fixture.SocialConnectionFixture;
+import com.dalcoomi.fixture.TeamFixture;
+import com.dalcoomi.fixture.TransactionFixture;
+import com.dalcoomi.member.application.repository.MemberRepository;
+import com.dalcoomi.member.application.repository.SocialConnectionRepository;
+import com.dalcoomi.member.domain.Member;
+import com.dalcoomi.team.application.repository.TeamMemberRepository;
+import com.dalcoomi.team.application.repository.TeamRepository;
+import com.dalcoomi.team.domain.Team;
+import com.dalcoomi.team.domain.TeamMember;
+import com.dalcoomi.transaction.application.TransactionService;
+import com.dalcoomi.transaction.application.repository.TransactionRepository;
+import com.dalcoomi.transaction.domain.Transaction;
+import com.dalcoomi.transaction.domain.TransactionExportFormat;
+import com.dalcoomi.transaction.dto.TransactionExportCriteria;
+import com.dalcoomi.transaction.dto.request.BulkDeleteTransactionRequest;
+import com.dalcoomi.transaction.dto.request.SaveReceiptRequest;
+import com.dalcoomi.transaction.dto.request.TransactionRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 엔드포인트별 SQL 예산 검증
+ * 같은 요청을 행이 1건인 데이터와 3건인 데이터로 각각 실행해 쿼리 수가 같고 예산 이내인지 확인하므로,
+ * 반복문 안에서 조회하거나 지연 로딩으로 행마다 쿼리가 나가는 N+1 이 생기면 실패
+ * 운영 기본값대로 월별 거래 내역 캐시와 가계부 스냅샷을 켠 상태에서 측정
+ */
+@Transactional
+@SpringBootTest
+@Import(QueryCaptorConfig.class)
+@TestPropertySource("classpath:application-test.properties")
+@AutoConfigureMockMvc(addFilters = false)
+class EndpointSqlBudgetTest extends AbstractContainerBaseTest {
+
+	private static final int FEW_ROWS = 1;
+	private static final int MANY_ROWS = 3;
+
+	private final GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private QueryCaptor queryCaptor;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private SocialConnectionRepository socialConnectionRepository;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@Autowired
+	private TeamMemberRepository teamMemberRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private TransactionService transactionService;
+
+	@Test
+	@DisplayName("회원 정보 조회는 연결된 소셜 계정 수와 관계없이 쿼리 2개 이내")
+	void get_member_within_budget() throws Exception {
+		assertBudget("GET /api/members", 2, rows -> {
+			Member member = memberRepository.save(MemberFixture.getMember1());
+
+			socialConnectionRepository.save(SocialConnectionFixture.getSocialConnection1(member));
+
+			if (rows > 1) {
+				socialConnectionRepository.save(SocialConnectionFixture.getSocialConnection2(member));
+			}
+
+			return new Request(member.getId(), get("/api/members"));
+		});
+	}
+
+	@Test
+	@DisplayName("카테고리 조회는 카테고리 수와 작성자 수에 관계없이 쿼리 1개 이내")
+	void get_categories_within_budget() throws Exception {
+		assertBudget("GET /api/categories", 1, rows -> {
+			Member member = memberRepository.save(MemberFixture.getMember1());
+
+			for (int i = 0; i < rows; i++) {
+				saveCategory(memberRepository.save(MemberFixture.getMember2()), ADMIN);
+				saveCategory(member, MEMBER);
+			}
+
+			return new Request(member.getId(), get("/api/categories")
+				.param("transactionType", String.valueOf(EXPENSE)));
+		});
+	}
+
+	@Test
+	@DisplayName("내 그룹 목록 조회는 그룹 수와 관계없이 쿼리 2개 이내")
+	void get_teams_within_budget() throws Exception {
+		assertBudget("GET /api/teams", 2, rows -> {
+			Member member = memberRepository.save(MemberFixture.getMember1());
+
+			for (int i = 0; i < rows; i++) {
+				Member leader = memberRepository.save(MemberFixture.getMember2());
+				Team team = teamRepository.save(TeamFixture.getTeam1(leader));
+
+				teamMemberRepository.save(TeamMember.of(team, leader));
+				teamMemberRepository.save(TeamMember.of(team, member));
+			}
+
+			return new Request(member.getId(), get("/api/teams"));
+		});
+	}
+
+	@Test
+	@DisplayName("그룹 상세 조회는 그룹원 수와 관계없이 쿼리 1개 이내")
+	void get_team_within_budget() throws Exception {
+		assertBudget("GET /api/teams/{teamId}", 1, rows -> {
+			TeamLedger ledger = saveTeamLedger(rows);
+
+			return new Request(ledger.requesterId(), get("/api/teams/{teamId}", ledger.teamId()));
+		});
+	}
+
+	@Test
+	@DisplayName("월별 거래 내역 조회는 거래, 작성자 수와 관계없이 쿼리 4개 이내")
+	void get_transactions_within_budget() throws Exception {
+		assertBudget("GET /api/transactions", 4, rows -> {
+			TeamLedger ledger = saveTeamLedger(rows);
+
+			return new Request(ledger.requesterId(), get("/api/transactions")
+				.param("teamId", ledger.teamId().toString())
+				.param("year", "2025")
+				.param("month", "3"));
+		});
+	}
+
+	@Test
+	@DisplayName("캐시된 월별 거래 내역 재조회는 그룹원 검증과 가계부 버전 조회만 하여 쿼리 2개 이내")
+	void get_cached_transactions_within_budget() throws Exception {
+		assertWarmBudget("GET /api/transactions (cache hit)", 2, rows -> {
+			TeamLedger ledger = saveTeamLedger(rows);
+
+			return new Request(ledger.requesterId(), get("/api/transactions")
+				.param("teamId", ledger.teamId().toString())
+				.param("year", "2025")
+				.param("month", "3"));
+		});
+	}
+
+	@Test
+	@DisplayName("거래 내역 단건 조회는 다른 거래 수와 관계없이 쿼리 3개 이내")
+	void get_transaction_within_budget() throws Exception {
+		assertBudget("GET /api/transactions/{transactionId}", 3, rows -> {
+			PersonalLedger ledger = savePersonalLedger(rows);
+
+			return new Request(ledger.memberId(), get("/api/transactions/{transactionId}", ledger.transactionId()));
+		});
+	}
+
+	@Test
+	@DisplayName("커서 기반 거래 내역 조회는 거래, 작성자 수와 관계없이 쿼리 2개 이내")
+	void get_transactions_by_cursor_within_budget() throws Exception {
+		assertBudget("GET /api/transactions/cursor", 2, rows -> {
+			TeamLedger ledger = saveTeamLedger(rows);
+
+			return new Request(ledger.requesterId(), get("/api/transactions/cursor")
+				.param("teamId", ledger.teamId().toString())
+				.param("from", "2025-03-01")
+				.param("to", "2025-03-31"));
+		});
+	}
+
+	@Test
+	@DisplayName("카테고리별 통계 조회는 거래 수와 관계없이 스냅샷 적재를 포함해 쿼리 3개 이내")
+	void get_category_statistics_within_budget() throws Exception {
+		assertBudget("GET /api/transactions/statistics/categories", 3, rows -> {
+			TeamLedger ledger = saveTeamLedger(rows);
+
+			return new Request(ledger.requesterId(), get("/api/transactions/statistics/categories")
+				.param("teamId", ledger.teamId().toString())
+				.param("from", "2025-03-01")
+				.param("to", "2025-03-31"));
+		});
+	}
+
+	@Test
+	@DisplayName("일별 통계 조회는 거래 수와 관계없이 스냅샷 적재를 포함해 쿼리 3개 이내")
+	void get_daily_statistics_within_budget() throws Exception {
+		assertBudget("GET /api/transactions/statistics/daily", 3, rows -> {
+			TeamLedger ledger = saveTeamLedger(rows);
+
+			return new Request(ledger.requesterId(), get("/api/transactions/statistics/daily")
+				.param("teamId", ledger.teamId().toString())
+				.param("year", "2025")
+				.param("month", "3"));
+		});
+	}
+
+	@Test
+	@DisplayName("스냅샷이 적재된 가계부의 카테고리별 통계 재조회는 그룹원 검증과 가계부 버전 조회만 하여 쿼리 2개 이내")
+	void get_cached_category_statistics_within_budget() throws Exception {
+		assertWarmBudget("GET /api/transactions/statistics/categories (snapshot hit)", 2, rows -> {
+			TeamLedger ledger = saveTeamLedger(rows);
+
+			return new Request(ledger.requesterId(), get("/api/transactions/statistics/categories")
+				.param("teamId", ledger.teamId().toString())
+				.param("from", "2025-03-01")
+				.param("to", "2025-03-31"));
+		});
+	}
+
+	@Test
+	@DisplayName("월별 추이 조회는 거래 수와 관계없이 쿼리 2개 이내")
+	void get_trend_statistics_within_budget() throws Exception {
+		assertBudget("GET /api/transactions/statistics/trend", 2, rows -> {
+			TeamLedger ledger = saveTeamLedger(rows);
+
+			return new Request(ledger.requesterId(), get("/api/transactions/statistics/trend")
+				.param("teamId", ledger.teamId().toString())
+				.param("endYear", "2025")
+				.param("years", "1"));
+		});
+	}
+
+	@Test
+	@DisplayName("그룹원별 통계 조회는 그룹원 수와 관계없이 쿼리 2개 이내")
+	void get_member_statistics_within_budget() throws Exception {
+		assertBudget("GET /api/transactions/statistics/members", 2, rows -> {
+			TeamLedger ledger = saveTeamLedger(rows);
+
+			return new Request(ledger.requesterId(), get("/api/transactions/statistics/members")
+				.param("teamId", ledger.teamId().toString())
+				.param("from", "2025-03-01")
+				.param("to", "2025-03-31"));
+		});
+	}
+
+	@Test
+	@DisplayName("거래 내역 생성은 가계부의 거래 수와 관계없이 쿼리 6개 이내")
+	void create_transaction_within_budget() throws Exception {
+		assertBudget("POST /api/transactions", 6, rows -> {
+			PersonalLedger ledger = savePersonalLedger(rows);
+			TransactionRequest request = new TransactionRequest(null, 4800L, "커피",
+				LocalDateTime.of(2025, 3, 20, 10, 0), EXPENSE, ledger.categoryId(), null);
+
+			return new Request(ledger.memberId(), post("/api/transactions")
+				.content(objectMapper.writeValueAsString(request))
+				.contentType(APPLICATION_JSON));
+		});
+	}
+
+	@Test
+	@DisplayName("영수증 거래 내역 저장은 저장 건수와 관계없이 쿼리 6개 이내")
+	void save_receipt_transactions_within_budget() throws Exception {
+		assertBudget("POST /api/transactions/receipts/save", 6, rows -> {
+			PersonalLedger ledger = savePersonalLedger(0);
+			List<TransactionRequest> transactions = new ArrayList<>();
+
+			for (int i = 0; i < rows; i++) {
+				transactions.add(new TransactionRequest(null, 4800L, "커피", LocalDateTime.of(2025, 3, 20, 10, 0),
+					EXPENSE, ledger.categoryId(), null));
+			}
+
+			SaveReceiptRequest request = SaveReceiptRequest.builder()
+				.taskId("receipt-" + ledger.memberId())
+				.transactions(transactions)
+				.build();
+
+			return new Request(ledger.memberId(), post("/api/transactions/receipts/save")
+				.content(objectMapper.writeValueAsString(request))
+				.contentType(APPLICATION_JSON));
+		});
+	}
+
+	@Test
+	@DisplayName("거래 내역 수정은 가계부의 거래 수와 관계없이 쿼리 9개 이내")
+	void update_transaction_within_budget() throws Exception {
+		assertBudget("PUT /api/transactions/{transactionId}", 9, rows -> {
+			PersonalLedger ledger = savePersonalLedger(rows);
+			TransactionRequest request = new TransactionRequest(null, 5200L, "라떼",
+				LocalDateTime.of(2025, 3, 1, 10, 0), EXPENSE, ledger.categoryId(), null);
+
+			return new Request(ledger.memberId(), put("/api/transactions/{transactionId}", ledger.transactionId())
+				.content(objectMapper.writeValueAsString(request))
+				.contentType(APPLICATION_JSON));
+		});
+	}
+
+	@Test
+	@DisplayName("거래 내역 삭제는 가계부의 거래 수와 관계없이 쿼리 7개 이내")
+	void delete_transaction_within_budget() throws Exception {
+		assertBudget("DELETE /api/transactions/{transactionId}", 7, rows -> {
+			PersonalLedger ledger = savePersonalLedger(rows);
+
+			return new Request(ledger.memberId(),
+				delete("/api/transactions/{transactionId}", ledger.transactionId()));
+		});
+	}
+
+	/**
+	 * 응답 본문은 MockMvc 의 비동기 스레드에서 쓰여 쿼리를 수집할 수 없으므로 컨트롤러와 같은 순서로 서비스를 직접 호출
+	 */
+	@Test
+	@DisplayName("거래 내역 내보내기는 거래 수와 관계없이 쿼리 2개 이내")
+	void export_transactions_within_budget() throws Exception {
+		TeamLedger fewRows = saveTeamLedger(FEW_ROWS);
+		TeamLedger manyRows = saveTeamLedger(MANY_ROWS);
+
+		entityManager.flush();
+
+		SqlStatementBudget.assertWithinBudget("GET /api/transactions/export", 2, captureExport(fewRows),
+			captureExport(manyRows));
+	}
+
+	@Test
+	@DisplayName("거래 내역 일괄 삭제는 삭제 건수와 관계없이 쿼리 6개 이내")
+	void bulk_delete_transactions_within_budget() throws Exception {
+		assertBudget("POST /api/transactions/bulk/delete", 6, rows -> {
+			Member member = memberRepository.save(MemberFixture.getMember1());
+			Category category = saveCategory(member, MEMBER);
+			List<Transaction> transactions = new ArrayList<>();
+
+			for (int i = 0; i < rows; i++) {
+				transactions.add(TransactionFixture.getTransactionWithExpense1(member, category));
+			}
+
+			List<Long> transactionIds = transactionRepository.saveAll(transactions).stream()
+				.map(Transaction::getId)
+				.toList();
+			BulkDeleteTransactionRequest request = new BulkDeleteTransactionRequest(null, transactionIds);
+
+			return new Request(member.getId(), post("/api/transactions/bulk/delete")
+				.content(objectMapper.writeValueAsString(request))
+				.contentType(APPLICATION_JSON));
+		});
+	}
+
+	/**
+	 * 행 수만 다른 두 데이터를 만든 뒤 같은 요청을 각각 실행하여 쿼리 수를 비교
+	 */
+	private void assertBudget(String endpoint, int budget, Scenario scenario) throws Exception {
+		Request fewRows = scenario.prepare(FEW_ROWS);
+		Request manyRows = scenario.prepare(MANY_ROWS);
+
+		entityManager.flush();
+
+		List<CapturedQuery> fewRowsQueries = capture(fewRows);
+		List<CapturedQuery> manyRowsQueries = capture(manyRows);
+
+		SqlStatementBudget.assertWithinBudget(endpoint, budget, fewRowsQueries, manyRowsQueries);
+	}
+
+	/**
+	 * 같은 요청을 한 번 먼저 실행해 월별 거래 내역 캐시와 가계부 스냅샷을 채운 뒤 두 번째 요청의 쿼리 수를 비교
+	 */
+	private void assertWarmBudget(String endpoint, int budget, Scenario scenario) throws Exception {
+		Request fewRows = scenario.prepare(FEW_ROWS);
+		Request manyRows = scenario.prepare(MANY_ROWS);
+
+		entityManager.flush();
+
+		capture(fewRows);
+		capture(manyRows);
+
+		List<CapturedQuery> fewRowsQueries = capture(fewRows);
+		List<CapturedQuery> manyRowsQueries = capture(manyRows);
+
+		SqlStatementBudget.assertWithinBudget(endpoint, budget, fewRowsQueries, manyRowsQueries);
+	}
+
+	/**
+	 * 준비 과정에서 영속성 컨텍스트에 올라간 엔티티가 요청의 조회를 대신하지 않도록 비운 뒤 측정
+	 */
+	private List<CapturedQuery> capture(Request request) throws Exception {
+		entityManager.clear();
+		setAuthentication(request.memberId());
+
+		queryCaptor.start();
+		mockMvc.perform(request.builder()).andExpect(status().is2xxSuccessful());
+		entityManager.flush();
+
+		return queryCaptor.stop();
+	}
+
+	private List<CapturedQuery> captureExport(TeamLedger ledger) throws Exception {
+		TransactionExportCriteria criteria = TransactionExportCriteria.of(ledger.requesterId(), ledger.teamId());
+
+		entityManager.clear();
+
+		queryCaptor.start();
+		transactionService.validateExport(criteria);
+		transactionService.export(criteria, TransactionExportFormat.NDJSON, new ByteArrayOutputStream());
+
+		return queryCaptor.stop();
+	}
+
+	/**
+	 * 요청자가 만든 카테고리로 거래를 rows 건 기록한 개인 가계부 (rows 가 0 이면 카테고리만 생성)
+	 */
+	private PersonalLedger savePersonalLedger(int rows) {
+		Member member = memberRepository.save(MemberFixture.getMember1());
+		Category category = saveCategory(member, MEMBER);
+		Long transactionId = null;
+
+		for (int i = 0; i < rows; i++) {
+			transactionId = transactionRepository.save(TransactionFixture.getTransactionWithExpense1(member, category))
+				.getId();
+		}
+
+		return new PersonalLedger(member.getId(), category.getId(), transactionId);
+	}
+
+	/**
+	 * 요청자와 rows 명의 그룹원이 각자 만든 카테고리로 거래를 하나씩 기록한 그룹 가계부
+	 */
+	private TeamLedger saveTeamLedger(int rows) {
+		Member requester = memberRepository.save(MemberFixture.getMember1());
+		Team team = teamRepository.save(TeamFixture.getTeam1(requester));
+		List<Transaction> transactions = new ArrayList<>();
+
+		teamMemberRepository.save(TeamMember.of(team, requester));
+
+		for (int i = 0; i < rows; i++) {
+			Member member = memberRepository.save(MemberFixture.getMember2());
+			Category category = saveCategory(member, MEMBER);
+
+			teamMemberRepository.save(TeamMember.of(team, member));
+			transactions.add(TransactionFixture.getTeamTransactionWithExpense1(member, team.getId(), category));
+		}
+
+		transactionRepository.saveAll(transactions);
+
+		return new TeamLedger(requester.getId(), team.getId());
+	}
+
+	private Category saveCategory(Member creator, OwnerType ownerType) {
+		return categoryRepository.save(Category.builder()
+			.creator(creator)
+			.name("식비")
+			.iconUrl("https://example.com/112233")
+			.isActive(true)
+			.transactionType(EXPENSE)
+			.ownerType(ownerType)
+			.build());
+	}
+
+	private void setAuthentication(Long memberId) {
+		CustomUserDetails memberUserDetails = new CustomUserDetails(memberId, memberId.toString(),
+			authoritiesMapper.mapAuthorities(List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+		Authentication authentication = new UsernamePasswordAuthenticationToken(memberUserDetails, null,
+			authoritiesMapper.mapAuthorities(memberUserDetails.getAuthorities()));
+
+		SecurityContextHolder.getContext().setAuthentication(authentication);
+	}
+
+	@FunctionalInterface
+	private interface Scenario {
+
+		Request prepare(int rows) throws Exception;
+	}
+
+	private record Request(
+		Long memberId,
+		MockHttpServletRequestBuilder builder
+	) {
+
+	}
+
+	private record TeamLedger(
+		Long requesterId,
+		Long teamId
+	) {
+
+	}
+
+	private record PersonalLedger(
+		Long memberId,
+		Long categoryId,
+		Long transactionId
+	) {
+
+	}
+}
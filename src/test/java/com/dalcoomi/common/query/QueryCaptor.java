@@ -0,0 +1,71 @@
+package com.dalcoomi.common.query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * start() ~ stop() 사이에 현재 스레드에서 실행된 SQL과 바인딩 파라미터를 수집
+ */
+public class QueryCaptor implements QueryExecutionListener {
+
+	private final ThreadLocal<List<CapturedQuery>> capturedQueries = new ThreadLocal<>();
+
+	public void start() {
+		capturedQueries.set(new ArrayList<>());
+	}
+
+	public List<CapturedQuery> stop() {
+		List<CapturedQuery> queries = capturedQueries.get();
+
+		capturedQueries.remove();
+
+		return queries != null ? queries : List.of();
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		// 실행 후에만 수집
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		List<CapturedQuery> queries = capturedQueries.get();
+
+		if (queries == null) {
+			return;
+		}
+
+		for (QueryInfo queryInfo : queryInfoList) {
+			List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+			List<Object> parameters = parametersList.isEmpty() ? List.of() : toParameters(parametersList.getFirst());
+
+			queries.add(new CapturedQuery(queryInfo.getQuery(), parameters, execInfo.isBatch()));
+		}
+	}
+
+	private List<Object> toParameters(List<ParameterSetOperation> operations) {
+		return operations.stream()
+			.sorted(Comparator.comparingInt(operation -> (Integer)operation.getArgs()[0]))
+			.map(operation -> "setNull".equals(operation.getMethod().getName()) ? null : operation.getArgs()[1])
+			.toList();
+	}
+
+	public record CapturedQuery(
+		String sql,
+		List<Object> parameters,
+		boolean batch
+	) {
+
+		public boolean isSelectFrom(String tableName) {
+			String normalized = sql.toLowerCase();
+
+			return normalized.startsWith("select") && normalized.contains(" from " + tableName + " ");
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package com.dalcoomi.common.query;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+@TestConfiguration
+public class QueryCaptorConfig {
+
+	@Bean
+	public static QueryCaptor queryCaptor() {
+		return new QueryCaptor();
+	}
+
+	@Bean
+	public static BeanPostProcessor queryCaptorDataSourcePostProcessor(ObjectProvider<QueryCaptor> queryCaptor) {
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+					return ProxyDataSourceBuilder.create(dataSource)
+						.name(beanName)
+						.listener(queryCaptor.getObject())
+						.build();
+				}
+
+				return bean;
+			}
+		};
+	}
+}
@@ -0,0 +1,58 @@
+package com.dalcoomi.common.query;
+
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.dalcoomi.common.query.QueryCaptor.CapturedQuery;
+
+/**
+ * 한 요청에서 실행된 SQL 수가 엔드포인트 예산을 넘지 않고, 데이터 건수가 늘어도 같은지 검증
+ * 같은 요청을 행이 적은 데이터와 많은 데이터로 각각 실행해 쿼리 수가 늘었다면 행마다 쿼리가 반복되는 N+1 로 판단
+ */
+public final class SqlStatementBudget {
+
+	private SqlStatementBudget() {
+	}
+
+	public static void assertWithinBudget(String endpoint, int budget, List<CapturedQuery> fewRowsQueries,
+		List<CapturedQuery> manyRowsQueries) {
+		if (manyRowsQueries.size() != fewRowsQueries.size()) {
+			fail("%s: 데이터 건수에 따라 쿼리 수가 %d -> %d 로 늘어남 (N+1 의심)%n%s".formatted(endpoint,
+				fewRowsQueries.size(), manyRowsQueries.size(), describeGrowth(fewRowsQueries, manyRowsQueries)));
+		}
+
+		if (manyRowsQueries.size() > budget) {
+			fail("%s: 쿼리 %d 개로 예산 %d 개 초과%n%s".formatted(endpoint, manyRowsQueries.size(), budget,
+				describe(countBySql(manyRowsQueries))));
+		}
+	}
+
+	private static String describeGrowth(List<CapturedQuery> fewRowsQueries, List<CapturedQuery> manyRowsQueries) {
+		Map<String, Long> fewRowsCounts = countBySql(fewRowsQueries);
+		Map<String, Long> grownCounts = new LinkedHashMap<>();
+
+		countBySql(manyRowsQueries).forEach((sql, count) -> {
+			if (count > fewRowsCounts.getOrDefault(sql, 0L)) {
+				grownCounts.put(sql, count);
+			}
+		});
+
+		return describe(grownCounts);
+	}
+
+	private static Map<String, Long> countBySql(List<CapturedQuery> queries) {
+		return queries.stream()
+			.collect(Collectors.groupingBy(query -> query.sql().replaceAll("\\s+", " ").trim(), LinkedHashMap::new,
+				Collectors.counting()));
+	}
+
+	private static String describe(Map<String, Long> counts) {
+		return counts.entrySet().stream()
+			.map(entry -> "  x" + entry.getValue() + " " + entry.getKey())
+			.collect(Collectors.joining(System.lineSeparator()));
+	}
+}
@@ -0,0 +1,115 @@
+package com.dalcoomi.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+	private final SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+	@Test
+	@DisplayName("같은 키로 동시에 들어온 호출은 한 번만 실행하고 결과 공유 성공")
+	void execute_concurrent_same_key_once_success() throws Exception {
+		// given
+		int threadCount = 10;
+		AtomicInteger executionCount = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+		Future<Integer> leader = executorService.submit(() -> singleFlight.execute("team:1:2025-03", () -> {
+			started.countDown();
+			awaitQuietly(release);
+
+			return executionCount.incrementAndGet();
+		}));
+
+		started.await(5, TimeUnit.SECONDS);
+
+		// when
+		List<Future<Integer>> followers = IntStream.range(1, threadCount)
+			.mapToObj(i -> executorService.submit(() -> singleFlight.execute("team:1:2025-03",
+				executionCount::incrementAndGet)))
+			.toList();
+
+		// 대기 호출들이 합류할 시간을 준 뒤 선행 호출 종료
+		Thread.sleep(200);
+		release.countDown();
+
+		// then
+		assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+
+		for (Future<Integer> follower : followers) {
+			assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+		}
+
+		assertThat(executionCount.get()).isEqualTo(1);
+
+		executorService.shutdown();
+	}
+
+	@Test
+	@DisplayName("실행이 끝난 뒤 같은 키로 호출하면 다시 실행 성공")
+	void execute_after_completion_runs_again_success() {
+		// given
+		AtomicInteger executionCount = new AtomicInteger();
+
+		singleFlight.execute("member:1:2025-03", executionCount::incrementAndGet);
+
+		// when
+		Integer result = singleFlight.execute("member:1:2025-03", executionCount::incrementAndGet);
+
+		// then
+		assertThat(result).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("실행 중 예외가 발생하면 기다리던 호출에도 같은 예외 전달 성공")
+	void execute_failure_propagated_to_followers_success() throws Exception {
+		// given
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		Future<Integer> leader = executorService.submit(() -> singleFlight.execute("team:2:2025-03", () -> {
+			started.countDown();
+			awaitQuietly(release);
+
+			throw new IllegalStateException("조회 실패");
+		}));
+
+		started.await(5, TimeUnit.SECONDS);
+
+		// when
+		Future<Integer> follower = executorService.submit(() -> singleFlight.execute("team:2:2025-03", () -> 1));
+
+		Thread.sleep(200);
+		release.countDown();
+
+		// then
+		assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+
+		executorService.shutdown();
+	}
+
+	private void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
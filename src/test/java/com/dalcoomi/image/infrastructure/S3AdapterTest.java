@@ -10,6 +10,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -18,8 +19,11 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import com.dalcoomi.common.error.exception.ImageException;
 
+import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
@@ -70,4 +74,48 @@ class S3AdapterTest {
 		// when & then
 		assertThrows(ImageException.class, () -> s3Adapter.uploadFile(fileData, folderPath, extension));
 	}
+
+	@Test
+	@DisplayName("정해진 키로 파일 저장 성공")
+	void put_file_success() {
+		// given
+		byte[] fileData = "test data".getBytes();
+
+		// when
+		s3Adapter.putFile("receipt/pending/receipt-test.jpg", fileData, "image/jpeg");
+
+		// then
+		ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+
+		verify(s3Client).putObject(requestCaptor.capture(), any(RequestBody.class));
+
+		assertThat(requestCaptor.getValue().key()).isEqualTo("receipt/pending/receipt-test.jpg");
+		assertThat(requestCaptor.getValue().contentType()).isEqualTo("image/jpeg");
+	}
+
+	@Test
+	@DisplayName("파일 다운로드 성공")
+	void download_file_success() {
+		// given
+		byte[] fileData = "test data".getBytes();
+
+		given(s3Client.getObjectAsBytes(any(GetObjectRequest.class))).willReturn(
+			ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), fileData));
+
+		// when
+		byte[] result = s3Adapter.downloadFile("receipt/pending/receipt-test.jpg");
+
+		// then
+		assertThat(result).isEqualTo(fileData);
+	}
+
+	@Test
+	@DisplayName("S3 다운로드 실패")
+	void download_file_S3_error() {
+		// given
+		given(s3Client.getObjectAsBytes(any(GetObjectRequest.class))).willThrow(S3Exception.builder().build());
+
+		// when & then
+		assertThrows(ImageException.class, () -> s3Adapter.downloadFile("receipt/pending/receipt-test.jpg"));
+	}
 }
@@ -0,0 +1,259 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.category.domain.OwnerType.ADMIN;
+import static com.dalcoomi.fixture.MemberFixture.getMemberWithId1;
+import static com.dalcoomi.transaction.domain.TransactionType.EXPENSE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.dalcoomi.category.domain.Category;
+import com.dalcoomi.transaction.application.repository.TransactionViewRepository;
+import com.dalcoomi.transaction.domain.Ledger;
+import com.dalcoomi.transaction.domain.LedgerSnapshot;
+import com.dalcoomi.transaction.domain.Transaction;
+import com.dalcoomi.transaction.dto.CategoryBreakdown;
+import com.dalcoomi.transaction.dto.LedgerSnapshotRow;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerSnapshotServiceTest {
+
+	private static final Ledger LEDGER = Ledger.member(1L);
+	private static final LocalDate MARCH = LocalDate.of(2025, 3, 1);
+	private static final LocalDate APRIL = LocalDate.of(2025, 4, 1);
+
+	@InjectMocks
+	private LedgerSnapshotService ledgerSnapshotService;
+
+	@Mock
+	private TransactionViewRepository transactionViewRepository;
+
+	@Mock
+	private LedgerVersionService ledgerVersionService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(ledgerSnapshotService, "enabled", true);
+		ReflectionTestUtils.setField(ledgerSnapshotService, "maxBytes", 1024L * 1024L);
+		ReflectionTestUtils.setField(ledgerSnapshotService, "maxRowsPerLedger", 3);
+	}
+
+	@Test
+	@DisplayName("가계부 버전이 같으면 적재한 스냅샷을 다시 사용")
+	void get_same_version_reuses_snapshot_success() {
+		// given
+		given(ledgerVersionService.get(LEDGER)).willReturn(1L);
+		given(transactionViewRepository.findSnapshotRows(LEDGER, 4)).willReturn(List.of(getRow(1L, 10000L, 3)));
+
+		// when
+		LedgerSnapshot first = ledgerSnapshotService.get(LEDGER);
+		LedgerSnapshot second = ledgerSnapshotService.get(LEDGER);
+
+		// then
+		assertThat(second).isSameAs(first);
+		assertThat(second.size()).isEqualTo(1);
+		then(transactionViewRepository).should(times(1)).findSnapshotRows(LEDGER, 4);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스의 쓰기로 가계부 버전이 바뀌면 스냅샷을 다시 적재")
+	void get_version_changed_reloads_snapshot_success() {
+		// given
+		given(ledgerVersionService.get(LEDGER)).willReturn(1L, 2L);
+		given(transactionViewRepository.findSnapshotRows(LEDGER, 4))
+			.willReturn(List.of(getRow(1L, 10000L, 3)), List.of(getRow(1L, 10000L, 3), getRow(2L, 5000L, 4)));
+
+		// when
+		ledgerSnapshotService.get(LEDGER);
+		LedgerSnapshot reloaded = ledgerSnapshotService.get(LEDGER);
+
+		// then
+		assertThat(reloaded.version()).isEqualTo(2L);
+		assertThat(reloaded.size()).isEqualTo(2);
+		then(transactionViewRepository).should(times(2)).findSnapshotRows(LEDGER, 4);
+	}
+
+	@Test
+	@DisplayName("행 수가 한도를 넘는 가계부는 스냅샷 없이 DB 집계를 사용하도록 null 반환")
+	void get_too_large_returns_null_success() {
+		// given
+		given(ledgerVersionService.get(LEDGER)).willReturn(1L);
+		given(transactionViewRepository.findSnapshotRows(LEDGER, 4)).willReturn(List.of(
+			getRow(1L, 1000L, 1), getRow(2L, 1000L, 2), getRow(3L, 1000L, 3), getRow(4L, 1000L, 4)));
+
+		// when
+		LedgerSnapshot first = ledgerSnapshotService.get(LEDGER);
+		LedgerSnapshot second = ledgerSnapshotService.get(LEDGER);
+
+		// then
+		assertThat(first).isNull();
+		assertThat(second).isNull();
+		then(transactionViewRepository).should(times(1)).findSnapshotRows(LEDGER, 4);
+	}
+
+	@Test
+	@DisplayName("이 인스턴스의 쓰기는 다시 적재하지 않고 스냅샷에 증분 반영")
+	void apply_incremental_update_success() {
+		// given
+		given(ledgerVersionService.get(LEDGER)).willReturn(1L, 2L, 2L, 3L, 3L);
+		given(transactionViewRepository.findSnapshotRows(LEDGER, 4)).willReturn(List.of(getRow(1L, 10000L, 3)));
+
+		ledgerSnapshotService.get(LEDGER);
+
+		// when
+		ledgerSnapshotService.apply(Map.of(LEDGER, List.of(getTransaction(2L, 5000L, 4))), 1);
+		LedgerSnapshot added = ledgerSnapshotService.get(LEDGER);
+
+		ledgerSnapshotService.apply(Map.of(LEDGER, List.of(getTransaction(1L, 10000L, 3))), -1);
+		LedgerSnapshot removed = ledgerSnapshotService.get(LEDGER);
+
+		// then
+		assertThat(added.version()).isEqualTo(2L);
+		assertThat(added.categoryBreakdowns(MARCH, APRIL)).extracting(CategoryBreakdown::amount)
+			.containsExactly(15000L);
+		assertThat(removed.version()).isEqualTo(3L);
+		assertThat(removed.categoryBreakdowns(MARCH, APRIL)).extracting(CategoryBreakdown::amount)
+			.containsExactly(5000L);
+		then(transactionViewRepository).should(times(1)).findSnapshotRows(LEDGER, 4);
+	}
+
+	@Test
+	@DisplayName("스냅샷 이후 다른 쓰기가 끼어들었으면 증분 반영 대신 스냅샷 제거")
+	void apply_version_gap_removes_snapshot_success() {
+		// given
+		given(ledgerVersionService.get(LEDGER)).willReturn(1L, 3L, 3L);
+		given(transactionViewRepository.findSnapshotRows(LEDGER, 4))
+			.willReturn(List.of(getRow(1L, 10000L, 3)), List.of(getRow(1L, 10000L, 3), getRow(2L, 5000L, 4)));
+
+		ledgerSnapshotService.get(LEDGER);
+
+		// when
+		ledgerSnapshotService.apply(Map.of(LEDGER, List.of(getTransaction(2L, 5000L, 4))), 1);
+		LedgerSnapshot snapshot = ledgerSnapshotService.get(LEDGER);
+
+		// then
+		assertThat(snapshot.version()).isEqualTo(3L);
+		then(transactionViewRepository).should(times(2)).findSnapshotRows(LEDGER, 4);
+	}
+
+	@Test
+	@DisplayName("메모리 한도를 넘으면 가장 오래 조회되지 않은 가계부 스냅샷부터 제거")
+	void get_over_budget_evicts_least_recently_used_success() {
+		// given
+		Ledger other = Ledger.team(1L);
+		LedgerSnapshot single = LedgerSnapshot.of(1L, List.of(getRow(1L, 1000L, 1)));
+
+		ReflectionTestUtils.setField(ledgerSnapshotService, "maxBytes", single.estimatedBytes() + 1);
+
+		given(ledgerVersionService.get(LEDGER)).willReturn(1L);
+		given(ledgerVersionService.get(other)).willReturn(1L);
+		given(transactionViewRepository.findSnapshotRows(LEDGER, 4)).willReturn(List.of(getRow(1L, 1000L, 1)));
+		given(transactionViewRepository.findSnapshotRows(other, 4)).willReturn(List.of(getRow(2L, 1000L, 1)));
+
+		// when
+		ledgerSnapshotService.get(LEDGER);
+		ledgerSnapshotService.get(other);
+		ledgerSnapshotService.get(LEDGER);
+
+		// then
+		then(transactionViewRepository).should(times(2)).findSnapshotRows(LEDGER, 4);
+		then(transactionViewRepository).should(times(1)).findSnapshotRows(other, 4);
+	}
+
+	@Test
+	@DisplayName("가계부 삭제 시 스냅샷을 제거하여 다음 조회에서 다시 적재")
+	void evict_success() {
+		// given
+		given(ledgerVersionService.get(LEDGER)).willReturn(1L);
+		given(transactionViewRepository.findSnapshotRows(LEDGER, 4)).willReturn(List.of(getRow(1L, 10000L, 3)));
+
+		ledgerSnapshotService.get(LEDGER);
+
+		// when
+		ledgerSnapshotService.evict(LEDGER);
+		ledgerSnapshotService.get(LEDGER);
+
+		// then
+		then(transactionViewRepository).should(times(2)).findSnapshotRows(LEDGER, 4);
+	}
+
+	@Test
+	@DisplayName("회원 탈퇴로 거래가 익명화되면 모든 스냅샷을 제거하여 다음 조회에서 다시 적재")
+	void evict_all_after_commit_success() {
+		// given
+		Ledger other = Ledger.team(1L);
+
+		given(ledgerVersionService.get(LEDGER)).willReturn(1L);
+		given(ledgerVersionService.get(other)).willReturn(1L);
+		given(transactionViewRepository.findSnapshotRows(LEDGER, 4)).willReturn(List.of(getRow(1L, 10000L, 3)));
+		given(transactionViewRepository.findSnapshotRows(other, 4)).willReturn(List.of(getRow(2L, 5000L, 4)));
+
+		ledgerSnapshotService.get(LEDGER);
+		ledgerSnapshotService.get(other);
+
+		// when
+		ledgerSnapshotService.evictAllAfterCommit();
+		ledgerSnapshotService.get(LEDGER);
+		ledgerSnapshotService.get(other);
+
+		// then
+		then(transactionViewRepository).should(times(2)).findSnapshotRows(LEDGER, 4);
+		then(transactionViewRepository).should(times(2)).findSnapshotRows(other, 4);
+	}
+
+	@Test
+	@DisplayName("스냅샷이 꺼져 있으면 적재하지 않고 null 반환")
+	void get_disabled_returns_null_success() {
+		// given
+		ReflectionTestUtils.setField(ledgerSnapshotService, "enabled", false);
+
+		// when
+		LedgerSnapshot snapshot = ledgerSnapshotService.get(LEDGER);
+		ledgerSnapshotService.apply(Map.of(LEDGER, List.of(getTransaction(1L, 10000L, 3))), 1);
+
+		// then
+		assertThat(snapshot).isNull();
+		then(transactionViewRepository).shouldHaveNoInteractions();
+		then(ledgerVersionService).shouldHaveNoInteractions();
+	}
+
+	private LedgerSnapshotRow getRow(Long transactionId, Long amount, int day) {
+		return LedgerSnapshotRow.from(getTransaction(transactionId, amount, day));
+	}
+
+	private Transaction getTransaction(Long transactionId, Long amount, int day) {
+		Category category = Category.builder()
+			.id(1L)
+			.name("식비")
+			.iconUrl("https://example.com/112233")
+			.isActive(true)
+			.transactionType(EXPENSE)
+			.ownerType(ADMIN)
+			.build();
+
+		return Transaction.builder()
+			.id(transactionId)
+			.creator(getMemberWithId1())
+			.category(category)
+			.transactionDate(LocalDateTime.of(2025, 3, day, 12, 0))
+			.content("식사")
+			.amount(amount)
+			.transactionType(EXPENSE)
+			.build();
+	}
+}
@@ -0,0 +1,100 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.PERMITS_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.dalcoomi.AbstractContainerBaseTest;
+import com.dalcoomi.transaction.dto.ReceiptPermit;
+
+@SpringBootTest
+@TestPropertySource("classpath:application-test.properties")
+class ReceiptPermitSemaphoreTest extends AbstractContainerBaseTest {
+
+	@Autowired
+	private ReceiptPermitSemaphore receiptPermitSemaphore;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	@BeforeEach
+	void setUp() {
+		stringRedisTemplate.delete(PERMITS_KEY);
+	}
+
+	@AfterEach
+	void tearDown() {
+		stringRedisTemplate.delete(PERMITS_KEY);
+	}
+
+	@Test
+	@DisplayName("설정한 슬롯 수만큼만 동시에 획득 성공")
+	void try_acquire_up_to_permits_success() {
+		// when
+		boolean first = receiptPermitSemaphore.tryAcquire("receipt-1");
+		boolean second = receiptPermitSemaphore.tryAcquire("receipt-2");
+		boolean third = receiptPermitSemaphore.tryAcquire("receipt-3");
+
+		// then
+		assertThat(first).isTrue();
+		assertThat(second).isTrue();
+		assertThat(third).isFalse();
+		assertThat(receiptPermitSemaphore.heldPermits()).extracting(ReceiptPermit::taskId)
+			.containsExactlyInAnyOrder("receipt-1", "receipt-2");
+	}
+
+	@Test
+	@DisplayName("슬롯 반납 후 다른 작업이 획득 성공")
+	void release_then_acquire_success() {
+		// given
+		receiptPermitSemaphore.tryAcquire("receipt-1");
+		receiptPermitSemaphore.tryAcquire("receipt-2");
+
+		// when
+		receiptPermitSemaphore.release("receipt-1");
+
+		// then
+		assertThat(receiptPermitSemaphore.acquire("receipt-3")).isTrue();
+		assertThat(receiptPermitSemaphore.heldPermits()).extracting(ReceiptPermit::taskId)
+			.containsExactlyInAnyOrder("receipt-2", "receipt-3");
+	}
+
+	@Test
+	@DisplayName("이미 슬롯을 가진 작업이 다시 전달되면 슬롯이 가득 차도 임대만 연장 성공")
+	void try_acquire_same_task_renews_lease_success() {
+		// given
+		receiptPermitSemaphore.tryAcquire("receipt-1");
+		receiptPermitSemaphore.tryAcquire("receipt-2");
+
+		// when
+		boolean renewed = receiptPermitSemaphore.tryAcquire("receipt-1");
+
+		// then
+		assertThat(renewed).isTrue();
+		assertThat(receiptPermitSemaphore.heldPermits()).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("콜백이 오지 않아 임대가 만료된 슬롯은 회수되어 다른 작업이 획득 성공")
+	void try_acquire_reclaims_expired_lease_success() {
+		// given
+		stringRedisTemplate.opsForZSet().add(PERMITS_KEY, "receipt-expired", System.currentTimeMillis() - 1000);
+		receiptPermitSemaphore.tryAcquire("receipt-1");
+
+		// when
+		boolean acquired = receiptPermitSemaphore.tryAcquire("receipt-2");
+
+		// then
+		assertThat(acquired).isTrue();
+		assertThat(receiptPermitSemaphore.heldPermits()).extracting(ReceiptPermit::taskId)
+			.containsExactlyInAnyOrder("receipt-1", "receipt-2");
+	}
+}
@@ -0,0 +1,303 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.common.error.model.ErrorMessage.RECEIPT_DEAD_LETTER_NOT_FOUND;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.DEAD_LETTER_KEY;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_ATTEMPT;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_CATEGORY_NAMES;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_ERROR;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_FAILED_AT;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_FILE_KEY;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_TASK_ID;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.RETRY_KEY;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.STREAM_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.dalcoomi.common.error.exception.NotFoundException;
+import com.dalcoomi.image.infrastructure.S3Adapter;
+import com.dalcoomi.transaction.dto.ReceiptDeadLetterInfo;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class ReceiptRetryServiceTest {
+
+	@InjectMocks
+	private ReceiptRetryService receiptRetryService;
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Spy
+	private ObjectMapper objectMapper;
+
+	@Mock
+	private S3Adapter s3Adapter;
+
+	@Mock
+	private ZSetOperations<String, String> zSetOperations;
+
+	@Mock
+	private StreamOperations<String, Object, Object> streamOperations;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(receiptRetryService, "maxAttempts", 4);
+		ReflectionTestUtils.setField(receiptRetryService, "baseDelayMillis", 5000L);
+		ReflectionTestUtils.setField(receiptRetryService, "maxDelayMillis", 300000L);
+		ReflectionTestUtils.setField(receiptRetryService, "deadLetterRetentionDays", 14L);
+		ReflectionTestUtils.setField(receiptRetryService, "deadLetterMaxLength", 10000L);
+	}
+
+	@Test
+	@DisplayName("실패한 작업을 시도 횟수를 늘려 지수 백오프 시각에 재시도 예약 성공")
+	void retry_or_dead_letter_schedules_retry_success() throws Exception {
+		// given
+		Map<Object, Object> fields = getFields("receipt-test-123");
+		fields.put(FIELD_ATTEMPT, "2");
+
+		given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+		long before = System.currentTimeMillis();
+
+		// when
+		receiptRetryService.retryOrDeadLetter(fields, new RuntimeException("AI 서버 오류"));
+
+		// then
+		ArgumentCaptor<String> memberCaptor = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<Double> scoreCaptor = ArgumentCaptor.forClass(Double.class);
+
+		then(zSetOperations).should().add(eq(RETRY_KEY), memberCaptor.capture(), scoreCaptor.capture());
+
+		Map<String, String> task = objectMapper.readValue(memberCaptor.getValue(), new TypeReference<>() {
+		});
+
+		assertThat(task).containsEntry(FIELD_TASK_ID, "receipt-test-123").containsEntry(FIELD_ATTEMPT, "3");
+		assertThat(scoreCaptor.getValue()).isCloseTo(before + 10000.0, within(1000.0));
+		then(stringRedisTemplate).should(never()).opsForStream();
+	}
+
+	@Test
+	@DisplayName("최대 시도 횟수를 넘기면 실패 사유와 함께 dead-letter 스트림으로 이동 성공")
+	void retry_or_dead_letter_moves_to_dead_letter_success() {
+		// given
+		Map<Object, Object> fields = getFields("receipt-test-456");
+		fields.put(FIELD_ATTEMPT, "4");
+
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+
+		// when
+		receiptRetryService.retryOrDeadLetter(fields, new RuntimeException("AI 서버 오류"));
+
+		// then
+		ArgumentCaptor<MapRecord<String, String, String>> recordCaptor = ArgumentCaptor.forClass(MapRecord.class);
+
+		then(streamOperations).should().add(recordCaptor.capture());
+		then(streamOperations).should().trim(DEAD_LETTER_KEY, 10000L, true);
+		then(zSetOperations).should(never()).add(anyString(), anyString(), anyDouble());
+
+		MapRecord<String, String, String> deadLetter = recordCaptor.getValue();
+
+		assertThat(deadLetter.getStream()).isEqualTo(DEAD_LETTER_KEY);
+		assertThat(deadLetter.getValue())
+			.containsEntry(FIELD_TASK_ID, "receipt-test-456")
+			.containsEntry(FIELD_ATTEMPT, "4")
+			.containsEntry(FIELD_ERROR, "AI 서버 오류")
+			.containsKey(FIELD_FAILED_AT);
+	}
+
+	@Test
+	@DisplayName("dead-letter 작업 목록 조회 성공")
+	void get_dead_letters_success() {
+		// given
+		Map<Object, Object> fields = getFields("receipt-test-789");
+		fields.put(FIELD_ATTEMPT, "4");
+		fields.put(FIELD_ERROR, "AI 서버 오류");
+		fields.put(FIELD_FAILED_AT, "2025-03-01T10:00");
+
+		MapRecord<String, Object, Object> deadLetter = StreamRecords.newRecord()
+			.in(DEAD_LETTER_KEY)
+			.ofMap(fields)
+			.withId(RecordId.of("1234567890-0"));
+
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+		given(streamOperations.reverseRange(eq(DEAD_LETTER_KEY), eq(Range.unbounded()), any(Limit.class)))
+			.willReturn(List.of(deadLetter));
+
+		// when
+		List<ReceiptDeadLetterInfo> deadLetters = receiptRetryService.getDeadLetters(20);
+
+		// then
+		assertThat(deadLetters).singleElement().satisfies(deadLetterInfo -> {
+			assertThat(deadLetterInfo.messageId()).isEqualTo("1234567890-0");
+			assertThat(deadLetterInfo.taskId()).isEqualTo("receipt-test-789");
+			assertThat(deadLetterInfo.attempts()).isEqualTo(4);
+			assertThat(deadLetterInfo.error()).isEqualTo("AI 서버 오류");
+		});
+	}
+
+	@Test
+	@DisplayName("dead-letter 작업을 시도 횟수 없이 처리 스트림에 다시 발행하고 제거 성공")
+	void replay_success() {
+		// given
+		Map<Object, Object> fields = getFields("receipt-test-789");
+		fields.put(FIELD_ATTEMPT, "4");
+		fields.put(FIELD_ERROR, "AI 서버 오류");
+
+		MapRecord<String, Object, Object> deadLetter = StreamRecords.newRecord()
+			.in(DEAD_LETTER_KEY)
+			.ofMap(fields)
+			.withId(RecordId.of("1234567890-0"));
+
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+		given(streamOperations.range(DEAD_LETTER_KEY, Range.closed("1234567890-0", "1234567890-0")))
+			.willReturn(List.of(deadLetter));
+
+		// when
+		receiptRetryService.replay("1234567890-0");
+
+		// then
+		ArgumentCaptor<MapRecord<String, String, String>> recordCaptor = ArgumentCaptor.forClass(MapRecord.class);
+
+		then(streamOperations).should().add(recordCaptor.capture());
+		then(streamOperations).should().delete(DEAD_LETTER_KEY, "1234567890-0");
+
+		MapRecord<String, String, String> task = recordCaptor.getValue();
+
+		assertThat(task.getStream()).isEqualTo(STREAM_KEY);
+		assertThat(task.getValue())
+			.containsEntry(FIELD_TASK_ID, "receipt-test-789")
+			.doesNotContainKeys(FIELD_ATTEMPT, FIELD_ERROR);
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 dead-letter 작업 재처리 시 실패")
+	void replay_not_found_fail() {
+		// given
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+		given(streamOperations.range(DEAD_LETTER_KEY, Range.closed("1234567890-0", "1234567890-0")))
+			.willReturn(List.of());
+
+		// when & then
+		assertThatThrownBy(() -> receiptRetryService.replay("1234567890-0"))
+			.isInstanceOf(NotFoundException.class)
+			.hasMessage(RECEIPT_DEAD_LETTER_NOT_FOUND.getMessage());
+	}
+
+	@Test
+	@DisplayName("dead-letter 작업을 영수증 파일과 함께 폐기 성공")
+	void discard_success() {
+		// given
+		MapRecord<String, Object, Object> deadLetter = getDeadLetter("receipt-test-789", "1234567890-0");
+
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+		given(streamOperations.range(DEAD_LETTER_KEY, Range.closed("1234567890-0", "1234567890-0")))
+			.willReturn(List.of(deadLetter));
+
+		// when
+		receiptRetryService.discard("1234567890-0");
+
+		// then
+		then(s3Adapter).should().deleteFile("receipt/pending/receipt-test-789.jpg");
+		then(streamOperations).should().delete(DEAD_LETTER_KEY, RecordId.of("1234567890-0"));
+		then(streamOperations).should(never()).add(any(MapRecord.class));
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 dead-letter 작업 폐기 시 실패")
+	void discard_not_found_fail() {
+		// given
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+		given(streamOperations.range(DEAD_LETTER_KEY, Range.closed("1234567890-0", "1234567890-0")))
+			.willReturn(List.of());
+
+		// when & then
+		assertThatThrownBy(() -> receiptRetryService.discard("1234567890-0"))
+			.isInstanceOf(NotFoundException.class)
+			.hasMessage(RECEIPT_DEAD_LETTER_NOT_FOUND.getMessage());
+		then(s3Adapter).should(never()).deleteFile(anyString());
+	}
+
+	@Test
+	@DisplayName("보관 기간이 지난 dead-letter 작업을 파일 삭제 실패와 관계없이 정리 성공")
+	void purge_expired_dead_letters_success() {
+		// given
+		MapRecord<String, Object, Object> first = getDeadLetter("receipt-test-111", "1000-0");
+		MapRecord<String, Object, Object> second = getDeadLetter("receipt-test-222", "2000-0");
+
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+		given(streamOperations.range(eq(DEAD_LETTER_KEY), any(Range.class), any(Limit.class)))
+			.willReturn(List.of(first, second));
+		willThrow(new RuntimeException("S3 삭제 실패")).given(s3Adapter)
+			.deleteFile("receipt/pending/receipt-test-111.jpg");
+
+		long before = System.currentTimeMillis();
+
+		// when
+		receiptRetryService.purgeExpiredDeadLetters();
+
+		// then
+		ArgumentCaptor<Range<String>> rangeCaptor = ArgumentCaptor.forClass(Range.class);
+
+		then(streamOperations).should().range(eq(DEAD_LETTER_KEY), rangeCaptor.capture(), any(Limit.class));
+		then(s3Adapter).should().deleteFile("receipt/pending/receipt-test-222.jpg");
+		then(streamOperations).should().delete(DEAD_LETTER_KEY, RecordId.of("1000-0"), RecordId.of("2000-0"));
+
+		String upperBound = rangeCaptor.getValue().getUpperBound().getValue().orElseThrow();
+		long cutoffMillis = Long.parseLong(upperBound.substring(0, upperBound.indexOf('-')));
+
+		assertThat(cutoffMillis).isCloseTo(before - 14L * 24 * 60 * 60 * 1000, within(1000L));
+	}
+
+	private MapRecord<String, Object, Object> getDeadLetter(String taskId, String messageId) {
+		Map<Object, Object> fields = getFields(taskId);
+		fields.put(FIELD_ATTEMPT, "4");
+		fields.put(FIELD_ERROR, "AI 서버 오류");
+
+		return StreamRecords.newRecord()
+			.in(DEAD_LETTER_KEY)
+			.ofMap(fields)
+			.withId(RecordId.of(messageId));
+	}
+
+	private Map<Object, Object> getFields(String taskId) {
+		Map<Object, Object> fields = new HashMap<>();
+		fields.put(FIELD_TASK_ID, taskId);
+		fields.put(FIELD_FILE_KEY, "receipt/pending/" + taskId + ".jpg");
+		fields.put(FIELD_CATEGORY_NAMES, "[\"식비\"]");
+
+		return fields;
+	}
+}
@@ -0,0 +1,168 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.CONSUMER_GROUP;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_TASK_ID;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.STREAM_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.dalcoomi.transaction.dto.ReceiptTaskResult;
+
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class ReceiptStreamBatchConsumerTest {
+
+	private static final Consumer SELF = Consumer.from(CONSUMER_GROUP, "processor-self");
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private ReceiptStreamConsumer receiptStreamConsumer;
+
+	@Mock
+	private StreamOperations<String, Object, Object> streamOperations;
+
+	private ReceiptStreamBatchConsumer receiptStreamBatchConsumer;
+
+	@BeforeEach
+	void setUp() {
+		receiptStreamBatchConsumer = new ReceiptStreamBatchConsumer(stringRedisTemplate, receiptStreamConsumer, SELF);
+
+		ReflectionTestUtils.setField(receiptStreamBatchConsumer, "batchSize", 3);
+		ReflectionTestUtils.setField(receiptStreamBatchConsumer, "concurrency", 2);
+		ReflectionTestUtils.setField(receiptStreamBatchConsumer, "pollTimeoutMillis", 10L);
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		receiptStreamBatchConsumer.stop();
+	}
+
+	@Test
+	@DisplayName("한 번에 읽은 메시지를 동시에 처리하고 결과를 읽은 순서대로 모아 한 번에 ACK 성공")
+	@SuppressWarnings("unchecked")
+	void consume_batch_dispatches_and_completes_together_success() {
+		// given
+		MapRecord<String, Object, Object> first = getRecord("receipt-test-1", "1234567890-0");
+		MapRecord<String, Object, Object> second = getRecord("receipt-test-2", "1234567890-1");
+
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+		given(streamOperations.read(eq(SELF), any(StreamReadOptions.class), any(StreamOffset.class)))
+			.willReturn(List.of(first, second));
+		given(receiptStreamConsumer.handle(first)).willReturn(Mono.just(ReceiptTaskResult.completed(first)));
+		given(receiptStreamConsumer.handle(second)).willReturn(Mono.just(ReceiptTaskResult.skipped(second)));
+
+		// when
+		int consumed = receiptStreamBatchConsumer.consumeBatch();
+
+		// then
+		ArgumentCaptor<StreamReadOptions> optionsCaptor = ArgumentCaptor.forClass(StreamReadOptions.class);
+		ArgumentCaptor<List<ReceiptTaskResult>> resultsCaptor = ArgumentCaptor.forClass(List.class);
+
+		then(streamOperations).should().read(eq(SELF), optionsCaptor.capture(), any(StreamOffset.class));
+		then(receiptStreamConsumer).should().complete(resultsCaptor.capture());
+
+		assertThat(consumed).isEqualTo(2);
+		assertThat(optionsCaptor.getValue().getCount()).isEqualTo(3L);
+		assertThat(resultsCaptor.getValue()).extracting(ReceiptTaskResult::messageId)
+			.containsExactly("1234567890-0", "1234567890-1");
+	}
+
+	@Test
+	@DisplayName("읽은 메시지가 없으면 ACK 하지 않음 성공")
+	@SuppressWarnings("unchecked")
+	void consume_batch_empty_success() {
+		// given
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+		given(streamOperations.read(eq(SELF), any(StreamReadOptions.class), any(StreamOffset.class)))
+			.willReturn(List.of());
+
+		// when
+		int consumed = receiptStreamBatchConsumer.consumeBatch();
+
+		// then
+		assertThat(consumed).isZero();
+		then(receiptStreamConsumer).should(never()).complete(anyList());
+	}
+
+	@Test
+	@DisplayName("켜져 있으면 시작 시 스트림을 계속 읽고, 종료 시 멈춤 성공")
+	@SuppressWarnings("unchecked")
+	void start_and_stop_success() throws InterruptedException {
+		// given
+		ReflectionTestUtils.setField(receiptStreamBatchConsumer, "enabled", true);
+
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+		given(streamOperations.read(eq(SELF), any(StreamReadOptions.class), any(StreamOffset.class)))
+			.willReturn(List.of());
+
+		// when
+		receiptStreamBatchConsumer.start();
+
+		then(streamOperations).should(timeout(1000).atLeastOnce())
+			.read(eq(SELF), any(StreamReadOptions.class), any(StreamOffset.class));
+
+		receiptStreamBatchConsumer.stop();
+
+		// then
+		Thread poller = (Thread)ReflectionTestUtils.getField(receiptStreamBatchConsumer, "poller");
+
+		assertThat(poller.isAlive()).isFalse();
+	}
+
+	@Test
+	@DisplayName("스트림 읽기 중 오류가 나면 Consumer Group 복구를 시도 성공")
+	@SuppressWarnings("unchecked")
+	void start_read_error_handled_success() {
+		// given
+		ReflectionTestUtils.setField(receiptStreamBatchConsumer, "enabled", true);
+
+		RuntimeException error = new RuntimeException("NOGROUP No such consumer group");
+
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+		given(streamOperations.read(eq(SELF), any(StreamReadOptions.class), any(StreamOffset.class)))
+			.willThrow(error);
+
+		// when
+		receiptStreamBatchConsumer.start();
+
+		// then
+		then(receiptStreamConsumer).should(timeout(1000).atLeastOnce()).handleStreamError(error);
+	}
+
+	private MapRecord<String, Object, Object> getRecord(String taskId, String messageId) {
+		return StreamRecords.newRecord()
+			.in(STREAM_KEY)
+			.ofMap(Map.<Object, Object>of(FIELD_TASK_ID, taskId))
+			.withId(RecordId.of(messageId));
+	}
+}
@@ -2,10 +2,11 @@ package com.dalcoomi.transaction.application;
 
 import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.CONSUMER_GROUP;
 import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_CATEGORY_NAMES;
-import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_FILE_PATH;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_FILE_KEY;
 import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_TASK_ID;
-import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.PROCESSING_KEY;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.PERMITS_KEY;
 import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.STREAM_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -13,9 +14,12 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -28,13 +32,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StreamOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 
-import com.dalcoomi.common.util.TempFileUtil;
+import com.dalcoomi.image.infrastructure.S3Adapter;
+import com.dalcoomi.transaction.dto.ReceiptTaskResult;
 
 import reactor.core.publisher.Mono;
 
@@ -48,7 +54,7 @@ class ReceiptStreamConsumerTest {
 	private StringRedisTemplate stringRedisTemplate;
 
 	@Mock
-	private TempFileUtil tempFileUtil;
+	private S3Adapter s3Adapter;
 
 	@Mock
 	private WebClient webClient;
@@ -57,7 +63,13 @@ class ReceiptStreamConsumerTest {
 	private StreamOperations<String, Object, Object> streamOperations;
 
 	@Mock
-	private ValueOperations<String, String> valueOperations;
+	private ZSetOperations<String, String> zSetOperations;
+
+	@Mock
+	private ReceiptPermitSemaphore receiptPermitSemaphore;
+
+	@Mock
+	private ReceiptRetryService receiptRetryService;
 
 	@Mock
 	private WebClient.RequestBodyUriSpec requestBodyUriSpec;
@@ -78,12 +90,12 @@ class ReceiptStreamConsumerTest {
 	}
 
 	@Test
-	@DisplayName("처리 중인 메시지가 있으면 대기 성공")
+	@DisplayName("처리 슬롯을 얻지 못하면 메시지를 처리하지 않고 대기열에 남김 성공")
 	void on_message_when_processing_then_skip_success() {
 		// given
 		Map<Object, Object> messageBody = new HashMap<>();
 		messageBody.put(FIELD_TASK_ID, "receipt-test-123");
-		messageBody.put(FIELD_FILE_PATH, "/tmp/receipts/receipt-test-123.jpg");
+		messageBody.put(FIELD_FILE_KEY, "receipt/pending/receipt-test-123.jpg");
 		messageBody.put(FIELD_CATEGORY_NAMES, "[\"식비\"]");
 
 		MapRecord<String, Object, Object> message = StreamRecords.newRecord()
@@ -91,14 +103,15 @@ class ReceiptStreamConsumerTest {
 			.ofMap(messageBody)
 			.withId(RecordId.of("1234567890-0"));
 
-		given(stringRedisTemplate.hasKey(PROCESSING_KEY)).willReturn(true);
+		given(receiptPermitSemaphore.acquire("receipt-test-123")).willReturn(false);
 
 		// when
 		receiptStreamConsumer.onMessage(message);
 
 		// then
-		then(stringRedisTemplate).should(times(1)).hasKey(PROCESSING_KEY);
+		then(receiptPermitSemaphore).should(times(1)).acquire("receipt-test-123");
 		then(stringRedisTemplate).should(times(0)).opsForStream();
+		then(s3Adapter).should(times(0)).downloadFile(anyString());
 	}
 
 	@Test
@@ -106,13 +119,13 @@ class ReceiptStreamConsumerTest {
 	void consume_messages_success() {
 		// given
 		String taskId = "receipt-test-123";
-		String filePath = "/tmp/receipts/receipt-test-123.jpg";
+		String fileKey = "receipt/pending/receipt-test-123.jpg";
 		String categoryNamesJson = "[\"식비\",\"카페\"]";
 		String messageId = "1234567890-0";
 
 		Map<Object, Object> messageBody = new HashMap<>();
 		messageBody.put(FIELD_TASK_ID, taskId);
-		messageBody.put(FIELD_FILE_PATH, filePath);
+		messageBody.put(FIELD_FILE_KEY, fileKey);
 		messageBody.put(FIELD_CATEGORY_NAMES, categoryNamesJson);
 
 		MapRecord<String, Object, Object> message = StreamRecords.newRecord()
@@ -120,13 +133,11 @@ class ReceiptStreamConsumerTest {
 			.ofMap(messageBody)
 			.withId(RecordId.of(messageId));
 
-		given(stringRedisTemplate.hasKey(PROCESSING_KEY)).willReturn(false);
+		given(receiptPermitSemaphore.acquire(taskId)).willReturn(true);
 		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
-		given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
-		given(tempFileUtil.readTempFile(filePath)).willReturn("test file content".getBytes());
-		willDoNothing().given(tempFileUtil).deleteTempFile(anyString());
+		given(s3Adapter.downloadFile(fileKey)).willReturn("test file content".getBytes());
+		willDoNothing().given(s3Adapter).deleteFile(anyString());
 		given(streamOperations.acknowledge(anyString(), anyString(), anyString())).willReturn(1L);
-		willDoNothing().given(valueOperations).set(anyString(), anyString(), any());
 
 		// WebClient Mock 설정 - 실제 Mono 체인이 동작하도록
 		Mono<String> actualMono = Mono.just("{\"success\":true}");
@@ -143,22 +154,53 @@ class ReceiptStreamConsumerTest {
 		receiptStreamConsumer.onMessage(message);
 
 		// then
-		then(tempFileUtil).should(times(1)).readTempFile(filePath);
-		then(tempFileUtil).should(times(1)).deleteTempFile(filePath);
-		then(streamOperations).should(times(1)).acknowledge(eq(STREAM_KEY), eq(CONSUMER_GROUP), eq(messageId));
+		then(streamOperations).should(timeout(1000).times(1))
+			.acknowledge(eq(STREAM_KEY), eq(CONSUMER_GROUP), eq(messageId)); // 응답 콜백에서 ACK 처리
+		then(s3Adapter).should(times(1)).downloadFile(fileKey);
+		then(s3Adapter).should(times(1)).deleteFile(fileKey);
+		then(receiptPermitSemaphore).should(times(0)).release(anyString()); // 콜백을 받을 때까지 슬롯 유지
 	}
 
 	@Test
-	@DisplayName("메시지 처리 중 예외 발생 시에도 ACK 처리 성공")
+	@DisplayName("처리가 끝난 뒤 영수증 파일 삭제에 실패해도 재시도하지 않고 ACK 처리 성공")
+	void consume_messages_delete_file_error_still_acks_success() {
+		// given
+		MapRecord<String, Object, Object> message = getMessage("receipt-test-777", "1234567890-1");
+
+		given(receiptPermitSemaphore.acquire("receipt-test-777")).willReturn(true);
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+		given(s3Adapter.downloadFile("receipt/pending/receipt-test-777.jpg")).willReturn("test".getBytes());
+		willThrow(new RuntimeException("S3 삭제 실패")).given(s3Adapter)
+			.deleteFile("receipt/pending/receipt-test-777.jpg");
+
+		given(webClient.post()).willReturn(requestBodyUriSpec);
+		given(requestBodyUriSpec.uri(anyString())).willReturn(requestBodySpec);
+		given(requestBodySpec.header(anyString(), anyString())).willReturn(requestBodySpec);
+		given(requestBodySpec.contentType(any())).willReturn(requestBodySpec);
+		given(requestBodySpec.bodyValue(any())).willReturn(requestHeadersSpec);
+		given(requestHeadersSpec.retrieve()).willReturn(responseSpec);
+		given(responseSpec.onStatus(any(), any())).willReturn(responseSpec);
+		given(responseSpec.bodyToMono(String.class)).willReturn(Mono.just("{\"success\":true}"));
+
+		// when
+		receiptStreamConsumer.onMessage(message);
+
+		// then
+		then(streamOperations).should(timeout(1000).times(1)).acknowledge(STREAM_KEY, CONSUMER_GROUP, "1234567890-1");
+		then(receiptRetryService).should(never()).retryOrDeadLetter(any(), any());
+	}
+
+	@Test
+	@DisplayName("메시지 처리 중 예외 발생 시 재시도를 예약하고 ACK 처리 성공")
 	void consume_messages_with_exception_still_acks_success() {
 		// given
 		String taskId = "receipt-test-456";
-		String filePath = "/tmp/receipts/receipt-test-456.jpg";
+		String fileKey = "receipt/pending/receipt-test-456.jpg";
 		String categoryNamesJson = "[\"식비\"]";
 
 		Map<Object, Object> messageBody = new HashMap<>();
 		messageBody.put(FIELD_TASK_ID, taskId);
-		messageBody.put(FIELD_FILE_PATH, filePath);
+		messageBody.put(FIELD_FILE_KEY, fileKey);
 		messageBody.put(FIELD_CATEGORY_NAMES, categoryNamesJson);
 
 		MapRecord<String, Object, Object> message = StreamRecords.newRecord()
@@ -166,18 +208,18 @@ class ReceiptStreamConsumerTest {
 			.ofMap(messageBody)
 			.withId(RecordId.of("1234567891-0"));
 
-		given(stringRedisTemplate.hasKey(PROCESSING_KEY)).willReturn(false);
+		given(receiptPermitSemaphore.acquire(taskId)).willReturn(true);
 		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
-		given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
-		willThrow(new RuntimeException("파일 읽기 실패")).given(tempFileUtil).readTempFile(filePath);
-		willDoNothing().given(tempFileUtil).deleteTempFile(anyString());
+		willThrow(new RuntimeException("파일 읽기 실패")).given(s3Adapter).downloadFile(fileKey);
 		given(streamOperations.acknowledge(anyString(), anyString(), anyString())).willReturn(1L);
 
 		// when
 		receiptStreamConsumer.onMessage(message);
 
 		// then
-		then(tempFileUtil).should(times(1)).deleteTempFile(filePath); // 예외 발생 시에도 삭제
+		then(receiptPermitSemaphore).should(timeout(1000).times(1)).release(taskId); // 콜백이 오지 않으므로 슬롯 반납
+		then(s3Adapter).should(times(0)).deleteFile(anyString()); // 재시도를 위해 남겨둠
+		then(receiptRetryService).should(times(1)).retryOrDeadLetter(eq(messageBody), any(RuntimeException.class));
 		then(streamOperations).should(times(1)).acknowledge(eq(STREAM_KEY), eq(CONSUMER_GROUP), anyString()); // ACK 처리
 	}
 
@@ -187,7 +229,7 @@ class ReceiptStreamConsumerTest {
 		// given
 		Map<Object, Object> messageBody = new HashMap<>();
 		messageBody.put(FIELD_TASK_ID, "receipt-test-789");
-		messageBody.put(FIELD_FILE_PATH, "/tmp/receipts/receipt-test-789.jpg");
+		messageBody.put(FIELD_FILE_KEY, "receipt/pending/receipt-test-789.jpg");
 		messageBody.put(FIELD_CATEGORY_NAMES, "[\"식비\"]");
 
 		MapRecord<String, Object, Object> message = StreamRecords.newRecord()
@@ -195,7 +237,7 @@ class ReceiptStreamConsumerTest {
 			.ofMap(messageBody)
 			.withId(RecordId.of("1234567892-0"));
 
-		given(stringRedisTemplate.hasKey(PROCESSING_KEY))
+		given(receiptPermitSemaphore.acquire("receipt-test-789"))
 			.willThrow(new RuntimeException("NOGROUP No such consumer group"));
 		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
 
@@ -207,16 +249,16 @@ class ReceiptStreamConsumerTest {
 	}
 
 	@Test
-	@DisplayName("AI 서버 에러 응답 시에도 ACK 처리 및 임시 파일 삭제 성공")
+	@DisplayName("AI 서버 에러 응답 시 영수증 파일을 남기고 재시도 예약 및 ACK 처리 성공")
 	void consume_messages_with_ai_server_error_success() {
 		// given
 		String taskId = "receipt-test-500";
-		String filePath = "/tmp/receipts/receipt-test-500.jpg";
+		String fileKey = "receipt/pending/receipt-test-500.jpg";
 		String categoryNamesJson = "[\\\"식비\\\"]";
 
 		Map<Object, Object> messageBody = new HashMap<>();
 		messageBody.put(FIELD_TASK_ID, taskId);
-		messageBody.put(FIELD_FILE_PATH, filePath);
+		messageBody.put(FIELD_FILE_KEY, fileKey);
 		messageBody.put(FIELD_CATEGORY_NAMES, categoryNamesJson);
 
 		MapRecord<String, Object, Object> message = StreamRecords.newRecord()
@@ -224,11 +266,9 @@ class ReceiptStreamConsumerTest {
 			.ofMap(messageBody)
 			.withId(RecordId.of("1234567893-0"));
 
-		given(stringRedisTemplate.hasKey(PROCESSING_KEY)).willReturn(false);
+		given(receiptPermitSemaphore.acquire(taskId)).willReturn(true);
 		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
-		given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
-		given(tempFileUtil.readTempFile(filePath)).willReturn("test file content".getBytes());
-		willDoNothing().given(tempFileUtil).deleteTempFile(anyString());
+		given(s3Adapter.downloadFile(fileKey)).willReturn("test file content".getBytes());
 		given(streamOperations.acknowledge(anyString(), anyString(), anyString())).willReturn(1L);
 
 		// WebClient Mock 설정 - 에러 응답
@@ -245,8 +285,10 @@ class ReceiptStreamConsumerTest {
 		receiptStreamConsumer.onMessage(message);
 
 		// then
-		then(tempFileUtil).should(times(1)).readTempFile(filePath);
-		then(tempFileUtil).should(times(1)).deleteTempFile(filePath); // 에러 발생 시에도 삭제
+		then(receiptPermitSemaphore).should(timeout(1000).times(1)).release(taskId);
+		then(s3Adapter).should(times(1)).downloadFile(fileKey);
+		then(s3Adapter).should(times(0)).deleteFile(anyString()); // 재시도를 위해 남겨둠
+		then(receiptRetryService).should(times(1)).retryOrDeadLetter(eq(messageBody), any(RuntimeException.class));
 		then(streamOperations).should(times(1)).acknowledge(eq(STREAM_KEY), eq(CONSUMER_GROUP), anyString()); // ACK 처리
 	}
 
@@ -256,7 +298,7 @@ class ReceiptStreamConsumerTest {
 		// given
 		Map<Object, Object> messageBody = new HashMap<>();
 		messageBody.put(FIELD_TASK_ID, "receipt-test-999");
-		messageBody.put(FIELD_FILE_PATH, "/tmp/receipts/receipt-test-999.jpg");
+		messageBody.put(FIELD_FILE_KEY, "receipt/pending/receipt-test-999.jpg");
 		messageBody.put(FIELD_CATEGORY_NAMES, "[\"식비\"]");
 
 		MapRecord<String, Object, Object> message = StreamRecords.newRecord()
@@ -264,7 +306,7 @@ class ReceiptStreamConsumerTest {
 			.ofMap(messageBody)
 			.withId(RecordId.of("1234567894-0"));
 
-		given(stringRedisTemplate.hasKey(PROCESSING_KEY)).willThrow(
+		given(receiptPermitSemaphore.acquire("receipt-test-999")).willThrow(
 			new RuntimeException("NOGROUP No such consumer group"));
 		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
 		willThrow(new RuntimeException("Consumer Group 생성 실패")).given(streamOperations)
@@ -283,7 +325,7 @@ class ReceiptStreamConsumerTest {
 		// given
 		Map<Object, Object> messageBody = new HashMap<>();
 		messageBody.put(FIELD_TASK_ID, "receipt-test-888");
-		messageBody.put(FIELD_FILE_PATH, "/tmp/receipts/receipt-test-888.jpg");
+		messageBody.put(FIELD_FILE_KEY, "receipt/pending/receipt-test-888.jpg");
 		messageBody.put(FIELD_CATEGORY_NAMES, "[\"식비\"]");
 
 		MapRecord<String, Object, Object> message = StreamRecords.newRecord()
@@ -291,12 +333,103 @@ class ReceiptStreamConsumerTest {
 			.ofMap(messageBody)
 			.withId(RecordId.of("1234567895-0"));
 
-		given(stringRedisTemplate.hasKey(PROCESSING_KEY)).willThrow(new RuntimeException("일반 Redis 오류"));
+		given(receiptPermitSemaphore.acquire("receipt-test-888")).willThrow(new RuntimeException("일반 Redis 오류"));
 
 		// when
 		receiptStreamConsumer.onMessage(message);
 
 		// then
-		then(stringRedisTemplate).should(times(1)).hasKey(PROCESSING_KEY);
+		then(receiptPermitSemaphore).should(times(1)).acquire("receipt-test-888");
+	}
+
+	@Test
+	@DisplayName("배치 모드 - 처리 슬롯을 얻지 못한 메시지는 ACK 대상에서 제외 성공")
+	void handle_when_permit_unavailable_then_skip_success() {
+		// given
+		MapRecord<String, Object, Object> message = getMessage("receipt-test-321", "1234567896-0");
+
+		given(receiptPermitSemaphore.acquire("receipt-test-321")).willReturn(false);
+
+		// when
+		ReceiptTaskResult result = receiptStreamConsumer.handle(message).block();
+
+		// then
+		assertThat(result.acquired()).isFalse();
+		assertThat(result.isFailed()).isFalse();
+		then(s3Adapter).should(never()).downloadFile(anyString());
+	}
+
+	@Test
+	@DisplayName("배치 모드 - 처리 실패 시 ACK 없이 실패 결과 반환 성공")
+	void handle_when_send_fails_then_return_failure_success() {
+		// given
+		MapRecord<String, Object, Object> message = getMessage("receipt-test-654", "1234567897-0");
+
+		given(receiptPermitSemaphore.acquire("receipt-test-654")).willReturn(true);
+		willThrow(new RuntimeException("파일 읽기 실패")).given(s3Adapter)
+			.downloadFile("receipt/pending/receipt-test-654.jpg");
+
+		// when
+		ReceiptTaskResult result = receiptStreamConsumer.handle(message).block();
+
+		// then
+		assertThat(result.acquired()).isTrue();
+		assertThat(result.failure()).hasMessage("파일 읽기 실패");
+		then(stringRedisTemplate).should(never()).opsForStream();
+		then(receiptRetryService).should(never()).retryOrDeadLetter(any(), any());
+	}
+
+	@Test
+	@DisplayName("배치 모드 - 묶음의 ACK, 재시도 예약, 슬롯 반납을 한 파이프라인으로 전송 성공")
+	void complete_pipelines_acks_and_failures_success() {
+		// given
+		MapRecord<String, Object, Object> completed = getMessage("receipt-test-111", "1234567898-0");
+		MapRecord<String, Object, Object> failed = getMessage("receipt-test-222", "1234567898-1");
+		MapRecord<String, Object, Object> skipped = getMessage("receipt-test-333", "1234567898-2");
+		RuntimeException failure = new RuntimeException("AI 서버 오류");
+
+		given(stringRedisTemplate.executePipelined(any(SessionCallback.class))).willAnswer(invocation -> {
+			SessionCallback<?> callback = invocation.getArgument(0);
+			callback.execute(stringRedisTemplate);
+
+			return List.of();
+		});
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+		given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+		// when
+		receiptStreamConsumer.complete(List.of(ReceiptTaskResult.completed(completed),
+			ReceiptTaskResult.failed(failed, failure), ReceiptTaskResult.skipped(skipped)));
+
+		// then
+		then(stringRedisTemplate).should(times(1)).executePipelined(any(SessionCallback.class));
+		then(streamOperations).should(times(1)).acknowledge(STREAM_KEY, CONSUMER_GROUP, "1234567898-0", "1234567898-1");
+		then(receiptRetryService).should(times(1)).retryOrDeadLetter(failed.getValue(), failure);
+		then(zSetOperations).should(times(1)).remove(PERMITS_KEY, "receipt-test-222");
+	}
+
+	@Test
+	@DisplayName("배치 모드 - ACK 할 메시지가 없으면 Redis 에 요청하지 않음 성공")
+	void complete_when_all_skipped_then_no_request_success() {
+		// given
+		MapRecord<String, Object, Object> skipped = getMessage("receipt-test-444", "1234567899-0");
+
+		// when
+		receiptStreamConsumer.complete(List.of(ReceiptTaskResult.skipped(skipped)));
+
+		// then
+		then(stringRedisTemplate).should(never()).executePipelined(any(SessionCallback.class));
+	}
+
+	private MapRecord<String, Object, Object> getMessage(String taskId, String messageId) {
+		Map<Object, Object> messageBody = new HashMap<>();
+		messageBody.put(FIELD_TASK_ID, taskId);
+		messageBody.put(FIELD_FILE_KEY, "receipt/pending/" + taskId + ".jpg");
+		messageBody.put(FIELD_CATEGORY_NAMES, "[\"식비\"]");
+
+		return StreamRecords.newRecord()
+			.in(STREAM_KEY)
+			.ofMap(messageBody)
+			.withId(RecordId.of(messageId));
 	}
 }
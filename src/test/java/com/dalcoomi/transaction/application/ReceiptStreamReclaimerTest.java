@@ -0,0 +1,247 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.CONSUMER_GROUP;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.FIELD_TASK_ID;
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.STREAM_KEY;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.withSettings;
+import static org.mockito.quality.Strictness.LENIENT;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumer;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumers;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ReceiptStreamReclaimerTest {
+
+	private static final Consumer SELF = Consumer.from(CONSUMER_GROUP, "processor-self");
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private ReceiptStreamConsumer receiptStreamConsumer;
+
+	@Mock
+	private ReceiptPermitSemaphore receiptPermitSemaphore;
+
+	@Mock
+	private StreamOperations<String, Object, Object> streamOperations;
+
+	private ReceiptStreamReclaimer receiptStreamReclaimer;
+
+	@BeforeEach
+	void setUp() {
+		receiptStreamReclaimer = new ReceiptStreamReclaimer(stringRedisTemplate, receiptStreamConsumer,
+			receiptPermitSemaphore, SELF);
+
+		ReflectionTestUtils.setField(receiptStreamReclaimer, "reclaimMinIdleMillis", 180000L);
+		ReflectionTestUtils.setField(receiptStreamReclaimer, "reclaimBatchSize", 10);
+		ReflectionTestUtils.setField(receiptStreamReclaimer, "consumerMaxIdleMillis", 1800000L);
+	}
+
+	@Test
+	@DisplayName("처리 슬롯을 바로 얻은 오래 방치된 메시지를 이 인스턴스로 가져와 다시 처리 성공")
+	void reclaim_idle_message_success() {
+		// given
+		RecordId recordId = RecordId.of("1234567890-0");
+		MapRecord<String, Object, Object> record = getRecord(recordId, "receipt-test-123");
+
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+		given(streamOperations.pending(STREAM_KEY, CONSUMER_GROUP, Range.unbounded(), 10L))
+			.willReturn(getPendingMessages(recordId));
+		given(streamOperations.range(STREAM_KEY, Range.closed(recordId.getValue(), recordId.getValue())))
+			.willReturn(List.of(record));
+		given(receiptPermitSemaphore.tryAcquire("receipt-test-123")).willReturn(true);
+		given(streamOperations.claim(STREAM_KEY, CONSUMER_GROUP, SELF.getName(), Duration.ofMinutes(3), recordId))
+			.willReturn(List.of(record));
+
+		// when
+		receiptStreamReclaimer.reclaim();
+
+		// then
+		then(receiptStreamConsumer).should().processMessage(record);
+		then(receiptPermitSemaphore).should(never()).acquire(anyString());
+	}
+
+	@Test
+	@DisplayName("처리 슬롯이 없으면 기다리지 않고 메시지를 가져오지 않은 채 남김 성공")
+	void reclaim_without_permit_leave_pending_success() {
+		// given
+		RecordId first = RecordId.of("1234567890-0");
+		RecordId second = RecordId.of("1234567890-1");
+
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+		given(streamOperations.pending(STREAM_KEY, CONSUMER_GROUP, Range.unbounded(), 10L))
+			.willReturn(getPendingMessages(first, second));
+		given(streamOperations.range(STREAM_KEY, Range.closed(first.getValue(), first.getValue())))
+			.willReturn(List.of(getRecord(first, "receipt-test-123")));
+		given(receiptPermitSemaphore.tryAcquire("receipt-test-123")).willReturn(false);
+
+		// when
+		receiptStreamReclaimer.reclaim();
+
+		// then
+		then(streamOperations).should(never()).claim(anyString(), anyString(), anyString(), any(Duration.class),
+			any(RecordId.class));
+		then(streamOperations).should(never()).range(STREAM_KEY, Range.closed(second.getValue(), second.getValue()));
+		then(receiptStreamConsumer).should(never()).processMessage(any());
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 먼저 가져간 메시지는 처리 슬롯을 반납 성공")
+	void reclaim_claimed_by_other_release_permit_success() {
+		// given
+		RecordId recordId = RecordId.of("1234567890-0");
+
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+		given(streamOperations.pending(STREAM_KEY, CONSUMER_GROUP, Range.unbounded(), 10L))
+			.willReturn(getPendingMessages(recordId));
+		given(streamOperations.range(STREAM_KEY, Range.closed(recordId.getValue(), recordId.getValue())))
+			.willReturn(List.of(getRecord(recordId, "receipt-test-123")));
+		given(receiptPermitSemaphore.tryAcquire("receipt-test-123")).willReturn(true);
+		given(streamOperations.claim(STREAM_KEY, CONSUMER_GROUP, SELF.getName(), Duration.ofMinutes(3), recordId))
+			.willReturn(List.of());
+
+		// when
+		receiptStreamReclaimer.reclaim();
+
+		// then
+		then(receiptPermitSemaphore).should().release("receipt-test-123");
+		then(receiptStreamConsumer).should(never()).processMessage(any());
+	}
+
+	@Test
+	@DisplayName("스트림에서 지워진 메시지는 미처리 목록에서 정리 성공")
+	void reclaim_deleted_message_acknowledge_success() {
+		// given
+		RecordId recordId = RecordId.of("1234567890-0");
+
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+		given(streamOperations.pending(STREAM_KEY, CONSUMER_GROUP, Range.unbounded(), 10L))
+			.willReturn(getPendingMessages(recordId));
+		given(streamOperations.range(STREAM_KEY, Range.closed(recordId.getValue(), recordId.getValue())))
+			.willReturn(List.of());
+
+		// when
+		receiptStreamReclaimer.reclaim();
+
+		// then
+		then(streamOperations).should().acknowledge(STREAM_KEY, CONSUMER_GROUP, recordId);
+		then(receiptPermitSemaphore).should(never()).tryAcquire(anyString());
+	}
+
+	@Test
+	@DisplayName("아직 처리 중일 수 있는 메시지는 가져오지 않음 성공")
+	void reclaim_recent_message_skip_success() {
+		// given
+		PendingMessages pendingMessages = new PendingMessages(CONSUMER_GROUP, List.of(
+			new PendingMessage(RecordId.of("1234567890-0"), Consumer.from(CONSUMER_GROUP, "processor-busy"),
+				Duration.ofSeconds(30), 1)));
+
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+		given(streamOperations.pending(STREAM_KEY, CONSUMER_GROUP, Range.unbounded(), 10L)).willReturn(pendingMessages);
+
+		// when
+		receiptStreamReclaimer.reclaim();
+
+		// then
+		then(streamOperations).should(never()).claim(anyString(), anyString(), anyString(), any(Duration.class),
+			any(RecordId.class));
+		then(receiptPermitSemaphore).should(never()).tryAcquire(anyString());
+	}
+
+	@Test
+	@DisplayName("미처리 메시지 없이 오래 떠나 있던 Consumer 만 제거 성공")
+	void remove_idle_consumers_success() {
+		// given
+		XInfoConsumers consumers = mock(XInfoConsumers.class);
+		XInfoConsumer gone = getConsumer("processor-gone", 0, 3600000);
+		XInfoConsumer goneWithPending = getConsumer("processor-pending", 2, 3600000);
+		XInfoConsumer active = getConsumer("processor-active", 0, 1000);
+		XInfoConsumer self = getConsumer(SELF.getName(), 0, 3600000);
+
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+		given(streamOperations.consumers(STREAM_KEY, CONSUMER_GROUP)).willReturn(consumers);
+		given(consumers.stream()).willReturn(Stream.of(gone, goneWithPending, active, self));
+
+		// when
+		receiptStreamReclaimer.removeIdleConsumers();
+
+		// then
+		then(streamOperations).should().deleteConsumer(STREAM_KEY, Consumer.from(CONSUMER_GROUP, "processor-gone"));
+		then(streamOperations).should(never()).deleteConsumer(eq(STREAM_KEY),
+			eq(Consumer.from(CONSUMER_GROUP, "processor-pending")));
+		then(streamOperations).should(never()).deleteConsumer(eq(STREAM_KEY),
+			eq(Consumer.from(CONSUMER_GROUP, "processor-active")));
+		then(streamOperations).should(never()).deleteConsumer(STREAM_KEY, SELF);
+	}
+
+	@Test
+	@DisplayName("종료 시 미처리 메시지가 없으면 Consumer Group 에서 빠짐 성공")
+	void leave_without_pending_success() {
+		// given
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+		given(streamOperations.pending(STREAM_KEY, SELF, Range.unbounded(), 1L))
+			.willReturn(new PendingMessages(CONSUMER_GROUP, List.of()));
+
+		// when
+		receiptStreamReclaimer.leave();
+
+		// then
+		then(streamOperations).should().deleteConsumer(STREAM_KEY, SELF);
+	}
+
+	private PendingMessages getPendingMessages(RecordId... recordIds) {
+		return new PendingMessages(CONSUMER_GROUP, Stream.of(recordIds)
+			.map(recordId -> new PendingMessage(recordId, Consumer.from(CONSUMER_GROUP, "processor-gone"),
+				Duration.ofMinutes(5), 1))
+			.toList());
+	}
+
+	private MapRecord<String, Object, Object> getRecord(RecordId recordId, String taskId) {
+		return StreamRecords.newRecord()
+			.in(STREAM_KEY)
+			.ofMap(Map.<Object, Object>of(FIELD_TASK_ID, taskId))
+			.withId(recordId);
+	}
+
+	/**
+	 * 조건을 앞에서부터 검사하다 멈추므로 쓰이지 않는 값이 있어도 되도록 느슨하게 설정
+	 */
+	private XInfoConsumer getConsumer(String name, long pendingCount, long idleTimeMs) {
+		XInfoConsumer consumer = mock(XInfoConsumer.class, withSettings().strictness(LENIENT));
+
+		given(consumer.consumerName()).willReturn(name);
+		given(consumer.pendingCount()).willReturn(pendingCount);
+		given(consumer.idleTimeMs()).willReturn(idleTimeMs);
+
+		return consumer;
+	}
+}
@@ -2,6 +2,10 @@ package com.dalcoomi.transaction.application;
 
 import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.STREAM_KEY;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.then;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,9 +15,11 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.dalcoomi.AbstractContainerBaseTest;
+import com.dalcoomi.image.infrastructure.S3Adapter;
 
 @Transactional
 @SpringBootTest
@@ -27,6 +33,9 @@ class ReceiptStreamTest extends AbstractContainerBaseTest {
 	@Autowired
 	private StringRedisTemplate stringRedisTemplate;
 
+	@MockitoBean
+	private S3Adapter s3Adapter;
+
 	@Test
 	@DisplayName("Redis Streams에 영수증 작업 발행하고 taskId 반환 성공")
 	void publish_receipt_task_success() {
@@ -47,5 +56,7 @@ class ReceiptStreamTest extends AbstractContainerBaseTest {
 
 		Long streamLength = stringRedisTemplate.opsForStream().size(STREAM_KEY);
 		assertThat(streamLength).isGreaterThan(0);
+
+		then(s3Adapter).should().putFile(startsWith("receipt/pending/" + taskId), any(byte[].class), eq("image/jpeg"));
 	}
 }
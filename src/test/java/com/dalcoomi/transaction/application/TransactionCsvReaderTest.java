@@ -0,0 +1,49 @@
+package com.dalcoomi.transaction.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TransactionCsvReaderTest {
+
+	@Test
+	@DisplayName("BOM과 헤더를 제외한 값 읽기 및 마지막 레코드 이후 null 반환 성공")
+	void read_record_success() throws IOException {
+		// given
+		TransactionCsvReader csvReader = new TransactionCsvReader(
+			new StringReader("\uFEFF거래일시,금액\r\n2025-03-01 12:00, 15000 \n"));
+
+		// when & then
+		assertThat(csvReader.readRecord()).containsExactly("거래일시", "금액");
+		assertThat(csvReader.readRecord()).containsExactly("2025-03-01 12:00", "15000");
+		assertThat(csvReader.getRecordLineNumber()).isEqualTo(2);
+		assertThat(csvReader.readRecord()).isNull();
+	}
+
+	@Test
+	@DisplayName("따옴표로 감싼 구분자, 이중 따옴표, 개행 복원 성공")
+	void read_quoted_record_success() throws IOException {
+		// given
+		TransactionCsvReader csvReader = new TransactionCsvReader(
+			new StringReader("\"커피, \"\"라떼\"\"\",\"첫 줄\n둘째 줄\"\n다음,행\n"));
+
+		// when & then
+		assertThat(csvReader.readRecord()).containsExactly("커피, \"라떼\"", "첫 줄\n둘째 줄");
+		assertThat(csvReader.readRecord()).containsExactly("다음", "행");
+		assertThat(csvReader.getRecordLineNumber()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("내보내기 시 추가한 수식 방지 작은따옴표 제거 성공")
+	void read_formula_guarded_value_success() throws IOException {
+		// given
+		TransactionCsvReader csvReader = new TransactionCsvReader(new StringReader("'=SUM(A1:A2),'일반\n"));
+
+		// when & then
+		assertThat(csvReader.readRecord()).containsExactly("=SUM(A1:A2)", "'일반");
+	}
+}
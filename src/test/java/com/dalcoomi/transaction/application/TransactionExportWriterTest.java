@@ -0,0 +1,100 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.transaction.domain.TransactionType.EXPENSE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dalcoomi.transaction.domain.TransactionExportFormat;
+import com.dalcoomi.transaction.dto.TransactionExportItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class TransactionExportWriterTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+		.registerModule(new JavaTimeModule())
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+	@Test
+	@DisplayName("NDJSON 형식은 헤더 없이 거래 내역 한 건당 JSON 한 줄 기록 성공")
+	void write_ndjson_success() throws IOException {
+		// given
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		TransactionExportWriter writer = new TransactionExportWriter(TransactionExportFormat.NDJSON, outputStream,
+			objectMapper);
+
+		// when
+		writer.writeHeader();
+		writer.write(getItem(1L, "점심 식사"));
+		writer.write(getItem(2L, "저녁 식사"));
+		writer.flush();
+
+		// then
+		String[] lines = outputStream.toString(UTF_8).split("\n");
+
+		assertThat(lines).hasSize(2);
+		assertThat(lines[0]).isEqualTo("{\"transactionId\":1,\"transactionDate\":\"2025-03-11T12:30:00\","
+			+ "\"transactionType\":\"EXPENSE\",\"amount\":15000,\"categoryName\":\"식비\",\"content\":\"점심 식사\","
+			+ "\"creatorNickname\":\"가나다\"}");
+		assertThat(lines[1]).contains("\"transactionId\":2");
+	}
+
+	@Test
+	@DisplayName("CSV 형식은 BOM과 헤더 이후 거래 내역 한 건당 한 줄 기록 성공")
+	void write_csv_success() throws IOException {
+		// given
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		TransactionExportWriter writer = new TransactionExportWriter(TransactionExportFormat.CSV, outputStream,
+			objectMapper);
+
+		// when
+		writer.writeHeader();
+		writer.write(getItem(1L, "점심 식사"));
+		writer.flush();
+
+		// then
+		assertThat(outputStream.toString(UTF_8)).isEqualTo("\uFEFF거래ID,거래일시,구분,금액,카테고리,내용,작성자\n"
+			+ "1,2025-03-11T12:30,EXPENSE,15000,식비,점심 식사,가나다\n");
+	}
+
+	@Test
+	@DisplayName("CSV 형식은 구분자와 따옴표를 이스케이프하고 수식 시작 문자를 무력화")
+	void write_csv_escape_success() throws IOException {
+		// given
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		TransactionExportWriter writer = new TransactionExportWriter(TransactionExportFormat.CSV, outputStream,
+			objectMapper);
+
+		// when
+		writer.write(getItem(1L, "커피, \"라떼\""));
+		writer.write(getItem(2L, "=SUM(A1:A2)"));
+		writer.write(getItem(3L, null));
+		writer.flush();
+
+		// then
+		assertThat(outputStream.toString(UTF_8)).isEqualTo(
+			"1,2025-03-11T12:30,EXPENSE,15000,식비,\"커피, \"\"라떼\"\"\",가나다\n"
+				+ "2,2025-03-11T12:30,EXPENSE,15000,식비,'=SUM(A1:A2),가나다\n"
+				+ "3,2025-03-11T12:30,EXPENSE,15000,식비,,가나다\n");
+	}
+
+	private TransactionExportItem getItem(Long transactionId, String content) {
+		return TransactionExportItem.builder()
+			.transactionId(transactionId)
+			.transactionDate(LocalDateTime.of(2025, 3, 11, 12, 30))
+			.transactionType(EXPENSE)
+			.amount(15000L)
+			.categoryName("식비")
+			.content(content)
+			.creatorNickname("가나다")
+			.build();
+	}
+}
@@ -0,0 +1,190 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_IMPORT_INVALID_HEADER;
+import static com.dalcoomi.transaction.domain.TransactionType.EXPENSE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dalcoomi.category.application.repository.CategoryRepository;
+import com.dalcoomi.category.domain.Category;
+import com.dalcoomi.common.util.TempFileUtil;
+import com.dalcoomi.fixture.CategoryFixture;
+import com.dalcoomi.fixture.MemberFixture;
+import com.dalcoomi.member.application.repository.MemberRepository;
+import com.dalcoomi.member.domain.Member;
+import com.dalcoomi.transaction.application.repository.TransactionRepository;
+import com.dalcoomi.transaction.domain.Transaction;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionImportProcessorTest {
+
+	private static final String IMPORT_ID = "import-1";
+
+	@InjectMocks
+	private TransactionImportProcessor transactionImportProcessor;
+
+	@Mock
+	private TransactionRepository transactionRepository;
+
+	@Mock
+	private MemberRepository memberRepository;
+
+	@Mock
+	private CategoryRepository categoryRepository;
+
+	@Mock
+	private LedgerSummaryService ledgerSummaryService;
+
+	@Mock
+	private TransactionImportTracker transactionImportTracker;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@Mock
+	private TempFileUtil tempFileUtil;
+
+	@TempDir
+	Path tempDir;
+
+	private Member member;
+
+	@BeforeEach
+	void setUp() {
+		member = MemberFixture.getMemberWithId1();
+
+		ReflectionTestUtils.setField(transactionImportProcessor, "batchSize", 2);
+	}
+
+	@Test
+	@DisplayName("CSV 가져오기 시 배치 크기 단위로 저장하고 카테고리는 이름별로 한 번만 조회 성공")
+	void process_in_batches_success() throws IOException {
+		// given
+		Category food = CategoryFixture.getCategory1(member);
+		Category cafe = CategoryFixture.getCategory2(member);
+		String filePath = writeCsv("""
+			거래일시,구분,금액,카테고리,내용
+			2025-03-01 08:00,지출,"10,000",식비,아침 식사
+			2025.03.02 12:30,EXPENSE,15000원,식비,점심 식사
+			2025-03-03,지출,4800,카페,커피
+			""");
+
+		given(memberRepository.findById(member.getId())).willReturn(member);
+		given(categoryRepository.findAvailableCategory(member.getId(), null, EXPENSE, "식비")).willReturn(food);
+		given(categoryRepository.findAvailableCategory(member.getId(), null, EXPENSE, "카페")).willReturn(cafe);
+		givenTransactionTemplateExecutesCallback();
+		given(transactionRepository.saveAllInBatch(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		transactionImportProcessor.process(IMPORT_ID, member.getId(), null, filePath);
+
+		// then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+
+		then(transactionRepository).should(times(2)).saveAllInBatch(captor.capture());
+		then(categoryRepository).should(times(2)).findAvailableCategory(any(), any(), any(), anyString());
+		then(ledgerSummaryService).should(times(2)).add(anyList());
+		then(transactionImportTracker).should().updateProgress(IMPORT_ID, 3, 3, 0);
+		then(transactionImportTracker).should().complete(IMPORT_ID);
+		then(tempFileUtil).should().deleteTempFile(filePath);
+
+		Transaction first = captor.getAllValues().getFirst().getFirst();
+
+		assertThat(first.getAmount()).isEqualTo(10000L);
+		assertThat(first.getCreator()).isEqualTo(member);
+		assertThat(first.getCategory()).isEqualTo(food);
+		assertThat(first.getContent()).isEqualTo("아침 식사");
+	}
+
+	@Test
+	@DisplayName("잘못된 행은 실패 사유를 기록하고 나머지 행만 저장 성공")
+	void process_with_invalid_rows_success() throws IOException {
+		// given
+		Category food = CategoryFixture.getCategory1(member);
+		String filePath = writeCsv("""
+			거래일시,구분,금액,카테고리
+			2025-03-01 08:00,지출,abc,식비
+			2025-03-01 09:00,지출,1000,없는카테고리
+			어제,지출,1000,식비
+
+			2025-03-01 10:00,지출,1000,식비
+			""");
+
+		given(memberRepository.findById(member.getId())).willReturn(member);
+		given(categoryRepository.findAvailableCategory(member.getId(), null, EXPENSE, "식비")).willReturn(food);
+		given(categoryRepository.findAvailableCategory(member.getId(), null, EXPENSE, "없는카테고리")).willReturn(null);
+		givenTransactionTemplateExecutesCallback();
+		given(transactionRepository.saveAllInBatch(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		transactionImportProcessor.process(IMPORT_ID, member.getId(), null, filePath);
+
+		// then
+		then(transactionImportTracker).should().addError(eq(IMPORT_ID), eq(2L), anyString());
+		then(transactionImportTracker).should().addError(eq(IMPORT_ID), eq(3L), anyString());
+		then(transactionImportTracker).should().addError(eq(IMPORT_ID), eq(4L), anyString());
+		then(transactionImportTracker).should().updateProgress(IMPORT_ID, 4, 1, 3);
+		then(transactionImportTracker).should().complete(IMPORT_ID);
+	}
+
+	@Test
+	@DisplayName("필수 헤더가 없는 CSV 가져오기 실패")
+	void process_invalid_header_fail() throws IOException {
+		// given
+		String filePath = writeCsv("""
+			날짜,금액
+			2025-03-01,1000
+			""");
+
+		// when
+		transactionImportProcessor.process(IMPORT_ID, member.getId(), null, filePath);
+
+		// then
+		then(transactionImportTracker).should().fail(IMPORT_ID, TRANSACTION_IMPORT_INVALID_HEADER.getMessage());
+		then(transactionImportTracker).should(never()).complete(anyString());
+		then(transactionRepository).should(never()).saveAllInBatch(anyList());
+		then(memberRepository).should(never()).findById(anyLong());
+		then(tempFileUtil).should().deleteTempFile(filePath);
+	}
+
+	private String writeCsv(String content) throws IOException {
+		Path file = tempDir.resolve("import.csv");
+
+		Files.writeString(file, content, UTF_8);
+
+		return file.toString();
+	}
+
+	private void givenTransactionTemplateExecutesCallback() {
+		given(transactionTemplate.execute(any())).willAnswer(
+			invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+}
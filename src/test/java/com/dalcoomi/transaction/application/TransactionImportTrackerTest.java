@@ -0,0 +1,102 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_IMPORT_NOT_FOUND;
+import static com.dalcoomi.transaction.constant.TransactionImportConstants.MAX_IMPORT_ERRORS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import com.dalcoomi.AbstractContainerBaseTest;
+import com.dalcoomi.common.error.exception.NotFoundException;
+import com.dalcoomi.transaction.domain.TransactionImportStatus;
+import com.dalcoomi.transaction.dto.TransactionImportInfo;
+
+@SpringBootTest
+@TestPropertySource("classpath:application-test.properties")
+class TransactionImportTrackerTest extends AbstractContainerBaseTest {
+
+	@Autowired
+	private TransactionImportTracker transactionImportTracker;
+
+	@Test
+	@DisplayName("가져오기 작업 시작 시 대기 상태로 기록 성공")
+	void start_success() {
+		// given
+		String importId = "import-" + UUID.randomUUID();
+
+		// when
+		TransactionImportInfo importInfo = transactionImportTracker.start(importId, 1L);
+
+		// then
+		assertThat(importInfo.importId()).isEqualTo(importId);
+		assertThat(importInfo.status()).isEqualTo(TransactionImportStatus.PENDING);
+		assertThat(importInfo.processedRows()).isZero();
+		assertThat(importInfo.errors()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("진행률과 실패 사유 기록 후 완료 상태 조회 성공")
+	void update_progress_and_complete_success() {
+		// given
+		String importId = "import-" + UUID.randomUUID();
+
+		transactionImportTracker.start(importId, 1L);
+		transactionImportTracker.markProcessing(importId);
+		transactionImportTracker.updateProgress(importId, 10, 8, 2);
+
+		for (int i = 0; i < MAX_IMPORT_ERRORS + 5; i++) {
+			transactionImportTracker.addError(importId, i + 2L, "유효하지 않는 금액입니다.");
+		}
+
+		// when
+		transactionImportTracker.complete(importId);
+
+		// then
+		TransactionImportInfo importInfo = transactionImportTracker.get(importId, 1L);
+
+		assertThat(importInfo.status()).isEqualTo(TransactionImportStatus.COMPLETED);
+		assertThat(importInfo.processedRows()).isEqualTo(10);
+		assertThat(importInfo.importedRows()).isEqualTo(8);
+		assertThat(importInfo.failedRows()).isEqualTo(2);
+		assertThat(importInfo.errors()).hasSize(MAX_IMPORT_ERRORS).first().isEqualTo("2행: 유효하지 않는 금액입니다.");
+	}
+
+	@Test
+	@DisplayName("가져오기 작업 실패 시 실패 상태와 사유 조회 성공")
+	void fail_success() {
+		// given
+		String importId = "import-" + UUID.randomUUID();
+
+		transactionImportTracker.start(importId, 1L);
+
+		// when
+		transactionImportTracker.fail(importId, "CSV 헤더 오류");
+
+		// then
+		TransactionImportInfo importInfo = transactionImportTracker.get(importId, 1L);
+
+		assertThat(importInfo.status()).isEqualTo(TransactionImportStatus.FAILED);
+		assertThat(importInfo.message()).isEqualTo("CSV 헤더 오류");
+	}
+
+	@Test
+	@DisplayName("다른 회원의 가져오기 작업 조회 실패")
+	void get_other_member_import_fail() {
+		// given
+		String importId = "import-" + UUID.randomUUID();
+
+		transactionImportTracker.start(importId, 1L);
+
+		// when & then
+		assertThatThrownBy(() -> transactionImportTracker.get(importId, 2L))
+			.isInstanceOf(NotFoundException.class)
+			.hasMessage(TRANSACTION_IMPORT_NOT_FOUND.getMessage());
+	}
+}
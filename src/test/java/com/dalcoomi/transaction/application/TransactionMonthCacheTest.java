@@ -0,0 +1,301 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.transaction.constant.TransactionCacheConstants.CACHE_GETS_METRIC;
+import static com.dalcoomi.transaction.constant.TransactionCacheConstants.CACHE_KEY_PREFIX;
+import static com.dalcoomi.transaction.constant.TransactionCacheConstants.CACHE_NAME;
+import static com.dalcoomi.transaction.constant.TransactionCacheConstants.RESULT_HIT;
+import static com.dalcoomi.transaction.constant.TransactionCacheConstants.RESULT_MISS;
+import static com.dalcoomi.transaction.constant.TransactionCacheConstants.TAG_CACHE;
+import static com.dalcoomi.transaction.constant.TransactionCacheConstants.TAG_RESULT;
+import static com.dalcoomi.transaction.domain.TransactionType.EXPENSE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
+import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dalcoomi.AbstractContainerBaseTest;
+import com.dalcoomi.auth.filter.CustomUserDetails;
+import com.dalcoomi.category.application.repository.CategoryRepository;
+import com.dalcoomi.category.domain.Category;
+import com.dalcoomi.fixture.CategoryFixture;
+import com.dalcoomi.fixture.MemberFixture;
+import com.dalcoomi.member.application.repository.MemberRepository;
+import com.dalcoomi.member.domain.Member;
+import com.dalcoomi.transaction.domain.Ledger;
+import com.dalcoomi.transaction.dto.TransactionSearchCriteria;
+import com.dalcoomi.transaction.dto.request.TransactionRequest;
+import com.dalcoomi.transaction.dto.response.GetTransactionsResponse;
+import com.dalcoomi.transaction.dto.response.GetTransactionsResponse.GetMyTransactionResponseItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Transactional
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties",
+	properties = {"transaction.cache.enabled=true", "transaction.cache.max-entry-bytes=4096"})
+@AutoConfigureMockMvc(addFilters = false)
+class TransactionMonthCacheTest extends AbstractContainerBaseTest {
+
+	private final GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private TransactionMonthCache transactionMonthCache;
+
+	@Autowired
+	@Qualifier("transactionCacheRedisTemplate")
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@BeforeEach
+	void setUp() {
+		Set<String> keys = stringRedisTemplate.keys(CACHE_KEY_PREFIX + "*");
+
+		if (keys != null && !keys.isEmpty()) {
+			stringRedisTemplate.delete(keys);
+		}
+	}
+
+	@Test
+	@DisplayName("같은 가계부 버전으로 다시 조회하면 DB 조회 없이 캐시 응답 반환 성공")
+	void get_or_load_hit_after_miss_success() {
+		// given
+		TransactionSearchCriteria criteria = TransactionSearchCriteria.of(1L, null, 2025, 3, null, null);
+		AtomicInteger loadCount = new AtomicInteger();
+		double hits = countGets(RESULT_HIT);
+		double misses = countGets(RESULT_MISS);
+
+		transactionMonthCache.getOrLoad(criteria, 1L, loader(loadCount, 1));
+
+		// when
+		GetTransactionsResponse response = transactionMonthCache.getOrLoad(criteria, 1L, loader(loadCount, 1));
+
+		// then
+		assertThat(loadCount.get()).isEqualTo(1);
+		assertThat(response.transactions()).hasSize(1);
+		assertThat(response.expense()).isEqualTo(10000L);
+		assertThat(countGets(RESULT_HIT) - hits).isEqualTo(1);
+		assertThat(countGets(RESULT_MISS) - misses).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("조회 조건이 다르면 같은 달이라도 따로 캐시 성공")
+	void get_or_load_separates_filters_success() {
+		// given
+		TransactionSearchCriteria criteria = TransactionSearchCriteria.of(2L, null, 2025, 3, null, null);
+		TransactionSearchCriteria filtered = TransactionSearchCriteria.of(2L, null, 2025, 3, "식비", null);
+		AtomicInteger loadCount = new AtomicInteger();
+
+		transactionMonthCache.getOrLoad(criteria, 1L, loader(loadCount, 1));
+
+		// when
+		transactionMonthCache.getOrLoad(filtered, 1L, loader(loadCount, 1));
+
+		// then
+		assertThat(loadCount.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("가계부 버전이 바뀌면 남아 있는 캐시를 사용하지 않음")
+	void get_or_load_version_changed_miss_success() {
+		// given
+		TransactionSearchCriteria criteria = TransactionSearchCriteria.of(3L, null, 2025, 3, null, null);
+		AtomicInteger loadCount = new AtomicInteger();
+
+		transactionMonthCache.getOrLoad(criteria, 1L, loader(loadCount, 1));
+
+		// when
+		transactionMonthCache.getOrLoad(criteria, 2L, loader(loadCount, 1));
+
+		// then
+		assertThat(loadCount.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("바뀐 가계부와 월의 캐시만 삭제 성공")
+	void evict_changed_month_only_success() {
+		// given
+		Ledger ledger = Ledger.member(4L);
+		TransactionSearchCriteria march = TransactionSearchCriteria.of(4L, null, 2025, 3, null, null);
+		TransactionSearchCriteria april = TransactionSearchCriteria.of(4L, null, 2025, 4, null, null);
+		AtomicInteger loadCount = new AtomicInteger();
+
+		transactionMonthCache.getOrLoad(march, 1L, loader(loadCount, 1));
+		transactionMonthCache.getOrLoad(april, 1L, loader(loadCount, 1));
+
+		// when
+		transactionMonthCache.evict(Map.of(ledger, Set.of(YearMonth.of(2025, 3))));
+
+		// then
+		transactionMonthCache.getOrLoad(march, 1L, loader(loadCount, 1));
+		transactionMonthCache.getOrLoad(april, 1L, loader(loadCount, 1));
+
+		assertThat(loadCount.get()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("가계부의 모든 달 캐시 삭제 성공")
+	void evict_all_success() {
+		// given
+		Ledger ledger = Ledger.team(5L);
+		TransactionSearchCriteria march = TransactionSearchCriteria.of(5L, 5L, 2025, 3, null, null);
+		TransactionSearchCriteria april = TransactionSearchCriteria.of(5L, 5L, 2025, 4, null, "닉네임");
+		AtomicInteger loadCount = new AtomicInteger();
+
+		transactionMonthCache.getOrLoad(march, 1L, loader(loadCount, 1));
+		transactionMonthCache.getOrLoad(april, 1L, loader(loadCount, 1));
+
+		// when
+		transactionMonthCache.evictAll(List.of(ledger));
+
+		// then
+		assertThat(stringRedisTemplate.keys(CACHE_KEY_PREFIX + "team:5*")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("크기 제한을 넘는 응답은 캐시하지 않음")
+	void get_or_load_oversized_response_not_cached_success() {
+		// given
+		TransactionSearchCriteria criteria = TransactionSearchCriteria.of(6L, null, 2025, 3, null, null);
+		AtomicInteger loadCount = new AtomicInteger();
+
+		transactionMonthCache.getOrLoad(criteria, 1L, loader(loadCount, 100));
+
+		// when
+		transactionMonthCache.getOrLoad(criteria, 1L, loader(loadCount, 100));
+
+		// then
+		assertThat(loadCount.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 거래 내역 저장 후 캐시된 월 조회 시 새 거래 내역 반영 성공")
+	void get_transactions_after_create_reflects_new_transaction_success() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		Category category = CategoryFixture.getCategory1(member);
+		category = categoryRepository.save(category);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		LocalDateTime transactionDate = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+		TransactionRequest request1 = new TransactionRequest(null, 30000L, "점심", transactionDate, EXPENSE,
+			category.getId(), false);
+		TransactionRequest request2 = new TransactionRequest(null, 5000L, "커피", transactionDate.plusHours(1),
+			EXPENSE, category.getId(), false);
+
+		mockMvc.perform(post("/api/transactions")
+				.content(objectMapper.writeValueAsString(request1))
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isCreated());
+
+		mockMvc.perform(get("/api/transactions")
+				.param("year", "2025")
+				.param("month", "3")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.transactions.length()").value(1));
+
+		mockMvc.perform(post("/api/transactions")
+				.content(objectMapper.writeValueAsString(request2))
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isCreated());
+
+		// when & then
+		mockMvc.perform(get("/api/transactions")
+				.param("year", "2025")
+				.param("month", "3")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.expense").value(35000L))
+			.andExpect(jsonPath("$.transactions.length()").value(2))
+			.andDo(print());
+	}
+
+	private Supplier<GetTransactionsResponse> loader(AtomicInteger loadCount, int size) {
+		return () -> {
+			loadCount.incrementAndGet();
+
+			List<GetMyTransactionResponseItem> transactions = LongStream.rangeClosed(1, size)
+				.mapToObj(id -> GetMyTransactionResponseItem.builder()
+					.transactionId(id)
+					.creatorNickname("달꾸미")
+					.categoryName("식비")
+					.transactionDate(LocalDateTime.of(2025, 3, 1, 12, 0))
+					.content("점심")
+					.amount(10000L)
+					.transactionType(EXPENSE)
+					.build())
+				.toList();
+
+			return GetTransactionsResponse.builder()
+				.income(0L)
+				.expense(10000L * size)
+				.total(-10000L * size)
+				.transactions(transactions)
+				.build();
+		};
+	}
+
+	private double countGets(String result) {
+		return meterRegistry.counter(CACHE_GETS_METRIC, TAG_CACHE, CACHE_NAME, TAG_RESULT, result).count();
+	}
+
+	private void setAuthentication(Long memberId) {
+		CustomUserDetails memberUserDetails = new CustomUserDetails(memberId, memberId.toString(),
+			authoritiesMapper.mapAuthorities(List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+		Authentication authentication = new UsernamePasswordAuthenticationToken(memberUserDetails, null,
+			authoritiesMapper.mapAuthorities(memberUserDetails.getAuthorities()));
+
+		SecurityContextHolder.getContext().setAuthentication(authentication);
+	}
+}
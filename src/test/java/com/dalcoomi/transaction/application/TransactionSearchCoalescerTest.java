@@ -0,0 +1,85 @@
+package com.dalcoomi.transaction.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dalcoomi.transaction.dto.TransactionSearchCriteria;
+import com.dalcoomi.transaction.dto.TransactionsInfo;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionSearchCoalescerTest {
+
+	@InjectMocks
+	private TransactionSearchCoalescer transactionSearchCoalescer;
+
+	@Mock
+	private TransactionService transactionService;
+
+	@Test
+	@DisplayName("검증 없이 거래 내역 조회 성공")
+	void get_loads_without_validation_success() {
+		// given
+		TransactionSearchCriteria criteria = TransactionSearchCriteria.of(1L, 1L, 2025, 3, null, null);
+		TransactionsInfo transactionsInfo = TransactionsInfo.from(List.of());
+
+		given(transactionService.search(criteria)).willReturn(transactionsInfo);
+
+		// when
+		TransactionsInfo result = transactionSearchCoalescer.get(criteria, 1L);
+
+		// then
+		assertThat(result).isSameAs(transactionsInfo);
+		then(transactionService).should(never()).get(any(TransactionSearchCriteria.class));
+	}
+
+	@Test
+	@DisplayName("가계부 버전이 다르면 진행 중인 조회에 합치지 않고 따로 조회 성공")
+	void get_different_version_not_shared_success() throws Exception {
+		// given
+		TransactionSearchCriteria criteria = TransactionSearchCriteria.of(1L, 1L, 2025, 3, null, null);
+		TransactionsInfo staleInfo = TransactionsInfo.from(List.of());
+		TransactionsInfo freshInfo = TransactionsInfo.from(List.of());
+		CountDownLatch staleStarted = new CountDownLatch(1);
+		CountDownLatch releaseStale = new CountDownLatch(1);
+
+		given(transactionService.search(criteria))
+			.willAnswer(invocation -> {
+				staleStarted.countDown();
+				releaseStale.await(1, TimeUnit.SECONDS);
+
+				return staleInfo;
+			})
+			.willReturn(freshInfo);
+
+		CompletableFuture<TransactionsInfo> staleResult = CompletableFuture.supplyAsync(
+			() -> transactionSearchCoalescer.get(criteria, 1L));
+
+		staleStarted.await(1, TimeUnit.SECONDS);
+
+		// when
+		TransactionsInfo result = transactionSearchCoalescer.get(criteria, 2L);
+
+		releaseStale.countDown();
+
+		// then
+		assertThat(result).isSameAs(freshInfo);
+		assertThat(staleResult.get(1, TimeUnit.SECONDS)).isSameAs(staleInfo);
+		then(transactionService).should(times(2)).search(criteria);
+	}
+}
@@ -1,33 +1,47 @@
 package com.dalcoomi.transaction.application;
 
+import static com.dalcoomi.common.error.model.ErrorMessage.CATEGORY_NOT_FOUND;
+import static com.dalcoomi.common.error.model.ErrorMessage.TEAM_MEMBER_NOT_FOUND;
 import static com.dalcoomi.transaction.domain.TransactionType.EXPENSE;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThatNoException;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.dalcoomi.category.application.repository.CategoryRepository;
 import com.dalcoomi.category.domain.Category;
 import com.dalcoomi.common.error.exception.DalcoomiException;
 import com.dalcoomi.fixture.CategoryFixture;
 import com.dalcoomi.fixture.MemberFixture;
+import com.dalcoomi.member.application.repository.MemberRepository;
 import com.dalcoomi.member.domain.Member;
+import com.dalcoomi.team.application.repository.TeamMemberRepository;
+import com.dalcoomi.transaction.application.repository.TransactionRepository;
+import com.dalcoomi.transaction.domain.Ledger;
 import com.dalcoomi.transaction.domain.Transaction;
+import com.dalcoomi.transaction.dto.TransactionCreateCommand;
 
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 @ExtendWith(MockitoExtension.class)
 class TransactionServiceTest {
@@ -38,6 +52,65 @@ class TransactionServiceTest {
 	@Mock
 	private WebClient webClient;
 
+	@Mock
+	private TransactionRepository transactionRepository;
+
+	@Mock
+	private MemberRepository memberRepository;
+
+	@Mock
+	private CategoryRepository categoryRepository;
+
+	@Mock
+	private TeamMemberRepository teamMemberRepository;
+
+	@Mock
+	private LedgerSummaryService ledgerSummaryService;
+
+	@Test
+	@DisplayName("묶음 생성은 검증을 통과한 요청만 한 번에 저장하고 실패한 요청은 요청별 예외로 반환")
+	void create_commands_saves_valid_and_rejects_invalid_success() {
+		// given
+		Member member = MemberFixture.getMemberWithId1();
+		Category category = Category.builder().id(10L).name("식비").transactionType(EXPENSE).build();
+
+		Transaction personal = Transaction.builder().amount(4800L).transactionType(EXPENSE).build();
+		Transaction synchronizedTeam = Transaction.builder().teamId(1L).amount(1000L).transactionType(EXPENSE).build();
+		Transaction notJoinedTeam = Transaction.builder().teamId(2L).amount(2000L).transactionType(EXPENSE).build();
+		Transaction unknownCategory = Transaction.builder().amount(3000L).transactionType(EXPENSE).build();
+
+		TransactionCreateCommand personalCommand = new TransactionCreateCommand(member.getId(), 10L, personal, null);
+		TransactionCreateCommand synchronizedCommand = new TransactionCreateCommand(member.getId(), 10L,
+			synchronizedTeam, true);
+		TransactionCreateCommand notJoinedCommand = new TransactionCreateCommand(member.getId(), 10L, notJoinedTeam,
+			false);
+		TransactionCreateCommand unknownCategoryCommand = new TransactionCreateCommand(member.getId(), 99L,
+			unknownCategory, false);
+
+		given(teamMemberRepository.findTeamIdsByMemberIds(Set.of(member.getId())))
+			.willReturn(Map.of(member.getId(), Set.of(1L)));
+		given(memberRepository.findAllById(Set.of(member.getId()))).willReturn(List.of(member));
+		given(categoryRepository.findAllById(List.of(10L, 99L))).willReturn(List.of(category));
+		given(transactionRepository.saveToLedgers(anyMap())).willReturn(List.of());
+
+		// when
+		Map<TransactionCreateCommand, DalcoomiException> rejected = transactionService.create(
+			List.of(personalCommand, synchronizedCommand, notJoinedCommand, unknownCategoryCommand));
+
+		// then
+		ArgumentCaptor<Map<Transaction, List<Ledger>>> captor = ArgumentCaptor.forClass(Map.class);
+
+		then(transactionRepository).should().saveToLedgers(captor.capture());
+		assertThat(captor.getValue()).containsExactly(
+			entry(personal, List.of(Ledger.member(member.getId()))),
+			entry(synchronizedTeam, List.of(Ledger.team(1L), Ledger.member(member.getId()))));
+		assertThat(personal.getCreator()).isSameAs(member);
+		assertThat(personal.getCategory()).isSameAs(category);
+		assertThat(rejected).containsOnlyKeys(notJoinedCommand, unknownCategoryCommand);
+		assertThat(rejected.get(notJoinedCommand)).hasMessage(TEAM_MEMBER_NOT_FOUND.getMessage());
+		assertThat(rejected.get(unknownCategoryCommand)).hasMessage(CATEGORY_NOT_FOUND.getMessage());
+	}
+
 	@Test
 	@DisplayName("다수 거래 내역 AI 서버 전송 성공")
 	void send_to_ai_server_success() {
@@ -72,7 +145,9 @@ class TransactionServiceTest {
 		given(responseSpec.bodyToMono(String.class)).willReturn(Mono.just("성공"));
 
 		// when & then
-		assertThatNoException().isThrownBy(() -> transactionService.sendToAiServer(taskId, transactions));
+		StepVerifier.create(transactionService.sendToAiServer(taskId, transactions))
+			.expectNext("성공")
+			.verifyComplete();
 	}
 
 	@Test
@@ -97,8 +172,10 @@ class TransactionServiceTest {
 		given(webClient.post()).willThrow(new RuntimeException("네트워크 오류"));
 
 		// when & then
-		assertThatThrownBy(() -> transactionService.sendToAiServer(taskId, transactions))
-			.isInstanceOf(DalcoomiException.class)
-			.hasMessageContaining("AI 서버 전송 중 오류가 발생했습니다.");
+		StepVerifier.create(transactionService.sendToAiServer(taskId, transactions))
+			.expectErrorSatisfies(error -> assertThat(error)
+				.isInstanceOf(DalcoomiException.class)
+				.hasMessageContaining("AI 서버 전송 중 오류가 발생했습니다."))
+			.verify();
 	}
 }
@@ -0,0 +1,241 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.transaction.domain.TransactionType.EXPENSE;
+import static com.dalcoomi.transaction.domain.TransactionType.INCOME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dalcoomi.team.application.repository.TeamMemberRepository;
+import com.dalcoomi.transaction.application.repository.TransactionViewRepository;
+import com.dalcoomi.transaction.domain.Ledger;
+import com.dalcoomi.transaction.domain.LedgerSnapshot;
+import com.dalcoomi.transaction.domain.LedgerSummary;
+import com.dalcoomi.transaction.domain.TransactionType;
+import com.dalcoomi.transaction.dto.CategoryBreakdown;
+import com.dalcoomi.transaction.dto.CreatorAmount;
+import com.dalcoomi.transaction.dto.DailySummary;
+import com.dalcoomi.transaction.dto.LedgerSnapshotRow;
+import com.dalcoomi.transaction.dto.MemberContribution;
+import com.dalcoomi.transaction.dto.MonthlyTrend;
+import com.dalcoomi.transaction.dto.TransactionStatisticsCriteria;
+import com.dalcoomi.transaction.dto.TransactionTrendCriteria;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionStatisticsServiceTest {
+
+	@InjectMocks
+	private TransactionStatisticsService transactionStatisticsService;
+
+	@Mock
+	private TransactionViewRepository transactionViewRepository;
+
+	@Mock
+	private TeamMemberRepository teamMemberRepository;
+
+	@Mock
+	private LedgerSummaryService ledgerSummaryService;
+
+	@Mock
+	private LedgerSnapshotService ledgerSnapshotService;
+
+	@Test
+	@DisplayName("가계부 스냅샷이 있으면 DB 조회 없이 카테고리별 합계 계산 성공")
+	void get_category_breakdowns_from_snapshot_success() {
+		// given
+		Long memberId = 1L;
+		TransactionStatisticsCriteria criteria = TransactionStatisticsCriteria.of(memberId, null,
+			LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+		LedgerSnapshot snapshot = LedgerSnapshot.of(1L, List.of(
+			getRow(1L, 10000L, LocalDateTime.of(2025, 3, 1, 12, 0), 1L, EXPENSE),
+			getRow(2L, 15000L, LocalDateTime.of(2025, 3, 11, 12, 0), 2L, EXPENSE),
+			getRow(3L, 20000L, LocalDateTime.of(2025, 3, 12, 12, 0), 1L, EXPENSE),
+			getRow(4L, 12000L, LocalDateTime.of(2025, 4, 1, 0, 0), 2L, EXPENSE)
+		));
+
+		given(ledgerSnapshotService.get(Ledger.member(memberId))).willReturn(snapshot);
+
+		// when
+		List<CategoryBreakdown> breakdowns = transactionStatisticsService.getCategoryBreakdowns(criteria);
+
+		// then
+		assertThat(breakdowns).extracting(CategoryBreakdown::categoryId).containsExactly(1L, 2L);
+		assertThat(breakdowns).extracting(CategoryBreakdown::amount).containsExactly(30000L, 15000L);
+		assertThat(breakdowns).extracting(CategoryBreakdown::count).containsExactly(2L, 1L);
+		then(transactionViewRepository).should(never()).findCategoryBreakdowns(any());
+	}
+
+	@Test
+	@DisplayName("가계부 스냅샷이 있으면 DB 조회 없이 일별 합계 계산 성공")
+	void get_daily_summaries_from_snapshot_success() {
+		// given
+		Long memberId = 1L;
+		TransactionStatisticsCriteria criteria = TransactionStatisticsCriteria.of(memberId, null, 2025, 3);
+		LedgerSnapshot snapshot = LedgerSnapshot.of(1L, List.of(
+			getRow(1L, 10000L, LocalDateTime.of(2025, 3, 1, 12, 0), 1L, EXPENSE),
+			getRow(2L, 50000L, LocalDateTime.of(2025, 3, 1, 18, 0), 3L, INCOME),
+			getRow(3L, 20000L, LocalDateTime.of(2025, 3, 31, 23, 59), 1L, EXPENSE),
+			getRow(4L, 12000L, LocalDateTime.of(2025, 2, 28, 12, 0), 1L, EXPENSE)
+		));
+
+		given(ledgerSnapshotService.get(Ledger.member(memberId))).willReturn(snapshot);
+
+		// when
+		List<DailySummary> dailySummaries = transactionStatisticsService.getDailySummaries(criteria);
+
+		// then
+		assertThat(dailySummaries).hasSize(31);
+		assertThat(dailySummaries.getFirst().income()).isEqualTo(50000L);
+		assertThat(dailySummaries.getFirst().expense()).isEqualTo(10000L);
+		assertThat(dailySummaries.getLast().expense()).isEqualTo(20000L);
+		then(transactionViewRepository).should(never()).findDailyAmounts(any());
+	}
+
+	@Test
+	@DisplayName("월별 합계로 전년 동월 대비 증감과 3개월 이동 평균 계산 성공")
+	void get_monthly_trends_success() {
+		// given
+		Long memberId = 1L;
+		Ledger ledger = Ledger.member(memberId);
+		TransactionTrendCriteria criteria = TransactionTrendCriteria.of(memberId, null, 2025, 2);
+
+		given(ledgerSummaryService.getByYears(ledger, 2023, 2025)).willReturn(List.of(
+			getSummary(ledger, 2023, 3, 0L, 9000L),
+			getSummary(ledger, 2024, 1, 3000L, 3000L),
+			getSummary(ledger, 2024, 3, 1000L, 30000L),
+			getSummary(ledger, 2025, 3, 0L, 45000L)
+		));
+
+		// when
+		List<MonthlyTrend> monthlyTrends = transactionStatisticsService.getMonthlyTrends(criteria);
+
+		// then
+		assertThat(monthlyTrends).hasSize(24);
+		assertThat(monthlyTrends.getFirst().year()).isEqualTo(2024);
+		assertThat(monthlyTrends.getFirst().month()).isEqualTo(1);
+		assertThat(monthlyTrends.getLast().year()).isEqualTo(2025);
+		assertThat(monthlyTrends.getLast().month()).isEqualTo(12);
+
+		MonthlyTrend march2024 = monthlyTrends.get(2);
+		assertThat(march2024.expense()).isEqualTo(30000L);
+		assertThat(march2024.expenseChange()).isEqualTo(21000L);
+		assertThat(march2024.expenseMovingAverage()).isEqualTo(11000L);
+		assertThat(march2024.incomeMovingAverage()).isEqualTo(1333L);
+
+		MonthlyTrend march2025 = monthlyTrends.get(14);
+		assertThat(march2025.expense()).isEqualTo(45000L);
+		assertThat(march2025.expenseChange()).isEqualTo(15000L);
+		assertThat(march2025.incomeChange()).isEqualTo(-1000L);
+		assertThat(march2025.expenseMovingAverage()).isEqualTo(15000L);
+
+		MonthlyTrend april2025 = monthlyTrends.get(15);
+		assertThat(april2025.expense()).isZero();
+		assertThat(april2025.expenseChange()).isZero();
+		assertThat(april2025.expenseMovingAverage()).isEqualTo(15000L);
+	}
+
+	@Test
+	@DisplayName("작성자별 수입, 지출 집계를 한 행으로 합치고 익명화된 거래 합계는 마지막에 두기 성공")
+	void get_member_contributions_success() {
+		// given
+		Long teamId = 10L;
+		TransactionStatisticsCriteria criteria = TransactionStatisticsCriteria.of(1L, teamId,
+			LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+
+		given(teamMemberRepository.existsByTeamIdAndMemberId(teamId, 1L)).willReturn(true);
+		given(transactionViewRepository.findCreatorAmounts(criteria)).willReturn(List.of(
+			new CreatorAmount(null, null, null, EXPENSE, 90000L, 3L),
+			new CreatorAmount(1L, "가나", "https://example.com/1", INCOME, 50000L, 1L),
+			new CreatorAmount(1L, "가나", "https://example.com/1", EXPENSE, 20000L, 2L),
+			new CreatorAmount(2L, "다라", "https://example.com/2", EXPENSE, 30000L, 1L)
+		));
+
+		// when
+		List<MemberContribution> contributions = transactionStatisticsService.getMemberContributions(criteria);
+
+		// then
+		assertThat(contributions).extracting(MemberContribution::creatorId).containsExactly(2L, 1L, null);
+		assertThat(contributions.get(1).income()).isEqualTo(50000L);
+		assertThat(contributions.get(1).expense()).isEqualTo(20000L);
+		assertThat(contributions.get(1).count()).isEqualTo(3L);
+		assertThat(contributions.get(2).isAnonymized()).isTrue();
+		assertThat(contributions.get(2).expense()).isEqualTo(90000L);
+	}
+
+	private LedgerSnapshotRow getRow(Long transactionId, Long amount, LocalDateTime transactionDate, Long categoryId,
+		TransactionType transactionType) {
+		return getRow(transactionId, amount, transactionDate, categoryId, transactionType, 1L);
+	}
+
+	private LedgerSnapshotRow getRow(Long transactionId, Long amount, LocalDateTime transactionDate, Long categoryId,
+		TransactionType transactionType, Long creatorId) {
+		return LedgerSnapshotRow.builder()
+			.transactionId(transactionId)
+			.amount(amount)
+			.transactionDate(transactionDate)
+			.categoryId(categoryId)
+			.categoryName("카테고리" + categoryId)
+			.transactionType(transactionType)
+			.creatorId(creatorId)
+			.creatorNickname(creatorId != null ? "작성자" + creatorId : null)
+			.creatorProfileImageUrl(creatorId != null ? "https://example.com/" + creatorId : null)
+			.build();
+	}
+
+	@Test
+	@DisplayName("가계부 스냅샷이 있으면 DB 조회 없이 작성자별 합계를 계산하고 익명화된 거래는 카테고리 합계에서 제외 성공")
+	void get_member_contributions_from_snapshot_success() {
+		// given
+		Long teamId = 10L;
+		TransactionStatisticsCriteria criteria = TransactionStatisticsCriteria.of(1L, teamId,
+			LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+		LedgerSnapshot snapshot = LedgerSnapshot.of(1L, List.of(
+			getRow(1L, 90000L, LocalDateTime.of(2025, 3, 2, 12, 0), 1L, EXPENSE, null),
+			getRow(2L, 50000L, LocalDateTime.of(2025, 3, 3, 12, 0), 3L, INCOME, 1L),
+			getRow(3L, 20000L, LocalDateTime.of(2025, 3, 4, 12, 0), 1L, EXPENSE, 1L),
+			getRow(4L, 30000L, LocalDateTime.of(2025, 3, 5, 12, 0), 1L, EXPENSE, 2L),
+			getRow(5L, 70000L, LocalDateTime.of(2025, 4, 1, 0, 0), 1L, EXPENSE, 1L)
+		));
+
+		given(teamMemberRepository.existsByTeamIdAndMemberId(teamId, 1L)).willReturn(true);
+		given(ledgerSnapshotService.get(Ledger.team(teamId))).willReturn(snapshot);
+
+		// when
+		List<MemberContribution> contributions = transactionStatisticsService.getMemberContributions(criteria);
+		List<CategoryBreakdown> breakdowns = transactionStatisticsService.getCategoryBreakdowns(criteria);
+
+		// then
+		assertThat(contributions).extracting(MemberContribution::creatorId).containsExactly(2L, 1L, null);
+		assertThat(contributions.get(1).creatorNickname()).isEqualTo("작성자1");
+		assertThat(contributions.get(1).income()).isEqualTo(50000L);
+		assertThat(contributions.get(1).expense()).isEqualTo(20000L);
+		assertThat(contributions.get(1).count()).isEqualTo(2L);
+		assertThat(contributions.get(2).isAnonymized()).isTrue();
+		assertThat(contributions.get(2).expense()).isEqualTo(90000L);
+		assertThat(breakdowns).extracting(CategoryBreakdown::amount).containsExactly(50000L, 50000L);
+		then(transactionViewRepository).should(never()).findCreatorAmounts(any());
+	}
+
+	private LedgerSummary getSummary(Ledger ledger, int year, int month, Long income, Long expense) {
+		return LedgerSummary.builder()
+			.ledger(ledger)
+			.year(year)
+			.month(month)
+			.income(income)
+			.expense(expense)
+			.build();
+	}
+}
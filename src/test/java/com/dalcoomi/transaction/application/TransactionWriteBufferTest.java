@@ -0,0 +1,258 @@
+package com.dalcoomi.transaction.application;
+
+import static com.dalcoomi.common.error.model.ErrorMessage.CATEGORY_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.dalcoomi.common.error.exception.DalcoomiException;
+import com.dalcoomi.common.error.exception.NotFoundException;
+import com.dalcoomi.transaction.domain.Transaction;
+import com.dalcoomi.transaction.dto.TransactionCreateCommand;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionWriteBufferTest {
+
+	@InjectMocks
+	private TransactionWriteBuffer transactionWriteBuffer;
+
+	@Mock
+	private TransactionService transactionService;
+
+	private ExecutorService executorService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(transactionWriteBuffer, "enabled", true);
+		ReflectionTestUtils.setField(transactionWriteBuffer, "maxDelayMillis", 5000L);
+		ReflectionTestUtils.setField(transactionWriteBuffer, "maxBatchSize", 3);
+		ReflectionTestUtils.setField(transactionWriteBuffer, "queueCapacity", 10);
+
+		executorService = Executors.newFixedThreadPool(3);
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		transactionWriteBuffer.stop();
+		executorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("동시에 들어온 단건 생성을 모아 한 번에 저장")
+	void create_concurrent_requests_saved_together_success() throws Exception {
+		// given
+		given(transactionService.create(anyList())).willReturn(Map.of());
+
+		transactionWriteBuffer.start();
+
+		// when
+		List<Future<?>> futures = new ArrayList<>();
+
+		for (long i = 1; i <= 3; i++) {
+			Long memberId = i;
+
+			futures.add(executorService.submit(
+				() -> transactionWriteBuffer.create(memberId, 1L, getTransaction(), false)));
+		}
+
+		for (Future<?> future : futures) {
+			future.get();
+		}
+
+		// then
+		ArgumentCaptor<List<TransactionCreateCommand>> captor = ArgumentCaptor.forClass(List.class);
+
+		then(transactionService).should(times(1)).create(captor.capture());
+		then(transactionService).should(never()).create(any(), any(), any(Transaction.class), any());
+		assertThat(captor.getValue()).extracting(TransactionCreateCommand::memberId)
+			.containsExactlyInAnyOrder(1L, 2L, 3L);
+	}
+
+	@Test
+	@DisplayName("검증에 실패한 요청은 자기 예외를 받고 나머지 요청은 저장")
+	void create_rejected_request_fail() throws Exception {
+		// given
+		given(transactionService.create(anyList())).willAnswer(invocation -> {
+			List<TransactionCreateCommand> commands = invocation.getArgument(0);
+
+			return Map.of(commands.stream().filter(command -> command.memberId() == 2L).findFirst().orElseThrow(),
+				new NotFoundException(CATEGORY_NOT_FOUND));
+		});
+
+		transactionWriteBuffer.start();
+
+		// when
+		Future<?> first = executorService.submit(() -> transactionWriteBuffer.create(1L, 1L, getTransaction(), null));
+		Future<?> second = executorService.submit(() -> transactionWriteBuffer.create(2L, 1L, getTransaction(), null));
+		Future<?> third = executorService.submit(() -> transactionWriteBuffer.create(3L, 1L, getTransaction(), null));
+
+		// then
+		first.get();
+		third.get();
+		assertThatThrownBy(second::get)
+			.hasCauseInstanceOf(NotFoundException.class)
+			.hasRootCauseMessage(CATEGORY_NOT_FOUND.getMessage());
+	}
+
+	@Test
+	@DisplayName("묶음 저장이 실패하면 요청마다 따로 저장")
+	void create_batch_failure_falls_back_to_each_success() {
+		// given
+		ReflectionTestUtils.setField(transactionWriteBuffer, "maxBatchSize", 1);
+
+		Transaction transaction = getTransaction();
+
+		given(transactionService.create(anyList())).willThrow(new IllegalStateException("배치 실패"));
+
+		transactionWriteBuffer.start();
+
+		// when
+		transactionWriteBuffer.create(1L, 1L, transaction, true);
+
+		// then
+		then(transactionService).should().create(1L, 1L, transaction, true);
+	}
+
+	@Test
+	@DisplayName("묶음 저장 중 Error 가 나면 요청은 실패를 받고 이후 요청은 계속 모아서 저장")
+	void create_batch_error_fails_requests_and_keeps_flusher_success() {
+		// given
+		ReflectionTestUtils.setField(transactionWriteBuffer, "maxBatchSize", 1);
+
+		given(transactionService.create(anyList()))
+			.willThrow(new StackOverflowError("묶음 저장 오류"))
+			.willReturn(Map.of());
+
+		transactionWriteBuffer.start();
+
+		// when & then
+		assertThatThrownBy(() -> transactionWriteBuffer.create(1L, 1L, getTransaction(), false))
+			.isInstanceOf(DalcoomiException.class)
+			.hasCauseInstanceOf(StackOverflowError.class);
+
+		transactionWriteBuffer.create(2L, 1L, getTransaction(), false);
+
+		then(transactionService).should(times(2)).create(anyList());
+		then(transactionService).should(never()).create(any(), any(), any(Transaction.class), any());
+	}
+
+	@Test
+	@DisplayName("이미 묶음 저장에 들어간 요청은 기다리는 시간이 지나도 실패하지 않고 저장 결과를 기다림")
+	void create_result_timeout_in_flight_waits_success() {
+		// given
+		ReflectionTestUtils.setField(transactionWriteBuffer, "maxDelayMillis", 500L);
+		ReflectionTestUtils.setField(transactionWriteBuffer, "resultTimeoutMillis", 50L);
+
+		given(transactionService.create(anyList())).willReturn(Map.of());
+
+		transactionWriteBuffer.start();
+
+		// when
+		transactionWriteBuffer.create(1L, 1L, getTransaction(), false);
+
+		// then
+		then(transactionService).should().create(anyList());
+		then(transactionService).should(never()).create(any(), any(), any(Transaction.class), any());
+	}
+
+	@Test
+	@DisplayName("대기열에서 꺼내지기 전에 기다리는 시간이 지나면 직접 저장")
+	void create_result_timeout_queued_saves_directly_success() {
+		// given
+		CountDownLatch stalled = new CountDownLatch(1);
+		Thread flusher = Thread.ofPlatform().start(() -> {
+			try {
+				stalled.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+
+		ReflectionTestUtils.setField(transactionWriteBuffer, "resultTimeoutMillis", 50L);
+		ReflectionTestUtils.setField(transactionWriteBuffer, "queue", new ArrayBlockingQueue<>(10));
+		ReflectionTestUtils.setField(transactionWriteBuffer, "running", true);
+		ReflectionTestUtils.setField(transactionWriteBuffer, "flusher", flusher);
+
+		Transaction transaction = getTransaction();
+
+		// when
+		transactionWriteBuffer.create(1L, 1L, transaction, false);
+
+		stalled.countDown();
+
+		// then
+		BlockingQueue<?> queue = (BlockingQueue<?>)ReflectionTestUtils.getField(transactionWriteBuffer, "queue");
+
+		then(transactionService).should().create(1L, 1L, transaction, false);
+		assertThat(queue).isEmpty();
+	}
+
+	@Test
+	@DisplayName("묶음 저장 스레드가 멈춰 있으면 모으지 않고 바로 저장")
+	void create_flusher_not_alive_saves_directly_success() throws InterruptedException {
+		// given
+		Thread terminated = Thread.ofPlatform().start(() -> {
+		});
+		terminated.join();
+
+		ReflectionTestUtils.setField(transactionWriteBuffer, "running", true);
+		ReflectionTestUtils.setField(transactionWriteBuffer, "flusher", terminated);
+
+		Transaction transaction = getTransaction();
+
+		// when
+		transactionWriteBuffer.create(1L, 1L, transaction, false);
+
+		// then
+		then(transactionService).should().create(1L, 1L, transaction, false);
+		then(transactionService).should(never()).create(anyList());
+	}
+
+	@Test
+	@DisplayName("꺼져 있으면 모으지 않고 바로 저장")
+	void create_disabled_saves_directly_success() {
+		// given
+		ReflectionTestUtils.setField(transactionWriteBuffer, "enabled", false);
+
+		Transaction transaction = getTransaction();
+
+		transactionWriteBuffer.start();
+
+		// when
+		transactionWriteBuffer.create(1L, 1L, transaction, false);
+
+		// then
+		then(transactionService).should().create(1L, 1L, transaction, false);
+		then(transactionService).should(never()).create(anyList());
+	}
+
+	private Transaction getTransaction() {
+		return Transaction.builder().amount(1000L).content("커피").build();
+	}
+}
@@ -2,18 +2,23 @@ package com.dalcoomi.transaction.domain.event;
 
 import static com.dalcoomi.transaction.domain.TransactionType.EXPENSE;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatNoException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.dalcoomi.category.domain.Category;
 import com.dalcoomi.common.error.exception.DalcoomiException;
@@ -23,6 +28,8 @@ import com.dalcoomi.member.domain.Member;
 import com.dalcoomi.transaction.application.TransactionService;
 import com.dalcoomi.transaction.domain.Transaction;
 
+import reactor.core.publisher.Mono;
+
 @ExtendWith(MockitoExtension.class)
 class TransactionEventHandlerTest {
 
@@ -32,6 +39,18 @@ class TransactionEventHandlerTest {
 	@Mock
 	private TransactionService transactionService;
 
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(eventHandler, "concurrency", 2);
+
+		eventHandler.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		eventHandler.stop();
+	}
+
 	@Test
 	@DisplayName("거래 생성 이벤트 처리 성공")
 	void handle_transaction_created_success() {
@@ -53,8 +72,11 @@ class TransactionEventHandlerTest {
 
 		TransactionCreatedEvent event = new TransactionCreatedEvent(this, taskId, transactions);
 
+		given(transactionService.sendToAiServer(taskId, transactions)).willReturn(Mono.just("성공"));
+
 		// when & then
 		assertThatNoException().isThrownBy(() -> eventHandler.handleTransactionCreated(event));
+		then(transactionService).should().sendToAiServer(taskId, transactions);
 	}
 
 	@Test
@@ -83,4 +105,35 @@ class TransactionEventHandlerTest {
 		// when & then
 		assertThatNoException().isThrownBy(() -> eventHandler.handleTransactionCreated(event));
 	}
+
+	@Test
+	@DisplayName("AI 서버 전송이 실패해도 이후 이벤트는 계속 전송 성공")
+	void handle_transaction_created_after_failure_success() {
+		// given
+		Member member = MemberFixture.getMemberWithId1();
+		Category category = CategoryFixture.getCategory1(member);
+
+		List<Transaction> transactions = Collections.singletonList(
+			Transaction.builder()
+				.id(1L)
+				.amount(4800L)
+				.content("커피")
+				.transactionDate(LocalDateTime.of(2025, 1, 23, 10, 30))
+				.transactionType(EXPENSE)
+				.category(category)
+				.build()
+		);
+
+		given(transactionService.sendToAiServer("1-1", transactions))
+			.willReturn(Mono.error(new DalcoomiException("AI 서버 전송 중 오류가 발생했습니다.")));
+		given(transactionService.sendToAiServer("1-2", transactions)).willReturn(Mono.just("성공"));
+
+		// when
+		eventHandler.handleTransactionCreated(new TransactionCreatedEvent(this, "1-1", transactions));
+		eventHandler.handleTransactionCreated(new TransactionCreatedEvent(this, "1-2", transactions));
+
+		// then
+		then(transactionService).should().sendToAiServer("1-1", transactions);
+		then(transactionService).should().sendToAiServer("1-2", transactions);
+	}
 }
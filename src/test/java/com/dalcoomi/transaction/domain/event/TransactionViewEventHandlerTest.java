@@ -0,0 +1,72 @@
+package com.dalcoomi.transaction.domain.event;
+
+import static org.mockito.BDDMockito.then;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dalcoomi.member.domain.event.MemberProfileUpdatedEvent;
+import com.dalcoomi.member.domain.event.MemberWithdrawnEvent;
+import com.dalcoomi.team.application.repository.TeamMemberRepository;
+import com.dalcoomi.transaction.application.LedgerSnapshotService;
+import com.dalcoomi.transaction.application.LedgerVersionService;
+import com.dalcoomi.transaction.application.TransactionMonthCache;
+import com.dalcoomi.transaction.application.repository.TransactionViewRepository;
+import com.dalcoomi.transaction.domain.Ledger;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionViewEventHandlerTest {
+
+	@InjectMocks
+	private TransactionViewEventHandler eventHandler;
+
+	@Mock
+	private TransactionViewRepository transactionViewRepository;
+
+	@Mock
+	private TeamMemberRepository teamMemberRepository;
+
+	@Mock
+	private LedgerVersionService ledgerVersionService;
+
+	@Mock
+	private TransactionMonthCache transactionMonthCache;
+
+	@Mock
+	private LedgerSnapshotService ledgerSnapshotService;
+
+	@Test
+	@DisplayName("회원 프로필 변경 이벤트 처리 시 읽기 모델 작성자 정보 갱신, 가계부 버전 증가와 캐시 삭제 성공")
+	void handle_member_profile_updated_success() {
+		// given
+		MemberProfileUpdatedEvent event = new MemberProfileUpdatedEvent(this, 1L, "새닉네임", "https://image.url");
+
+		// when
+		eventHandler.handleMemberProfileUpdated(event);
+
+		// then
+		then(transactionViewRepository).should().updateCreatorProfile(1L, "새닉네임", "https://image.url");
+		then(ledgerVersionService).should().increase(List.of(Ledger.member(1L)));
+		then(transactionMonthCache).should().evictAll(List.of(Ledger.member(1L)));
+	}
+
+	@Test
+	@DisplayName("회원 탈퇴 이벤트 처리 시 읽기 모델 작성자 익명화와 가계부 스냅샷 삭제 성공")
+	void handle_member_withdrawn_success() {
+		// given
+		MemberWithdrawnEvent event = new MemberWithdrawnEvent(this, 1L);
+
+		// when
+		eventHandler.handleMemberWithdrawn(event);
+
+		// then
+		then(transactionViewRepository).should().anonymizeCreator(1L);
+		then(ledgerSnapshotService).should().evictAllAfterCommit();
+	}
+}
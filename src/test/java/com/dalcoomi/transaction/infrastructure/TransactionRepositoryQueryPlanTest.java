@@ -0,0 +1,330 @@
+package com.dalcoomi.transaction.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dalcoomi.AbstractMySqlContainerBaseTest;
+import com.dalcoomi.category.application.repository.CategoryRepository;
+import com.dalcoomi.category.domain.Category;
+import com.dalcoomi.common.query.QueryCaptor;
+import com.dalcoomi.common.query.QueryCaptor.CapturedQuery;
+import com.dalcoomi.common.query.QueryCaptorConfig;
+import com.dalcoomi.fixture.CategoryFixture;
+import com.dalcoomi.fixture.MemberFixture;
+import com.dalcoomi.member.application.repository.MemberRepository;
+import com.dalcoomi.member.domain.Member;
+import com.dalcoomi.transaction.application.repository.TransactionRepository;
+import com.dalcoomi.transaction.application.repository.TransactionViewRepository;
+import com.dalcoomi.transaction.domain.Transaction;
+import com.dalcoomi.transaction.domain.TransactionType;
+import com.dalcoomi.transaction.dto.TransactionCursor;
+import com.dalcoomi.transaction.dto.TransactionCursorCriteria;
+import com.dalcoomi.transaction.dto.TransactionSearchCriteria;
+import com.dalcoomi.transaction.dto.TransactionStatisticsCriteria;
+
+/**
+ * 거래 내역 조회 쿼리가 V6 (transaction), V8 (transaction_view) 인덱스를 사용하는지 MySQL EXPLAIN 결과로 검증
+ * 쿼리가 인덱스를 타지 못하거나 filesort/임시 테이블/풀 스캔으로 바뀌면 실패
+ */
+@SpringBootTest
+@TestInstance(PER_CLASS)
+@Import(QueryCaptorConfig.class)
+@TestPropertySource("classpath:application-test.properties")
+class TransactionRepositoryQueryPlanTest extends AbstractMySqlContainerBaseTest {
+
+	private static final String CREATOR_DATE_INDEX = "idx_transaction_creator_date";
+	private static final String TEAM_DATE_INDEX = "idx_transaction_team_date";
+	private static final String VIEW_CREATOR_TEAM_DATE_INDEX = "idx_transaction_view_creator_team_date";
+	private static final String VIEW_TEAM_DATE_INDEX = "idx_transaction_view_team_date";
+	private static final String TRANSACTION_TABLE = "transaction";
+	private static final String TRANSACTION_VIEW_TABLE = "transaction_view";
+	private static final int TRANSACTIONS_PER_LEDGER = 300;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private TransactionViewRepository transactionViewRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private QueryCaptor queryCaptor;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private Member member;
+	private Long teamId;
+
+	@BeforeAll
+	void setUp() {
+		List<Member> members = List.of(
+			memberRepository.save(MemberFixture.getMember1()),
+			memberRepository.save(MemberFixture.getMember2()),
+			memberRepository.save(MemberFixture.getMember3()));
+
+		for (int i = 0; i < members.size(); i++) {
+			Member creator = members.get(i);
+			Category category = categoryRepository.save(CategoryFixture.getCategory1(creator));
+
+			transactionRepository.saveAll(createTransactions(creator, category, null));
+			transactionRepository.saveAll(createTransactions(creator, category, i + 1L));
+		}
+
+		member = members.getFirst();
+		teamId = 1L;
+
+		// 옵티마이저가 실제 데이터 분포로 계획을 세우도록 통계 갱신
+		jdbcTemplate.execute("ANALYZE TABLE transaction, transaction_view, member, category");
+	}
+
+	@AfterAll
+	void tearDown() {
+		jdbcTemplate.execute("DELETE FROM transaction_view");
+		jdbcTemplate.execute("DELETE FROM transaction");
+		jdbcTemplate.execute("DELETE FROM category");
+		jdbcTemplate.execute("DELETE FROM member");
+	}
+
+	@Test
+	@DisplayName("개인 거래 내역 월 조회는 작성자-거래일시 인덱스 범위 스캔 사용")
+	void find_personal_transactions_uses_creator_date_index() {
+		// given
+		TransactionSearchCriteria criteria = TransactionSearchCriteria.of(member.getId(), null, 2024, 6, null, null);
+
+		// when
+		CapturedQuery query = captureQuery(TRANSACTION_TABLE, () -> transactionRepository.findTransactions(criteria));
+
+		// then
+		assertUsesIndexWithoutSort(query, TRANSACTION_TABLE, CREATOR_DATE_INDEX);
+	}
+
+	@Test
+	@DisplayName("그룹 거래 내역 월 조회는 그룹-거래일시 인덱스 범위 스캔 사용")
+	void find_team_transactions_uses_team_date_index() {
+		// given
+		TransactionSearchCriteria criteria = TransactionSearchCriteria.of(member.getId(), teamId, 2024, 6, null, null);
+
+		// when
+		CapturedQuery query = captureQuery(TRANSACTION_TABLE, () -> transactionRepository.findTransactions(criteria));
+
+		// then
+		assertUsesIndexWithoutSort(query, TRANSACTION_TABLE, TEAM_DATE_INDEX);
+	}
+
+	@Test
+	@DisplayName("개인 거래 내역 목록 조회는 조회 테이블의 작성자-그룹-거래일시 인덱스 범위 스캔 사용")
+	void find_personal_transaction_views_uses_creator_team_date_index() {
+		// given
+		TransactionSearchCriteria criteria = TransactionSearchCriteria.of(member.getId(), null, 2024, 6, null, null);
+
+		// when
+		CapturedQuery query = captureQuery(TRANSACTION_VIEW_TABLE,
+			() -> transactionViewRepository.findTransactions(criteria));
+
+		// then
+		assertUsesIndexWithoutSort(query, TRANSACTION_VIEW_TABLE, VIEW_CREATOR_TEAM_DATE_INDEX);
+	}
+
+	@Test
+	@DisplayName("그룹 거래 내역 목록 조회는 조회 테이블의 그룹-거래일시 인덱스 범위 스캔 사용")
+	void find_team_transaction_views_uses_team_date_index() {
+		// given
+		TransactionSearchCriteria criteria = TransactionSearchCriteria.of(member.getId(), teamId, 2024, 6, null, null);
+
+		// when
+		CapturedQuery query = captureQuery(TRANSACTION_VIEW_TABLE,
+			() -> transactionViewRepository.findTransactions(criteria));
+
+		// then
+		assertUsesIndexWithoutSort(query, TRANSACTION_VIEW_TABLE, VIEW_TEAM_DATE_INDEX);
+	}
+
+	@Test
+	@DisplayName("개인 거래 내역 커서 조회는 조회 테이블의 작성자-그룹-거래일시 인덱스 범위 스캔 사용")
+	void find_personal_transactions_by_cursor_uses_creator_date_index() {
+		// given
+		TransactionCursorCriteria criteria = TransactionCursorCriteria.of(member.getId(), null,
+			LocalDate.of(2024, 1, 1), LocalDate.of(2025, 12, 31), null, 20);
+
+		// when
+		CapturedQuery query = captureQuery(TRANSACTION_VIEW_TABLE,
+			() -> transactionViewRepository.findTransactionsByCursor(criteria));
+
+		// then
+		assertUsesIndexWithoutSort(query, TRANSACTION_VIEW_TABLE, VIEW_CREATOR_TEAM_DATE_INDEX);
+	}
+
+	@Test
+	@DisplayName("그룹 거래 내역 커서 다음 페이지 조회는 조회 테이블의 그룹-거래일시 인덱스 범위 스캔 사용")
+	void find_team_transactions_by_next_cursor_uses_team_date_index() {
+		// given
+		String cursor = new TransactionCursor(LocalDateTime.of(2024, 9, 1, 0, 0), Long.MAX_VALUE).encode();
+		TransactionCursorCriteria criteria = TransactionCursorCriteria.of(member.getId(), teamId,
+			LocalDate.of(2024, 1, 1), LocalDate.of(2025, 12, 31), cursor, 20);
+
+		// when
+		CapturedQuery query = captureQuery(TRANSACTION_VIEW_TABLE,
+			() -> transactionViewRepository.findTransactionsByCursor(criteria));
+
+		// then
+		assertUsesIndexWithoutSort(query, TRANSACTION_VIEW_TABLE, VIEW_TEAM_DATE_INDEX);
+	}
+
+	@Test
+	@DisplayName("개인 거래 내역 카테고리별 집계는 조회 테이블의 작성자-그룹-거래일시 인덱스 범위 스캔 사용")
+	void find_personal_category_breakdowns_uses_creator_team_date_index() {
+		// given
+		TransactionStatisticsCriteria criteria = TransactionStatisticsCriteria.of(member.getId(), null,
+			LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30));
+
+		// when
+		CapturedQuery query = captureQuery(TRANSACTION_VIEW_TABLE,
+			() -> transactionViewRepository.findCategoryBreakdowns(criteria));
+
+		// then
+		assertUsesIndex(query, TRANSACTION_VIEW_TABLE, VIEW_CREATOR_TEAM_DATE_INDEX);
+	}
+
+	@Test
+	@DisplayName("그룹 거래 내역 카테고리별 집계는 조회 테이블의 그룹-거래일시 인덱스 범위 스캔 사용")
+	void find_team_category_breakdowns_uses_team_date_index() {
+		// given
+		TransactionStatisticsCriteria criteria = TransactionStatisticsCriteria.of(member.getId(), teamId,
+			LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30));
+
+		// when
+		CapturedQuery query = captureQuery(TRANSACTION_VIEW_TABLE,
+			() -> transactionViewRepository.findCategoryBreakdowns(criteria));
+
+		// then
+		assertUsesIndex(query, TRANSACTION_VIEW_TABLE, VIEW_TEAM_DATE_INDEX);
+	}
+
+	@Test
+	@DisplayName("개인 거래 내역 일별 집계는 조회 테이블의 작성자-그룹-거래일시 인덱스 범위 스캔 사용")
+	void find_personal_daily_amounts_uses_creator_team_date_index() {
+		// given
+		TransactionStatisticsCriteria criteria = TransactionStatisticsCriteria.of(member.getId(), null, 2024, 6);
+
+		// when
+		CapturedQuery query = captureQuery(TRANSACTION_VIEW_TABLE,
+			() -> transactionViewRepository.findDailyAmounts(criteria));
+
+		// then
+		assertUsesIndex(query, TRANSACTION_VIEW_TABLE, VIEW_CREATOR_TEAM_DATE_INDEX);
+	}
+
+	@Test
+	@DisplayName("그룹 가계부 회원별 집계는 조회 테이블의 그룹-거래일시 인덱스 범위 스캔 사용")
+	void find_team_creator_amounts_uses_team_date_index() {
+		// given
+		TransactionStatisticsCriteria criteria = TransactionStatisticsCriteria.of(member.getId(), teamId,
+			LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30));
+
+		// when
+		CapturedQuery query = captureQuery(TRANSACTION_VIEW_TABLE,
+			() -> transactionViewRepository.findCreatorAmounts(criteria));
+
+		// then
+		assertUsesIndex(query, TRANSACTION_VIEW_TABLE, VIEW_TEAM_DATE_INDEX);
+	}
+
+	private List<Transaction> createTransactions(Member creator, Category category, Long teamId) {
+		LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0);
+		List<Transaction> transactions = new ArrayList<>();
+
+		for (int i = 0; i < TRANSACTIONS_PER_LEDGER; i++) {
+			transactions.add(Transaction.builder()
+				.creator(creator)
+				.category(category)
+				.teamId(teamId)
+				.transactionDate(start.plusHours(i * 58L))
+				.content("거래 " + i)
+				.amount(1000L + i)
+				.transactionType(i % 5 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE)
+				.build());
+		}
+
+		return transactions;
+	}
+
+	private CapturedQuery captureQuery(String tableName, Supplier<?> query) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+		List<CapturedQuery> capturedQueries;
+
+		queryCaptor.start();
+
+		try {
+			transactionTemplate.execute(status -> query.get());
+		} finally {
+			capturedQueries = queryCaptor.stop();
+		}
+
+		return capturedQueries.stream()
+			.filter(captured -> captured.isSelectFrom(tableName))
+			.findFirst()
+			.orElseThrow();
+	}
+
+	private void assertUsesIndexWithoutSort(CapturedQuery query, String tableName, String expectedIndex) {
+		List<Map<String, Object>> plan = assertUsesIndex(query, tableName, expectedIndex);
+
+		assertThat(plan).as("plan: %s", plan).allSatisfy(row ->
+			assertThat(String.valueOf(row.get("Extra")))
+				.doesNotContain("Using filesort")
+				.doesNotContain("Using temporary"));
+	}
+
+	private List<Map<String, Object>> assertUsesIndex(CapturedQuery query, String tableName, String expectedIndex) {
+		Matcher matcher = Pattern.compile("from " + tableName + " (\\w+)").matcher(query.sql());
+
+		assertThat(matcher.find()).isTrue();
+
+		String alias = matcher.group(1);
+		List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + query.sql(),
+			query.parameters().toArray());
+
+		Map<String, Object> tableRow = plan.stream()
+			.filter(row -> alias.equals(row.get("table")))
+			.findFirst()
+			.orElseThrow();
+
+		assertThat(tableRow.get("key")).as("plan: %s", plan).isEqualTo(expectedIndex);
+		assertThat(tableRow.get("type")).as("plan: %s", plan).isIn("ref", "range");
+		assertThat(plan).as("plan: %s", plan).allSatisfy(row -> assertThat(row.get("type")).isNotEqualTo("ALL"));
+
+		return plan;
+	}
+}
@@ -0,0 +1,196 @@
+package com.dalcoomi.transaction.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dalcoomi.AbstractContainerBaseTest;
+import com.dalcoomi.category.application.repository.CategoryRepository;
+import com.dalcoomi.category.domain.Category;
+import com.dalcoomi.common.query.QueryCaptor;
+import com.dalcoomi.common.query.QueryCaptor.CapturedQuery;
+import com.dalcoomi.common.query.QueryCaptorConfig;
+import com.dalcoomi.fixture.CategoryFixture;
+import com.dalcoomi.fixture.MemberFixture;
+import com.dalcoomi.fixture.TransactionFixture;
+import com.dalcoomi.member.application.repository.MemberRepository;
+import com.dalcoomi.member.domain.Member;
+import com.dalcoomi.transaction.application.repository.TransactionRepository;
+import com.dalcoomi.transaction.domain.Ledger;
+import com.dalcoomi.transaction.domain.Transaction;
+import com.dalcoomi.transaction.dto.TransactionSearchCriteria;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 거래 내역 쓰기가 회원, 카테고리를 다시 조회하거나 병합하지 않고 테이블마다 INSERT 또는 UPDATE 한 번으로 끝나는지 검증
+ * 여러 행은 JDBC 배치 한 번으로 기록되어야 하므로 배치도 문장 하나로 셈
+ */
+@Transactional
+@SpringBootTest
+@Import(QueryCaptorConfig.class)
+@TestPropertySource("classpath:application-test.properties")
+class TransactionWriteStatementTest extends AbstractContainerBaseTest {
+
+	private static final Pattern STATEMENT_PATTERN = Pattern.compile(
+		"^(insert into|update|delete from|select)\\s+(\\w+)");
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private QueryCaptor queryCaptor;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Member member;
+	private Category category;
+
+	@BeforeEach
+	void setUp() {
+		member = memberRepository.save(MemberFixture.getMember1());
+		category = categoryRepository.save(CategoryFixture.getCategory1(member));
+
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	@DisplayName("거래 생성은 거래, 조회 테이블에 INSERT 한 번씩만 실행")
+	void create_executes_single_insert_per_table_success() {
+		// given
+		Transaction transaction = TransactionFixture.getTransactionWithExpense1(member, category);
+
+		// when
+		List<String> statements = capture(() -> transactionRepository.saveAll(List.of(transaction)));
+
+		// then
+		assertThat(statements).containsExactlyInAnyOrder("insert into transaction", "insert into transaction_view");
+	}
+
+	@Test
+	@DisplayName("동기화된 그룹 거래 생성은 가계부 수와 관계없이 테이블마다 배치 INSERT 한 번만 실행")
+	void create_to_ledgers_executes_single_insert_per_table_success() {
+		// given
+		Transaction transaction = TransactionFixture.getTeamTransactionWithExpense1(member, 1L, category);
+		List<Ledger> ledgers = List.of(Ledger.team(1L), Ledger.member(member.getId()));
+
+		// when
+		List<String> statements = capture(() -> transactionRepository.saveToLedgers(transaction, ledgers));
+
+		// then
+		assertThat(statements).containsExactlyInAnyOrder("insert into transaction", "insert into transaction_view");
+	}
+
+	@Test
+	@DisplayName("거래 수정은 회원, 카테고리 조회 없이 거래, 조회 테이블에 UPDATE 한 번씩만 실행")
+	void update_executes_single_update_per_table_success() {
+		// given
+		Category otherCategory = categoryRepository.save(CategoryFixture.getCategory2(member));
+		Long transactionId = saveAndClear(List.of(TransactionFixture.getTransactionWithExpense1(member, category)))
+			.getFirst().getId();
+		Transaction transaction = transactionRepository.findById(transactionId);
+
+		transaction.updateCategory(otherCategory);
+		transaction.updateAmount(12345L);
+
+		// when
+		List<String> statements = capture(() -> transactionRepository.save(transaction));
+
+		// then
+		assertThat(statements).containsExactlyInAnyOrder("update transaction", "update transaction_view");
+	}
+
+	@Test
+	@DisplayName("영수증 거래 일괄 저장은 거래 수와 관계없이 테이블마다 배치 INSERT 한 번만 실행")
+	void receipt_save_executes_single_insert_per_table_success() {
+		// given
+		List<Transaction> transactions = List.of(
+			TransactionFixture.getTransactionWithExpense1(member, category),
+			TransactionFixture.getTransactionWithExpense2(member, category),
+			TransactionFixture.getTransactionWithExpense3(member, category));
+
+		// when
+		List<String> statements = capture(() -> transactionRepository.saveAll(transactions));
+
+		// then
+		assertThat(statements).containsExactlyInAnyOrder("insert into transaction", "insert into transaction_view");
+	}
+
+	@Test
+	@DisplayName("탈퇴 시 그룹 거래 익명화는 회원 조회 없이 테이블마다 배치 UPDATE 한 번만 실행")
+	void withdrawal_anonymize_executes_single_update_per_table_success() {
+		// given
+		saveAndClear(List.of(
+			TransactionFixture.getTeamTransactionWithExpense1(member, 1L, category),
+			TransactionFixture.getTeamTransactionWithExpense2(member, 1L, category)));
+
+		TransactionSearchCriteria criteria = TransactionSearchCriteria.builder().memberId(member.getId()).build();
+		List<Transaction> teamTransactions = transactionRepository.findTransactions(criteria).stream()
+			.filter(transaction -> transaction.getTeamId() != null)
+			.toList();
+
+		teamTransactions.forEach(Transaction::anonymize);
+
+		// when
+		List<String> statements = capture(() -> transactionRepository.saveAll(teamTransactions));
+
+		// then
+		assertThat(teamTransactions).hasSize(2);
+		assertThat(statements).containsExactlyInAnyOrder("update transaction", "update transaction_view");
+		assertThat(transactionRepository.findById(teamTransactions.getFirst().getId()).getCreator()).isNull();
+	}
+
+	private List<Transaction> saveAndClear(List<Transaction> transactions) {
+		List<Transaction> savedTransactions = transactionRepository.saveAll(transactions);
+
+		entityManager.flush();
+		entityManager.clear();
+
+		return savedTransactions;
+	}
+
+	/**
+	 * 쓰기와 flush 사이에 실행된 SQL 을 "동작 테이블" 형태로 반환
+	 */
+	private List<String> capture(Runnable write) {
+		queryCaptor.start();
+		write.run();
+		entityManager.flush();
+
+		List<CapturedQuery> queries = queryCaptor.stop();
+
+		entityManager.clear();
+
+		return queries.stream().map(query -> toStatement(query.sql())).toList();
+	}
+
+	private String toStatement(String sql) {
+		String normalized = sql.trim().toLowerCase();
+		Matcher matcher = STATEMENT_PATTERN.matcher(normalized);
+
+		if (!matcher.find()) {
+			return normalized;
+		}
+
+		return "select".equals(matcher.group(1)) ? "select" : matcher.group(1) + " " + matcher.group(2);
+	}
+}
@@ -0,0 +1,138 @@
+package com.dalcoomi.transaction.presentation;
+
+import static com.dalcoomi.common.error.model.ErrorMessage.RECEIPT_DEAD_LETTER_NOT_FOUND;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
+import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.dalcoomi.AbstractContainerBaseTest;
+import com.dalcoomi.auth.filter.CustomUserDetails;
+import com.dalcoomi.common.error.exception.NotFoundException;
+import com.dalcoomi.transaction.application.ReceiptRetryService;
+import com.dalcoomi.transaction.dto.ReceiptDeadLetterInfo;
+
+@SpringBootTest
+@TestPropertySource("classpath:application-test.properties")
+@AutoConfigureMockMvc(addFilters = false)
+class ReceiptAdminControllerTest extends AbstractContainerBaseTest {
+
+	private final GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private ReceiptRetryService receiptRetryService;
+
+	@BeforeEach
+	void setUp() {
+		setAuthentication(1L, "ROLE_ADMIN");
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 관리자가 실패한 영수증 작업 목록 조회 성공")
+	void get_dead_letters_success() throws Exception {
+		// given
+		ReceiptDeadLetterInfo deadLetterInfo = ReceiptDeadLetterInfo.builder()
+			.messageId("1234567890-0")
+			.taskId("receipt-test-123")
+			.attempts(4)
+			.error("AI 서버 오류")
+			.failedAt("2025-03-01T10:00")
+			.build();
+
+		given(receiptRetryService.getDeadLetters(20)).willReturn(List.of(deadLetterInfo));
+
+		// when & then
+		mockMvc.perform(get("/api/admin/receipts/dead-letters"))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.deadLetters[0].messageId").value("1234567890-0"))
+			.andExpect(jsonPath("$.deadLetters[0].taskId").value("receipt-test-123"))
+			.andExpect(jsonPath("$.deadLetters[0].attempts").value(4));
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 관리자가 실패한 영수증 작업 재처리 성공")
+	void replay_success() throws Exception {
+		// when & then
+		mockMvc.perform(post("/api/admin/receipts/dead-letters/{messageId}/replay", "1234567890-0"))
+			.andDo(print())
+			.andExpect(status().isOk());
+
+		then(receiptRetryService).should().replay("1234567890-0");
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 존재하지 않는 영수증 작업 재처리 시 실패")
+	void replay_not_found_fail() throws Exception {
+		// given
+		willThrow(new NotFoundException(RECEIPT_DEAD_LETTER_NOT_FOUND)).given(receiptRetryService)
+			.replay("1234567890-0");
+
+		// when & then
+		mockMvc.perform(post("/api/admin/receipts/dead-letters/{messageId}/replay", "1234567890-0"))
+			.andDo(print())
+			.andExpect(status().isNotFound())
+			.andExpect(jsonPath("$.message").value(RECEIPT_DEAD_LETTER_NOT_FOUND.getMessage()));
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 관리자가 실패한 영수증 작업 폐기 성공")
+	void discard_success() throws Exception {
+		// when & then
+		mockMvc.perform(delete("/api/admin/receipts/dead-letters/{messageId}", "1234567890-0"))
+			.andDo(print())
+			.andExpect(status().isOk());
+
+		then(receiptRetryService).should().discard("1234567890-0");
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 존재하지 않는 영수증 작업 폐기 시 실패")
+	void discard_not_found_fail() throws Exception {
+		// given
+		willThrow(new NotFoundException(RECEIPT_DEAD_LETTER_NOT_FOUND)).given(receiptRetryService)
+			.discard("1234567890-0");
+
+		// when & then
+		mockMvc.perform(delete("/api/admin/receipts/dead-letters/{messageId}", "1234567890-0"))
+			.andDo(print())
+			.andExpect(status().isNotFound())
+			.andExpect(jsonPath("$.message").value(RECEIPT_DEAD_LETTER_NOT_FOUND.getMessage()));
+	}
+
+	private void setAuthentication(Long memberId, String role) {
+		CustomUserDetails memberUserDetails = new CustomUserDetails(memberId, memberId.toString(),
+			authoritiesMapper.mapAuthorities(List.of(new SimpleGrantedAuthority(role))));
+
+		Authentication authentication = new UsernamePasswordAuthenticationToken(memberUserDetails, null,
+			authoritiesMapper.mapAuthorities(memberUserDetails.getAuthorities()));
+
+		SecurityContextHolder.getContext().setAuthentication(authentication);
+	}
+}
@@ -1,5 +1,7 @@
 package com.dalcoomi.transaction.presentation;
 
+import static com.dalcoomi.transaction.constant.ReceiptStreamConstants.PERMITS_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -13,12 +15,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.dalcoomi.AbstractContainerBaseTest;
+import com.dalcoomi.transaction.application.ReceiptPermitSemaphore;
 import com.dalcoomi.transaction.dto.ReceiptInfo;
+import com.dalcoomi.transaction.dto.ReceiptPermit;
 import com.dalcoomi.transaction.dto.request.ReceiptCallbackRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -34,10 +39,19 @@ class ReceiptCallbackControllerTest extends AbstractContainerBaseTest {
 	@Autowired
 	private ObjectMapper objectMapper;
 
+	@Autowired
+	private ReceiptPermitSemaphore receiptPermitSemaphore;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
 	@Test
-	@DisplayName("통합 테스트 - AI 서버로부터 콜백 성공")
+	@DisplayName("통합 테스트 - AI 서버로부터 콜백 받으면 처리 슬롯 반납 성공")
 	void receipt_callback_success() throws Exception {
 		// given
+		stringRedisTemplate.delete(PERMITS_KEY);
+		receiptPermitSemaphore.tryAcquire("receipt-test-123");
+
 		ReceiptCallbackRequest request = ReceiptCallbackRequest.builder()
 			.taskId("receipt-test-123")
 			.transactions(List.of(
@@ -63,6 +77,9 @@ class ReceiptCallbackControllerTest extends AbstractContainerBaseTest {
 				.content(objectMapper.writeValueAsString(request)))
 			.andDo(print())
 			.andExpect(status().isOk());
+
+		assertThat(receiptPermitSemaphore.heldPermits()).extracting(ReceiptPermit::taskId)
+			.doesNotContain("receipt-test-123");
 	}
 
 	@Test
@@ -1,16 +1,33 @@
 package com.dalcoomi.transaction.presentation;
 
+import static com.dalcoomi.common.error.model.ErrorMessage.TEAM_MEMBER_NOT_FOUND;
 import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_CREATOR_INCONSISTENCY;
+import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_IMPORT_EMPTY_FILE;
+import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_IMPORT_NOT_FOUND;
+import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_INVALID_CURSOR;
+import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_INVALID_DATE_RANGE;
 import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_TEAM_INCONSISTENCY;
+import static com.dalcoomi.common.error.model.ErrorMessage.UNSUPPORTED_EXPORT_FORMAT;
+import static com.dalcoomi.transaction.domain.TransactionBulkStatus.NOT_FOUND;
+import static com.dalcoomi.transaction.domain.TransactionBulkStatus.SUCCESS;
 import static com.dalcoomi.transaction.domain.TransactionType.EXPENSE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDateTime;
@@ -22,6 +39,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -30,6 +48,7 @@ import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.dalcoomi.AbstractContainerBaseTest;
@@ -42,13 +61,17 @@ import com.dalcoomi.fixture.TeamFixture;
 import com.dalcoomi.fixture.TransactionFixture;
 import com.dalcoomi.member.application.repository.MemberRepository;
 import com.dalcoomi.member.domain.Member;
+import com.dalcoomi.member.dto.request.UpdateProfileRequest;
 import com.dalcoomi.team.application.repository.TeamMemberRepository;
 import com.dalcoomi.team.application.repository.TeamRepository;
 import com.dalcoomi.team.domain.Team;
 import com.dalcoomi.team.domain.TeamMember;
 import com.dalcoomi.transaction.application.repository.TransactionRepository;
+import com.dalcoomi.transaction.application.repository.TransactionViewRepository;
 import com.dalcoomi.transaction.domain.Transaction;
 import com.dalcoomi.transaction.dto.TransactionSearchCriteria;
+import com.dalcoomi.transaction.dto.request.BulkDeleteTransactionRequest;
+import com.dalcoomi.transaction.dto.request.BulkUpdateCategoryRequest;
 import com.dalcoomi.transaction.dto.request.SaveReceiptRequest;
 import com.dalcoomi.transaction.dto.request.TransactionRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -70,6 +93,9 @@ class TransactionControllerTest extends AbstractContainerBaseTest {
 	@Autowired
 	private TransactionRepository transactionRepository;
 
+	@Autowired
+	private TransactionViewRepository transactionViewRepository;
+
 	@Autowired
 	private MemberRepository memberRepository;
 
@@ -225,6 +251,87 @@ class TransactionControllerTest extends AbstractContainerBaseTest {
 		assertThat(transactions2.getFirst().getContent()).isEqualTo(content);
 		assertThat(transactions2.getFirst().getTransactionDate()).isEqualTo(transactionDate);
 		assertThat(transactions2.getFirst().getTransactionType()).isEqualTo(EXPENSE);
+		assertThat(transactions1.getFirst().getMirrorSourceId()).isEqualTo(transactions2.getFirst().getId());
+		assertThat(transactions2.getFirst().getMirrorSourceId()).isNull();
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 동기화한 그룹 거래 내역 수정 시 개인 거래 내역 사본도 함께 수정 성공")
+	void update_team_transaction_with_mirror_success() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		Team team = TeamFixture.getTeam1(member);
+		team = teamRepository.save(team);
+
+		TeamMember leaderTeamMember = TeamMember.of(team, member);
+		teamMemberRepository.save(leaderTeamMember);
+
+		Category category = CategoryFixture.getCategory1(member);
+		category = categoryRepository.save(category);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		Transaction teamTransaction = saveSynchronizedTeamTransaction(member, team, category);
+
+		Long amount = 20000L;
+		String content = "엉";
+		LocalDateTime transactionDate = LocalDateTime.of(2025, 3, 2, 12, 0);
+		TransactionRequest request = new TransactionRequest(team.getId(), amount, content, transactionDate, EXPENSE,
+			category.getId(), null);
+
+		// when & then
+		String json = objectMapper.writeValueAsString(request);
+
+		mockMvc.perform(put("/api/transactions/{transactionId}", teamTransaction.getId())
+				.content(json)
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andDo(print());
+
+		List<Transaction> mirrors = transactionRepository.findMirrors(List.of(teamTransaction.getId()));
+
+		assertThat(mirrors).hasSize(1);
+		assertThat(mirrors.getFirst().getTeamId()).isNull();
+		assertThat(mirrors.getFirst().getAmount()).isEqualTo(amount);
+		assertThat(mirrors.getFirst().getContent()).isEqualTo(content);
+		assertThat(mirrors.getFirst().getTransactionDate()).isEqualTo(transactionDate);
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 동기화한 그룹 거래 내역 삭제 시 개인 거래 내역 사본도 함께 삭제 성공")
+	void delete_team_transaction_with_mirror_success() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		Team team = TeamFixture.getTeam1(member);
+		team = teamRepository.save(team);
+
+		TeamMember leaderTeamMember = TeamMember.of(team, member);
+		teamMemberRepository.save(leaderTeamMember);
+
+		Category category = CategoryFixture.getCategory1(member);
+		category = categoryRepository.save(category);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		Transaction teamTransaction = saveSynchronizedTeamTransaction(member, team, category);
+
+		// when & then
+		mockMvc.perform(delete("/api/transactions/{transactionId}", teamTransaction.getId())
+				.param("teamId", team.getId().toString())
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andDo(print());
+
+		TransactionSearchCriteria criteria = TransactionSearchCriteria.of(member.getId(), null, 2025, 3, null, null);
+
+		assertThat(transactionRepository.findMirrors(List.of(teamTransaction.getId()))).isEmpty();
+		assertThat(transactionRepository.findTransactions(criteria)).isEmpty();
 	}
 
 	@Test
@@ -511,6 +618,151 @@ class TransactionControllerTest extends AbstractContainerBaseTest {
 			.andDo(print());
 	}
 
+	@Test
+	@DisplayName("통합 테스트 - 그룹원이 아닌 회원의 그룹 거래 내역 조회 실패")
+	void get_team_transactions_not_team_member_fail() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		Team team = TeamFixture.getTeam1(member);
+		team = teamRepository.save(team);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		// when & then
+		mockMvc.perform(get("/api/transactions")
+				.param("teamId", String.valueOf(team.getId()))
+				.param("year", "2025")
+				.param("month", "3")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isNotFound())
+			.andExpect(jsonPath("$.message").value(TEAM_MEMBER_NOT_FOUND.getMessage()))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 기간 내 개인 거래 내역 커서 기반 조회 성공")
+	void get_my_transactions_by_cursor_success() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		Category category = CategoryFixture.getCategory1(member);
+		category = categoryRepository.save(category);
+
+		Transaction transaction1 = TransactionFixture.getTransactionWithExpense1(member, category);
+		Transaction transaction2 = TransactionFixture.getTransactionWithExpense2(member, category);
+		Transaction transaction3 = TransactionFixture.getTransactionWithExpense3(member, category);
+		Transaction transaction4 = TransactionFixture.getTransactionWithExpense4(member, category);
+		transactionRepository.saveAll(Arrays.asList(transaction1, transaction2, transaction3, transaction4));
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		String firstPage = mockMvc.perform(get("/api/transactions/cursor")
+				.param("from", "2025-03-01")
+				.param("to", "2025-05-31")
+				.param("size", "2")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.transactions.length()").value(2))
+			.andExpect(jsonPath("$.transactions[0].content").value(transaction4.getContent()))
+			.andExpect(jsonPath("$.transactions[1].content").value(transaction3.getContent()))
+			.andExpect(jsonPath("$.hasNext").value(true))
+			.andReturn()
+			.getResponse()
+			.getContentAsString();
+
+		String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+		// when & then
+		mockMvc.perform(get("/api/transactions/cursor")
+				.param("from", "2025-03-01")
+				.param("to", "2025-05-31")
+				.param("size", "2")
+				.param("cursor", nextCursor)
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.transactions.length()").value(2))
+			.andExpect(jsonPath("$.transactions[0].content").value(transaction2.getContent()))
+			.andExpect(jsonPath("$.transactions[1].content").value(transaction1.getContent()))
+			.andExpect(jsonPath("$.hasNext").value(false))
+			.andExpect(jsonPath("$.nextCursor").doesNotExist())
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 조회 기간 밖의 거래 내역은 커서 기반 조회에서 제외 성공")
+	void get_my_transactions_by_cursor_out_of_range_excluded_success() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		Category category = CategoryFixture.getCategory1(member);
+		category = categoryRepository.save(category);
+
+		Transaction transaction1 = TransactionFixture.getTransactionWithExpense1(member, category);
+		Transaction transaction4 = TransactionFixture.getTransactionWithExpense4(member, category);
+		transactionRepository.saveAll(Arrays.asList(transaction1, transaction4));
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		// when & then
+		mockMvc.perform(get("/api/transactions/cursor")
+				.param("from", "2025-03-01")
+				.param("to", "2025-03-31")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.transactions.length()").value(1))
+			.andExpect(jsonPath("$.transactions[0].content").value(transaction1.getContent()))
+			.andExpect(jsonPath("$.hasNext").value(false))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 시작일이 종료일보다 늦으면 커서 기반 조회 실패")
+	void get_my_transactions_by_cursor_invalid_date_range_fail() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		// when & then
+		mockMvc.perform(get("/api/transactions/cursor")
+				.param("from", "2025-05-01")
+				.param("to", "2025-03-31")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.message").value(TRANSACTION_INVALID_DATE_RANGE.getMessage()))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 잘못된 커서로 커서 기반 조회 실패")
+	void get_my_transactions_by_cursor_invalid_cursor_fail() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		// when & then
+		mockMvc.perform(get("/api/transactions/cursor")
+				.param("from", "2025-03-01")
+				.param("to", "2025-03-31")
+				.param("cursor", "invalid-cursor")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.message").value(TRANSACTION_INVALID_CURSOR.getMessage()))
+			.andDo(print());
+	}
+
 	@Test
 	@DisplayName("통합 테스트 - 개인 특정 거래 내역 조회 성공")
 	void get_my_transaction_success() throws Exception {
@@ -531,7 +783,7 @@ class TransactionControllerTest extends AbstractContainerBaseTest {
 		mockMvc.perform(get("/api/transactions/{transactionId}", transaction1.getId())
 				.contentType(APPLICATION_JSON))
 			.andExpect(status().isOk())
-			.andExpect(jsonPath("$.transactionId").value(transaction1.getId()))
+			.andExpect(jsonPath("$.transactionId").value(String.valueOf(transaction1.getId())))
 			.andExpect(jsonPath("$.amount").value(transaction1.getAmount()))
 			.andExpect(jsonPath("$.content").value(transaction1.getContent()))
 			.andExpect(jsonPath("$.transactionType").value(transaction1.getTransactionType().name()))
@@ -573,7 +825,7 @@ class TransactionControllerTest extends AbstractContainerBaseTest {
 				.param("teamId", String.valueOf(team.getId()))
 				.contentType(APPLICATION_JSON))
 			.andExpect(status().isOk())
-			.andExpect(jsonPath("$.transactionId").value(transaction1.getId()))
+			.andExpect(jsonPath("$.transactionId").value(String.valueOf(transaction1.getId())))
 			.andExpect(jsonPath("$.creatorNickname").value(transaction1.getCreator().getNickname()))
 			.andExpect(jsonPath("$.amount").value(transaction1.getAmount()))
 			.andExpect(jsonPath("$.content").value(transaction1.getContent()))
@@ -767,6 +1019,130 @@ class TransactionControllerTest extends AbstractContainerBaseTest {
 			.andDo(print());
 	}
 
+	@Test
+	@DisplayName("통합 테스트 - 선택한 개인 거래 내역 카테고리 일괄 변경 후 거래별 결과 응답 성공")
+	void update_category_in_bulk_success() throws Exception {
+		// given
+		Member member1 = MemberFixture.getMember1();
+		member1 = memberRepository.save(member1);
+
+		Member member2 = MemberFixture.getMember2();
+		member2 = memberRepository.save(member2);
+
+		Category category1 = CategoryFixture.getCategory1(member1);
+		category1 = categoryRepository.save(category1);
+
+		Category category2 = CategoryFixture.getCategory2(member1);
+		category2 = categoryRepository.save(category2);
+
+		Transaction transaction1 = transactionRepository.save(
+			TransactionFixture.getTransactionWithExpense1(member1, category1));
+		Transaction transaction2 = transactionRepository.save(
+			TransactionFixture.getTransactionWithExpense2(member1, category1));
+		Transaction otherTransaction = transactionRepository.save(
+			TransactionFixture.getTransactionWithExpense3(member2, category1));
+
+		// 인증 설정
+		setAuthentication(member1.getId());
+
+		BulkUpdateCategoryRequest request = new BulkUpdateCategoryRequest(null,
+			List.of(transaction1.getId(), transaction2.getId(), otherTransaction.getId(), -1L), category2.getId());
+
+		// when & then
+		mockMvc.perform(patch("/api/transactions/bulk/category")
+				.content(objectMapper.writeValueAsString(request))
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.successCount").value(2))
+			.andExpect(jsonPath("$.failureCount").value(2))
+			.andExpect(jsonPath("$.results[0].status").value(SUCCESS.name()))
+			.andExpect(jsonPath("$.results[1].status").value(SUCCESS.name()))
+			.andExpect(jsonPath("$.results[2].status").value(NOT_FOUND.name()))
+			.andExpect(jsonPath("$.results[3].status").value(NOT_FOUND.name()))
+			.andDo(print());
+
+		TransactionSearchCriteria criteria = TransactionSearchCriteria.of(member1.getId(), null, 2025, 3,
+			category2.getName(), null);
+
+		assertThat(transactionRepository.findById(transaction1.getId()).getCategory().getId())
+			.isEqualTo(category2.getId());
+		assertThat(transactionRepository.findById(otherTransaction.getId()).getCategory().getId())
+			.isEqualTo(category1.getId());
+		assertThat(transactionViewRepository.findTransactions(criteria)).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 선택한 그룹 거래 내역 일괄 삭제 시 개인 거래 내역 사본도 함께 삭제 성공")
+	void delete_team_transactions_in_bulk_success() throws Exception {
+		// given
+		Member member1 = MemberFixture.getMember1();
+		member1 = memberRepository.save(member1);
+
+		Team team = TeamFixture.getTeam1(member1);
+		team = teamRepository.save(team);
+
+		TeamMember teamMember1 = TeamMember.of(team, member1);
+		teamMemberRepository.save(teamMember1);
+
+		Member member2 = MemberFixture.getMember2();
+		member2 = memberRepository.save(member2);
+
+		TeamMember teamMember2 = TeamMember.of(team, member2);
+		teamMemberRepository.save(teamMember2);
+
+		Category category = CategoryFixture.getCategory1(member1);
+		category = categoryRepository.save(category);
+
+		Transaction otherTransaction = transactionRepository.save(
+			TransactionFixture.getTeamTransactionWithExpense2(member2, team.getId(), category));
+
+		// 인증 설정
+		setAuthentication(member1.getId());
+
+		Transaction teamTransaction = saveSynchronizedTeamTransaction(member1, team, category);
+
+		BulkDeleteTransactionRequest request = new BulkDeleteTransactionRequest(team.getId(),
+			List.of(teamTransaction.getId(), otherTransaction.getId()));
+
+		// when & then
+		mockMvc.perform(post("/api/transactions/bulk/delete")
+				.content(objectMapper.writeValueAsString(request))
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.successCount").value(1))
+			.andExpect(jsonPath("$.results[0].transactionId").value(String.valueOf(teamTransaction.getId())))
+			.andExpect(jsonPath("$.results[0].status").value(SUCCESS.name()))
+			.andExpect(jsonPath("$.results[1].status").value(NOT_FOUND.name()))
+			.andDo(print());
+
+		TransactionSearchCriteria personalCriteria = TransactionSearchCriteria.of(member1.getId(), null, 2025, 3,
+			null, null);
+
+		assertThat(transactionRepository.findById(teamTransaction.getId()).getDeletedAt()).isNotNull();
+		assertThat(transactionRepository.findById(otherTransaction.getId()).getDeletedAt()).isNull();
+		assertThat(transactionRepository.findTransactions(personalCriteria)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 거래 내역 ID 없이 일괄 삭제 요청 시 실패")
+	void delete_in_bulk_without_ids_fail() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		BulkDeleteTransactionRequest request = new BulkDeleteTransactionRequest(null, List.of());
+
+		// when & then
+		mockMvc.perform(post("/api/transactions/bulk/delete")
+				.content(objectMapper.writeValueAsString(request))
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isBadRequest())
+			.andDo(print());
+	}
+
 	@Test
 	@DisplayName("통합 테스트 - 개인 거래 내역 일괄 생성 및 AI 서버 전송 성공")
 	void create_bulk_transactions_and_send_to_ai_server_success() throws Exception {
@@ -847,6 +1223,331 @@ class TransactionControllerTest extends AbstractContainerBaseTest {
 			.andDo(print());
 	}
 
+	@Test
+	@DisplayName("통합 테스트 - 거래 내역 저장 및 삭제 후 월별 합계 반영 성공")
+	void get_my_transactions_total_from_ledger_summary_success() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		Category category = CategoryFixture.getCategory1(member);
+		category = categoryRepository.save(category);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		LocalDateTime transactionDate = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+		TransactionRequest request1 = new TransactionRequest(null, 30000L, "점심", transactionDate, EXPENSE,
+			category.getId(), false);
+		TransactionRequest request2 = new TransactionRequest(null, 5000L, "커피", transactionDate.plusHours(1),
+			EXPENSE, category.getId(), false);
+
+		mockMvc.perform(post("/api/transactions")
+				.content(objectMapper.writeValueAsString(request1))
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isCreated());
+		mockMvc.perform(post("/api/transactions")
+				.content(objectMapper.writeValueAsString(request2))
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isCreated());
+
+		TransactionSearchCriteria criteria = TransactionSearchCriteria.of(member.getId(), null,
+			transactionDate.getYear(), transactionDate.getMonthValue(), null, null);
+		Transaction latestTransaction = transactionRepository.findTransactions(criteria).getFirst();
+
+		mockMvc.perform(delete("/api/transactions/{transactionId}", latestTransaction.getId())
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk());
+
+		// when & then
+		mockMvc.perform(get("/api/transactions")
+				.param("year", String.valueOf(transactionDate.getYear()))
+				.param("month", String.valueOf(transactionDate.getMonthValue()))
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.income").value(0))
+			.andExpect(jsonPath("$.expense").value(30000L))
+			.andExpect(jsonPath("$.total").value(-30000L))
+			.andExpect(jsonPath("$.transactions.length()").value(1))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 회원 닉네임 변경 후 거래 내역 목록에 변경된 작성자 닉네임 반영 성공")
+	void get_my_transactions_with_updated_creator_nickname_success() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		Category category = CategoryFixture.getCategory1(member);
+		category = categoryRepository.save(category);
+
+		Transaction transaction = TransactionFixture.getTransactionWithExpense1(member, category);
+		transactionRepository.save(transaction);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		String newNickname = "바뀐닉네임";
+		UpdateProfileRequest request = new UpdateProfileRequest(member.getName(), newNickname, member.getBirthday(),
+			member.getGender());
+
+		mockMvc.perform(patch("/api/members/profile")
+				.content(objectMapper.writeValueAsString(request))
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk());
+
+		// when & then
+		mockMvc.perform(get("/api/transactions")
+				.param("year", "2025")
+				.param("month", "3")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.transactions.length()").value(1))
+			.andExpect(jsonPath("$.transactions[0].creatorNickname").value(newNickname))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 가계부 변경이 없으면 304, 변경 후에는 새 ETag 로 200 응답 성공")
+	void get_my_transactions_not_modified_until_ledger_changed_success() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		Category category = CategoryFixture.getCategory1(member);
+		category = categoryRepository.save(category);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		LocalDateTime transactionDate = LocalDateTime.now().withDayOfMonth(1).withHour(0);
+
+		TransactionRequest request1 = new TransactionRequest(null, 30000L, "점심", transactionDate, EXPENSE,
+			category.getId(), false);
+		TransactionRequest request2 = new TransactionRequest(null, 5000L, "커피", transactionDate.plusHours(1),
+			EXPENSE, category.getId(), false);
+
+		mockMvc.perform(post("/api/transactions")
+				.content(objectMapper.writeValueAsString(request1))
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isCreated());
+
+		String eTag = mockMvc.perform(get("/api/transactions")
+				.param("year", String.valueOf(transactionDate.getYear()))
+				.param("month", String.valueOf(transactionDate.getMonthValue()))
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(header().string(CACHE_CONTROL, "no-cache, private"))
+			.andReturn()
+			.getResponse()
+			.getHeader(ETAG);
+
+		// when & then
+		mockMvc.perform(get("/api/transactions")
+				.param("year", String.valueOf(transactionDate.getYear()))
+				.param("month", String.valueOf(transactionDate.getMonthValue()))
+				.header(IF_NONE_MATCH, eTag)
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string(ETAG, eTag))
+			.andExpect(content().string(""))
+			.andDo(print());
+
+		mockMvc.perform(post("/api/transactions")
+				.content(objectMapper.writeValueAsString(request2))
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isCreated());
+
+		String changedETag = mockMvc.perform(get("/api/transactions")
+				.param("year", String.valueOf(transactionDate.getYear()))
+				.param("month", String.valueOf(transactionDate.getMonthValue()))
+				.header(IF_NONE_MATCH, eTag)
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.transactions.length()").value(2))
+			.andDo(print())
+			.andReturn()
+			.getResponse()
+			.getHeader(ETAG);
+
+		assertThat(changedETag).isNotEqualTo(eTag);
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 마감된 달의 거래 내역은 장기 캐시 응답 성공")
+	void get_my_transactions_closed_month_cacheable_success() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		LocalDateTime closedMonth = LocalDateTime.now().minusYears(1);
+
+		// when & then
+		mockMvc.perform(get("/api/transactions")
+				.param("year", String.valueOf(closedMonth.getYear()))
+				.param("month", String.valueOf(closedMonth.getMonthValue()))
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(header().exists(ETAG))
+			.andExpect(header().string(CACHE_CONTROL, "max-age=604800, private"))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 개인 거래 내역 CSV 내보내기 스트리밍 응답 성공")
+	void export_my_transactions_csv_success() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		MvcResult mvcResult = mockMvc.perform(get("/api/transactions/export")
+				.param("format", "csv"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		// when & then
+		mockMvc.perform(asyncDispatch(mvcResult))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Content-Disposition", "attachment; filename=\"transactions.csv\""))
+			.andExpect(content().contentType("text/csv;charset=UTF-8"))
+			.andExpect(content().string("\uFEFF거래ID,거래일시,구분,금액,카테고리,내용,작성자\n"))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 지원하지 않는 형식으로 거래 내역 내보내기 실패")
+	void export_my_transactions_unsupported_format_fail() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		// when & then
+		mockMvc.perform(get("/api/transactions/export")
+				.param("format", "xlsx")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.message").value(UNSUPPORTED_EXPORT_FORMAT.getMessage()))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 그룹원이 아닌 회원의 그룹 거래 내역 내보내기 실패")
+	void export_team_transactions_not_team_member_fail() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		Team team = TeamFixture.getTeam1(member);
+		team = teamRepository.save(team);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		// when & then
+		mockMvc.perform(get("/api/transactions/export")
+				.param("teamId", String.valueOf(team.getId()))
+				.param("format", "ndjson")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isNotFound())
+			.andExpect(jsonPath("$.message").value(TEAM_MEMBER_NOT_FOUND.getMessage()))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - CSV 가져오기 요청 접수 후 작업 상태 조회 성공")
+	void import_transactions_success() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		MockMultipartFile file = new MockMultipartFile("file", "transactions.csv", "text/csv",
+			"거래일시,구분,금액,카테고리,내용\n2025-03-01 12:00,지출,15000,식비,점심\n".getBytes());
+
+		String response = mockMvc.perform(multipart("/api/transactions/imports")
+				.file(file))
+			.andExpect(status().isAccepted())
+			.andExpect(jsonPath("$.status").value("PENDING"))
+			.andDo(print())
+			.andReturn().getResponse().getContentAsString();
+
+		String importId = objectMapper.readTree(response).get("importId").asText();
+
+		// when & then
+		mockMvc.perform(get("/api/transactions/imports/{importId}", importId)
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.importId").value(importId))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 빈 CSV 파일 가져오기 실패")
+	void import_transactions_empty_file_fail() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		MockMultipartFile file = new MockMultipartFile("file", "transactions.csv", "text/csv", new byte[0]);
+
+		// when & then
+		mockMvc.perform(multipart("/api/transactions/imports")
+				.file(file))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.message").value(TRANSACTION_IMPORT_EMPTY_FILE.getMessage()))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 존재하지 않는 가져오기 작업 상태 조회 실패")
+	void get_import_not_found_fail() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		// when & then
+		mockMvc.perform(get("/api/transactions/imports/{importId}", "import-unknown")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isNotFound())
+			.andExpect(jsonPath("$.message").value(TRANSACTION_IMPORT_NOT_FOUND.getMessage()))
+			.andDo(print());
+	}
+
+	private Transaction saveSynchronizedTeamTransaction(Member member, Team team, Category category)
+		throws Exception {
+		TransactionRequest request = new TransactionRequest(team.getId(), 30000L, "앙",
+			LocalDateTime.of(2025, 3, 1, 12, 0), EXPENSE, category.getId(), true);
+
+		mockMvc.perform(post("/api/transactions")
+				.content(objectMapper.writeValueAsString(request))
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isCreated());
+
+		TransactionSearchCriteria criteria = TransactionSearchCriteria.of(member.getId(), team.getId(), 2025, 3,
+			null, null);
+
+		return transactionRepository.findTransactions(criteria).getFirst();
+	}
+
 	private void setAuthentication(Long memberId) {
 		CustomUserDetails memberUserDetails = new CustomUserDetails(memberId, memberId.toString(),
 			authoritiesMapper.mapAuthorities(List.of(new SimpleGrantedAuthority("ROLE_USER"))));
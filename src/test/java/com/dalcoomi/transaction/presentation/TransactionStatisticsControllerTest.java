@@ -0,0 +1,424 @@
+package com.dalcoomi.transaction.presentation;
+
+import static com.dalcoomi.common.error.model.ErrorMessage.TEAM_MEMBER_NOT_FOUND;
+import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_INVALID_DATE_RANGE;
+import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_INVALID_MONTH;
+import static com.dalcoomi.common.error.model.ErrorMessage.TRANSACTION_INVALID_TREND_YEARS;
+import static com.dalcoomi.transaction.domain.TransactionType.EXPENSE;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
+import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dalcoomi.AbstractContainerBaseTest;
+import com.dalcoomi.auth.filter.CustomUserDetails;
+import com.dalcoomi.category.application.repository.CategoryRepository;
+import com.dalcoomi.category.domain.Category;
+import com.dalcoomi.fixture.CategoryFixture;
+import com.dalcoomi.fixture.MemberFixture;
+import com.dalcoomi.fixture.TeamFixture;
+import com.dalcoomi.fixture.TransactionFixture;
+import com.dalcoomi.member.application.repository.MemberRepository;
+import com.dalcoomi.member.domain.Member;
+import com.dalcoomi.team.application.repository.TeamMemberRepository;
+import com.dalcoomi.team.application.repository.TeamRepository;
+import com.dalcoomi.team.domain.Team;
+import com.dalcoomi.team.domain.TeamMember;
+import com.dalcoomi.transaction.application.LedgerSummaryService;
+import com.dalcoomi.transaction.application.repository.TransactionRepository;
+import com.dalcoomi.transaction.domain.Transaction;
+
+@Transactional
+@SpringBootTest
+@TestPropertySource("classpath:application-test.properties")
+@AutoConfigureMockMvc(addFilters = false)
+class TransactionStatisticsControllerTest extends AbstractContainerBaseTest {
+
+	private final GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@Autowired
+	private TeamMemberRepository teamMemberRepository;
+
+	@Autowired
+	private LedgerSummaryService ledgerSummaryService;
+
+	@Test
+	@DisplayName("통합 테스트 - 기간 내 개인 거래 내역 카테고리별 집계 성공")
+	void get_my_category_breakdowns_success() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		Category category1 = CategoryFixture.getCategory1(member);
+		Category category2 = CategoryFixture.getCategory2(member);
+		category1 = categoryRepository.save(category1);
+		category2 = categoryRepository.save(category2);
+
+		Transaction transaction1 = TransactionFixture.getTransactionWithExpense1(member, category1);
+		Transaction transaction2 = TransactionFixture.getTransactionWithExpense2(member, category1);
+		Transaction transaction3 = TransactionFixture.getTransactionWithExpense3(member, category2);
+		Transaction transaction4 = TransactionFixture.getTransactionWithExpense4(member, category2);
+		transactionRepository.saveAll(Arrays.asList(transaction1, transaction2, transaction3, transaction4));
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		// when & then
+		mockMvc.perform(get("/api/transactions/statistics/categories")
+				.param("from", "2025-03-01")
+				.param("to", "2025-03-31")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.categories.length()").value(2))
+			.andExpect(jsonPath("$.categories[0].categoryId").value(String.valueOf(category1.getId())))
+			.andExpect(jsonPath("$.categories[0].categoryName").value(category1.getName()))
+			.andExpect(jsonPath("$.categories[0].transactionType").value(EXPENSE.name()))
+			.andExpect(jsonPath("$.categories[0].amount").value(25000))
+			.andExpect(jsonPath("$.categories[0].count").value(2))
+			.andExpect(jsonPath("$.categories[1].categoryId").value(String.valueOf(category2.getId())))
+			.andExpect(jsonPath("$.categories[1].amount").value(20000))
+			.andExpect(jsonPath("$.categories[1].count").value(1))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 그룹 거래 내역 카테고리별 집계는 월 합계와 같이 익명화된 거래 제외 성공")
+	void get_team_category_breakdowns_without_anonymized_transaction_success() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		Team team = TeamFixture.getTeam1(member);
+		team = teamRepository.save(team);
+
+		TeamMember leaderTeamMember = TeamMember.of(team, member);
+		teamMemberRepository.save(leaderTeamMember);
+
+		Category category = CategoryFixture.getTeamCategory1(member, team.getId());
+		category = categoryRepository.save(category);
+
+		Transaction transaction1 = TransactionFixture.getTeamTransactionWithExpense1(member, team.getId(), category);
+		Transaction transaction2 = TransactionFixture.getTeamTransactionWithExpense2(member, team.getId(), category);
+		Transaction anonymizedTransaction = Transaction.builder()
+			.creator(null)
+			.category(category)
+			.teamId(team.getId())
+			.amount(8000L)
+			.content("익명화된 그룹 거래")
+			.transactionDate(LocalDateTime.of(2025, 3, 20, 12, 0))
+			.transactionType(EXPENSE)
+			.dataRetentionConsent(true)
+			.build();
+		transactionRepository.saveAll(Arrays.asList(transaction1, transaction2, anonymizedTransaction));
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		// when & then
+		mockMvc.perform(get("/api/transactions/statistics/categories")
+				.param("teamId", team.getId().toString())
+				.param("from", "2025-03-01")
+				.param("to", "2025-03-31")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.categories.length()").value(1))
+			.andExpect(jsonPath("$.categories[0].categoryId").value(String.valueOf(category.getId())))
+			.andExpect(jsonPath("$.categories[0].amount").value(42000))
+			.andExpect(jsonPath("$.categories[0].count").value(2))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 그룹에 속하지 않은 회원의 카테고리별 집계 조회 실패")
+	void get_team_category_breakdowns_not_team_member_fail() throws Exception {
+		// given
+		Member leader = MemberFixture.getMember1();
+		Member other = MemberFixture.getMember2();
+		leader = memberRepository.save(leader);
+		other = memberRepository.save(other);
+
+		Team team = TeamFixture.getTeam1(leader);
+		team = teamRepository.save(team);
+
+		TeamMember leaderTeamMember = TeamMember.of(team, leader);
+		teamMemberRepository.save(leaderTeamMember);
+
+		// 인증 설정
+		setAuthentication(other.getId());
+
+		// when & then
+		mockMvc.perform(get("/api/transactions/statistics/categories")
+				.param("teamId", team.getId().toString())
+				.param("from", "2025-03-01")
+				.param("to", "2025-03-31")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isNotFound())
+			.andExpect(jsonPath("$.message").value(TEAM_MEMBER_NOT_FOUND.getMessage()))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 시작일이 종료일보다 늦으면 카테고리별 집계 조회 실패")
+	void get_category_breakdowns_invalid_date_range_fail() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		// when & then
+		mockMvc.perform(get("/api/transactions/statistics/categories")
+				.param("from", "2025-04-01")
+				.param("to", "2025-03-31")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.message").value(TRANSACTION_INVALID_DATE_RANGE.getMessage()))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 개인 거래 내역 일별 합계를 그 달의 일수만큼 조회 성공")
+	void get_my_daily_summaries_success() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		Category category = CategoryFixture.getCategory1(member);
+		category = categoryRepository.save(category);
+
+		Transaction transaction1 = TransactionFixture.getTransactionWithExpense1(member, category);
+		Transaction transaction2 = TransactionFixture.getTransactionWithExpense2(member, category);
+		Transaction transaction3 = TransactionFixture.getTransactionWithExpense3(member, category);
+		Transaction transaction4 = TransactionFixture.getTransactionWithExpense4(member, category);
+		transactionRepository.saveAll(Arrays.asList(transaction1, transaction2, transaction3, transaction4));
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		// when & then
+		mockMvc.perform(get("/api/transactions/statistics/daily")
+				.param("year", "2025")
+				.param("month", "3")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.days.length()").value(31))
+			.andExpect(jsonPath("$.days[0].date").value("2025-03-01"))
+			.andExpect(jsonPath("$.days[0].expense").value(10000))
+			.andExpect(jsonPath("$.days[0].income").value(0))
+			.andExpect(jsonPath("$.days[1].expense").value(0))
+			.andExpect(jsonPath("$.days[10].expense").value(15000))
+			.andExpect(jsonPath("$.days[11].expense").value(20000))
+			.andExpect(jsonPath("$.days[30].date").value("2025-03-31"))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 거래 내역이 없는 달의 일별 합계는 0 으로 채워 조회 성공")
+	void get_my_daily_summaries_empty_month_success() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		// when & then
+		mockMvc.perform(get("/api/transactions/statistics/daily")
+				.param("year", "2025")
+				.param("month", "2")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.days.length()").value(28))
+			.andExpect(jsonPath("$.days[27].date").value("2025-02-28"))
+			.andExpect(jsonPath("$.days[27].expense").value(0))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 유효하지 않은 월의 일별 합계 조회 실패")
+	void get_daily_summaries_invalid_month_fail() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		// when & then
+		mockMvc.perform(get("/api/transactions/statistics/daily")
+				.param("year", "2025")
+				.param("month", "13")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.message").value(TRANSACTION_INVALID_MONTH.getMessage()))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 월별 합계 테이블로 여러 해의 개인 가계부 월별 추이 조회 성공")
+	void get_my_monthly_trends_success() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		Category category = CategoryFixture.getCategory1(member);
+		category = categoryRepository.save(category);
+
+		Transaction transaction1 = TransactionFixture.getTransactionWithExpense1(member, category);
+		Transaction transaction2 = TransactionFixture.getTransactionWithExpense2(member, category);
+		Transaction lastYearTransaction = Transaction.builder()
+			.creator(member)
+			.category(category)
+			.transactionDate(LocalDateTime.of(2024, 3, 5, 12, 0))
+			.content("작년 식사")
+			.amount(16000L)
+			.transactionType(EXPENSE)
+			.build();
+		List<Transaction> transactions = transactionRepository.saveAll(
+			Arrays.asList(transaction1, transaction2, lastYearTransaction));
+		ledgerSummaryService.add(transactions);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		// when & then
+		mockMvc.perform(get("/api/transactions/statistics/trend")
+				.param("endYear", "2025")
+				.param("years", "2")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.months.length()").value(24))
+			.andExpect(jsonPath("$.months[2].year").value(2024))
+			.andExpect(jsonPath("$.months[2].month").value(3))
+			.andExpect(jsonPath("$.months[2].expense").value(16000))
+			.andExpect(jsonPath("$.months[14].year").value(2025))
+			.andExpect(jsonPath("$.months[14].month").value(3))
+			.andExpect(jsonPath("$.months[14].expense").value(25000))
+			.andExpect(jsonPath("$.months[14].total").value(-25000))
+			.andExpect(jsonPath("$.months[14].expenseChange").value(9000))
+			.andExpect(jsonPath("$.months[14].expenseMovingAverage").value(8333))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 조회 연도 수가 범위를 벗어나면 월별 추이 조회 실패")
+	void get_monthly_trends_invalid_years_fail() throws Exception {
+		// given
+		Member member = MemberFixture.getMember1();
+		member = memberRepository.save(member);
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		// when & then
+		mockMvc.perform(get("/api/transactions/statistics/trend")
+				.param("endYear", "2025")
+				.param("years", "11")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.message").value(TRANSACTION_INVALID_TREND_YEARS.getMessage()))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("통합 테스트 - 그룹 가계부 회원별 합계를 익명화된 거래와 함께 한 번에 조회 성공")
+	void get_team_member_contributions_success() throws Exception {
+		// given
+		Member leader = MemberFixture.getMember1();
+		Member member = MemberFixture.getMember2();
+		leader = memberRepository.save(leader);
+		member = memberRepository.save(member);
+
+		Team team = TeamFixture.getTeam1(leader);
+		team = teamRepository.save(team);
+
+		teamMemberRepository.save(TeamMember.of(team, leader));
+		teamMemberRepository.save(TeamMember.of(team, member));
+
+		Category category = CategoryFixture.getTeamCategory1(leader, team.getId());
+		category = categoryRepository.save(category);
+
+		Transaction transaction1 = TransactionFixture.getTeamTransactionWithExpense1(leader, team.getId(), category);
+		Transaction transaction2 = TransactionFixture.getTeamTransactionWithExpense2(leader, team.getId(), category);
+		Transaction transaction3 = TransactionFixture.getTeamTransactionWithExpense3(member, team.getId(), category);
+		Transaction anonymizedTransaction = Transaction.builder()
+			.creator(null)
+			.category(category)
+			.teamId(team.getId())
+			.amount(8000L)
+			.content("익명화된 그룹 거래")
+			.transactionDate(LocalDateTime.of(2025, 3, 20, 12, 0))
+			.transactionType(EXPENSE)
+			.dataRetentionConsent(true)
+			.build();
+		transactionRepository.saveAll(Arrays.asList(transaction1, transaction2, transaction3, anonymizedTransaction));
+
+		// 인증 설정
+		setAuthentication(member.getId());
+
+		// when & then
+		mockMvc.perform(get("/api/transactions/statistics/members")
+				.param("teamId", team.getId().toString())
+				.param("from", "2025-03-01")
+				.param("to", "2025-03-31")
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.members.length()").value(3))
+			.andExpect(jsonPath("$.members[0].memberId").value(leader.getId()))
+			.andExpect(jsonPath("$.members[0].nickname").value(leader.getNickname()))
+			.andExpect(jsonPath("$.members[0].expense").value(42000))
+			.andExpect(jsonPath("$.members[0].count").value(2))
+			.andExpect(jsonPath("$.members[1].memberId").value(member.getId()))
+			.andExpect(jsonPath("$.members[1].expense").value(32000))
+			.andExpect(jsonPath("$.members[2].memberId").doesNotExist())
+			.andExpect(jsonPath("$.members[2].anonymized").value(true))
+			.andExpect(jsonPath("$.members[2].expense").value(8000))
+			.andDo(print());
+	}
+
+	private void setAuthentication(Long memberId) {
+		CustomUserDetails memberUserDetails = new CustomUserDetails(memberId, memberId.toString(),
+			authoritiesMapper.mapAuthorities(List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+		Authentication authentication = new UsernamePasswordAuthenticationToken(memberUserDetails, null,
+			authoritiesMapper.mapAuthorities(memberUserDetails.getAuthorities()));
+
+		SecurityContextHolder.getContext().setAuthentication(authentication);
+	}
+}